@@ -0,0 +1,99 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import parser.PmmmComponents;
+import pmmm.PmmmInstance;
+import qa.exceptions.CodeGenException;
+import qa.exceptions.SNHException;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// drawio models: parse (ie the artifacts incl. LinkArtifacts.translate) and the whole translation to go code
+// - the drawio file is generated with the same model as the PM-DSL one (see Models)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Benchmark)
+public class DrawioBenchmark {
+	//--------------------------------------------------------------------------------
+	@Param({"small", "medium", "large"})
+	public String size;
+	//--------------------------------------------------------------------------------
+	private String toolchainPath;
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Setup
+	public void setup() throws IOException {
+		toolchainPath = Models.generate(size);
+	}
+	//--------------------------------------------------------------------------------
+	@TearDown
+	public void tearDown() throws IOException {
+		Models.delete(toolchainPath);
+	}
+
+	//================================================================================
+	// BENCHMARKS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public PmmmComponents parse() throws SyntaxException, SNHException {
+		return Models.parseDrawio(toolchainPath);
+	}
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public PmmmInstance drawioToGoCode() throws SyntaxException, SNHException, CodeGenException {
+		PmmmInstance pmmmInstance = Models.instantiate(Models.evaluate(Models.parseDrawio(toolchainPath)));
+		Models.generateGoCode(pmmmInstance, toolchainPath);
+		return pmmmInstance;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
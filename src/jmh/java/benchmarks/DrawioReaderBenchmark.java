@@ -0,0 +1,103 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import parser.drawio.DrawioParser;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// the two drawio readers side by side: the streaming (StAX) reader and the DOM one (see DrawioParser.streamingReaderFlag)
+// - reads the generated drawio file (see Models) into the artifacts of all diagrams, without the artifacts cache
+// - time per read; for the heap, run with the gc profiler: -prof gc (gc.alloc.rate.norm = bytes allocated per read)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Benchmark)
+public class DrawioReaderBenchmark {
+	//--------------------------------------------------------------------------------
+	@Param({"small", "medium", "large"})
+	public String size;
+	//--------------------------------------------------------------------------------
+	@Param({"StAX", "DOM"})
+	public String reader;
+	//--------------------------------------------------------------------------------
+	private String toolchainPath;
+	private boolean streamingReaderFlag;
+	private boolean artifactsCacheFlag;
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Setup
+	public void setup() throws IOException {
+		toolchainPath = Models.generate(size);
+		streamingReaderFlag = DrawioParser.streamingReaderFlag;
+		artifactsCacheFlag = DrawioParser.artifactsCacheFlag;
+		DrawioParser.streamingReaderFlag = reader.equals("StAX");
+		DrawioParser.artifactsCacheFlag = false;
+	}
+	//--------------------------------------------------------------------------------
+	@TearDown
+	public void tearDown() throws IOException {
+		DrawioParser.streamingReaderFlag = streamingReaderFlag;
+		DrawioParser.artifactsCacheFlag = artifactsCacheFlag;
+		Models.delete(toolchainPath);
+	}
+
+	//================================================================================
+	// BENCHMARKS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public DrawioParser read() throws SyntaxException {
+		DrawioParser parser = new DrawioParser(toolchainPath + "_USE-CASES/_DRAWIO/" + Models.UC_PATH, Models.UC_NAME, Models.EXTENSION);
+		parser.drawio_2_artifacts();
+		return parser;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
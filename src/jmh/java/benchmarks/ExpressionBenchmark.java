@@ -0,0 +1,97 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eval.tokens.Raw2Tokens;
+import eval.tokens.TokenExpression;
+import eval.tokens.Tokens2Expressions;
+import qa.exceptions.SNHException;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// tokenizer: Raw2Tokens.mince and Tokens2Expressions.meld of a query with scale conjunctions (see Models)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+	//--------------------------------------------------------------------------------
+	@Param({"small", "medium", "large"})
+	public String size;
+	//--------------------------------------------------------------------------------
+	private String raw;
+	// input of meld; nb: meld changes it, so it is minced anew for each invocation
+	private TokenExpression mincedTokenExpression;
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		raw = Models.longQuery(Models.scale(size));
+	}
+	//--------------------------------------------------------------------------------
+	@Setup(Level.Invocation)
+	public void setupInvocation() throws SyntaxException {
+		mincedTokenExpression = new Raw2Tokens(raw).mince();
+	}
+
+	//================================================================================
+	// BENCHMARKS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public TokenExpression mince() throws SyntaxException {
+		return new Raw2Tokens(raw).mince();
+	}
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public TokenExpression meld() throws SyntaxException, SNHException {
+		return new Tokens2Expressions(mincedTokenExpression).meld();
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
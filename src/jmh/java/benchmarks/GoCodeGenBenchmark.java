@@ -0,0 +1,93 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pmmm.PmmmInstance;
+import qa.exceptions.CodeGenException;
+import qa.exceptions.SNHException;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// go code generation for the pmmm instance, ie the emission of Link2Go and Token2Go
+// - nb: includes writing the files to the temp toolchain dir
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Benchmark)
+public class GoCodeGenBenchmark {
+	//--------------------------------------------------------------------------------
+	@Param({"small", "medium", "large"})
+	public String size;
+	//--------------------------------------------------------------------------------
+	private String toolchainPath;
+	private PmmmInstance pmmmInstance;
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Setup
+	public void setup() throws IOException, SyntaxException, SNHException {
+		toolchainPath = Models.generate(size);
+		pmmmInstance = Models.instantiate(Models.evaluate(Models.parse(toolchainPath)));
+	}
+	//--------------------------------------------------------------------------------
+	@TearDown
+	public void tearDown() throws IOException {
+		Models.delete(toolchainPath);
+	}
+
+	//================================================================================
+	// BENCHMARKS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public void generateGoCode() throws CodeGenException, SNHException {
+		Models.generateGoCode(pmmmInstance, toolchainPath);
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,126 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package benchmarks;
+
+import java.io.IOException;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import parser.drawio.Artifact;
+import parser.drawio.ArtifactsCache;
+import parser.drawio.DrawioStreamReader;
+import parser.drawio.LinkArtifacts;
+import pmmm.Wiring;
+import qa.exceptions.SNHException;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// drawio links: LinkArtifacts.translate of the artifacts of all peer type diagrams of the generated drawio model (see Models)
+// into the guards and actions of their wirings
+// - the artifacts are read once; each peer type diagram has one inline wiring "W1" (as in PeerTypeArtifacts)
+// - nb: translate adds the guards and actions to the wirings, so the wirings are created anew for each invocation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Benchmark)
+public class LinkArtifactsBenchmark {
+	//--------------------------------------------------------------------------------
+	@Param({"small", "medium", "large"})
+	public String size;
+	//--------------------------------------------------------------------------------
+	private static final String PEER_TYPE_DIAGRAM_PREFIX = "PeerType";
+	private static final String WIRING_NAME = "W1";
+	//--------------------------------------------------------------------------------
+	private String toolchainPath;
+	// per peer type diagram: its artifacts and its wirings
+	private Vector<Vector<Artifact>> artifactss = new Vector<Vector<Artifact>>();
+	private Vector<Vector<Wiring>> wiringss = new Vector<Vector<Wiring>>();
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Setup(Level.Trial)
+	public void setupTrial() throws IOException, XMLStreamException {
+		toolchainPath = Models.generate(size);
+		String fileName = toolchainPath + "_USE-CASES/_DRAWIO/" + Models.UC_PATH + Models.UC_NAME + Models.EXTENSION;
+		for(ArtifactsCache.DiagramArtifacts diagramArtifacts : new DrawioStreamReader().readFile(fileName)) {
+			if(diagramArtifacts.getDiagramName().trim().startsWith(PEER_TYPE_DIAGRAM_PREFIX))
+				artifactss.add(diagramArtifacts.getArtifacts());
+		}
+	}
+	//--------------------------------------------------------------------------------
+	@Setup(Level.Invocation)
+	public void setupInvocation() throws SyntaxException {
+		wiringss.clear();
+		for(int i = 0; i < artifactss.size(); i++) {
+			Wiring wiring = new Wiring();
+			wiring.setRawWiringNames(WIRING_NAME);
+			wiring.setWiringTypeName("_" + WIRING_NAME);
+			Vector<Wiring> wirings = new Vector<Wiring>();
+			wirings.add(wiring);
+			wiringss.add(wirings);
+		}
+	}
+	//--------------------------------------------------------------------------------
+	@TearDown(Level.Trial)
+	public void tearDownTrial() throws IOException {
+		Models.delete(toolchainPath);
+	}
+
+	//================================================================================
+	// BENCHMARKS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public Vector<Vector<Wiring>> translate() throws SyntaxException, SNHException {
+		for(int i = 0; i < artifactss.size(); i++)
+			new LinkArtifacts(artifactss.get(i)).translate(wiringss.get(i), null /* wiringTypes */);
+		return wiringss;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
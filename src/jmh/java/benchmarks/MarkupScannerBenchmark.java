@@ -0,0 +1,143 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import util.replace.MarkupScanner;
+import util.replace.Replacements;
+
+//================================================================================
+// cleaning of the values of drawio cells: MarkupScanner vs. the former regex plus replacement chain
+// - nb: the former chain is rebuilt here from the former XmlReplacements table, as XmlReplacements now uses the scanner;
+// - the values are typical for drawio models: plain names, html formatted labels and guards/services with entities
+// - size: a model of scale cells (see Models.scale); the values of the kind are repeated as often as needed
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+@State(Scope.Benchmark)
+public class MarkupScannerBenchmark {
+	//--------------------------------------------------------------------------------
+	@Param({"small", "medium", "large"})
+	public String size;
+	@Param({"plain", "html", "entities"})
+	public String kind;
+	//--------------------------------------------------------------------------------
+	private String[] values;
+	// the former chain: x2String replacements of XmlReplacements
+	private Replacements formerReplacements;
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Setup
+	public void setup() {
+		//--------------------------------------------------------------------------------
+		// cell values
+		String[] kindValues;
+		switch(kind) {
+		case "plain":
+			kindValues = new String[] { "client1", "Request", "superServer", "PIC", "w_reply", "TTL=10" };
+			break;
+		case "html":
+			kindValues = new String[] {
+					"<div><b>client1</b></div>",
+					"<span style=\"font-size: 11px;\">Request</span><br>",
+					"<div style=\"text-align: left;\"><font color=\"#0000ff\">superServer</font></div>",
+					"<p><i>w_reply</i></p><div><br></div>",
+					"<div>TTL&nbsp;=&nbsp;10</div>",
+					"<b>PIC</b>" };
+			break;
+		case "entities":
+			kindValues = new String[] {
+					"<div>$$CNT &gt; 0 &amp;&amp; $$CNT &lt;= 10</div>",
+					"<div>data = &quot;hello&quot;</div><div>from = &#39;client1&#39;</div>",
+					"<div>FORALL i IN 1..3:&nbsp;w[i]</div>",
+					"<div>x &gt;= y &amp;&amp; y &lt; z</div>",
+					"<span>&amp;lt;tag&amp;gt;</span>",
+					"n &#62; 1 &#38;&#38; n &#60; 5" };
+			break;
+		default:
+			throw new IllegalArgumentException("ill. kind = " + kind);
+		}
+		values = new String[Models.scale(size)];
+		for(int i = 0; i < values.length; i++)
+			values[i] = kindValues[i % kindValues.length];
+		//--------------------------------------------------------------------------------
+		// former chain
+		formerReplacements = new Replacements();
+		formerReplacements.addX2StringReplacement("&amp;", "&");
+		formerReplacements.addX2StringReplacement("&#38;", "&");
+		formerReplacements.addX2StringReplacement("&gt;", ">");
+		formerReplacements.addX2StringReplacement("&#62;", ">");
+		formerReplacements.addX2StringReplacement("&lt;", "<");
+		formerReplacements.addX2StringReplacement("&#60;", "<");
+		formerReplacements.addX2StringReplacement("&quot;", "\"");
+		formerReplacements.addX2StringReplacement("&#34;", "\"");
+		formerReplacements.addX2StringReplacement("&apos;", "'");
+		formerReplacements.addX2StringReplacement("&#39;", "'");
+		formerReplacements.addX2StringReplacement("&nbsp;", " ");
+	}
+
+	//================================================================================
+	// BENCHMARKS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// former: per cell a regex for the tags and the replacement chain for the entities (see Artifact)
+	@Benchmark
+	public void formerChain(Blackhole blackhole) {
+		for(int i = 0; i < values.length; i++) {
+			String value = values[i].replaceAll("\\<.*?\\>", " ");
+			blackhole.consume(formerReplacements.x2String(value));
+		}
+	}
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public void markupScanner(Blackhole blackhole) {
+		for(int i = 0; i < values.length; i++)
+			blackhole.consume(MarkupScanner.stripTagsAndDecodeEntities(values[i]));
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,350 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import codeGen.CodeGenDirector;
+import codeGen.Go.GoCodeGen;
+import parser.Director;
+import parser.PmmmComponents;
+import parser.drawio.DrawioParser;
+import parser.pmDsl.PmDslParser;
+import pmmm.PeerType;
+import pmmm.PmmmInstance;
+import pmmm.PmmmType;
+import pmmm.Wiring;
+import qa.exceptions.CodeGenException;
+import qa.exceptions.SNHException;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// generated models of a given size for the benchmarks, and the steps of the translator (as in main.Main)
+// - size: small, medium or large; see scale
+// - a model has scale peers of scale/10 peer types (at least 1), each with one wiring, whose guard query
+//   contains a FORALL over 1 .. scale/10 (at least 3), ie the number of quantifier expansions grows with the size, too
+// - the model is written to a temp toolchain dir with the usual layout (see main.Main), so that the
+//   parsers and the code generators can be used as they are
+// - the same model is written as PM-DSL and as (uncompressed) drawio file with one diagram per peer type
+final class Models {
+	//--------------------------------------------------------------------------------
+	static final String UC_PATH = "t/";
+	static final String UC_NAME = "M";
+	static final String CONFIG_NAME = "C1";
+	static final String EXTENSION = ".xml";
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	private Models() {
+	}
+
+	//================================================================================
+	// SIZE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	static int scale(String size) {
+		switch(size) {
+		case "small":
+			return 10;
+		case "medium":
+			return 100;
+		case "large":
+			return 1000;
+		default:
+			throw new IllegalArgumentException("ill. model size = " + size);
+		}
+	}
+
+	//================================================================================
+	// GENERATE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// write the model to a new temp toolchain dir; returns its path (ending with "/")
+	static String generate(String size) throws IOException {
+		Path toolchainDir = Files.createTempDirectory("pm-bench-" + size + "-");
+		Path ucDir = toolchainDir.resolve("_USE-CASES/_PM_DSL/" + UC_PATH);
+		Files.createDirectories(ucDir);
+		Files.write(ucDir.resolve(UC_NAME + EXTENSION), modelXml(scale(size)).getBytes(StandardCharsets.UTF_8));
+		Path drawioUcDir = toolchainDir.resolve("_USE-CASES/_DRAWIO/" + UC_PATH);
+		Files.createDirectories(drawioUcDir);
+		Files.write(drawioUcDir.resolve(UC_NAME + EXTENSION), drawioXml(scale(size)).getBytes(StandardCharsets.UTF_8));
+		return toolchainDir.toString().replace(File.separatorChar, '/') + "/";
+	}
+	//--------------------------------------------------------------------------------
+	// remove the temp toolchain dir with all generated files
+	static void delete(String toolchainPath) throws IOException {
+		try(Stream<Path> paths = Files.walk(new File(toolchainPath).toPath())) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// PM-DSL model with n peers
+	static String modelXml(int n) {
+		int nPeerTypes = Math.max(1, n / 10);
+		int nSlots = Math.max(3, n / 10);
+		StringBuffer buf = new StringBuffer();
+		buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		buf.append("<PMMM name=\"" + UC_NAME + "\">\n");
+		buf.append("<PropsDeclaration>INT : nPeers; STRING : title; INTS : slot</PropsDeclaration>\n");
+		//--------------------------------------------------------------------------------
+		// types
+		buf.append("<Types>\n");
+		buf.append("<EntryType entryType=\"Job\"><PropsDeclaration>INT : n; STRING : who; BOOLEAN : done</PropsDeclaration></EntryType>\n");
+		buf.append("<EntryType entryType=\"Res\"><PropsDeclaration>INT : sum</PropsDeclaration></EntryType>\n");
+		for(int i = 1; i <= nPeerTypes; i++) {
+			buf.append("<PeerType name=\"Worker" + i + "\">\n");
+			buf.append("<PropsDeclaration>INT : cap; URL : boss</PropsDeclaration>\n");
+			buf.append("<Wiring name=\"W1\" service=\"\">\n");
+			buf.append("<PropsDefinition>max_threads = 1</PropsDefinition>\n");
+			buf.append("<Guard entryType=\"Job\" count=\"1\" op=\"TAKE\" container=\"PIC\"><Query>" + xml(guardQuery(nSlots)) + "</Query>" + 
+					"<VarPropsSetGet>$x = n; $w = who</VarPropsSetGet><PropsDefinition></PropsDefinition></Guard>\n");
+			buf.append("<Action entryType=\"Res\" count=\"1\" op=\"CREATE\" container=\"POC\"><Query></Query>" + 
+					"<VarPropsSetGet>sum = $x + PEER.cap + PMMM.(slot # 1) * (PMMM.nPeers - 1) + (PEER.cap * 2 + 1); dest = $$PID</VarPropsSetGet>" + 
+					"<PropsDefinition></PropsDefinition></Action>\n");
+			buf.append("</Wiring>\n");
+			buf.append("</PeerType>\n");
+		}
+		buf.append("</Types>\n");
+		//--------------------------------------------------------------------------------
+		// config
+		buf.append("<Configurations>\n");
+		buf.append("<Config name=\"" + CONFIG_NAME + "\">\n");
+		buf.append("<PMMM><PropsDefinition>nPeers = " + n + "; title = \"t\"");
+		for(int k = 1; k <= nSlots; k++)
+			buf.append("; slot # " + k + " = " + (k + 1));
+		buf.append("</PropsDefinition></PMMM>\n");
+		for(int i = 1; i <= n; i++) {
+			buf.append("<Peer name=\"w" + i + "\" type=\"Worker" + (1 + (i - 1) % nPeerTypes) + "\"><PropsDefinition>" + 
+					"cap = " + i + "; boss = w" + (1 + i % n) + "</PropsDefinition></Peer>\n");
+		}
+		buf.append("</Config>\n");
+		buf.append("</Configurations>\n");
+		buf.append("</PMMM>\n");
+		return new String(buf);
+	}
+	//--------------------------------------------------------------------------------
+	// the same model as drawio file
+	// - the values are html, as drawio writes them, and then xml escaped as attribute values
+	static String drawioXml(int n) {
+		int nPeerTypes = Math.max(1, n / 10);
+		int nSlots = Math.max(3, n / 10);
+		StringBuffer buf = new StringBuffer();
+		buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		buf.append("<mxfile host=\"benchmarks\">\n");
+		Diagram diagram;
+		String spec;
+		//--------------------------------------------------------------------------------
+		// pmmm type
+		diagram = new Diagram("PmmmType");
+		spec = diagram.spec("PMMMTypeSpecification");
+		diagram.cell(spec, "PMMMTypeName", UC_NAME);
+		diagram.cell(spec, "PMMMTypeProps", "INT : nPeers; STRING : title; INTS : slot");
+		buf.append(diagram.end());
+		//--------------------------------------------------------------------------------
+		// entry types
+		diagram = new Diagram("EntryTypes");
+		spec = diagram.spec("EntryTypeSpecification");
+		diagram.cell(spec, "EntryTypeName", "Job");
+		diagram.cell(spec, "EntryTypeProps", "INT : n; STRING : who; BOOLEAN : done");
+		spec = diagram.spec("EntryTypeSpecification");
+		diagram.cell(spec, "EntryTypeName", "Res");
+		diagram.cell(spec, "EntryTypeProps", "INT : sum");
+		buf.append(diagram.end());
+		//--------------------------------------------------------------------------------
+		// peer types: each with one inline wiring, a guard and an action
+		for(int i = 1; i <= nPeerTypes; i++) {
+			diagram = new Diagram("PeerType : Worker" + i);
+			spec = diagram.spec("PeerTypeSpecification");
+			diagram.cell(spec, "PeerTypeName", "Worker" + i);
+			diagram.cell(spec, "PeerTypeProps", "INT : cap; URL : boss");
+			spec = diagram.spec("WiringSpecification");
+			String wiringName = diagram.cell(spec, "WiringName", "W1");
+			diagram.cell(spec, "WiringService", "");
+			diagram.cell(spec, "WiringProps", "max_threads = 1");
+			spec = diagram.spec("PICGuardSpecification");
+			String guardNumber = diagram.cell(spec, "GuardNumber", "1");
+			diagram.cell(spec, "GuardOp", "TAKE");
+			diagram.cell(spec, "GuardEntryType", "Job");
+			diagram.cell(spec, "GuardEntryCount", "1");
+			diagram.cell(spec, "GuardQuery", guardQuery(nSlots));
+			diagram.cell(spec, "GuardVarPropSetGet", "$x = n; $w = who");
+			diagram.cell(spec, "GuardContainer", "PIC");
+			diagram.connector("GuardWiringConnector", guardNumber, wiringName);
+			spec = diagram.spec("POCActionSpecification");
+			String actionNumber = diagram.cell(spec, "ActionNumber", "1");
+			diagram.cell(spec, "ActionOp", "CREATE");
+			diagram.cell(spec, "ActionEntryType", "Res");
+			diagram.cell(spec, "ActionEntryCount", "1");
+			diagram.cell(spec, "ActionVarPropSetGet", "sum = $x + PEER.cap + PMMM.(slot # 1) * (PMMM.nPeers - 1) + (PEER.cap * 2 + 1); dest = $$PID");
+			diagram.cell(spec, "ActionContainer", "POC");
+			diagram.connector("ActionWiringConnector", wiringName, actionNumber);
+			buf.append(diagram.end());
+		}
+		//--------------------------------------------------------------------------------
+		// config
+		diagram = new Diagram("Config : " + CONFIG_NAME);
+		spec = diagram.spec("PMMMSpecification");
+		StringBuffer pmmmProps = new StringBuffer("nPeers = " + n + "; title = \"t\"");
+		for(int k = 1; k <= nSlots; k++)
+			pmmmProps.append("; slot # " + k + " = " + (k + 1));
+		diagram.cell(spec, "PMMMProps", new String(pmmmProps));
+		for(int i = 1; i <= n; i++) {
+			spec = diagram.spec("PeerSpecification");
+			diagram.cell(spec, "PeerName", "w" + i);
+			diagram.cell(spec, "PeerType", "Worker" + (1 + (i - 1) % nPeerTypes));
+			diagram.cell(spec, "PeerProps", "cap = " + i + "; boss = w" + (1 + i % n));
+		}
+		buf.append(diagram.end());
+		//--------------------------------------------------------------------------------
+		buf.append("</mxfile>\n");
+		return new String(buf);
+	}
+	//--------------------------------------------------------------------------------
+	// guard query with a FORALL over 1 .. n
+	static String guardQuery(int n) {
+		return "n > PMMM.nPeers AND n < PMMM.(slot # 2) AND who == PMMM.title AND (FORALL INDEX.1 IN 1 .. " + n + 
+				" -> n > PMMM.(slot # INDEX.1)) AND (NOT done)";
+	}
+	//--------------------------------------------------------------------------------
+	// query with n conjunctions; for the expression benchmarks
+	static String longQuery(int n) {
+		StringBuffer buf = new StringBuffer();
+		for(int i = 1; i <= n; i++) {
+			if(i > 1)
+				buf.append(" AND ");
+			buf.append("(n + " + i + " * PEER.cap > PMMM.(slot # " + i + ") OR who == \"w" + i + "\")");
+		}
+		return new String(buf);
+	}
+	//--------------------------------------------------------------------------------
+	private static String xml(String s) {
+		return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+	}
+
+	//================================================================================
+	// DRAWIO DIAGRAM
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// one drawio diagram with Peer Model shapes, reduced to what the drawio parser reads:
+	// the PMARTIFACT marker in the style, the ids, the parents and the connector ends
+	private static class Diagram {
+		//--------------------------------------------------------------------------------
+		private StringBuffer buf = new StringBuffer();
+		private int nextId = 2;
+
+		//--------------------------------------------------------------------------------
+		Diagram(String diagramName) {
+			buf.append("<diagram id=\"" + attribute(diagramName) + "\" name=\"" + attribute(diagramName) + "\"><mxGraphModel><root>");
+			buf.append("<mxCell id=\"0\"/><mxCell id=\"1\" parent=\"0\"/>\n");
+		}
+		//--------------------------------------------------------------------------------
+		// specification shape on the diagram; returns its id
+		String spec(String artifactName) {
+			return cell("1", artifactName, "");
+		}
+		//--------------------------------------------------------------------------------
+		// shape with the value within the parent shape; returns its id
+		String cell(String parentId, String artifactName, String value) {
+			String id = String.valueOf(nextId++);
+			buf.append("<mxCell id=\"" + id + "\" parent=\"" + parentId + "\" vertex=\"1\" value=\"" + attribute(html(value)) + 
+					"\" style=\"html=1;PMARTIFACT=" + artifactName + ";\"/>\n");
+			return id;
+		}
+		//--------------------------------------------------------------------------------
+		// connector from the source to the target shape
+		void connector(String artifactName, String sourceId, String targetId) {
+			String id = String.valueOf(nextId++);
+			buf.append("<mxCell id=\"" + id + "\" parent=\"1\" edge=\"1\" source=\"" + sourceId + "\" target=\"" + targetId + 
+					"\" style=\"PMARTIFACT=" + artifactName + ";\"/>\n");
+		}
+		//--------------------------------------------------------------------------------
+		String end() {
+			buf.append("</root></mxGraphModel></diagram>\n");
+			return new String(buf);
+		}
+		//--------------------------------------------------------------------------------
+		private static String html(String s) {
+			return "<div>" + s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;") + "</div>";
+		}
+		//--------------------------------------------------------------------------------
+		private static String attribute(String s) {
+			return xml(s).replace("\"", "&quot;");
+		}
+	}
+
+	//================================================================================
+	// TRANSLATOR STEPS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	static PmmmComponents parse(String toolchainPath) throws SyntaxException, SNHException {
+		PmmmComponents pmmmComponents = new Director(new PmDslParser(toolchainPath + "_USE-CASES/_PM_DSL/" + UC_PATH, UC_NAME, EXTENSION)).parse();
+		//--------------------------------------------------------------------------------
+		// nb: the PM-DSL parser does not set the wiring type of inline wirings;
+		// - use the convention of the drawio parser (see parser.drawio.PeerTypeArtifacts)
+		for(PeerType peerType : pmmmComponents.peerTypes) {
+			for(Wiring wiring : peerType.getWirings())
+				wiring.setWiringTypeName("_" + wiring.getRawWiringNames());
+		}
+		return pmmmComponents;
+	}
+	//--------------------------------------------------------------------------------
+	// nb: the artifacts cache is switched off, so that all diagrams are read and scanned each time
+	static PmmmComponents parseDrawio(String toolchainPath) throws SyntaxException, SNHException {
+		DrawioParser.artifactsCacheFlag = false;
+		return new Director(new DrawioParser(toolchainPath + "_USE-CASES/_DRAWIO/" + UC_PATH, UC_NAME, EXTENSION)).parse();
+	}
+	//--------------------------------------------------------------------------------
+	static PmmmType evaluate(PmmmComponents pmmmComponents) throws SyntaxException, SNHException {
+		PmmmType pmmmType = new PmmmType(pmmmComponents);
+		pmmmType.evaluate();
+		return pmmmType;
+	}
+	//--------------------------------------------------------------------------------
+	static PmmmInstance instantiate(PmmmType pmmmType) throws SyntaxException, SNHException {
+		PmmmInstance pmmmInstance = new PmmmInstance(pmmmType, pmmmType.getConfig(CONFIG_NAME));
+		pmmmInstance.evaluateAndTransform();
+		return pmmmInstance;
+	}
+	//--------------------------------------------------------------------------------
+	// go code for the pmmm instance into the toolchain dir
+	static void generateGoCode(PmmmInstance pmmmInstance, String toolchainPath) throws CodeGenException, SNHException {
+		String dir = "useCases";
+		String absoluteUcTargetPath = toolchainPath + "_GO-AUTOMATON/src/" + dir + "/" + UC_PATH;
+		new CodeGenDirector(new GoCodeGen(pmmmInstance, UC_PATH, absoluteUcTargetPath, dir, false /* writeAlsoToConsoleFlag */)).generate();
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,131 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import eval.tokens.Raw2Tokens;
+import eval.tokens.Token;
+import eval.tokens.TokenExpression;
+import eval.tokens.Tokens2Expressions;
+import eval.types.TokenTypeEval;
+import pmmm.Context;
+import pmmm.IPmDefs;
+import pmmm.KeywordTypes;
+import pmmm.PmmmType;
+import qa.exceptions.SNHException;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// data type eval: TokenTypeEval.typeEval of a guard query with scale conjunctions (see Models.longQuery)
+// - the query is type evaluated in the context of the guard of Worker1 of the small model, as in Link.evalDataTypes:
+//   pmmm and peer qualifier context, wiring W1, guard G1 on entry type Job
+// - nb: typeEval sets the types of the tokens, and the tokens must not be evaluated twice (see Token.frozenFlag),
+//   so the query is minced, melded and its qualifiers are resolved anew for each invocation
+// - CAUTION: typeEval recurses along the nested conjunctions; the large query needs more than the default thread stack
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = "-Xss16m")
+@State(Scope.Benchmark)
+public class TypeEvalBenchmark {
+	//--------------------------------------------------------------------------------
+	@Param({"small", "medium", "large"})
+	public String size;
+	//--------------------------------------------------------------------------------
+	private static final String PEER_TYPE_NAME = "Worker1";
+	private static final String WIRING_NAME = "W1";
+	//--------------------------------------------------------------------------------
+	private String toolchainPath;
+	private String raw;
+	// context of the guard; nb: switched to its query for each invocation
+	private Context context;
+	// input of typeEval
+	private Token rootToken;
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Setup(Level.Trial)
+	public void setupTrial() throws IOException, SyntaxException, SNHException {
+		raw = Models.longQuery(Models.scale(size));
+		//--------------------------------------------------------------------------------
+		// the evaluated pmmm type gives the pmmm props types, the peer type and the entry types
+		toolchainPath = Models.generate("small");
+		PmmmType pmmmType = Models.evaluate(Models.parse(toolchainPath));
+		//--------------------------------------------------------------------------------
+		// context switches of PmmmType, PeerType, Wiring and Link (see their evalDataTypes)
+		context = new Context(new KeywordTypes(), pmmmType.getPmmmTypeName(), pmmmType.getPmmmTypePropsTypes(), pmmmType.getSymbolTable());
+		context.setPmmmQualifierContext(pmmmType.getPmmmTypePropsTypes(), pmmmType.getPmmmTypeName());
+		context.switch2PeerType(PEER_TYPE_NAME);
+		context.setPeerQualifierContext(pmmmType.getPeerType(PEER_TYPE_NAME).getPeerTypePPropsTypes(), PEER_TYPE_NAME);
+		context.switch2WiringType(WIRING_NAME);
+		context.switch2Link("G1", false /* isNoopLinkFlag */, "Job", IPmDefs.TAKE);
+	}
+	//--------------------------------------------------------------------------------
+	@Setup(Level.Invocation)
+	public void setupInvocation() throws SyntaxException, SNHException {
+		TokenExpression tokenExpression = new Tokens2Expressions(new Raw2Tokens(raw).mince()).meld();
+		tokenExpression.resolveQualifierTypes(context.getQualifierContext());
+		rootToken = tokenExpression.getRootToken();
+	}
+	//--------------------------------------------------------------------------------
+	@TearDown(Level.Trial)
+	public void tearDownTrial() throws IOException {
+		Models.delete(toolchainPath);
+	}
+
+	//================================================================================
+	// BENCHMARKS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Benchmark
+	public Token typeEval() throws SyntaxException, SNHException {
+		new TokenTypeEval(context.switch2Link_Query(), rootToken).typeEval();
+		return rootToken;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
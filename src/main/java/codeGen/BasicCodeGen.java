@@ -37,9 +37,10 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
 import pmmm.PmmmInstance;
+import qa.exceptions.CodeGenException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -48,9 +49,15 @@ public abstract class BasicCodeGen implements IBasicCodeGen {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	protected Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_getFirstSubElementWithName = TracePoint.of(BasicCodeGen.class, "getFirstSubElementWithName"); // debug
 	//--------------------------------------------------------------------------------
 	// the PMMM to be translated
-	public static PmmmInstance pmmm; 
+	protected PmmmInstance pmmm; 
+	//--------------------------------------------------------------------------------
+	// context info of this code generation; handed down to the emitters
+	// - nb: not static, so that several code generations can run in parallel
+	protected CodeGenContext context; 
 	//--------------------------------------------------------------------------------
 	// xml replacements
 	protected util.replace.xml.XmlReplacements xmlReplacements = new util.replace.xml.XmlReplacements();
@@ -70,7 +77,8 @@ public abstract class BasicCodeGen implements IBasicCodeGen {
 	}
 	//--------------------------------------------------------------------------------
 	public BasicCodeGen(PmmmInstance pmmmInstance, String absoluteUcTargetPath, boolean writeAlsoToConsoleFlag) {
-		BasicCodeGen.pmmm = pmmmInstance;
+		this.pmmm = pmmmInstance;
+		this.context = new CodeGenContext(pmmmInstance);
 		this.absoluteUcTargetPath = absoluteUcTargetPath;
 		this.writeAlsoToConsoleFlag = writeAlsoToConsoleFlag;
 		//--------------------------------------------------------------------------------
@@ -78,6 +86,17 @@ public abstract class BasicCodeGen implements IBasicCodeGen {
 		//--------------------------------------------------------------------------------
 	}
 
+	//================================================================================
+	// CANCEL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// stop the code generation if its thread was interrupted
+	// - nb: happens if targets are generated in parallel and another target has failed
+	protected void checkInterrupted(TracePoint m) throws CodeGenException {
+		if(Thread.currentThread().isInterrupted())
+			throw new CodeGenException("code generation interrupted", m);
+	}
+
 	//================================================================================
 	// XML UTILS
 	//================================================================================
@@ -114,7 +133,7 @@ public abstract class BasicCodeGen implements IBasicCodeGen {
 	public static Element getFirstSubElementWithName(String subElementName, Element element) throws SyntaxException {
 		//--------------------------------------------------------------------------------
 		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getFirstSubElementWithName; // debug
 		//--------------------------------------------------------------------------------
 		// assert that element is not null
 		if(element == null) {
@@ -124,7 +143,7 @@ public abstract class BasicCodeGen implements IBasicCodeGen {
 		//--------------------------------------------------------------------------------
 		// get all elements from the "diagram" element with subElementName
 		NodeList nodeList = element.getElementsByTagName(subElementName);
-		/**/ tracer.println("nodeList = " + nodeList, Level.NO, m);
+		/**/ tracer.println(() -> "nodeList = " + nodeList, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// convert first node to element and return it 
 		return((Element) nodeList.item(0));
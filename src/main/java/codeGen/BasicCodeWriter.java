@@ -24,14 +24,19 @@ package codeGen;
 
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.util.Stack;
 
 import codeGen.PmDsl.PmDslDefs;
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -43,6 +48,13 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 	//--------------------------------------------------------------------------------
 	// debug
 	/**/ protected Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_createDir = TracePoint.of(BasicCodeWriter.class, "createDir"); // debug
+	/**/ private static final TracePoint M_openAutoFile = TracePoint.of(BasicCodeWriter.class, "openAutoFile"); // debug
+	/**/ private static final TracePoint M_write = TracePoint.of(BasicCodeWriter.class, "write"); // debug
+	/**/ private static final TracePoint M_decInd = TracePoint.of(BasicCodeWriter.class, "decInd"); // debug
+	/**/ private static final TracePoint M_endCapture = TracePoint.of(BasicCodeWriter.class, "endCapture"); // debug
+	/**/ private static final TracePoint M_capturedLength = TracePoint.of(BasicCodeWriter.class, "capturedLength"); // debug
 	//--------------------------------------------------------------------------------
 	protected String useCaseAndConfigName = "";
 	//--------------------------------------------------------------------------------
@@ -65,6 +77,11 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 	//--------------------------------------------------------------------------------
 	// file name infos:
 	protected String cur_FileName = "";
+	//--------------------------------------------------------------------------------
+	// capturing (see beginCapture); nb: captures can be nested
+	// - the writers to be restored and the buffers of the open captures
+	private Stack<BufferedWriter> capturedBufferedWriters = new Stack<BufferedWriter>();
+	private Stack<StringWriter> captureBuffers = new Stack<StringWriter>();
 
 	//================================================================================
 	// CONSTRUCTORS
@@ -86,7 +103,7 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 	public void createDir(String dirPath) throws CodeGenException {
 		//--------------------------------------------------------------------------------
 		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_createDir; // debug
 		//--------------------------------------------------------------------------------
 		File f;
 		try {
@@ -100,7 +117,7 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 		// create dir and check success
 		// - obviously also returns true if dir already exists...
 		if(! f.mkdir()) {
-			/**/ tracer.println(dirPath + " exists already", Level.LO, m);  
+			/**/ tracer.println(() -> dirPath + " exists already", Level.LO, m);  
 		}
 		//--------------------------------------------------------------------------------
 	}
@@ -111,18 +128,19 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 	// caution: sets cur_BufferedWriter to newly opened file
 	public BufferedWriter openAutoFile(String fileName) throws CodeGenException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_openAutoFile; // debug
 		//--------------------------------------------------------------------------------
 		BufferedWriter bw;
-		/**/ tracer.println("CREATE/OPEN AUTO GEN FILE " + fileName, Level.LO, m);
+		/**/ tracer.println(() -> "CREATE/OPEN AUTO GEN FILE " + fileName, Level.LO, m);
 		try {
 			File f = new File(fileName); 			
-			bw = new BufferedWriter(new FileWriter(f));
+			// nb: same as a FileWriter, but the bytes are counted for the translation report
+			bw = new BufferedWriter(new OutputStreamWriter(new ByteCountingOutputStream(new FileOutputStream(f), fileName)));
 			cur_BufferedWriter = bw;
 		} catch (Exception e) {
 			throw new CodeGenException("CAN'T CREATE FILE: " + fileName + "; " + e.getMessage() + " " + e.getCause(), m);
 		}
-		/**/ tracer.println("ok: " + fileName, Level.NO, m);
+		/**/ tracer.println(() -> "ok: " + fileName, Level.NO, m);
 		return bw;
 	}	
 
@@ -133,13 +151,14 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 	// write code without indentation
 	public void write(String text) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_write; // debug
 		//--------------------------------------------------------------------------------
 		if(cur_BufferedWriter == null) {
 			/**/ throw new SNHException(984762, " Buffered Writer is null", m);
 		}
 		// write to console
-		if(writeAlsoToConsoleFlag) {
+		// - nb: captured code is written to console only when it is finally written
+		if(writeAlsoToConsoleFlag && captureBuffers.isEmpty()) {
 			/**/ System.out.print(text);
 		}
 		try {
@@ -176,6 +195,57 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 		write("\n");
 	}
 
+	//================================================================================
+	// CAPTURE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// write all code from now on to a buffer instead of the cur file, until endCapture is called
+	// - used to compare the code of several instances before it is written
+	public void beginCapture() {
+		StringWriter captureBuffer = new StringWriter();
+		capturedBufferedWriters.push(cur_BufferedWriter);
+		captureBuffers.push(captureBuffer);
+		cur_BufferedWriter = new BufferedWriter(captureBuffer);
+	}
+	//--------------------------------------------------------------------------------
+	// end the capture begun last and return the code captured since then
+	public String endCapture() throws SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_endCapture; // debug
+		//--------------------------------------------------------------------------------
+		if(captureBuffers.isEmpty()) 
+			/**/ throw new SNHException(984763, "no capture begun", m);
+		try {
+			cur_BufferedWriter.flush();
+		} catch (IOException e) {
+			// nb: can't happen for a string writer
+			throw new SNHException(984764, "can't flush capture buffer", m);
+		}
+		cur_BufferedWriter = capturedBufferedWriters.pop();
+		return captureBuffers.pop().toString();
+	}
+	//--------------------------------------------------------------------------------
+	// is a capture open?
+	protected boolean isCapturing() {
+		return ! captureBuffers.isEmpty();
+	}
+	//--------------------------------------------------------------------------------
+	// length of the code captured so far by the capture begun last
+	protected int capturedLength() throws SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_capturedLength; // debug
+		//--------------------------------------------------------------------------------
+		if(captureBuffers.isEmpty())
+			/**/ throw new SNHException(984765, "no capture begun", m);
+		try {
+			cur_BufferedWriter.flush();
+		} catch (IOException e) {
+			// nb: can't happen for a string writer
+			throw new SNHException(984766, "can't flush capture buffer", m);
+		}
+		return captureBuffers.peek().getBuffer().length();
+	}
+
 	//================================================================================
 	// UTIL
 	//================================================================================
@@ -186,7 +256,7 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 	//--------------------------------------------------------------------------------
 	public void decInd() throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_decInd; // debug
 		//--------------------------------------------------------------------------------
 		if(curInd.length() < codeGen.Go.GoDefs.TAB.length()) 
 			/**/ throw new SNHException(999476, "ill. use of indentation; cant dec cur ind = " + curInd.length(), m);
@@ -194,6 +264,55 @@ public abstract class BasicCodeWriter implements IBasicCodeWriter {
 			curInd = curInd.substring(PmDslDefs.TAB.length());
 	}
 
+	//================================================================================
+	//================================================================================
+	// BYTE COUNTING OUTPUT STREAM
+	//================================================================================
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// counts the bytes written to the file and reports them on close (see qa.stats.Counters)
+	private static class ByteCountingOutputStream extends FilterOutputStream {
+		//--------------------------------------------------------------------------------
+		private String fileName;
+		private long nBytes = 0;
+		private boolean closedFlag = false;
+
+		//================================================================================
+		// CONSTRUCTORS
+		//================================================================================
+		//--------------------------------------------------------------------------------
+		ByteCountingOutputStream(OutputStream out, String fileName) {
+			super(out);
+			this.fileName = fileName;
+		}
+
+		//================================================================================
+		// WRITE / CLOSE
+		//================================================================================
+		//--------------------------------------------------------------------------------
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			nBytes++;
+		}
+		//--------------------------------------------------------------------------------
+		// nb: FilterOutputStream would write byte by byte
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			nBytes += len;
+		}
+		//--------------------------------------------------------------------------------
+		@Override
+		public void close() throws IOException {
+			super.close();
+			if(! closedFlag) {
+				closedFlag = true;
+				qa.stats.Counters.fileWritten(fileName, nBytes);
+			}
+		}
+	}
+
 
 } // END OF CLASS
 
@@ -0,0 +1,89 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package codeGen;
+
+import pmmm.PeerInstance;
+import pmmm.PmmmInstance;
+import pmmm.WiringInstance;
+
+//================================================================================
+// context info of one code generation;
+// - tricky: needed to resolve qualifier expressions (<PMMM>.<prop>, <PEER>.<prop>, <WIRING>.<prop>)
+// - nb: each code generator has its own context, which is handed down to all its emitters;
+// -- so that several code generations can run in parallel in the same JVM
+public class CodeGenContext {
+	//--------------------------------------------------------------------------------
+	// the PMMM to be translated
+	private final PmmmInstance pmmm;
+	//--------------------------------------------------------------------------------
+	// current peer
+	// - needed to resolve <PEER>.<prop> expressions
+	private PeerInstance currentPeerInstance;
+	//--------------------------------------------------------------------------------
+	// current wiring instance
+	// - needed to resolve <WIRING>.<prop> expressions
+	private WiringInstance currentWiringInstance;
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public CodeGenContext(PmmmInstance pmmm) {
+		this.pmmm = pmmm;
+	}
+
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public PmmmInstance getPmmm() {
+		return pmmm;
+	}
+	//--------------------------------------------------------------------------------
+	public PeerInstance getCurrentPeerInstance() {
+		return currentPeerInstance;
+	}
+	//--------------------------------------------------------------------------------
+	public WiringInstance getCurrentWiringInstance() {
+		return currentWiringInstance;
+	}
+
+	//================================================================================
+	// SET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public void setCurrentPeerInstance(PeerInstance currentPeerInstance) {
+		this.currentPeerInstance = currentPeerInstance;
+	}
+	//--------------------------------------------------------------------------------
+	public void setCurrentWiringInstance(WiringInstance currentWiringInstance) {
+		this.currentWiringInstance = currentWiringInstance;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -26,7 +26,7 @@ package codeGen;
 
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -35,6 +35,8 @@ public class CodeGenDirector {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_generate = TracePoint.of(CodeGenDirector.class, "generate"); // debug
 	//--------------------------------------------------------------------------------
 	BasicCodeGen codeGenerator;
 
@@ -60,7 +62,7 @@ public class CodeGenDirector {
 	//--------------------------------------------------------------------------------
 	public void generate() throws CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generate; // debug
 		//--------------------------------------------------------------------------------
 		if(codeGenerator == null)
 			throw new SNHException(346785, "code generator not initialized", m);
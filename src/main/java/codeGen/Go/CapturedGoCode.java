@@ -0,0 +1,80 @@
+//================================================================================
+// Peer Model Tool Chain
+// Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Affero General Public License as
+// published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Affero General Public License for more details.
+//
+// You should have received a copy of the GNU Affero General Public License
+// along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+//SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+//AUTHOR:    Eva Maria Kuehn
+//CREATED:   October 2026
+//================================================================================
+
+package codeGen.Go;
+
+import java.util.Vector;
+
+//================================================================================
+// go code captured by the code writer (see GoCodeWriter.endGoCapture) together with the literals written into it
+// - a literal is a value of the model, that was written by GoCodeWriter.writeLiteral, eg the peer name passed to NewPeer,
+//   or the int and string constants passed to IVal, SVal and SUrl
+// - the code is split at the literals: parts.size() == literals.size() + 1
+// - nb: all other code (names of labels, vars, entry types, comments...) belongs to the structure of the code
+public class CapturedGoCode {
+	//--------------------------------------------------------------------------------
+	String code;
+	// the code before each literal plus the rest after the last one
+	Vector<String> parts = new Vector<String>();
+	// the literals as they are written in the code, eg "\"w1\"" or "42"
+	Vector<String> literals = new Vector<String>();
+	// per literal: int (true) or string (false)?
+	Vector<Boolean> intFlags = new Vector<Boolean>();
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// literalPositions: position of each literal in the code, ascending
+	CapturedGoCode(String code, Vector<Integer> literalPositions, Vector<String> literals, Vector<Boolean> intFlags) {
+		this.code = code;
+		this.literals = literals;
+		this.intFlags = intFlags;
+		int partStart = 0;
+		for(int k = 0; k < literals.size(); k++) {
+			int pos = literalPositions.get(k);
+			parts.add(code.substring(partStart, pos));
+			partStart = pos + literals.get(k).length();
+		}
+		parts.add(code.substring(partStart));
+	}
+
+	//================================================================================
+	// QUERY
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// same code apart from the literal values?
+	boolean hasSameStructure(CapturedGoCode other) {
+		return parts.equals(other.parts) && intFlags.equals(other.intFlags);
+	}
+	//--------------------------------------------------------------------------------
+	public String getCode() {
+		return code;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -26,30 +26,21 @@ import codeGen.*;
 import pmmm.*;
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // generate use case go code for the go automaton from a Peer Model Meta Model
 // and then go to test directory and start it with "go test" :-)
 //================================================================================
 public class GoCodeGen extends BasicCodeGen implements IBasicCodeGen {
+	// trace points
+	/**/ private static final TracePoint M_generateUcCode = TracePoint.of(GoCodeGen.class, "generateUcCode"); // debug
 	//--------------------------------------------------------------------------------
 	// my code writer
 	codeGen.Go.GoCodeWriter codeWriter;
 	//--------------------------------------------------------------------------------
 	String dir;
 	//--------------------------------------------------------------------------------
-	// CONTEXT INFO FOR CODE GEN
-	// - tricky: needed to resolve qualifier expressions
-	//--------------------------------------------------------------------------------
-	// - current peer
-	// --- needed to resolve <PEER>.<prop> expressions
-	public static PeerInstance currentPeerInstance; 
-	//--------------------------------------------------------------------------------
-	// - current wiring instance
-	// --- needed to resolve <WIRING>.<prop> expressions
-	public static WiringInstance currentWiringInstance; 
-	//--------------------------------------------------------------------------------
 	private String relativeUcPath = "";
 
 	//================================================================================
@@ -83,7 +74,7 @@ public class GoCodeGen extends BasicCodeGen implements IBasicCodeGen {
 	// translation of pmmm 2 go code
 	public void generateUcCode() throws CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateUcCode; // debug
 		//--------------------------------------------------------------------------------
 		// debug:
 		// /**/ Object m = new Object(){};  
@@ -153,22 +144,26 @@ public class GoCodeGen extends BasicCodeGen implements IBasicCodeGen {
 		//================================================================================
 		//--------------------------------------------------------------------------------
 		// gen code for all peers
+		// - nb: peers that differ only in values derived from their names and pprops (eg of peer arrays) are generated as loop
+		InstanceLoop2Go peerLoop = new InstanceLoop2Go(codeWriter, "//============================================================", 
+				true /* blankLineAfterBannerFlag */, "pa" /* loopVarName */);
 		for(int i = 0; i < pmmm.getPeerInstances().size(); i++) {
-			// nb: peer is stored statically in my class -- as context info !!!
-			GoCodeGen.currentPeerInstance = pmmm.getPeerInstances().get(i);
+			checkInterrupted(m);
+			// nb: peer is stored in the context info !!!
+			PeerInstance currentPeerInstance = pmmm.getPeerInstances().get(i);
+			context.setCurrentPeerInstance(currentPeerInstance);
 			String peerTypeName = currentPeerInstance.getPeerTypeName(); 
 			String peerName = currentPeerInstance.getPeerInstanceName(); 
-			codeWriter.writelnInd("//============================================================");
-			codeWriter.writelnInd("// PEER " + peerTypeName + ":" + peerName);
-			codeWriter.writelnInd("//============================================================");
-			codeWriter.writelnInd("");
-			codeWriter.writelnInd("p = NewPeer(\"" + peerName + "\")");
+			codeWriter.beginCapture();
+			codeWriter.writeInd("p = NewPeer(");
+			codeWriter.writeLiteral("\"" + peerName + "\"", false /* intFlag */);
+			codeWriter.writeln(")");
 			codeWriter.writelnInd("");
 			//--------------------------------------------------------------------------------
 			try {
 				//--------------------------------------------------------------------------------
 				// gen code for peer instance
-				new PeerInstance2Go(codeWriter, currentPeerInstance).generateCode();
+				new PeerInstance2Go(codeWriter, context, currentPeerInstance).generateCode();
 				//--------------------------------------------------------------------------------
 				// gen code for adding peer to peer space
 				codeWriter.writelnInd("//------------------------------------------------------------");
@@ -183,7 +178,9 @@ public class GoCodeGen extends BasicCodeGen implements IBasicCodeGen {
 				} catch (Exception e2) {}
 				throw new CodeGenException("peer type " + currentPeerInstance.getPeerTypeName(), m, e1);
 			}
+			peerLoop.add("PEER " + peerTypeName + ":" + peerName, codeWriter.endGoCapture(), InstanceLoop2Go.peerColumns(currentPeerInstance));
 		}
+		peerLoop.flush();
 		//--------------------------------------------------------------------------------
 		codeWriter.decInd();
 		codeWriter.writelnInd("}");
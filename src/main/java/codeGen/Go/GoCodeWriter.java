@@ -27,10 +27,12 @@ import java.io.BufferedWriter;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Stack;
+import java.util.Vector;
 
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // WRITE CODE TO FILE
@@ -47,6 +49,11 @@ import qa.tracer.O;
 //     use_case_<ucname>.go ... go code generated from the PMMM !!! 
 //--------------------------------------------------------------------------------
 public class GoCodeWriter extends codeGen.BasicCodeWriter implements codeGen.IBasicCodeWriter {
+	// trace points
+	/**/ private static final TracePoint M_openFiles = TracePoint.of(GoCodeWriter.class, "openFiles"); // debug
+	/**/ private static final TracePoint M_switch2File = TracePoint.of(GoCodeWriter.class, "switch2File"); // debug
+	/**/ private static final TracePoint M_fileId2Info = TracePoint.of(GoCodeWriter.class, "fileId2Info"); // debug
+	/**/ private static final TracePoint M_closeFiles = TracePoint.of(GoCodeWriter.class, "closeFiles"); // debug
 	//--------------------------------------------------------------------------------
 	// /**/ tracer.println("xxx", Level.DEBUG, m);
 	//--------------------------------------------------------------------------------
@@ -78,6 +85,11 @@ public class GoCodeWriter extends codeGen.BasicCodeWriter implements codeGen.IBa
 	protected codeGen.Go.GoCodeWriter codeWriter;
 	//--------------------------------------------------------------------------------
 	String relativeUcPath = "";
+	//--------------------------------------------------------------------------------
+	// literals written into the open captures (see writeLiteral); nb: one entry per open capture
+	private Stack<Vector<Integer>> capturedLiteralPositions = new Stack<Vector<Integer>>();
+	private Stack<Vector<String>> capturedLiterals = new Stack<Vector<String>>();
+	private Stack<Vector<Boolean>> capturedLiteralIntFlags = new Stack<Vector<Boolean>>();
 
 	//================================================================================
 	// CONSTRUCTORS
@@ -96,7 +108,7 @@ public class GoCodeWriter extends codeGen.BasicCodeWriter implements codeGen.IBa
 	//--------------------------------------------------------------------------------
 	public void openFiles() throws SNHException, CodeGenException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_openFiles; // debug
 		//--------------------------------------------------------------------------------
 		// local vars
 		String what = "";
@@ -130,6 +142,8 @@ public class GoCodeWriter extends codeGen.BasicCodeWriter implements codeGen.IBa
 			//================================================================================
 			//--------------------------------------------------------------------------------
 			// ../../go.mod
+			// - nb: shared by all use cases and configs; several code generations running in parallel
+			// -- may write it concurrently, which is harmless as its content is always the same
 			what = "module file";
 			int pos = absoluteUcTargetPath.lastIndexOf(relativeUcPath);
 			fileName = absoluteUcTargetPath.substring(0, pos) + "go.mod";
@@ -176,7 +190,7 @@ public class GoCodeWriter extends codeGen.BasicCodeWriter implements codeGen.IBa
 	// switch to file id (see defines)
 	public void switch2File(int fileId) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2File; // debug
 		//--------------------------------------------------------------------------------
 		switch(fileId) {
 		case codeGen.Go.GoDefs.TEST_FILE_ID:
@@ -204,7 +218,7 @@ public class GoCodeWriter extends codeGen.BasicCodeWriter implements codeGen.IBa
 	// return info about file id (see defines)
 	public String fileId2Info(int fileId) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_fileId2Info; // debug
 		//--------------------------------------------------------------------------------
 		switch(fileId) {
 		case codeGen.Go.GoDefs.TEST_FILE_ID:
@@ -220,13 +234,61 @@ public class GoCodeWriter extends codeGen.BasicCodeWriter implements codeGen.IBa
 		}			
 	}
 
+	//================================================================================
+	// LITERALS & CAPTURE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// write a literal value of the model, ie an int or a go string literal (with its quotes)
+	// - if a capture is open, its position is remembered (see CapturedGoCode)
+	public void writeLiteral(String literal, boolean intFlag) throws SNHException {
+		if(isCapturing()) {
+			capturedLiteralPositions.peek().add(capturedLength());
+			capturedLiterals.peek().add(literal);
+			capturedLiteralIntFlags.peek().add(intFlag);
+		}
+		write(literal);
+	}
+	//--------------------------------------------------------------------------------
+	// write captured code as it is; its literals are remembered again for an enclosing capture
+	public void writeCaptured(CapturedGoCode capturedGoCode) throws SNHException {
+		for(int k = 0; k < capturedGoCode.literals.size(); k++) {
+			write(capturedGoCode.parts.get(k));
+			writeLiteral(capturedGoCode.literals.get(k), capturedGoCode.intFlags.get(k));
+		}
+		write(capturedGoCode.parts.lastElement());
+	}
+	//--------------------------------------------------------------------------------
+	@Override
+	public void beginCapture() {
+		super.beginCapture();
+		capturedLiteralPositions.push(new Vector<Integer>());
+		capturedLiterals.push(new Vector<String>());
+		capturedLiteralIntFlags.push(new Vector<Boolean>());
+	}
+	//--------------------------------------------------------------------------------
+	// nb: the literals of the capture are dropped; use endGoCapture to get them
+	@Override
+	public String endCapture() throws SNHException {
+		String code = super.endCapture();
+		capturedLiteralPositions.pop();
+		capturedLiterals.pop();
+		capturedLiteralIntFlags.pop();
+		return code;
+	}
+	//--------------------------------------------------------------------------------
+	// end the capture begun last and return the code captured since then together with its literals
+	public CapturedGoCode endGoCapture() throws SNHException {
+		String code = super.endCapture();
+		return new CapturedGoCode(code, capturedLiteralPositions.pop(), capturedLiterals.pop(), capturedLiteralIntFlags.pop());
+	}
+
 	//================================================================================
 	// CLOSE ALL FILES
 	//================================================================================
 	// close files
 	public void closeFiles() throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_closeFiles; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			if(useCase_BufferedWriter != null)
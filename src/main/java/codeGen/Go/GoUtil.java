@@ -22,16 +22,19 @@
 
 package codeGen.Go;
 
+import codeGen.CodeGenContext;
 import eval.IData;
 import eval.tokens.IToken;
 import eval.tokens.Token;
 import pmmm.OpDefs;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 public class GoUtil {
+	// trace points
+	/**/ private static final TracePoint M_writeCodeForLabelToken = TracePoint.of(GoUtil.class, "writeCodeForLabelToken"); // debug
 
 	//================================================================================
 	// WRITE LABEL (might contain ('#) 
@@ -50,9 +53,9 @@ public class GoUtil {
 	// NB: in case (1) Go-automaton must be statically evaluate it, whereas in case (2) dynamic evaluation is possible
 	//     - in case (1) namely a hash map is used for entry type names and var names...
 	// NB: in case (2) the surrounding "<T>ArrayLabel(" and ")" must have already been written by caller!
-	public static void writeCodeForLabelToken(boolean leftSideOfAssignment /* ie static context */, GoCodeWriter codeWriter, Token labelToken) throws SyntaxException, SNHException {
+	public static void writeCodeForLabelToken(boolean leftSideOfAssignment /* ie static context */, GoCodeWriter codeWriter, CodeGenContext context, Token labelToken) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_writeCodeForLabelToken; // debug
 		//--------------------------------------------------------------------------------
 		// <labelToken> # <intExpr>
 		if(OpDefs.isHashBOPName(labelToken.getRawText())) {
@@ -64,7 +67,7 @@ public class GoUtil {
 			//--------------------------------------------------------------------------------
 			// left side must be label name or label with array access
 			// - recursion
-			writeCodeForLabelToken(leftSideOfAssignment, codeWriter, labelToken.getLeft());
+			writeCodeForLabelToken(leftSideOfAssignment, codeWriter, context, labelToken.getLeft());
 			//--------------------------------------------------------------------------------
 			codeWriter.write(GoDefs.COMMA);
 			//--------------------------------------------------------------------------------
@@ -72,7 +75,7 @@ public class GoUtil {
 			Token right = labelToken.getRight();
 			if(right.getType() != IData.Type.INT) 
 				throw new SyntaxException("right side of '#' must have type INT, but has " + right.getType(), m);
-			new Token2Go(codeWriter, right, false /* isTopLevelSelArgP does not apply !!! */).generateCode();
+			new Token2Go(codeWriter, context, right, false /* isTopLevelSelArgP does not apply !!! */).generateCode();
 			//--------------------------------------------------------------------------------
 			codeWriter.write(")");
 		}
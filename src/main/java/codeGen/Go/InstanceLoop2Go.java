@@ -0,0 +1,366 @@
+//================================================================================
+// Peer Model Tool Chain
+// Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU Affero General Public License as
+// published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Affero General Public License for more details.
+//
+// You should have received a copy of the GNU Affero General Public License
+// along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+//SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+//AUTHOR:    Eva Maria Kuehn
+//CREATED:   October 2026
+//================================================================================
+
+package codeGen.Go;
+
+import java.util.Collections;
+import java.util.Stack;
+import java.util.Vector;
+
+import eval.IData;
+import eval.tokens.IToken;
+import eval.tokens.Token;
+import eval.tokens.TokenExpression;
+import pmmm.OpDefs;
+import pmmm.PeerInstance;
+import pmmm.WiringInstance;
+import qa.exceptions.SNHException;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// go code for a sequence of instances, namely for the peers of the config or for the wirings of a peer:
+// - the code of each instance is passed as captured code (see GoCodeWriter.endGoCapture) together with the info for its banner
+//   and with its columns, ie the values of the model that belong to the instance: its name, the indices of its name
+//   (eg 3 of "w # 3", see PINDEX/WINDEX) and the constant values of its props (see peerColumns, wiringColumns)
+// - consecutive instances are generated as one go for-loop over a table of columns, if their code is the same apart from
+//   literals (see GoCodeWriter.writeLiteral), and if each literal that differs between them is the value of the same column
+//   in all of them; the table has one row per instance and one field per column used, typed by the model
+// - all other instances are generated as they are (unrolled)
+// - nb: the loop gives the same code as the unrolled instances, if its table is expanded into its body (see InstanceLoop2GoTest)
+public class InstanceLoop2Go {
+	//--------------------------------------------------------------------------------
+	// generate loops at all? if false, all instances are unrolled
+	public static boolean loopFlag = true; // <<<<<<<<<<<<<<<<<<<< configure here
+	//--------------------------------------------------------------------------------
+	// min. number of instances with the same structure, so that a loop pays off
+	static final int MIN_LOOP_SIZE = 3;
+	//--------------------------------------------------------------------------------
+	private GoCodeWriter codeWriter;
+	// border line of the banner
+	private String border;
+	// blank line after the banner?
+	private boolean blankLineAfterBannerFlag;
+	// name of the loop var; must be unique for nested loops
+	private String loopVarName;
+	//--------------------------------------------------------------------------------
+	// current run of instances with the same structure (same index)
+	private Vector<String> bannerInfos = new Vector<String>();
+	private Vector<CapturedGoCode> codes = new Vector<CapturedGoCode>();
+	private Vector<Vector<Column>> columnss = new Vector<Vector<Column>>();
+	// per literal of the code: does it differ between the instances of the run?
+	private Vector<Boolean> varyingFlags = new Vector<Boolean>();
+	// per literal of the code: the positions of the columns that have its value in all instances of the run
+	private Vector<Vector<Integer>> candidateColumnss = new Vector<Vector<Integer>>();
+	//--------------------------------------------------------------------------------
+	// writing the loop body: is the next char written the first one of its line?
+	private boolean bodyLineStartFlag;
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public InstanceLoop2Go(GoCodeWriter codeWriter, String border, boolean blankLineAfterBannerFlag, String loopVarName) {
+		this.codeWriter = codeWriter;
+		this.border = border;
+		this.blankLineAfterBannerFlag = blankLineAfterBannerFlag;
+		this.loopVarName = loopVarName;
+	}
+
+	//================================================================================
+	// COLUMNS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// value of the model that belongs to an instance
+	static class Column {
+		// name of the field in the table
+		String name;
+		// go type int (true) or string (false)?
+		boolean intFlag;
+		// the value as go literal, ie as written by GoCodeWriter.writeLiteral
+		String literal;
+		Column(String name, boolean intFlag, String literal) {
+			this.name = name;
+			this.intFlag = intFlag;
+			this.literal = literal;
+		}
+	}
+	//--------------------------------------------------------------------------------
+	static Vector<Column> peerColumns(PeerInstance peerInstance) {
+		return columns(peerInstance.getPeerInstanceName(), peerInstance.getPeerInstanceNameToken(), peerInstance.getProcessedPPropsDefsTokenExpression());
+	}
+	//--------------------------------------------------------------------------------
+	static Vector<Column> wiringColumns(WiringInstance wiringInstance) {
+		return columns(wiringInstance.getWiringInstanceName(), wiringInstance.getWiringInstanceNameToken(), wiringInstance.getProcessedWiringWPropsDefs());
+	}
+	//--------------------------------------------------------------------------------
+	// name: "name"; indices of the name: "i1", "i2"...; props with constant INT, STRING or URL value: "p_<propName>"
+	// - nb: props with other values (eg expressions) and with labels that are no simple names are no columns
+	private static Vector<Column> columns(String instanceName, Token nameToken, TokenExpression propsDefs) {
+		Vector<Column> columns = new Vector<Column>();
+		//--------------------------------------------------------------------------------
+		// name
+		columns.add(new Column("name", false /* intFlag */, "\"" + instanceName + "\""));
+		//--------------------------------------------------------------------------------
+		// indices: <name> # <i1> # <i2> ...; nb: '#' is left assoc
+		Stack<Token> indexTokens = new Stack<Token>();
+		Token token = nameToken;
+		while(token != null && token.getKind() == IToken.Kind.BOP && OpDefs.isHashBOPName(token.getRawText())) {
+			indexTokens.push(token.getRight());
+			token = token.getLeft();
+		}
+		for(int k = 1; ! indexTokens.isEmpty(); k++) {
+			Token indexToken = indexTokens.pop();
+			if(indexToken.getKind() == IToken.Kind.INT)
+				columns.add(new Column("i" + k, true /* intFlag */, indexToken.getRawText()));
+		}
+		//--------------------------------------------------------------------------------
+		// props
+		for(int i = 0; i < propsDefs.getTVV().size(); i++) {
+			Token labelToken;
+			Token valueToken;
+			try {
+				Token rootToken = propsDefs.getTVV().get(i).getRootToken();
+				labelToken = rootToken.getPropLabelToken(false /* propTypeFlag */);
+				valueToken = rootToken.getRight();
+			} catch (SyntaxException e) {
+				continue;
+			}
+			if(labelToken.getKind() != IToken.Kind.NAME || valueToken == null)
+				continue;
+			String name = "p_" + labelToken.getRawText();
+			if(findColumn(columns, name) >= 0)
+				continue;
+			IData.Type type = valueToken.getType();
+			if(valueToken.getKind() == IToken.Kind.INT)
+				columns.add(new Column(name, true /* intFlag */, valueToken.getRawText()));
+			else if(valueToken.getKind() == IToken.Kind.STRING 
+					|| (valueToken.getKind() == IToken.Kind.NAME && ! valueToken.getIsLabelFlag() && (type == IData.Type.STRING || type == IData.Type.URL)))
+				columns.add(new Column(name, false /* intFlag */, "\"" + valueToken.getRawText() + "\""));
+		}
+		return columns;
+	}
+
+	//================================================================================
+	// ADD / FLUSH
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// add the code of the next instance
+	// - nb: the current run is written, if the instance does not fit to it
+	public void add(String bannerInfo, CapturedGoCode code, Vector<Column> columns) throws SNHException {
+		if(! loopFlag) {
+			writeBanner(bannerInfo);
+			codeWriter.writeCaptured(code);
+			return;
+		}
+		if(! codes.isEmpty() && ! fitsRun(code, columns))
+			flush();
+		//--------------------------------------------------------------------------------
+		for(int k = 0; k < code.literals.size(); k++) {
+			Vector<Integer> matchingColumns = matchingColumns(code, k, columns);
+			if(codes.isEmpty()) {
+				varyingFlags.add(false);
+				candidateColumnss.add(matchingColumns);
+			}
+			else {
+				if(! code.literals.get(k).equals(codes.get(0).literals.get(k)))
+					varyingFlags.set(k, true);
+				candidateColumnss.get(k).retainAll(matchingColumns);
+			}
+		}
+		bannerInfos.add(bannerInfo);
+		codes.add(code);
+		columnss.add(columns);
+	}
+	//--------------------------------------------------------------------------------
+	// write the current run; CAUTION: must be called after the last instance was added
+	public void flush() throws SNHException {
+		// nb: instances that are entirely equal (no differing literals) are unrolled, as they would be generated with the same names
+		if(codes.size() >= MIN_LOOP_SIZE && varyingFlags.contains(true))
+			writeLoop();
+		else {
+			for(int i = 0; i < codes.size(); i++) {
+				writeBanner(bannerInfos.get(i));
+				codeWriter.writeCaptured(codes.get(i));
+			}
+		}
+		bannerInfos.clear();
+		codes.clear();
+		columnss.clear();
+		varyingFlags.clear();
+		candidateColumnss.clear();
+	}
+
+	//================================================================================
+	// WRITE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	private void writeBanner(String bannerInfo) throws SNHException {
+		codeWriter.writelnInd(border);
+		codeWriter.writelnInd("// " + bannerInfo);
+		codeWriter.writelnInd(border);
+		if(blankLineAfterBannerFlag)
+			codeWriter.writelnInd("");
+	}
+	//--------------------------------------------------------------------------------
+	// for <loop var> := range <table of the columns> { <code of the 1st instance with the differing literals replaced by the loop var's fields> }
+	// - CAUTION: at least one literal must differ
+	private void writeLoop() throws SNHException {
+		//--------------------------------------------------------------------------------
+		CapturedGoCode firstCode = codes.get(0);
+		Vector<Column> firstColumns = columnss.get(0);
+		int n = codes.size();
+		//--------------------------------------------------------------------------------
+		// per literal: position of the column that replaces it; -1 if the literal is the same in all instances
+		// - nb: if several columns have its values, the first one is taken
+		Vector<Integer> literalColumns = new Vector<Integer>();
+		Vector<Integer> usedColumns = new Vector<Integer>();
+		for(int k = 0; k < firstCode.literals.size(); k++) {
+			int j = varyingFlags.get(k) ? candidateColumnss.get(k).get(0) : -1;
+			literalColumns.add(j);
+			if(j >= 0 && ! usedColumns.contains(j))
+				usedColumns.add(j);
+		}
+		Collections.sort(usedColumns);
+		//--------------------------------------------------------------------------------
+		// banner
+		writeBanner(bannerInfos.get(0) + " ... " + bannerInfos.get(n - 1) + " (loop over " + n + " instances)");
+		//--------------------------------------------------------------------------------
+		// loop header with table
+		codeWriter.writelnInd("for _, " + loopVarName + " := range []struct {");
+		codeWriter.incInd();
+		for(int j : usedColumns) {
+			Column column = firstColumns.get(j);
+			codeWriter.writelnInd(column.name + " " + (column.intFlag ? "int" : "string"));
+		}
+		codeWriter.decInd();
+		codeWriter.writelnInd("}{");
+		codeWriter.incInd();
+		for(int i = 0; i < n; i++) {
+			codeWriter.writeInd("{");
+			for(int jj = 0; jj < usedColumns.size(); jj++) {
+				if(jj > 0)
+					codeWriter.write(", ");
+				Column column = columnss.get(i).get(usedColumns.get(jj));
+				codeWriter.writeLiteral(column.literal, column.intFlag);
+			}
+			codeWriter.writeln("},");
+		}
+		codeWriter.decInd();
+		codeWriter.writelnInd("} {");
+		//--------------------------------------------------------------------------------
+		// body: one more indented
+		bodyLineStartFlag = true;
+		for(int k = 0; k < firstCode.literals.size(); k++) {
+			writeBodyText(firstCode.parts.get(k));
+			writeBodyLineStart();
+			int j = literalColumns.get(k);
+			if(j >= 0)
+				codeWriter.write(loopVarName + "." + firstColumns.get(j).name);
+			else
+				codeWriter.writeLiteral(firstCode.literals.get(k), firstCode.intFlags.get(k));
+		}
+		writeBodyText(firstCode.parts.lastElement());
+		codeWriter.writelnInd("}");
+		codeWriter.writelnInd("");
+	}
+	//--------------------------------------------------------------------------------
+	// write text of the loop body; nb: empty lines are not indented
+	private void writeBodyText(String text) throws SNHException {
+		int lineStart = 0;
+		while(lineStart < text.length()) {
+			int lineEnd = text.indexOf('\n', lineStart);
+			if(lineEnd < 0)
+				lineEnd = text.length() - 1;
+			if(text.charAt(lineStart) != '\n')
+				writeBodyLineStart();
+			codeWriter.write(text.substring(lineStart, lineEnd + 1));
+			bodyLineStartFlag = text.charAt(lineEnd) == '\n';
+			lineStart = lineEnd + 1;
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// indent the loop body, if at the start of a line
+	private void writeBodyLineStart() throws SNHException {
+		if(bodyLineStartFlag)
+			codeWriter.write(GoDefs.TAB);
+		bodyLineStartFlag = false;
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// does the instance fit to the current run?
+	// - same structure and same columns
+	// - each literal that differs in the run must be the value of a column that has its values in all instances so far
+	private boolean fitsRun(CapturedGoCode code, Vector<Column> columns) {
+		CapturedGoCode firstCode = codes.get(0);
+		if(! firstCode.hasSameStructure(code) || ! haveSameFields(columnss.get(0), columns))
+			return false;
+		for(int k = 0; k < code.literals.size(); k++) {
+			if(! varyingFlags.get(k) && code.literals.get(k).equals(firstCode.literals.get(k)))
+				continue;
+			Vector<Integer> candidateColumns = new Vector<Integer>(candidateColumnss.get(k));
+			candidateColumns.retainAll(matchingColumns(code, k, columns));
+			if(candidateColumns.isEmpty())
+				return false;
+		}
+		return true;
+	}
+	//--------------------------------------------------------------------------------
+	// positions of the columns that have the value of the k-th literal of the code
+	private static Vector<Integer> matchingColumns(CapturedGoCode code, int k, Vector<Column> columns) {
+		Vector<Integer> matchingColumns = new Vector<Integer>();
+		for(int j = 0; j < columns.size(); j++) {
+			Column column = columns.get(j);
+			if(column.intFlag == code.intFlags.get(k) && column.literal.equals(code.literals.get(k)))
+				matchingColumns.add(j);
+		}
+		return matchingColumns;
+	}
+	//--------------------------------------------------------------------------------
+	// same column names and types?
+	private static boolean haveSameFields(Vector<Column> columns1, Vector<Column> columns2) {
+		if(columns1.size() != columns2.size())
+			return false;
+		for(int j = 0; j < columns1.size(); j++) {
+			if(! columns1.get(j).name.equals(columns2.get(j).name) || columns1.get(j).intFlag != columns2.get(j).intFlag)
+				return false;
+		}
+		return true;
+	}
+	//--------------------------------------------------------------------------------
+	private static int findColumn(Vector<Column> columns, String name) {
+		for(int j = 0; j < columns.size(); j++) {
+			if(columns.get(j).name.equals(name))
+				return j;
+		}
+		return -1;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -22,6 +22,7 @@
 
 package codeGen.Go;
 
+import codeGen.CodeGenContext;
 import eval.IData;
 import eval.tokens.*;
 import pmmm.IPmDefs;
@@ -29,7 +30,7 @@ import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 import pmmm.*;
 
@@ -40,8 +41,13 @@ public class Link2Go {
 	//--------------------------------------------------------------------------------
 	// debug
 	/**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(Link2Go.class, "generateCode"); // debug
+	/**/ private static final TracePoint M_linkSpaceOpName2Go = TracePoint.of(Link2Go.class, "linkSpaceOpName2Go"); // debug
 	//--------------------------------------------------------------------------------
 	private GoCodeWriter codeWriter;
+	// context info of this code generation
+	private CodeGenContext context;
 	private String linkKind;
 	private LinkInstance linkInstance;
 	//--------------------------------------------------------------------------------
@@ -52,8 +58,9 @@ public class Link2Go {
 	// CONSTRUCTORS
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	public Link2Go(GoCodeWriter codeWriter, String linkKind, LinkInstance linkInstance) {
+	public Link2Go(GoCodeWriter codeWriter, CodeGenContext context, String linkKind, LinkInstance linkInstance) throws SNHException {
 		this.codeWriter = codeWriter;
+		this.context = context;
 		this.linkKind = linkKind;
 		this.linkInstance = linkInstance;
 		//--------------------------------------------------------------------------------
@@ -90,7 +97,7 @@ public class Link2Go {
 	// speciality of the go automaton: needs "commit = true" on the last link's lprop
 	public void generateCode(boolean lastLinkFlag) throws CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
 		String s;
 		TokenExpression expression;
@@ -155,14 +162,14 @@ public class Link2Go {
 		//--------------------------------------------------------------------------------
 		expression = linkInstance.getProcessedQueryTokenExpression();
 		if(! expression.isTVVEmpty()) {
-			/**/ tracer.nlprintln("query = " + expression, Level.NO, m);
+			/**/ tracer.nlprintln(() -> "query = " + expression, Level.NO, m);
 			try {
 				//--------------------------------------------------------------------------------
 				Token rootToken = expression.getRootToken();
 				if(! linkInstance.getIsNoopLinkFlag()) 
 					codeWriter.writeln(GoDefs.COMMA);
 				codeWriter.writeInd("Sel: ");
-				new Token2Go(codeWriter, rootToken, true /* yes -- isTopLevelSelArgP applies to Sel !!! */).generateCode();
+				new Token2Go(codeWriter, context, rootToken, true /* yes -- isTopLevelSelArgP applies to Sel !!! */).generateCode();
 				//--------------------------------------------------------------------------------
 			} catch (SyntaxException e) {
 				throw new CodeGenException("query", m, e);
@@ -193,7 +200,7 @@ public class Link2Go {
 					//--------------------------------------------------------------------------------
 					// add to both hash map and tvv; checks for duplicates
 					enhancedLPropsDefsTokenExpression.addPropDef(commitIsTruePropDefToken);
-					/**/ tracer.nlprintln("enhancedLPropsDefsTokenExpression = '" + enhancedLPropsDefsTokenExpression.toUserInfo() + "'", Level.NO, m);
+					/**/ tracer.nlprintln(() -> "enhancedLPropsDefsTokenExpression = '" + enhancedLPropsDefsTokenExpression.toUserInfo() + "'", Level.NO, m);
 					//--------------------------------------------------------------------------------
 				} catch (Exception e) {
 					// ok -> commit exists already in the props list
@@ -201,7 +208,7 @@ public class Link2Go {
 			}
 			//--------------------------------------------------------------------------------
 			// lprops
-			(new Props2Go(codeWriter, enhancedLPropsDefsTokenExpression, "L" /* link props */)).generateCode();
+			(new Props2Go(codeWriter, context, enhancedLPropsDefsTokenExpression, "L" /* link props */)).generateCode();
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
 			throw new CodeGenException("add 'commit=true' to lprops", m, e);
@@ -218,7 +225,7 @@ public class Link2Go {
 		//--------------------------------------------------------------------------------		
 		codeWriter.writeInd("");
 		try {
-			(new Props2Go(codeWriter, linkInstance.getProcessedVarPropSetGetTokenExpression(), "E" /* entry */)).generateCode();
+			(new Props2Go(codeWriter, context, linkInstance.getProcessedVarPropSetGetTokenExpression(), "E" /* entry */)).generateCode();
 		} catch (SyntaxException e) {
 			throw new CodeGenException("eprops", m, e);
 		} catch (SNHException e) {
@@ -230,7 +237,7 @@ public class Link2Go {
 		//--------------------------------------------------------------------------------
 		codeWriter.writeInd("");
 		try {
-			(new Vars2Go(codeWriter, linkInstance.getProcessedVarPropSetGetTokenExpression())).generateCode();
+			(new Vars2Go(codeWriter, context, linkInstance.getProcessedVarPropSetGetTokenExpression())).generateCode();
 		} catch (CodeGenException e) {
 			throw new CodeGenException("vars", m, e);
 		} catch (SNHException e) {
@@ -281,7 +288,7 @@ public class Link2Go {
 		else if(val == IntTokenValEval.NONE)
 			codeWriter.write("NONE");
 		else
-			codeWriter.write(Integer.toString(val));
+			codeWriter.writeLiteral(Integer.toString(val), true /* intFlag */);
 	}
 
 	//================================================================================
@@ -296,7 +303,7 @@ public class Link2Go {
 	// TBD: use defines....
 	private String linkSpaceOpName2Go(String opName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_linkSpaceOpName2Go; // debug
 		//--------------------------------------------------------------------------------
 		// op must not be empty
 		if(opName == null || opName.length() <= 0) {
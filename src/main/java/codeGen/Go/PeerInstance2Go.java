@@ -23,25 +23,31 @@
 package codeGen.Go;
 
 // import debug.*;
+import codeGen.CodeGenContext;
 import pmmm.*;
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 public class PeerInstance2Go {
 	//--------------------------------------------------------------------------------
 	// /**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(PeerInstance2Go.class, "generateCode"); // debug
 	//--------------------------------------------------------------------------------
 	private GoCodeWriter codeWriter;
+	// context info of this code generation
+	private CodeGenContext context;
 	private PeerInstance peerInstance;
 
 	//================================================================================
 	// CONSTRUCTORS
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	public PeerInstance2Go(GoCodeWriter codeWriter, PeerInstance peerInstance) {
+	public PeerInstance2Go(GoCodeWriter codeWriter, CodeGenContext context, PeerInstance peerInstance) {
 		this.codeWriter = codeWriter;
+		this.context = context;
 		this.peerInstance = peerInstance;
 	}
 	
@@ -51,20 +57,25 @@ public class PeerInstance2Go {
 	//--------------------------------------------------------------------------------
 	public void generateCode() throws CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
 //		codeWriter.writelnInd("// PEER TYPE " + peerInstance.getPeerType().getName() + ":");
 		//--------------------------------------------------------------------------------
 		// gen code for all wirings
+		// - nb: wirings that differ only in values derived from their names and wprops (eg of wiring arrays) are generated as loop
+		InstanceLoop2Go wiringLoop = new InstanceLoop2Go(codeWriter, "//------------------------------------------------------------", 
+				false /* blankLineAfterBannerFlag */, "wa" /* loopVarName */);
 		for(int i = 0; i < peerInstance.getWiringInstances().size(); i++) {
 			WiringInstance wiringInstance = peerInstance.getWiringInstances().get(i);
 			try {
 				//--------------------------------------------------------------------------------
-				// !!! set wiring context in my static class var !!!
-				GoCodeGen.currentWiringInstance = wiringInstance;
+				// !!! set wiring in the context info !!!
+				context.setCurrentWiringInstance(wiringInstance);
 				//--------------------------------------------------------------------------------
 				// do code gen for wiring
-				new Wiring2Go(codeWriter, wiringInstance).generateCode();
+				codeWriter.beginCapture();
+				new Wiring2Go(codeWriter, context, wiringInstance).generateCode();
+				wiringLoop.add("WIRING " + wiringInstance.getWiringInstanceName() + ":", codeWriter.endGoCapture(), InstanceLoop2Go.wiringColumns(wiringInstance));
 				//--------------------------------------------------------------------------------
 			} catch (CodeGenException e) {
 				throw new CodeGenException("wiring instance " + wiringInstance.getWiringInstanceName(), m, e);
@@ -72,6 +83,7 @@ public class PeerInstance2Go {
 				throw new SNHException(676543, "wiring instance " + wiringInstance.getWiringInstanceName(), m, e);
 			}
 		}
+		wiringLoop.flush();
 	}
 
 	
@@ -22,6 +22,9 @@
 
 package codeGen.Go;
 
+import codeGen.CodeGenContext;
+import qa.tracer.TracePoint;
+
 import java.util.Vector;
 
 import eval.tokens.*;
@@ -34,8 +37,12 @@ import qa.tracer.*;
 public class Props2Go {
 	//--------------------------------------------------------------------------------
 	// /**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(Props2Go.class, "generateCode"); // debug
 	//--------------------------------------------------------------------------------
 	private GoCodeWriter codeWriter;
+	// context info of this code generation
+	private CodeGenContext context;
 	private TokenExpression props;
 	private String propsKind;
 
@@ -43,8 +50,9 @@ public class Props2Go {
 	// CONSTRUCTORS
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	public Props2Go(GoCodeWriter codeWriter, TokenExpression props, String propsKind) {
+	public Props2Go(GoCodeWriter codeWriter, CodeGenContext context, TokenExpression props, String propsKind) {
 		this.codeWriter = codeWriter;
+		this.context = context;
 		this.props = props;
 		this.propsKind = propsKind;
 	}
@@ -65,7 +73,7 @@ public class Props2Go {
 	// propsKind .... "PMMM" | "P" | "W" | "L" | "E" 
 	public void generateCode() throws SNHException, SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
 		// - TBD: PMMM props are not yet implemented because not yet supported by go automaton
 		if(propsKind.equals("PMMM")) {
@@ -100,7 +108,7 @@ public class Props2Go {
 					}
 					//--------------------------------------------------------------------------------
 					// it must be an EPROP
-					String errMsg = "prop assignment: " + token.toUserInfo() + "; detailed info: " + token.toTypedInfo();
+					// - nb: error msg is only constructed if needed
 					//--------------------------------------------------------------------------------
 					// comma trick
 					if(anyPropWrittenFlag) 
@@ -111,18 +119,18 @@ public class Props2Go {
 					try {
 						//--------------------------------------------------------------------------------
 						// LEFT SIDE: label which could be name or array access
-						GoUtil.writeCodeForLabelToken(true /* leftSideOfAssignment */, codeWriter, token.getLeft());
+						GoUtil.writeCodeForLabelToken(true /* leftSideOfAssignment */, codeWriter, context, token.getLeft());
 						//--------------------------------------------------------------------------------
 						codeWriter.write(": ");
 						//--------------------------------------------------------------------------------
 						// RIGHT SIDE: can be anything
 						//--------------------------------------------------------------------------------
-						new Token2Go(codeWriter, token.getRight(), false /* isTopLevelSelArgP does not apply !!! */).generateCode();
+						new Token2Go(codeWriter, context, token.getRight(), false /* isTopLevelSelArgP does not apply !!! */).generateCode();
 						//--------------------------------------------------------------------------------
 					} catch (SyntaxException e) {
-						throw new SyntaxException(errMsg, m, e);
+						throw new SyntaxException("prop assignment: " + token.toUserInfo() + "; detailed info: " + token.toTypedInfo(), m, e);
 					} catch (SNHException e) {
-						throw new SNHException(364648, errMsg, m, e);
+						throw new SNHException(364648, "prop assignment: " + token.toUserInfo() + "; detailed info: " + token.toTypedInfo(), m, e);
 					}
 					//--------------------------------------------------------------------------------
 					// IGNORE anything else -- especially this means ignore <var> = <right side>
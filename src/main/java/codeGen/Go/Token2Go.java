@@ -22,6 +22,7 @@
 
 package codeGen.Go;
 
+import codeGen.CodeGenContext;
 import eval.IData;
 import eval.tokens.*;
 import pmmm.IPmDefs;
@@ -29,7 +30,7 @@ import pmmm.OpDefs;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -80,23 +81,31 @@ public class Token2Go {
 	//--------------------------------------------------------------------------------
 	// debug
 	/**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(Token2Go.class, "generateCode"); // debug
+	/**/ private static final TracePoint M_translateTypeToLetter = TracePoint.of(Token2Go.class, "translateTypeToLetter"); // debug
+	/**/ private static final TracePoint M_translateArrayRefTypeToLetter = TracePoint.of(Token2Go.class, "translateArrayRefTypeToLetter"); // debug
+	/**/ private static final TracePoint M_translateTokenOpName = TracePoint.of(Token2Go.class, "translateTokenOpName"); // debug
 	//--------------------------------------------------------------------------------
 	private GoCodeWriter codeWriter;
+	// context info of this code generation
+	private CodeGenContext context;
 	// token to be translated
 	private Token token;
 	// flag needed to check if XValP or XVal should be used; 
 	// - nb: XValP is only to be used at top level for Sel;
 	private boolean isTopLevelSelArgP;
 	// all operators
-	// - STATIC!
-	static OpDefs opDefs = new OpDefs();
+	// - shared!
+	static final OpDefs opDefs = OpDefs.OP_DEFS;
 
 	//================================================================================
 	// CONSTRUCTORS
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	public Token2Go(GoCodeWriter codeWriter, Token token, boolean isTopLevelSelArgP) {
+	public Token2Go(GoCodeWriter codeWriter, CodeGenContext context, Token token, boolean isTopLevelSelArgP) {
 		this.codeWriter = codeWriter;
+		this.context = context;
 		this.token = token;
 		this.isTopLevelSelArgP = isTopLevelSelArgP;
 	}
@@ -108,7 +117,7 @@ public class Token2Go {
 	public void generateCode() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
 		// debug:
-		/**/ Object m = new Object(){};  
+		/**/ TracePoint m = M_generateCode;  
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg = "";
@@ -117,16 +126,15 @@ public class Token2Go {
 		//--------------------------------------------------------------------------------
 		// get kind 
 		IToken.Kind kind = token.getKind();
-		/**/ tracer.nlprintln("kind = " + kind, Level.NO, m);
+		/**/ tracer.nlprintln(() -> "kind = " + kind, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// get type
-		/**/ tracer.nlprintln("token = " + token.toNode_plus_TypeInProgress_Kind_Flags(), Level.NO, m);
+		/**/ tracer.nlprintln(() -> "token = " + token.toNode_plus_TypeInProgress_Kind_Flags(), Level.NO, m);
 		IData.Type type = token.getType();
-		/**/ tracer.nlprintln("type = " + type, Level.NO, m);
+		/**/ tracer.nlprintln(() -> "type = " + type, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// get raw text
 		String rawText = token.getRawText();
-		boolean isSysConst = GoCodeGen.pmmm.isSysConst(rawText);
 		//--------------------------------------------------------------------------------
 		// translate token 
 		// - TBD: div. assertions that type correlates with kind
@@ -134,13 +142,17 @@ public class Token2Go {
 
 		case INT:
 			//--------------------------------------------------------------------------------
-			codeWriter.write("IVal(" + rawText + ")");
+			codeWriter.write("IVal(");
+			codeWriter.writeLiteral(rawText, true /* intFlag */);
+			codeWriter.write(")");
 			break;
 
 		case STRING:
 			//--------------------------------------------------------------------------------
 			// could have type "STRING" or "URL"
-			codeWriter.write("SVal(" + "\"" + rawText + "\")");
+			codeWriter.write("SVal(");
+			codeWriter.writeLiteral("\"" + rawText + "\"", false /* intFlag */);
+			codeWriter.write(")");
 			break;
 
 		case TRUE:
@@ -153,7 +165,7 @@ public class Token2Go {
 			//--------------------------------------------------------------------------------
 			// - translate type to one letter ("I", "S" or "B")
 			typeLetter = translateTypeToLetter(type);
-			/**/ tracer.nlprintln("typeLetter = " + typeLetter, Level.NO, m);
+			/**/ tracer.nlprintln(() -> "typeLetter = " + typeLetter, Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// <typeLetter>Var("<rawText>")
 			codeWriter.write(typeLetter + "Var" + "(\"" + rawText + "\")");
@@ -163,9 +175,10 @@ public class Token2Go {
 			//--------------------------------------------------------------------------------
 			// - translate type to one letter ("I", "S" or "B")
 			typeLetter = translateTypeToLetter(type);
-			/**/ tracer.nlprintln("typeLetter = " + typeLetter, Level.NO, m);
+			/**/ tracer.nlprintln(() -> "typeLetter = " + typeLetter, Level.NO, m);
 			//--------------------------------------------------------------------------------
-			translateName(isSysConst, typeLetter, type, rawText);
+			// - nb: only names can be sys consts
+			translateName(context.getPmmm().isSysConst(rawText), typeLetter, type, rawText);
 			break;	
 
 		case UOP:
@@ -181,7 +194,7 @@ public class Token2Go {
 			//--------------------------------------------------------------------------------		
 			// TBD: DEPRECATED CODE, because this is alreay resolved by MTA
 			if(OpDefs.isDotBOPName(token.getRawText())) {
-				/**/ tracer.nlprintln("qualifier expression: " + token.toTypedInfo(), Level.NO, m);
+				/**/ tracer.nlprintln(() -> "qualifier expression: " + token.toTypedInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// qualifier, i.e. <PEER>, <PMMM> or <WIRING>
 				Token qualifierToken = token.getLeft(); 
@@ -195,28 +208,28 @@ public class Token2Go {
 					// fetch value of prop def from current context
 					Token propDefValueToken = null;
 					//--------------------------------------------------------------------------------
-					/**/ tracer.nlprintln("verify QUALIFIER = " + qualifierName + " and searching for " + propLabelToken, Level.NO, m);
+					/**/ tracer.nlprintln(() -> "verify QUALIFIER = " + qualifierName + " and searching for " + propLabelToken, Level.NO, m);
 					try {
 						//--------------------------------------------------------------------------------
 						// (a) is left side <PMMM>?
 						if(qualifierName.equals(IPmDefs.PMMM_QUALIFIER)) {
-							/**/ tracer.nlprintln("search in pmmm props defs: " + GoCodeGen.pmmm.getProcessedPmmmPropsDefsTokenExpression().toUserInfo(true, true), Level.NO, m);
+							/**/ tracer.nlprintln(() -> "search in pmmm props defs: " + context.getPmmm().getProcessedPmmmPropsDefsTokenExpression().toUserInfo(true, true), Level.NO, m);
 							// search in PMMM's props defs 
-							propDefValueToken = GoCodeGen.pmmm.getProcessedPmmmPropDefValueToken(propLabelToken);
+							propDefValueToken = context.getPmmm().getProcessedPmmmPropDefValueToken(propLabelToken);
 						}
 						//--------------------------------------------------------------------------------
 						// (b) is left side <PEER>?
 						else if(qualifierToken.getRawText().equals(IPmDefs.PEER_QUALIFIER)) {
-							/**/ tracer.nlprintln("search in pprops defs: " + GoCodeGen.currentPeerInstance.getProcessedPPropsDefsTokenExpression(), Level.NO, m);
-							// search in props defs of current peer (statically stored as context info in GoCodeGen class) 
-							propDefValueToken = GoCodeGen.currentPeerInstance.getProcessedPPropDefsValueToken(propLabelToken);
+							/**/ tracer.nlprintln(() -> "search in pprops defs: " + context.getCurrentPeerInstance().getProcessedPPropsDefsTokenExpression(), Level.NO, m);
+							// search in props defs of current peer (stored as context info of this code generation) 
+							propDefValueToken = context.getCurrentPeerInstance().getProcessedPPropDefsValueToken(propLabelToken);
 						}
 						//--------------------------------------------------------------------------------
 						// (c) is left side <WIRING>?
 						else if(qualifierToken.getRawText().equals(IPmDefs.WIRING_QUALIFIER)) {
-							/**/ tracer.nlprintln("search in wprops defs: " + GoCodeGen.currentWiringInstance.getProcessedWiringWPropsDefs(), Level.NO, m);
-							// search in props defs of current wiring (statically stored as context info in GoCodeGen class) 
-							propDefValueToken = GoCodeGen.currentWiringInstance.getProcessedWPropDefsValueToken(propLabelToken);
+							/**/ tracer.nlprintln(() -> "search in wprops defs: " + context.getCurrentWiringInstance().getProcessedWiringWPropsDefs(), Level.NO, m);
+							// search in props defs of current wiring (stored as context info of this code generation) 
+							propDefValueToken = context.getCurrentWiringInstance().getProcessedWPropDefsValueToken(propLabelToken);
 						}
 						//--------------------------------------------------------------------------------
 					} catch (SyntaxException e) {
@@ -224,16 +237,16 @@ public class Token2Go {
 					}
 					//--------------------------------------------------------------------------------
 					// plausi check
-					/**/ tracer.nlprintln("propDefToken: " + propDefValueToken, Level.NO, m);
+					/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.nlprintln("propDefToken: " + propDefValueToken, Level.NO, m);
 					if(null == propDefValueToken) {
 						throw new SyntaxException("empty resolvedValueToken", m);
 					}
-					/**/ tracer.nlprintln(" resolved to " + propDefValueToken.toTypedInfo(), Level.NO, m);
-					/**/ tracer.nlprintln(qualifierToken + "." + propLabelToken + " resolved to " + propDefValueToken.toTypedInfo(), Level.NO, m);
+					/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.nlprintln(" resolved to " + propDefValueToken.toTypedInfo(), Level.NO, m);
+					/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.nlprintln(qualifierToken + "." + propLabelToken + " resolved to " + propDefValueToken.toTypedInfo(), Level.NO, m);
 					//--------------------------------------------------------------------------------
 					// continue with code gen for right side = the resolved value !!!
-					/**/ tracer.nlprintln("generate code for  " + propDefValueToken.toTypedInfo(), Level.NO, m);
-					new Token2Go(codeWriter, propDefValueToken, false /* not top level sel arg pointer */).generateCode();
+					/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.nlprintln("generate code for  " + propDefValueToken.toTypedInfo(), Level.NO, m);
+					new Token2Go(codeWriter, context, propDefValueToken, false /* not top level sel arg pointer */).generateCode();
 				}
 				//--------------------------------------------------------------------------------
 				else {
@@ -249,7 +262,7 @@ public class Token2Go {
 			// TREATMENT OF '#' BOP
 			//--------------------------------------------------------------------------------
 			if(OpDefs.isHashBOPName(token.getRawText())) {
-				/**/ tracer.nlprintln("HASH expression: " + token.toTypedInfo(), Level.NO, m);
+				/**/ tracer.nlprintln(() -> "HASH expression: " + token.toTypedInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// - translate array ref type to one letter ("I", "S" or "B")
 				typeLetter = this.translateArrayRefTypeToLetter(type);
@@ -258,7 +271,7 @@ public class Token2Go {
 				//--------------------------------------------------------------------------------
 				// get type of basic label token
 				IData.Type basicLabelType = token.getBasicLabelType();
-				/**/ tracer.println("token: " + token.toTypedInfo() + "; basicLabelType = " + basicLabelType, Level.NO, m);
+				/**/ tracer.println(() -> "token: " + token.toTypedInfo() + "; basicLabelType = " + basicLabelType, Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// <X>ArrayVal(...) ...... if basic label has basic type
 				// <X>ArrayLabel(...) .... if basic label has ARRAY type
@@ -300,7 +313,7 @@ public class Token2Go {
 				}
 				//--------------------------------------------------------------------------------
 				// label name (could contain '#'s)
-				GoUtil.writeCodeForLabelToken(false /* leftSideOfAssignment */, codeWriter, token);
+				GoUtil.writeCodeForLabelToken(false /* leftSideOfAssignment */, codeWriter, context, token);
 				//--------------------------------------------------------------------------------
 				codeWriter.write(")");			
 				break;
@@ -318,37 +331,37 @@ public class Token2Go {
 				//--------------------------------------------------------------------------------
 				// left arg
 				if(kind == IToken.Kind.BOP) {
-					errMsg = "ill. left arg of binary op = " + token.getRawText() + " in " + token.toInfo();
+					errMsg = "ill. left arg of binary op = "; // nb: rest of error msg is only constructed if needed
 					try {
-						new Token2Go(codeWriter, token.getLeft(), false /* not top level */).generateCode();
+						new Token2Go(codeWriter, context, token.getLeft(), false /* not top level */).generateCode();
 						codeWriter.write(GoDefs.COMMA);
 					} catch (SyntaxException e) {
-						throw new SyntaxException(errMsg, m, e);
+						throw new SyntaxException(errMsg + token.getRawText() + " in " + token.toInfo(), m, e);
 					} catch (SNHException e) {
-						throw new SNHException(299999, errMsg, m, e);
+						throw new SNHException(299999, errMsg + token.getRawText() + " in " + token.toInfo(), m, e);
 					}
 				}
 				//--------------------------------------------------------------------------------
 				// op
 				// - TBD: stimmen die op namen?
-				errMsg = "ill. op = " + token.getRawText() + " in " + token.toInfo();
+				errMsg = "ill. op = "; // nb: rest of error msg is only constructed if needed
 				try {
 					codeWriter.write(translateTokenOpName(rawText));
 					codeWriter.write(GoDefs.COMMA);
 				} catch (SyntaxException e) {
-					throw new SyntaxException(errMsg, m, e);
+					throw new SyntaxException(errMsg + token.getRawText() + " in " + token.toInfo(), m, e);
 				} catch (SNHException e) {
-					throw new SNHException(295599, errMsg, m, e);
+					throw new SNHException(295599, errMsg + token.getRawText() + " in " + token.toInfo(), m, e);
 				}
 				//--------------------------------------------------------------------------------
 				// right arg
-				errMsg = "ill. right arg of binary op = " + token.getRawText() + " in " + token.toInfo();
+				errMsg = "ill. right arg of binary op = "; // nb: rest of error msg is only constructed if needed
 				try {
-					new Token2Go(codeWriter, token.getRight(), false /* not top level */).generateCode();
+					new Token2Go(codeWriter, context, token.getRight(), false /* not top level */).generateCode();
 				} catch (SyntaxException e) {
-					throw new SyntaxException(errMsg, m, e);
+					throw new SyntaxException(errMsg + token.getRawText() + " in " + token.toInfo(), m, e);
 				} catch (SNHException e) {
-					throw new SNHException(295699, errMsg, m, e);
+					throw new SNHException(295699, errMsg + token.getRawText() + " in " + token.toInfo(), m, e);
 				}
 				//--------------------------------------------------------------------------------
 				// end of (x)val op-expression
@@ -360,7 +373,7 @@ public class Token2Go {
 			//--------------------------------------------------------------------------------
 			// - translate type to one letter ("I", "S" or "B")
 			typeLetter = translateTypeToLetter(type);
-			/**/ tracer.nlprintln("typeLetter = " + typeLetter, Level.NO, m);
+			/**/ tracer.nlprintln(() -> "typeLetter = " + typeLetter, Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// IFu(funame)
 			// SFu(funame)
@@ -411,7 +424,7 @@ public class Token2Go {
 	//--------------------------------------------------------------------------------
 	private String translateTypeToLetter(IData.Type type) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_translateTypeToLetter; // debug
 		//--------------------------------------------------------------------------------
 		switch(type) {
 		case INT:
@@ -432,7 +445,7 @@ public class Token2Go {
 	//--------------------------------------------------------------------------------
 	private String translateArrayRefTypeToLetter(IData.Type type) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_translateArrayRefTypeToLetter; // debug
 		//--------------------------------------------------------------------------------
 		switch(type) {
 		case INT_ARRAY_REF:
@@ -468,12 +481,16 @@ public class Token2Go {
 		//--------------------------------------------------------------------------------
 		// type == URL?
 		else if(type == IData.Type.URL) {
-			codeWriter.write("SUrl" + "(\"" + val + "\")");
+			codeWriter.write("SUrl" + "(");
+			codeWriter.writeLiteral("\"" + val + "\"", false /* intFlag */);
+			codeWriter.write(")");
 		}
 		//--------------------------------------------------------------------------------
 		// type == STRING ?
 		else if(type == IData.Type.STRING) {
-			codeWriter.write("SVal" + "(\"" + val + "\")");
+			codeWriter.write("SVal" + "(");
+			codeWriter.writeLiteral("\"" + val + "\"", false /* intFlag */);
+			codeWriter.write(")");
 		}
 	}
 
@@ -485,7 +502,7 @@ public class Token2Go {
 	// TBD: code can be optimized... use switch with int defines or enums...
 	private String translateTokenOpName(String opName) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_translateTokenOpName; // debug
 		//--------------------------------------------------------------------------------
 		// op must not be empty
 		if(opName == null || opName.length() <= 0) {
@@ -22,6 +22,7 @@
 
 package codeGen.Go;
 
+import codeGen.CodeGenContext;
 import java.util.Vector;
 
 import eval.tokens.*;
@@ -29,23 +30,28 @@ import pmmm.OpDefs;
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 public class Vars2Go {
 	//--------------------------------------------------------------------------------
 	// debug
 	// /**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(Vars2Go.class, "generateCode"); // debug
 	//--------------------------------------------------------------------------------
 	private GoCodeWriter codeWriter;
+	// context info of this code generation
+	private CodeGenContext context;
 	private TokenExpression vars;
 
 	//================================================================================
 	// CONSTRUCTORS
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	public Vars2Go(GoCodeWriter codeWriter, TokenExpression vars) {
+	public Vars2Go(GoCodeWriter codeWriter, CodeGenContext context, TokenExpression vars) {
 		this.codeWriter = codeWriter;
+		this.context = context;
 		this.vars = vars;
 	}
 
@@ -56,7 +62,7 @@ public class Vars2Go {
 	//--------------------------------------------------------------------------------
 	public void generateCode() throws CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
 		// start of vars
 		codeWriter.write("Vars{");
@@ -93,7 +99,7 @@ public class Vars2Go {
 							codeWriter.write("\"" + token.getLeft().getRawText() + "\"");
 							codeWriter.write(": ");
 							try {
-								new Token2Go(codeWriter, token.getRight(), false /* isTopLevelSelArgP does not apply */).generateCode();
+								new Token2Go(codeWriter, context, token.getRight(), false /* isTopLevelSelArgP does not apply */).generateCode();
 							} catch (SyntaxException e) {
 								throw new CodeGenException("var", m, e);
 							} catch (SNHException e) {
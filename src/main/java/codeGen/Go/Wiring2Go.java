@@ -23,12 +23,13 @@
 package codeGen.Go;
 
 // import debug.*;
+import codeGen.CodeGenContext;
 import pmmm.LinkInstance;
 import pmmm.WiringInstance;
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 
 //================================================================================
@@ -38,16 +39,21 @@ public class Wiring2Go {
 	//--------------------------------------------------------------------------------
 	// debug
 	// /**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(Wiring2Go.class, "generateCode"); // debug
 	//--------------------------------------------------------------------------------
 	private GoCodeWriter codeWriter;
+	// context info of this code generation
+	private CodeGenContext context;
 	private WiringInstance wiringInstance;
 
 	//================================================================================
 	// CONSTRUCTORS
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	public Wiring2Go(GoCodeWriter codeWriter, WiringInstance wiringInstance) {
+	public Wiring2Go(GoCodeWriter codeWriter, CodeGenContext context, WiringInstance wiringInstance) {
 		this.codeWriter = codeWriter;
+		this.context = context;
 		this.wiringInstance = wiringInstance;
 	}
 
@@ -57,12 +63,12 @@ public class Wiring2Go {
 	//--------------------------------------------------------------------------------
 	public void generateCode() throws CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
-		codeWriter.writelnInd("//------------------------------------------------------------");
-		codeWriter.writelnInd("// WIRING " + wiringInstance.getWiringInstanceName() + ":");
-		codeWriter.writelnInd("//------------------------------------------------------------");
-		codeWriter.writelnInd("w = NewWiring(\"" + wiringInstance.getWiringInstanceName() + "\")");
+		// nb: the banner is written by the caller (see InstanceLoop2Go)
+		codeWriter.writeInd("w = NewWiring(");
+		codeWriter.writeLiteral("\"" + wiringInstance.getWiringInstanceName() + "\"", false /* intFlag */);
+		codeWriter.writeln(")");
 		//--------------------------------------------------------------------------------
 		// gen code for service (if defined)
 		String serviceName = wiringInstance.getServiceName();
@@ -91,7 +97,7 @@ public class Wiring2Go {
 			try {
 				codeWriter.writelnInd("//............................................................");
 				codeWriter.writelnInd("// Guard " + (i+1) + ":");  
-				new Link2Go(codeWriter, "Guard", guardInstance).generateCode(--n == 0 /* last link flag */); 
+				new Link2Go(codeWriter, context, "Guard", guardInstance).generateCode(--n == 0 /* last link flag */); 
 			} catch (CodeGenException e) {
 				throw new CodeGenException("guard instance " + guardInstance.getNumberAsString(), m, e);
 			} catch (SNHException e) {
@@ -127,7 +133,7 @@ public class Wiring2Go {
 			try {
 				codeWriter.writelnInd("//............................................................");
 				codeWriter.writelnInd("// Action " + (i+1) + ":");
-				new Link2Go(codeWriter, "Action", actionInstance).generateCode(--n == 0 /* last link flag */);
+				new Link2Go(codeWriter, context, "Action", actionInstance).generateCode(--n == 0 /* last link flag */);
 			} catch (CodeGenException e) {
 				throw new CodeGenException("action instance " + actionInstance.getNumberAsString(), m, e);
 			} catch (SNHException e) {
@@ -140,7 +146,7 @@ public class Wiring2Go {
 		codeWriter.writelnInd("// set wprops:");
 		codeWriter.writeInd("w.WProps = ");
 		try {
-			(new Props2Go(codeWriter, wiringInstance.getProcessedWiringWPropsDefs(), "W" /* witing props */)).generateCode();
+			(new Props2Go(codeWriter, context, wiringInstance.getProcessedWiringWPropsDefs(), "W" /* witing props */)).generateCode();
 		} catch (SyntaxException e) {
 			throw new CodeGenException("wprops", m, e);
 		} catch (SNHException e) {
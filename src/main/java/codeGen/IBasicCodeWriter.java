@@ -43,6 +43,9 @@ public interface IBasicCodeWriter {
 	void writeInd(String code) throws Exception;
 	void writelnInd(String code) throws Exception;
 	void nl() throws Exception;
+	// - capture
+	void beginCapture();
+	String endCapture() throws Exception;
 	// util
 	void incInd();
 	void decInd() throws Exception;
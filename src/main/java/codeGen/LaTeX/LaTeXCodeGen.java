@@ -27,12 +27,14 @@ import pmmm.*;
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // generate use case dsl xml code from a Peer Model Meta Model
 //================================================================================
 public class LaTeXCodeGen extends BasicCodeGen implements IBasicCodeGen {
+	// trace points
+	/**/ private static final TracePoint M_generateUcCode = TracePoint.of(LaTeXCodeGen.class, "generateUcCode"); // debug
 	//--------------------------------------------------------------------------------
 	// use xml replacements
 	private util.replace.Director replacementsDirector = 
@@ -67,7 +69,7 @@ public class LaTeXCodeGen extends BasicCodeGen implements IBasicCodeGen {
 	// translation of pmmm 2 code
 	public void generateUcCode() throws CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateUcCode; // debug
 		//--------------------------------------------------------------------------------
 		// full use case name = pmmm name + config name 
 		Pmmm2LaTeX fixCodeGen = new Pmmm2LaTeX(codeWriter, pmmm.getPmmmType());
@@ -27,7 +27,7 @@ import pmmm.INames;
 import pmmm.Link;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import pmmm.IPmDefs;
 
 //================================================================================
@@ -35,6 +35,9 @@ import pmmm.IPmDefs;
 public class Link2LaTeX {
 	//--------------------------------------------------------------------------------
 	// /**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(Link2LaTeX.class, "generateCode"); // debug
+	/**/ private static final TracePoint M_linkKind2LaTeX = TracePoint.of(Link2LaTeX.class, "linkKind2LaTeX"); // debug
 	//--------------------------------------------------------------------------------
 	private codeGen.LaTeX.LaTeXCodeWriter codeWriter;
 	private Link link;
@@ -54,7 +57,7 @@ public class Link2LaTeX {
 	//--------------------------------------------------------------------------------
 	public void generateCode() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
 		// LaTeXConfig latexConfig = new LaTeXConfig();
 
@@ -148,7 +151,7 @@ public class Link2LaTeX {
 	// convert link kind to right string as required by go code
 	private String linkKind2LaTeX(INames.LinkKind linkKind) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_linkKind2LaTeX; // debug
 		//--------------------------------------------------------------------------------
 		switch(linkKind) {
 		case GUARD:
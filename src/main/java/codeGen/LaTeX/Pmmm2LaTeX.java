@@ -25,13 +25,15 @@ package codeGen.LaTeX;
 import pmmm.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // automatically generate code
 // - nb: most parts are fixed
 // - in some parts my use case name needs to be inserted (all marked with "<<<<<<")
 public class Pmmm2LaTeX {	
+	// trace points
+	/**/ private static final TracePoint M_writeTheUseCase = TracePoint.of(Pmmm2LaTeX.class, "writeTheUseCase"); // debug
 	//--------------------------------------------------------------------------------
 	// for writing code to respective file
 	LaTeXCodeWriter codeWriter;
@@ -101,7 +103,7 @@ public class Pmmm2LaTeX {
 	// TBD: caution: latex bug: poc guards must be *before* services -> so we output all services first
 	public void writeTheUseCase() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_writeTheUseCase; // debug
 		//--------------------------------------------------------------------------------
 		String testCaseName = pmmmType.getPmmmTypeName();
 		//--------------------------------------------------------------------------------
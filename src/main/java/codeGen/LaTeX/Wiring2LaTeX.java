@@ -28,7 +28,7 @@ import pmmm.Guard;
 import pmmm.Wiring;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // CAUTION: keen in sync with go code for latex gen !!!!!!
@@ -36,6 +36,8 @@ public class Wiring2LaTeX {
 	//--------------------------------------------------------------------------------
 	// debug
 	// /**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(Wiring2LaTeX.class, "generateCode"); // debug
 	//--------------------------------------------------------------------------------
 	private codeGen.LaTeX.LaTeXCodeWriter codeWriter;
 	private Wiring wiring;
@@ -55,7 +57,7 @@ public class Wiring2LaTeX {
 	//--------------------------------------------------------------------------------
 	public void generateCode() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg = "";
@@ -25,7 +25,7 @@ package codeGen.PmDsl;
 import pmmm.Link;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // LINK .... GUARD | ACTION
@@ -34,6 +34,8 @@ public class Link2DslXml {
 	//--------------------------------------------------------------------------------
 	// debug
 	// /**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_linkSpaceOpName2Go = TracePoint.of(Link2DslXml.class, "linkSpaceOpName2Go"); // debug
 	//--------------------------------------------------------------------------------
 	private PmDslCodeWriter codeWriter;
 	private String linkKind;
@@ -137,7 +139,7 @@ public class Link2DslXml {
 	// TBD: use defines....
 	private String linkSpaceOpName2Go(String opName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_linkSpaceOpName2Go; // debug
 		//--------------------------------------------------------------------------------
 		// op must not be empty
 		if(opName == null || opName.length() <= 0) {
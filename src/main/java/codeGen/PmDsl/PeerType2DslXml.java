@@ -26,7 +26,7 @@ package codeGen.PmDsl;
 import pmmm.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 
@@ -35,6 +35,8 @@ public class PeerType2DslXml{
 	//--------------------------------------------------------------------------------
 	// debug
 	// /**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(PeerType2DslXml.class, "generateCode"); // debug
 	//--------------------------------------------------------------------------------
 	private PmDslCodeWriter codeWriter;
 	private PeerType peerType;
@@ -56,7 +58,7 @@ public class PeerType2DslXml{
 	//--------------------------------------------------------------------------------
 	public void generateCode() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg = "";
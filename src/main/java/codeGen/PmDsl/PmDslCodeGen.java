@@ -26,12 +26,14 @@ import pmmm.*;
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // generate use case dsl xml code from a Peer Model Meta Model
 //================================================================================
 public class PmDslCodeGen extends codeGen.BasicCodeGen implements codeGen.IBasicCodeGen {
+	// trace points
+	/**/ private static final TracePoint M_generateUcCode = TracePoint.of(PmDslCodeGen.class, "generateUcCode"); // debug
 	//--------------------------------------------------------------------------------
 	// use xml replacements
 	private util.replace.Director replacementsDirector = new util.replace.Director(new util.replace.xml.XmlReplacements());
@@ -65,7 +67,7 @@ public class PmDslCodeGen extends codeGen.BasicCodeGen implements codeGen.IBasic
 	// translation of pmmm 2 code
 	public void generateUcCode() throws CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateUcCode; // debug
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg = "";
@@ -29,7 +29,7 @@ import java.nio.file.Paths;
 
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // WRITE CODE TO FILE
@@ -37,6 +37,11 @@ import qa.tracer.O;
 // file management 
 //--------------------------------------------------------------------------------
 public class PmDslCodeWriter extends codeGen.BasicCodeWriter {
+	// trace points
+	/**/ private static final TracePoint M_openFiles = TracePoint.of(PmDslCodeWriter.class, "openFiles"); // debug
+	/**/ private static final TracePoint M_switch2File = TracePoint.of(PmDslCodeWriter.class, "switch2File"); // debug
+	/**/ private static final TracePoint M_fileId2Info = TracePoint.of(PmDslCodeWriter.class, "fileId2Info"); // debug
+	/**/ private static final TracePoint M_closeFiles = TracePoint.of(PmDslCodeWriter.class, "closeFiles"); // debug
 	//--------------------------------------------------------------------------------
 	// file:
 	File output_File; 
@@ -64,7 +69,7 @@ public class PmDslCodeWriter extends codeGen.BasicCodeWriter {
 	//--------------------------------------------------------------------------------
 	public void openFiles() throws CodeGenException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_openFiles; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			//================================================================================
@@ -96,7 +101,7 @@ public class PmDslCodeWriter extends codeGen.BasicCodeWriter {
 	// switch to file id (see defines)
 	public void switch2File(int fileId) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2File; // debug
 		//--------------------------------------------------------------------------------
 		switch(fileId) {
 		case PmDslDefs.DSL_XML_FILE_ID:
@@ -115,7 +120,7 @@ public class PmDslCodeWriter extends codeGen.BasicCodeWriter {
 	// return info about file id (see defines)
 	public String fileId2Info(int fileId) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_fileId2Info; // debug
 		//--------------------------------------------------------------------------------
 		switch(fileId) {
 		case PmDslDefs.DSL_XML_FILE_ID:
@@ -131,7 +136,7 @@ public class PmDslCodeWriter extends codeGen.BasicCodeWriter {
 	// close files
 	public void closeFiles() throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_closeFiles; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			if(output_FileWriter != null)
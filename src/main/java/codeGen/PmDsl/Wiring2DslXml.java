@@ -28,7 +28,7 @@ import pmmm.Guard;
 import pmmm.Wiring;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 
@@ -37,6 +37,8 @@ public class Wiring2DslXml {
 	//--------------------------------------------------------------------------------
 	// debug
 	// /**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_generateCode = TracePoint.of(Wiring2DslXml.class, "generateCode"); // debug
 	//--------------------------------------------------------------------------------
 	private PmDslCodeWriter codeWriter;
 	private Wiring wiring;
@@ -58,7 +60,7 @@ public class Wiring2DslXml {
 	//--------------------------------------------------------------------------------
 	public void generateCode() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_generateCode; // debug
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg = "";
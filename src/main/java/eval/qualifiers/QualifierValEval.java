@@ -27,7 +27,7 @@ import eval.tokens.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -35,15 +35,19 @@ public class QualifierValEval {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_qualifierValEval = TracePoint.of(QualifierValEval.class, "qualifierValEval"); // debug
+	/**/ private static final TracePoint M__qualifierValEval = TracePoint.of(QualifierValEval.class, "_qualifierValEval"); // debug
 	//--------------------------------------------------------------------------------
 	// root of the token tree in which all qualifier values shall be resolved
-	protected static Token rootToken;
+	// - nb: all fields are per evaluation (and not static), so that evaluations may run in parallel
+	protected Token rootToken;
 	// shared return token
-	protected static Token retToken = new Token(IToken.Kind.EMPTY, "" /* raw */);
+	protected Token retToken = new Token(IToken.Kind.EMPTY, "" /* raw */);
 	// context info
-	protected static PmmmInstance curPmmmInstance;
-	protected static PeerInstance curPeerInstance;
-	protected static WiringInstance curWiringInstance;
+	protected PmmmInstance curPmmmInstance;
+	protected PeerInstance curPeerInstance;
+	protected WiringInstance curWiringInstance;
 
 	//================================================================================
 	// CONSTRUCTORS
@@ -51,11 +55,11 @@ public class QualifierValEval {
 	// constructor
 	// - CAUTION: those cur-parameters that do not apply in the context must be set to null
 	public QualifierValEval(Token rootToken, Token retToken, PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance) {
-		QualifierValEval.rootToken = rootToken;
-		QualifierValEval.retToken = retToken;
-		QualifierValEval.curPmmmInstance = curPmmmInstance;
-		QualifierValEval.curPeerInstance = curPeerInstance;
-		QualifierValEval.curWiringInstance = curWiringInstance;
+		this.rootToken = rootToken;
+		this.retToken = retToken;
+		this.curPmmmInstance = curPmmmInstance;
+		this.curPeerInstance = curPeerInstance;
+		this.curWiringInstance = curWiringInstance;
 	}
 
 	//================================================================================
@@ -64,8 +68,8 @@ public class QualifierValEval {
 	//--------------------------------------------------------------------------------
 	public void qualifierValEval() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("resolve qualifier value in: " + rootToken.toTypedInfo(), Level.NO, m);
+		/**/ TracePoint m = M_qualifierValEval; // debug
+		/**/ tracer.println(() -> "resolve qualifier value in: " + rootToken.toTypedInfo(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// assert that root token is not null
 		if(rootToken == null)
@@ -93,10 +97,10 @@ public class QualifierValEval {
 	// recursively investigate token for qualifier expressions and resolve them;
 	// constructs deep copy of the resolved token in the shared retToken;
 	// CAUTION: curRetToken is a return parameter !!!
-	private static void _qualifierValEval(Token token, Token curRetToken) throws SyntaxException, SNHException {
+	private void _qualifierValEval(Token token, Token curRetToken) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
 		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M__qualifierValEval; // debug
 		//--------------------------------------------------------------------------------
 		// eval qualifiers in token -- they are recognize by "." BOP
 		switch(token.getKind()) {
@@ -121,23 +125,23 @@ public class QualifierValEval {
 			// '.' 
 			//================================================================================
 			if(OpDefs.isDotBOPName(token.getRawText())) {
-				/**/ tracer.println("DOT expression: " + token.toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "DOT expression: " + token.toUserInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// !!! CAUTION: recursion for right side, because '.' could be nested !!!
+				// - nb: token itself is not changed, because it might be shared with other instances
 				Token tempRetToken = new Token(IToken.Kind.EMPTY, "" /* raw */);
 				_qualifierValEval(token.getRight(), tempRetToken);
-				token.setRight(tempRetToken);
 				//--------------------------------------------------------------------------------
 				// qualifier, i.e. <PEER>, <PMMM> or <WIRING>
 				Token left = token.getLeft(); 
 				String qualifierName = left.getRawText();
 				//--------------------------------------------------------------------------------
 				// <propName>
-				Token right = token.getRight(); 
+				Token right = tempRetToken; 
 				//--------------------------------------------------------------------------------
 				// check left to be of KIND = NAME
 				if(left.getKind() == IToken.Kind.NAME) {
-					/**/ tracer.println("*** resolve qualifier value in: " + token.toTypedInfo(), Level.NO, m);
+					/**/ tracer.println(() -> "*** resolve qualifier value in: " + token.toTypedInfo(), Level.NO, m);
 					//--------------------------------------------------------------------------------
 					// token which resolves the entire qualifier expression
 					Token solutionToken = new Token(IToken.Kind.EMPTY, "" /* raw */);
@@ -145,7 +149,7 @@ public class QualifierValEval {
 					// set prop label token to right side (nb could be '#' expression)
 					Token propLabelToken = right;
 					//--------------------------------------------------------------------------------
-					/**/ tracer.println("QUALIFIER '" + qualifierName + "'; search for " + propLabelToken, Level.NO, m);
+					/**/ tracer.println(() -> "QUALIFIER '" + qualifierName + "'; search for " + propLabelToken, Level.NO, m);
 					//--------------------------------------------------------------------------------
 					// for debug
 					boolean somethingWasChangedFlag = false;
@@ -159,7 +163,7 @@ public class QualifierValEval {
 								throw new SyntaxException("ill. context, where " + token.toUserInfo() + " qualifier is used: no pmmm", m);
 							}
 							//--------------------------------------------------------------------------------
-							/**/ tracer.println("processed pmmm props defs = " + curPmmmInstance.getProcessedPmmmPropsDefsTokenExpression().toUserInfo(true, true), Level.NO, m);
+							/**/ tracer.println(() -> "processed pmmm props defs = " + curPmmmInstance.getProcessedPmmmPropsDefsTokenExpression().toUserInfo(true, true), Level.NO, m);
 							//--------------------------------------------------------------------------------
 							solutionToken = curPmmmInstance.getProcessedPmmmPropDefValueToken(propLabelToken);
 							//--------------------------------------------------------------------------------
@@ -174,11 +178,11 @@ public class QualifierValEval {
 								throw new SyntaxException("ill. context, where " + token.toUserInfo() + " qualifier is used: no peer", m);
 							}
 							//--------------------------------------------------------------------------------
-							/**/ tracer.println("processed peer props defs = " + curPeerInstance.getProcessedPPropsDefsTokenExpression().toUserInfo(true, true), Level.NO, m);
+							/**/ tracer.println(() -> "processed peer props defs = " + curPeerInstance.getProcessedPPropsDefsTokenExpression().toUserInfo(true, true), Level.NO, m);
 							//--------------------------------------------------------------------------------
 							solutionToken = curPeerInstance.getProcessedPPropDefsValueToken(propLabelToken);
 							//--------------------------------------------------------------------------------
-							/**/ tracer.println("solutionToken: " + solutionToken, Level.NO, m);
+							/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("solutionToken: " + solutionToken, Level.NO, m);
 							somethingWasChangedFlag = true;
 						}
 						//================================================================================
@@ -192,7 +196,7 @@ public class QualifierValEval {
 							//--------------------------------------------------------------------------------
 							solutionToken = curWiringInstance.getProcessedWPropDefsValueToken(propLabelToken);
 							//--------------------------------------------------------------------------------
-							/**/ tracer.println("solutionToken: " + curWiringInstance.getProcessedWiringWPropsDefs(), Level.NO, m);
+							/**/ tracer.println(() -> "solutionToken: " + curWiringInstance.getProcessedWiringWPropsDefs(), Level.NO, m);
 							somethingWasChangedFlag = true;
 						}
 						//================================================================================
@@ -222,8 +226,8 @@ public class QualifierValEval {
 						//================================================================================
 						else if(left.getRawText().equals(IPmDefs.INDEX_QUALIFIER)) {
 							// do nothing, must be resolved by treatment of '->' operator
-							// - just pass on the token
-							solutionToken = token;
+							// - just pass on the token (with resolved right side)
+							solutionToken = token.copyWithArgs(left, right);
 							somethingWasChangedFlag = false;
 						}
 						//================================================================================
@@ -247,10 +251,10 @@ public class QualifierValEval {
 					curRetToken.flatClone(solutionToken);
 					//--------------------------------------------------------------------------------
 					if(somethingWasChangedFlag) {
-						/**/ if(curPmmmInstance != null) tracer.println("pmmm = " + curPmmmInstance.getPmmmTypeName() + "; config = " + curPmmmInstance.getConfigName(), Level.NO, m);
-						/**/ if(curPeerInstance != null) tracer.println("peer = " + curPeerInstance.getPeerInstanceName() + "; peer type = " + curPeerInstance.getPeerTypeName(), Level.NO, m);
-						/**/ if(curWiringInstance != null) tracer.println("wiring = " + curWiringInstance.getWiringInstanceName() + "; wiring type = " + curWiringInstance.getWiringTypeName(), Level.NO, m);
-						/**/ tracer.println("QUALIFIER " + left + "." + right.toUserInfo() + " resolved to " + curRetToken.toTypedInfo(), Level.NO, m);
+						/**/ if(curPmmmInstance != null) tracer.println(() -> "pmmm = " + curPmmmInstance.getPmmmTypeName() + "; config = " + curPmmmInstance.getConfigName(), Level.NO, m);
+						/**/ if(curPeerInstance != null) tracer.println(() -> "peer = " + curPeerInstance.getPeerInstanceName() + "; peer type = " + curPeerInstance.getPeerTypeName(), Level.NO, m);
+						/**/ if(curWiringInstance != null) tracer.println(() -> "wiring = " + curWiringInstance.getWiringInstanceName() + "; wiring type = " + curWiringInstance.getWiringTypeName(), Level.NO, m);
+						/**/ tracer.println(() -> "QUALIFIER " + left + "." + right.toUserInfo() + " resolved to " + curRetToken.toTypedInfo(), Level.NO, m);
 					}
 				}
 				//--------------------------------------------------------------------------------
@@ -264,7 +268,7 @@ public class QualifierValEval {
 			//================================================================================
 			else {
 				//--------------------------------------------------------------------------------
-				/**/ tracer.println("other BOP = " + token.toTypedInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "other BOP = " + token.toTypedInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// copy only token but not its tree, because args will be set below
 				curRetToken.flatClone(token);
@@ -298,7 +302,7 @@ public class QualifierValEval {
 		case UOP:
 			//--------------------------------------------------------------------------------
 			// TBD: we assume that UOP has a *right* arg
-			/**/ tracer.println("UOP = " + token.toTypedInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "UOP = " + token.toTypedInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// copy only token but not its tree, because arg will be set below
 			curRetToken.flatClone(token);
@@ -320,7 +324,7 @@ public class QualifierValEval {
 			//================================================================================
 		default:
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("DEFAULT: token = " + token.toTypedInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "DEFAULT: token = " + token.toTypedInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// copy only token but not its tree
 			// - nb: no recursion needed, because the token is not an op expr, but a basic data type
@@ -26,7 +26,7 @@ import eval.*;
 import pmmm.*;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -35,6 +35,9 @@ import qa.tracer.Tracer;
 // NB: considers also ALL and NONE
 // TBD: expressions on all and none are not allowed... check this
 public class IntTokenValEval {
+	// trace points
+	/**/ private static final TracePoint M_compute = TracePoint.of(IntTokenValEval.class, "compute"); // debug
+	/**/ private static final TracePoint M_compute_intern = TracePoint.of(IntTokenValEval.class, "compute_intern"); // debug
 	//--------------------------------------------------------------------------------
 	public final static int ALL = -100;
 	public final static int NONE = -200;
@@ -50,7 +53,7 @@ public class IntTokenValEval {
 		//--------------------------------------------------------------------------------
 		// debug:
 		/**/ Tracer tracer = new Tracer(); 
-		/**/ Object m = new Object(){};  
+		/**/ TracePoint m = M_compute;  
 		//--------------------------------------------------------------------------------
 		int val;
 		try {
@@ -58,14 +61,14 @@ public class IntTokenValEval {
 		} catch (SyntaxException e) {
 			throw new SyntaxException("can't compute int val of expression '" + token.toUserInfo() + "'", m, e);
 		}
-		/**/ tracer.println("val = " + val, Level.NO, m);
+		/**/ tracer.println(() -> "val = " + val, Level.NO, m);
 		return val;
 	}
 
 	//--------------------------------------------------------------------------------
 	private static int compute_intern(Token token) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_compute_intern; // debug
 		//--------------------------------------------------------------------------------
 		// local vars:
 		int leftVal;
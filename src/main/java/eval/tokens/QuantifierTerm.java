@@ -21,9 +21,23 @@
 //================================================================================
 package eval.tokens;
 
+import eval.IData;
+import pmmm.IOpDefs;
+import pmmm.OpDefs;
+import qa.exceptions.SNHException;
+import qa.tracer.Level;
+import qa.tracer.TracePoint;
+import qa.tracer.Tracer;
+
 //================================================================================
 // data struct for evaluating <quantifier> expressions, namely RANGE, FORALL and EXISTS
+// - mta expands the term it is applied to (the template) per index value (see expandAt) 
+//   or folds the expansions into one balanced AND/OR expression (see fold)
+// - nb: there is no symbolic quantifier node; mta replaces the quantifier expression by its expansion,
+//   so code generation only sees the expanded form
 public class QuantifierTerm {
+	//--------------------------------------------------------------------------------
+	/**/ private static final TracePoint M_replaceIndexExpressions = TracePoint.of(QuantifierTerm.class, "replaceIndexExpressions"); // debug
 	//--------------------------------------------------------------------------------
 	// set to kind of null values
 	protected String opName = "";
@@ -36,7 +50,125 @@ public class QuantifierTerm {
 	//================================================================================
 	public QuantifierTerm() {
 	}
-	
+
+	//================================================================================
+	// QUERY
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// number of index values; 0 if range is empty
+	public int size() {
+		return Math.max(0, max - min + 1);
+	}
+	//--------------------------------------------------------------------------------
+	public boolean isRange() {
+		return opName.equals(OpDefs.RANGE);
+	}
+	//--------------------------------------------------------------------------------
+	public boolean isForAll() {
+		return opName.equals(OpDefs.FORALL);
+	}
+	//--------------------------------------------------------------------------------
+	public boolean isExists() {
+		return opName.equals(OpDefs.EXISTS);
+	}
+
+	//================================================================================
+	// EXPAND
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// return template with my index replaced by r
+	// - nb: template is not changed; subtrees without my index are shared
+	public Token expandAt(Token template, int r) {
+		qa.stats.Counters.quantifierExpanded();
+		return replaceIndexExpressions(template, "INDEX", indexId, Integer.toString(r));
+	}
+	//--------------------------------------------------------------------------------
+	// FORALL: return "A AND B AND C ...", EXISTS: return "A OR B OR C ...", where A, B, C ... are the expansions of template
+	// - the expression is built up as balanced tree, so that its depth is only log2 of my size
+	// - empty range: FORALL yields true, EXISTS yields false
+	// - CAUTION: must not be called for RANGE
+	public Token fold(Token template) throws SNHException {
+		if(size() == 0) {
+			Token constToken = isForAll() ? new Token(IToken.Kind.TRUE, "true") : new Token(IToken.Kind.FALSE, "false");
+			constToken.setType(IData.Type.BOOLEAN);
+			return constToken;
+		}
+		return fold(template, min, max);
+	}
+	//--------------------------------------------------------------------------------
+	// fold the expansions for lo .. hi
+	private Token fold(Token template, int lo, int hi) throws SNHException {
+		//--------------------------------------------------------------------------------
+		// one term
+		if(lo == hi)
+			return expandAt(template, lo);
+		//--------------------------------------------------------------------------------
+		// combine both halves
+		int mid = lo + (hi - lo) / 2;
+		Token opToken = new Token(IToken.Kind.BOP, isForAll() ? IOpDefs.AND : IOpDefs.OR /* raw */);
+		opToken.setType(IData.Type.BOOLEAN);
+		opToken.setLeft(fold(template, lo, mid));
+		opToken.setRight(fold(template, mid + 1, hi));
+		return opToken;
+	}
+
+	//================================================================================
+	// REPLACE INDEX 
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// replace all occurrences of '<indexName>.<indexId>' in token by INT Token with value = numberAsString
+	// - copy on write: token is not changed; subtrees without any occurrence are shared with the returned token
+	private static Token replaceIndexExpressions(Token token, String indexName, String indexId, String numberAsString) {
+		//--------------------------------------------------------------------------------
+		/**/ Tracer tracer = new Tracer();  // debug
+		/**/ TracePoint m = M_replaceIndexExpressions; // debug
+		/**/ tracer.println(() -> "replace " + indexName + "." + indexId + " by " + numberAsString + " in token: " + token.toUserInfo(), Level.NO, m);
+		//--------------------------------------------------------------------------------
+		// return token
+		Token newToken;
+		//--------------------------------------------------------------------------------
+		// very INDEX '.' <indexId> expression that shall be replaced? 
+		// - tbd: "INDEX" is hard coded
+		if(token.kind == IToken.Kind.BOP && OpDefs.isDotBOPName(token.rawText) && 
+				token.left.rawText.equals("INDEX") && token.right.rawText.equals(indexId)) {
+			newToken = new Token(IToken.Kind.INT, numberAsString /* raw */);
+			newToken.isLabelFlag = false;
+			newToken.left = null; 
+			newToken.right = null; 
+			newToken.type = IData.Type.INT;
+			newToken.treatedFlag = true;
+			newToken.integratedFlag = true;
+		}
+		//--------------------------------------------------------------------------------
+		// OTHER '.' OR OTHER BOP
+		else if(token.kind == IToken.Kind.BOP) {
+			Token newLeft = replaceIndexExpressions(token.left, indexName, indexId, numberAsString);
+			Token newRight = replaceIndexExpressions(token.right, indexName, indexId, numberAsString);
+			if(newLeft != token.left || newRight != token.right)
+				newToken = token.copyWithArgs(newLeft, newRight);
+			else
+				newToken = token;
+		}
+		//--------------------------------------------------------------------------------
+		// UOP?
+		// - nb: left is reset as before
+		else if(token.kind == IToken.Kind.UOP) {
+			Token newRight = replaceIndexExpressions(token.right, indexName, indexId, numberAsString);
+			if(newRight != token.right || token.left != null)
+				newToken = token.copyWithArgs(null, newRight);
+			else
+				newToken = token;
+		}
+		//--------------------------------------------------------------------------------
+		// BASIC VAL: done -> no further recursion needed
+		else
+			newToken = token;
+		//--------------------------------------------------------------------------------
+		// ok
+		/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("--> result token: " + newToken.toUserInfo(), Level.NO, m);
+		return newToken;
+	}
+
 	//================================================================================
 	// DEBUG
 	//================================================================================
@@ -26,11 +26,13 @@ import pmmm.OpDefs;
 import pmmm.PmUtil;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
 // uses state automaton
+// - iterative: each state returns the next state; the automaton loop is in mince()
+// - works on the char array of the raw input with a cursor (no substring copies except for the token texts)
 // abbreviations:
 //		LB .... left bracket '('
 //		RB ... right bracket ')'
@@ -38,14 +40,32 @@ public class Raw2Tokens {
 	//--------------------------------------------------------------------------------
 	// tracer
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_startState = TracePoint.of(Raw2Tokens.class, "startState"); // debug
+	/**/ private static final TracePoint M_state1 = TracePoint.of(Raw2Tokens.class, "state1"); // debug
+	/**/ private static final TracePoint M_state2 = TracePoint.of(Raw2Tokens.class, "state2"); // debug
+	/**/ private static final TracePoint M_state3 = TracePoint.of(Raw2Tokens.class, "state3"); // debug
+	/**/ private static final TracePoint M_endState = TracePoint.of(Raw2Tokens.class, "endState"); // debug
+	//--------------------------------------------------------------------------------
+	// automaton states
+	private static final int START_STATE = 0;
+	private static final int STATE_1 = 1;
+	private static final int STATE_2 = 2;
+	private static final int STATE_3 = 3;
+	private static final int END_STATE = 4;
+	private static final int DONE = 5;
 	//--------------------------------------------------------------------------------
 	// INPUT:
 	// current input string -- needed for exception messages
 	private String raw;
+	// - as char array
+	private char[] chars;
+	// - cursor = index of the next char to be read
+	private int pos = 0;
 	//--------------------------------------------------------------------------------
 	// all peer model ops
-	// - STATIC!!
-	private static OpDefs opDefs = new OpDefs();
+	// - shared!!
+	private static final OpDefs opDefs = OpDefs.OP_DEFS;
 	//--------------------------------------------------------------------------------
 	// sequence of tokens: 
 	// - this is the current working vector for mincing!
@@ -67,6 +87,7 @@ public class Raw2Tokens {
 	// constructor
 	public Raw2Tokens(String raw) {
 		this.raw = raw;
+		this.chars = raw.toCharArray();
 	}
 
 	//================================================================================
@@ -96,8 +117,27 @@ public class Raw2Tokens {
 		// set phase of TVV
 		tokenVV.setPhase("MINCING");
 		//--------------------------------------------------------------------------------
-		// call automaton, namely goto its "start" state
-		startState(raw);
+		// run automaton, starting with its "start" state
+		int state = START_STATE;
+		while(state != DONE) {
+			switch(state) {
+			case START_STATE:
+				state = startState();
+				break;
+			case STATE_1:
+				state = state1();
+				break;
+			case STATE_2:
+				state = state2();
+				break;
+			case STATE_3:
+				state = state3();
+				break;
+			case END_STATE:
+				state = endState();
+				break;
+			}
+		}
 		//--------------------------------------------------------------------------------
 		// set phase of TVV
 		tokenVV.setPhase("MINCED");
@@ -117,269 +157,228 @@ public class Raw2Tokens {
 	//--------------------------------------------------------------------------------
 	// start state
 	//--------------------------------------------------------------------------------
-	private void startState(String s) throws SyntaxException {
+	private int startState() {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_startState; // debug
 		//--------------------------------------------------------------------------------
-		s = skipWhiteSpace(s);
-		/**/ tracer.println("AUTOMATON startState: " + "\"" + s + "\"", Level.NO, m);
+		skipWhiteSpace();
+		/**/ tracer.println(() -> "AUTOMATON startState: " + "\"" + rest() + "\"", Level.NO, m);
 		// ==========
 		// empty ?
 		// ==========
-		if(isEmpty(s)) {		
+		if(isEmpty()) {		
 			// GOTO endState
-			endState(s);
-			return;
+			return END_STATE;
 		}
 		// ==========
 		// not empty:
 		// ==========
 		// '(' ?
 		// ==========
-		if(s.charAt(0) == '(') {
+		if(chars[pos] == '(') {
 			nestingCnt++;
 			// TOKEN found = opening bracket
 			add(new Token(IToken.Kind.LB, "("));
-			startState(s.substring(1));
-			return;
+			pos++;
+			return START_STATE;
 		}
 		// ==========
 		// unary op ?
 		// ==========
-		boolean unaryOpFlag;
-		/**/ tracer.println("AUTOMATON startState: starts with UNARY OP? " + s, Level.NO, m);
-		try {
-			String opName = opDefs.getLongestUnaryOpNameThatIsPrefixOfS(s);
+		/**/ tracer.println(() -> "AUTOMATON startState: starts with UNARY OP? " + rest(), Level.NO, m);
+		int opNameLen = opDefs.getLongestUnaryOpNameLen(raw, pos);
+		if(opNameLen != OpDefs.NOT_FOUND) {
 			/**/ tracer.println("AUTOMATON startState: UNARY OP", Level.NO, m);
 			// TBD: assert that there are no unary OP names that subsume each other....
 			// TOKEN found = unary op
-			add(new Token(IToken.Kind.UOP, opName));
+			add(new Token(IToken.Kind.UOP, raw.substring(pos, pos + opNameLen)));
 			// move pointer forward
-			s = s.substring(opName.length());
-			// set flag
-			unaryOpFlag = true;
-		} catch (Exception e) {
-			// ok, no unary op
-			// - set flag
-			unaryOpFlag = false;
-		}
-		if(unaryOpFlag) {
+			pos += opNameLen;
 			// GOTO state 2
-			state2(s);
-			return;
+			return STATE_2;
 		}
+		// - ok, no unary op
 		// ==========
 		// GOTO state 1
 		// ==========
-		state1(s);
+		return STATE_1;
 	}
 
 	//--------------------------------------------------------------------------------
 	// state 1
 	//--------------------------------------------------------------------------------
-	private void state1(String s) throws SyntaxException {
+	private int state1() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("AUTOMATON state 1   : " + "\"" + s + "\"", Level.NO, m);
+		/**/ TracePoint m = M_state1; // debug
+		/**/ tracer.println(() -> "AUTOMATON state 1   : " + "\"" + rest() + "\"", Level.NO, m);
 		//--------------------------------------------------------------------------------
-		boolean done = false;
-		s = skipWhiteSpace(s);
+		skipWhiteSpace();
 		// empty ?
-		if(isEmpty(s)) {		
+		if(isEmpty()) {		
 			throw new SyntaxException("Unexpected end of value = " + raw + ".", m);
 		}
+		int start = pos;
+		char c = chars[pos];
 		// ==========
 		// int?
 		// ==========
-		if(isNumber(s.charAt(0))) {
+		if(isNumber(c)) {
 			/**/ tracer.println("AUTOMATON state 1   : INT", Level.NO, m);
-			int k = 0; 
 			do {
-				k++;
-				if(k >= s.length()) {
-					break;
-				}
-			} while(isNumber(s.charAt(k)));
+				pos++;
+			} while(pos < chars.length && isNumber(chars[pos]));
 			// TOKEN found = int
-			add(new Token(IToken.Kind.INT, s.substring(0, k)));
-			// move pointer forward
-			s = s.substring(k);
-			// done
-			done = true;
+			add(new Token(IToken.Kind.INT, raw.substring(start, pos)));
+			// GOTO state 3
+			return STATE_3;
 		}
 		// ==========
 		// string?
 		// ==========
-		if(! done && s.charAt(0) == '"') {
+		if(c == '"') {
 			/**/ tracer.println("AUTOMATON state 1   : STRING", Level.NO, m);
-			// search for closing '"'; 1...start search after first '"';
-			int k = s.indexOf('"', 1);
-			// TOKEN found = int
-			add(new Token(IToken.Kind.STRING, s.substring(1, k)));
+			// search for closing '"'; start search after first '"';
+			int k = raw.indexOf('"', start + 1);
+			if(k < 0) {
+				throw new SyntaxException("'" + raw + "'; closing '\"' is missing at ***" + rest() + "***", m);
+			}
+			// TOKEN found = string
+			add(new Token(IToken.Kind.STRING, raw.substring(start + 1, k)));
 			// move pointer forward
-			s = s.substring(k + 1);
-			// done
-			done = true;
+			pos = k + 1;
+			// GOTO state 3
+			return STATE_3;
 		}
 		// ==========
 		// (system)var?
 		// ==========
-		if(! done && s.charAt(0) == '$') {
-			int i = 0;
+		if(c == '$') {
 			/**/ tracer.println("AUTOMATON state 1   : VAR", Level.NO, m);
-			if(s.length() <= 1) {
+			if(chars.length - start <= 1) {
 				// there must be at least 1 char following '$'
 				throw new SyntaxException("Incomplete string. String ends with '$'.", m);
 			}
-			i++;
-			if(s.charAt(i) == '$') {
+			pos++;
+			if(chars[pos] == '$') {
 				/**/ tracer.println("AUTOMATON state 1   : is a SYSTEM VAR", Level.NO, m);
 				// system variable
-				i++;
-				if(s.length() <= 2) {
+				pos++;
+				if(chars.length - start <= 2) {
 					// there must be at least 1 char following '$$'
 					throw new SyntaxException("Incomplete string. String ends with '$$'.", m);
 				}
 			}
 			// check for first name char
-			if(! isFirstCharOfName(s.charAt(i))) {
+			if(! isFirstCharOfName(chars[pos])) {
 				throw new SyntaxException("Variable name is missing.", m);
 			}					
 			// get var name
-			for(; i < s.length(); i++) {
-				if(! isCharOfName(s.charAt(i))) {
-					break;
-				}
-			}
+			skipName();
 			// TOKEN found = var
-			add(new Token(IToken.Kind.VAR, s.substring(0, i)));
-			// move pointer forward
-			s = s.substring(i);
-			// done
-			done = true;
+			add(new Token(IToken.Kind.VAR, raw.substring(start, pos)));
+			// GOTO state 3
+			return STATE_3;
 		}
 		// ==========
 		// true?
 		// ==========
 		// TBD: hard coded
-		if(! done && s.startsWith("true")) {
+		// - next char must not be a name char; eg "trueNews" is a name...
+		if(startsWithKeyword("true")) {
 			/**/ tracer.println("AUTOMATON state 1   : TRUE", Level.NO, m);
-			// next char must not be a name char; eg "trueNews" is a name...
-			String help = s.substring("true".length());
-			if(! ((help.length() > 0) && PmUtil.isValidCharOfName(help.charAt(0)))) {
-				// TOKEN found = true
-				add(new Token(IToken.Kind.TRUE, "true"));
-				// move pointer forward
-				s = help;
-				// done
-				done = true;
-			}
+			// TOKEN found = true
+			add(new Token(IToken.Kind.TRUE, "true"));
+			// move pointer forward
+			pos += "true".length();
+			// GOTO state 3
+			return STATE_3;
 		}
 		// ==========
 		// false?
 		// ==========
 		// TBD: hard coded
-		if(! done && s.startsWith("false")) {
+		// - next char must not be a name char; eg "falseNews" is a name...
+		if(startsWithKeyword("false")) {
 			/**/ tracer.println("AUTOMATON state 1   : FALSE", Level.NO, m);
-			// next char must not be a name char; eg "falseNews" is a name...
-			String help = s.substring("false".length());
-			if(! ((help.length() > 0) && PmUtil.isValidCharOfName(help.charAt(0)))) {
-				// TOKEN found = false
-				add(new Token(IToken.Kind.TRUE, "false"));
-				// move pointer forward
-				s = help;
-				// done
-				done = true;
-			}
+			// TOKEN found = false
+			add(new Token(IToken.Kind.TRUE, "false"));
+			// move pointer forward
+			pos += "false".length();
+			// GOTO state 3
+			return STATE_3;
 		}
 		// ==========
 		// name or fu?
 		// ==========
-		if(! done && isFirstCharOfName(s.charAt(0))) {
+		if(isFirstCharOfName(c)) {
 			/**/ tracer.println("AUTOMATON state 1   : label or fu", Level.NO, m);
-			int j;
-			for(j = 0; j < s.length(); j++) {
-				if(! isCharOfName(s.charAt(j)) ) {
-					break;
+			skipName();
+			int nameEnd = pos;
+			/**/ tracer.println(() -> "AUTOMATON state 1   : name found: "+ "\"" + raw.substring(start) + "\"; j = " + (nameEnd - start), Level.NO, m);
+			// name found; check if it is a label or a fu (i.e. is it followed by "()"?) 
+			skipWhiteSpace();
+			if(! isEmpty() && chars[pos] == '(') {
+				// CAUTION: so far, only fus without args supported
+				pos++;
+				skipWhiteSpace();
+				if(isEmpty() || chars[pos] != ')') {
+					throw new SyntaxException("ill. function: ')' is missing", m);
 				}
+				/**/ tracer.println("AUTOMATON state 1   : FU", Level.NO, m);
+				// TOKEN found = fu
+				add(new Token(IToken.Kind.FU, raw.substring(start, nameEnd)));
+				// move pointer forward
+				pos++;
 			}
-			if(j > 0) {
-				/**/ tracer.println("AUTOMATON state 1   : name found: "+ "\"" + s + "\"; j = " + j, Level.NO, m);
-				// name found; check if it is a label or a fu (i.e. is it followed by "()"?) 
-				String s1 = s.substring(j);
-				/**/ tracer.println("AUTOMATON state 1   : s1 = " + "\"" + s1 + "\"; j = " + j, Level.NO, m);
-				s1 = skipWhiteSpace(s1);
-				if(! isEmpty(s1) && s1.charAt(0) == '(') {
-					// CAUTION: so far, only fus without args supported
-					s1 = s1.substring(1);
-					s1 = skipWhiteSpace(s1);
-					if(s1.charAt(0) != ')') {
-						throw new SyntaxException("ill. function: ')' is missing", m);
-					}
-					/**/ tracer.println("AUTOMATON state 1   : FU", Level.NO, m);
-					// TOKEN found = fu
-					add(new Token(IToken.Kind.FU, s.substring(0, j)));
-					// move pointer forward
-					s = s1.substring(1);
-				}
-				else {
-					/**/ tracer.println("AUTOMATON state 1   : NAME", Level.NO, m);
-					// TOKEN found = label
-					add(new Token(IToken.Kind.NAME, s.substring(0, j)));
-					// move pointer forward
-					s = s.substring(j);
-				}
+			else {
+				/**/ tracer.println("AUTOMATON state 1   : NAME", Level.NO, m);
+				// TOKEN found = label
+				add(new Token(IToken.Kind.NAME, raw.substring(start, nameEnd)));
+				// move pointer forward
+				pos = nameEnd;
 			}
-			// done
-			done = true;
+			// GOTO state 3
+			return STATE_3;
 		}
 		// ==========
-		// error?
-		// ==========
-		if(! done) {
-			// nb: for ill. expression like ": ->" the parser will eat up "-" thinking it's a unary op and report error at ">" 
-			throw new SyntaxException("'" + raw + "'; error ca. at ***" + s + "***", m);			
-		}
-		// ==========
-		// GOTO state 3
+		// error
 		// ==========
-		state3(s);
+		// nb: for ill. expression like ": ->" the parser will eat up "-" thinking it's a unary op and report error at ">" 
+		throw new SyntaxException("'" + raw + "'; error ca. at ***" + rest() + "***", m);			
 	}
 
 	//--------------------------------------------------------------------------------
 	// state 2: 
 	//--------------------------------------------------------------------------------
-	private void state2(String s) throws SyntaxException {
+	private int state2() {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("AUTOMATON state 2   : " + "\"" + s + "\"", Level.NO, m);
+		/**/ TracePoint m = M_state2; // debug
+		/**/ tracer.println(() -> "AUTOMATON state 2   : " + "\"" + rest() + "\"", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// ==========
 		// GOTO state 1
 		// ==========
-		state1(s);
-		return;	
+		return STATE_1;
 	}
 
 	//--------------------------------------------------------------------------------
 	// state 3: 
 	//--------------------------------------------------------------------------------
-	private void state3(String s) throws SyntaxException {
+	private int state3() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("AUTOMATON state 3   : " + "\"" + s + "\"", Level.NO, m);
+		/**/ TracePoint m = M_state3; // debug
+		/**/ tracer.println(() -> "AUTOMATON state 3   : " + "\"" + rest() + "\"", Level.NO, m);
 		//--------------------------------------------------------------------------------
-		s = skipWhiteSpace(s);
+		skipWhiteSpace();
 		// empty ?
-		if(isEmpty(s)) {		
+		if(isEmpty()) {		
 			// GOTO endState
-			endState(s);
-			return;	
+			return END_STATE;
 		}
 		// ==========
 		// ')' ?
 		// ==========
-		else if(s.charAt(0) == ')') {
+		if(chars[pos] == ')') {
 			nestingCnt--;
 			if(nestingCnt < 0) {
 				throw new SyntaxException("ill. bracket", m);
@@ -387,64 +386,50 @@ public class Raw2Tokens {
 			// TOKEN found = closing bracket
 			add(new Token(IToken.Kind.RB, ")"));
 			// move pointer forward
-			s = s.substring(1);
+			pos++;
 			// GOTO state3
-			state3(s);
-			return;	
+			return STATE_3;
 		}
 		// ==========
 		// binary op ?
 		// ==========
-		else {
-			boolean bopFlag;
-			try {
-				String opName = opDefs.getLongestBinaryOpNameThatIsPrefixOfS(s);
-				/**/ tracer.println("AUTOMATON state 3   : BINARY OP = " + "\"" + opName + "\"", Level.NO, m);
-				// TOKEN found = binary op
-				add(new Token(IToken.Kind.BOP, opName));
-				// move pointer forward
-				s = s.substring(opName.length());
-				// set flag to continue with start state
-				bopFlag = true;
-			} catch (Exception e) {
-				// ok, no binary op; continue below with ";" test
-				// - set flag 
-				bopFlag = false;
-			}
-			if(bopFlag) {
-				// GOTO startState
-				startState(s);
-				return;
-			}
+		int opNameLen = opDefs.getLongestBinaryOpNameLen(raw, pos);
+		if(opNameLen != OpDefs.NOT_FOUND) {
+			String opName = raw.substring(pos, pos + opNameLen);
+			/**/ tracer.println(() -> "AUTOMATON state 3   : BINARY OP = " + "\"" + opName + "\"", Level.NO, m);
+			// TOKEN found = binary op
+			add(new Token(IToken.Kind.BOP, opName));
+			// move pointer forward
+			pos += opNameLen;
+			// GOTO startState
+			return START_STATE;
 		}
+		// - ok, no binary op; continue below with ";" test
 		// ==========
 		// ';' ?
 		// ==========
-		if(s.charAt(0) == ';') {
+		if(chars[pos] == ';') {
 			// move pointer forward
-			s = s.substring(1);
+			pos++;
 			// GOTO endState
-			endState(s);
-			return;
+			return END_STATE;
 		}
-
 		// ==========
 		// error
 		// ==========
 		// better a rough message that a misleading detailed one
-		throw new SyntaxException("'***" + s + "'", m);
+		throw new SyntaxException("'***" + rest() + "'", m);
 	}
 
-
 	//--------------------------------------------------------------------------------
 	// state endState: 
 	//--------------------------------------------------------------------------------
-	private void endState(String s) throws SyntaxException {
+	private int endState() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("AUTOMATON endState  : " + s, Level.NO, m);
+		/**/ TracePoint m = M_endState; // debug
+		/**/ tracer.println(() -> "AUTOMATON endState  : " + rest(), Level.NO, m);
 		//--------------------------------------------------------------------------------
-		s = skipWhiteSpace(s);
+		skipWhiteSpace();
 		if(nestingCnt != 0) {
 			throw new SyntaxException("wrong usage of brackets in value = " + raw + "; value ends with nesting level = " + nestingCnt + ".", m);
 		}
@@ -454,58 +439,69 @@ public class Raw2Tokens {
 		// ==========
 		// ';' ? ... repeat in loop
 		// ==========
-		while(! isEmpty(s) && s.charAt(0) == ';') {
+		while(! isEmpty() && chars[pos] == ';') {
 			// move pointer forward
-			s = s.substring(1);
+			pos++;
 			// skip white space
-			s = skipWhiteSpace(s);
+			skipWhiteSpace();
 		}
 
 		// ==========
 		// not empty?
 		// ==========
-		if(! isEmpty(s)) {
+		if(! isEmpty()) {
 			// there is yet another expression that was seperated by ';' 
 			// "reset" tokens
 			tokenV = new TV();
 			// GOTO startState
-			startState(s);
-			return;
+			return START_STATE;
 		}
 		// ==========
 		// the end
 		// ==========
 		/**/ tracer.println("AUTOMATON endState  : !!!", Level.NO, m);
+		return DONE;
 	}
 
 	//================================================================================
 	// UTILS
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	// skip white space at beginning
-	// nb: replaceFirst("^[\\s]*", "") did not work...
-	private static String skipWhiteSpace(String s) {
-		String sNeu = "";
+	// skip white space at cursor
+	private void skipWhiteSpace() {
 		char c;
-		if(s != null) {
-			int k = 0;
-			for(int i = 0; i < s.length(); i++) {
-				c = s.charAt(i);
-				if((c != ' ') && (c != '\n')) // TBD: was noch?
-					break;
-				k++;
-			}
-			sNeu = s.substring(k);
+		while(pos < chars.length) {
+			c = chars[pos];
+			if((c != ' ') && (c != '\n')) // TBD: was noch?
+				break;
+			pos++;
 		}
-		return sNeu;
 	}
 	//--------------------------------------------------------------------------------
-	// test if string is empty 
-	private static boolean isEmpty(String s) {
-		if(0 == s.length()) {
-			return true;
+	// move cursor behind the name chars at cursor
+	private void skipName() {
+		while(pos < chars.length && isCharOfName(chars[pos])) {
+			pos++;
 		}
-		return false;
+	}
+	//--------------------------------------------------------------------------------
+	// test if the rest of the input is empty 
+	private boolean isEmpty() {
+		return pos >= chars.length;
+	}
+	//--------------------------------------------------------------------------------
+	// test if keyword is at cursor and not followed by a name char
+	private boolean startsWithKeyword(String keyword) {
+		int end = pos + keyword.length();
+		if(! raw.startsWith(keyword, pos)) {
+			return false;
+		}
+		return ! ((end < chars.length) && PmUtil.isValidCharOfName(chars[end]));
+	}
+	//--------------------------------------------------------------------------------
+	// rest of the input -- for messages only
+	private String rest() {
+		return raw.substring(pos);
 	}
 	//--------------------------------------------------------------------------------
 	// test if character is number
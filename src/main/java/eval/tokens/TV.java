@@ -27,7 +27,7 @@ import java.util.Vector;
 
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // token vector
@@ -47,6 +47,9 @@ public class TV {
 	//--------------------------------------------------------------------------------
 	// debug
 	// private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_verifyIndex = TracePoint.of(TV.class, "verifyIndex"); // debug
+	/**/ private static final TracePoint M_getRootToken = TracePoint.of(TV.class, "getRootToken"); // debug
 	//--------------------------------------------------------------------------------
 	// vector of tokens
 	protected Vector<Token> tokenV = new Vector<Token>();
@@ -92,7 +95,7 @@ public class TV {
 	// otherwise returns i;
 	private int verifyIndex(int i) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_verifyIndex; // debug
 		//--------------------------------------------------------------------------------
 		if((i < 0) || (i >= tokenV.size())) {
 			throw new SNHException(100399, "index out of range", m);
@@ -132,7 +135,7 @@ public class TV {
 	// check that the TV has exactly one one "root" token and return this token
 	public Token getRootToken() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getRootToken; // debug
 		//--------------------------------------------------------------------------------
 		if(tokenV.isEmpty())
 			throw new SyntaxException("empty root token", m);
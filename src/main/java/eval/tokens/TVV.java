@@ -26,6 +26,7 @@ import java.util.Vector;
 
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -34,6 +35,8 @@ public class TVV {
 	//--------------------------------------------------------------------------------
 	// tracer
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_setPhase = TracePoint.of(TVV.class, "setPhase"); // debug
 	//--------------------------------------------------------------------------------
 	// vector of token vectors
 	public Vector<TV> tokenVV = new Vector<TV>();
@@ -91,7 +94,7 @@ public class TVV {
 	//--------------------------------------------------------------------------------
 	// set phase
 	protected void setPhase(String phase) {
-		/**/ tracer.println("PHASE " + phase, Level.NO, new Object(){});		
+		/**/ tracer.println(() -> "PHASE " + phase, Level.NO, M_setPhase);		
 		this.phase = phase;
 	}
 
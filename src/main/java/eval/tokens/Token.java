@@ -33,14 +33,27 @@ import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
 public class Token {
 	//--------------------------------------------------------------------------------
 	// for debugging
-	Tracer tracer = new Tracer();
+	// - nb: static, as there are very many tokens and the tracer has no state
+	static Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_flatClone = TracePoint.of(Token.class, "flatClone"); // debug
+	/**/ private static final TracePoint M_resolveIntRaw = TracePoint.of(Token.class, "resolveIntRaw"); // debug
+	/**/ private static final TracePoint M_getFlattenedHashLabel = TracePoint.of(Token.class, "getFlattenedHashLabel"); // debug
+	/**/ private static final TracePoint M__getFlattenedHashLabel = TracePoint.of(Token.class, "_getFlattenedHashLabel"); // debug
+	/**/ private static final TracePoint M_getPropLabelToken = TracePoint.of(Token.class, "getPropLabelToken"); // debug
+	/**/ private static final TracePoint M_getBasicLabelNameToken = TracePoint.of(Token.class, "getBasicLabelNameToken"); // debug
+	/**/ private static final TracePoint M_getBasicLabelType = TracePoint.of(Token.class, "getBasicLabelType"); // debug
+	/**/ private static final TracePoint M_getKthHashIndexToken = TracePoint.of(Token.class, "getKthHashIndexToken"); // debug
+	/**/ private static final TracePoint M_resolveQualifierTypes = TracePoint.of(Token.class, "resolveQualifierTypes"); // debug
+	/**/ private static final TracePoint M_verifyTypeDefinedness = TracePoint.of(Token.class, "verifyTypeDefinedness"); // debug
+	/**/ private static final TracePoint M_assertNotFrozen = TracePoint.of(Token.class, "assertNotFrozen"); // debug
 	//--------------------------------------------------------------------------------
 	// e.g: INT, STRING, NAME, VAR, FU, UOP, BOP, LB, RB -- check for actual defines!!!
 	protected IToken.Kind kind;
@@ -66,14 +79,22 @@ public class Token {
 	// -nb: it is not deallocated it as it is still used in subtree
 	protected boolean integratedFlag = false;
 	//--------------------------------------------------------------------------------
+	// token is frozen: its kind, type, flags and args must not be changed any more
+	// - set once, after the type eval of its token expression (see TokenExpression.plausiCheck);
+	// -- from then on the token is shared by the trees of all instances and by parallel evaluations (copy on write, see copyWithArgs)
+	// - nb: all tokens below a frozen token are frozen, too
+	protected boolean frozenFlag = false;
+	//--------------------------------------------------------------------------------
 
 	//================================================================================
 	// CONSTRUCTORS
 	//================================================================================
 	//--------------------------------------------------------------------------------
+	// nb: raw text is interned, as the same names, ops and numbers occur again and again in the trees of all instances
 	public Token(IToken.Kind kind, String rawText) {
 		this.kind = kind;
-		this.rawText = rawText;
+		this.rawText = (rawText == null) ? null : rawText.intern();
+		qa.stats.Counters.tokenCreated();
 	}
 
 	//================================================================================
@@ -81,7 +102,9 @@ public class Token {
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// return a deep copy of me
+	// - nb: the copy is not frozen
 	public Token deepCopy() {
+		qa.stats.Counters.tokenDeepCopied();
 		Token clonedToken = new Token(this.kind, this.rawText);
 		clonedToken.isLabelFlag = this.isLabelFlag;
 		if(this.left != null) {
@@ -99,11 +122,12 @@ public class Token {
 	// flat clone me from given token
 	public void flatClone(Token cloneToken) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_flatClone; // debug
 		//--------------------------------------------------------------------------------
 		// assertion:
 		if(cloneToken == null)
 			throw new SNHException(777277, "empty clone token", m);
+		assertNotFrozen();
 		//--------------------------------------------------------------------------------
 		// clone:
 		this.kind = cloneToken.kind;
@@ -115,6 +139,21 @@ public class Token {
 		this.treatedFlag = cloneToken.treatedFlag;
 		this.integratedFlag = cloneToken.integratedFlag;
 	}
+	//--------------------------------------------------------------------------------
+	// return a flat copy of me with the given args
+	// - for copy on write: tokens of the evaluated types are shared by all instances and must not be changed in place;
+	// -- so only the path from the root down to a changed arg is copied, all other subtrees remain shared
+	// - nb: the copy is not frozen
+	public Token copyWithArgs(Token left, Token right) {
+		Token copiedToken = new Token(this.kind, this.rawText);
+		copiedToken.isLabelFlag = this.isLabelFlag;
+		copiedToken.left = left;
+		copiedToken.right = right;
+		copiedToken.type = this.type;
+		copiedToken.treatedFlag = this.treatedFlag;
+		copiedToken.integratedFlag = this.integratedFlag;
+		return copiedToken;
+	}
 
 	//================================================================================
 	// GET / QUERY
@@ -144,12 +183,16 @@ public class Token {
 		return type;
 	}
 	//--------------------------------------------------------------------------------
+	public boolean isFrozen() {
+		return frozenFlag;
+	}
+	//--------------------------------------------------------------------------------
 	// if token has type INT -> return its raw text
 	// caution: kind could be INT or NAME (used for ALL and NONE)
 	// caution: do not use int as ret val, because of ALL and NONE, which are INT sys consts
 	public String resolveIntRaw() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_resolveIntRaw; // debug
 		//--------------------------------------------------------------------------------
 		if(((kind == IToken.Kind.INT) || (kind == IToken.Kind.NAME)) && 
 				(type == IData.Type.INT)) {
@@ -167,22 +210,52 @@ public class Token {
 	// SET
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	public void setType(IData.Type type) {
+	public void setType(IData.Type type) throws SNHException {
+		assertNotFrozen();
 		this.type = type;
 	}	
 	//--------------------------------------------------------------------------------
-	public void setLeft(Token token) {
+	public void setLeft(Token token) throws SNHException {
+		assertNotFrozen();
 		left = token;
 	}	
 	//--------------------------------------------------------------------------------
-	public void setRight(Token token) {
+	public void setRight(Token token) throws SNHException {
+		assertNotFrozen();
 		right = token;
 	}	
 	//--------------------------------------------------------------------------------
 	// sys or user label?
-	public void setIsLabelFlag(boolean isLabelFlag) {
+	public void setIsLabelFlag(boolean isLabelFlag) throws SNHException {
+		assertNotFrozen();
 		this.isLabelFlag = isLabelFlag;
 	}
+
+	//================================================================================
+	// FREEZE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// freeze me and my args (see frozenFlag)
+	// - nb: args of a frozen token are already frozen
+	// - CAUTION: call it only when the types are final, ie after the type eval
+	public void freeze() {
+		if(frozenFlag)
+			return;
+		frozenFlag = true;
+		if(left != null)
+			left.freeze();
+		if(right != null)
+			right.freeze();
+	}
+	//--------------------------------------------------------------------------------
+	// panic if i am frozen; then i might be shared, so i must be copied instead (see copyWithArgs)
+	private void assertNotFrozen() throws SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_assertNotFrozen; // debug
+		//--------------------------------------------------------------------------------
+		if(frozenFlag)
+			throw new SNHException(777278, "frozen token must not be changed: " + this.toTypedInfo(), m);
+	}
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// convert (nested) '#'-expression of the form '(...((<name> # <index1>) # <index1>) # ... # <indexN>)' into a flat string
@@ -192,12 +265,12 @@ public class Token {
 	// NB: checks validity of the resulting name
 	public String getFlattenedHashLabel() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getFlattenedHashLabel; // debug
 		//--------------------------------------------------------------------------------
 		// recursion
 		try {
 			String s = _getFlattenedHashLabel();
-			/**/ tracer.println("flattened hash label = " + s, Level.NO, m);
+			/**/ tracer.println(() -> "flattened hash label = " + s, Level.NO, m);
 			return s;
 		} catch (SyntaxException e) {
 			throw new SyntaxException("ill. name '" + this.toUserInfo() + "'", m, e);
@@ -209,7 +282,7 @@ public class Token {
 	// - convert (nested) '#'-expression into a flat string
 	public String _getFlattenedHashLabel() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M__getFlattenedHashLabel; // debug
 		//--------------------------------------------------------------------------------
 		// NAME:
 		// - caution: type might not be given (ie for peer names or wiring names) !!! so do not check it !!!
@@ -243,7 +316,8 @@ public class Token {
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// !!!!!! replace all "NAME" Kind appearances by "STRING" (see above explanation)
-	public void replaceNAMEbySTRING() {
+	public void replaceNAMEbySTRING() throws SNHException {
+		assertNotFrozen();
 		if(this.kind == IToken.Kind.NAME)
 			this.kind = IToken.Kind.STRING;
 		if(left != null) 
@@ -264,7 +338,7 @@ public class Token {
 	// - return propLabelToken token, if ok
 	public Token getPropLabelToken(boolean isPropTypeFlag) throws SyntaxException { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getPropLabelToken; // debug
 		//--------------------------------------------------------------------------------
 		Token propLabelToken;
 		//--------------------------------------------------------------------------------
@@ -306,7 +380,7 @@ public class Token {
 	// -- eg: (((<labelName> # <int>) # <int>) # <int>) --> return <labelName>
 	public Token getBasicLabelNameToken() throws SyntaxException { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getBasicLabelNameToken; // debug
 		//--------------------------------------------------------------------------------
 		// NAME?
 		if(this.kind == IToken.Kind.NAME)
@@ -334,7 +408,7 @@ public class Token {
 	// -- eg: (((<labelName> # <int>) # <int>) # <int>) --> return <labelName>
 	public IData.Type getBasicLabelType() throws SyntaxException { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getBasicLabelType; // debug
 		//--------------------------------------------------------------------------------
 		// NAME?
 		if(this.kind == IToken.Kind.NAME)
@@ -365,9 +439,9 @@ public class Token {
 	////Token wiringInstanceNameToken = curWiringInstance.getWiringInstanceNameToken();
 	public Token getKthHashIndexToken(int k) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("k = " + k, Level.NO, m);
-		/**/ tracer.println("token = " + this.toUserInfo(), Level.NO, m);
+		/**/ TracePoint m = M_getKthHashIndexToken; // debug
+		/**/ tracer.println(() -> "k = " + k, Level.NO, m);
+		/**/ tracer.println(() -> "token = " + this.toUserInfo(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// stack for indices <i1>, <i2>, <i3> ... <in>
 		Stack<Token> indexStack = new Stack<Token>();
@@ -376,7 +450,7 @@ public class Token {
 		Token token = this;
 		//--------------------------------------------------------------------------------
 		while(token.kind == IToken.Kind.BOP && OpDefs.isHashBOPName(token.rawText)) {
-			/**/ tracer.println("push " + this.right.rawText, Level.NO, m);
+			/**/ tracer.println(() -> "push " + this.right.rawText, Level.NO, m);
 			// push <ij>
 			indexStack.push(token.right);
 			// continue withleft side
@@ -387,13 +461,13 @@ public class Token {
 		//--------------------------------------------------------------------------------
 		// caution: compute stack size before shrinking it
 		int stackSize = indexStack.size();
-		/**/ tracer.println("stack = " + indexStack, Level.NO, m);
-		/**/ tracer.println("stackSize = " + stackSize, Level.NO, m);
+		/**/ tracer.println(() -> "stack = " + indexStack, Level.NO, m);
+		/**/ tracer.println(() -> "stackSize = " + stackSize, Level.NO, m);
 		for(int i = 1; i <= stackSize; i++) {
 			Token retToken = indexStack.pop();
 			if(i == k) {
-				/**/ tracer.println("retToken = " + retToken.toUserInfo(), Level.NO, m);
-				/**/ tracer.println(k + ". index token = " + retToken.toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "retToken = " + retToken.toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> k + ". index token = " + retToken.toUserInfo(), Level.NO, m);
 				return retToken;
 			}
 		}
@@ -414,39 +488,42 @@ public class Token {
 	// - (e): me plus right side are INT 
 	// - (f): me plus right side are INT 
 	//--------------------------------------------------------------------------------		
-	public void resolveQualifierTypes(QualifierContext qualifierContext) throws SyntaxException {
+	public void resolveQualifierTypes(QualifierContext qualifierContext) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
 		// debug:
-		/**/ Object m = new Object(){};  
-		/**/ tracer.println(qualifierContext.toMsg() + "token = " + this.toTypedInfo(), Level.NO, m);
-		/**/ tracer.println("resolve qualifier types: " + this.toUserInfo(), Level.NO, m);
+		/**/ TracePoint m = M_resolveQualifierTypes;  
+		/**/ tracer.println(() -> qualifierContext.toMsg() + "token = " + this.toTypedInfo(), Level.NO, m);
+		/**/ tracer.println(() -> "resolve qualifier types: " + this.toUserInfo(), Level.NO, m);
+		//--------------------------------------------------------------------------------
+		// types of frozen tokens are final
+		assertNotFrozen();
 		//--------------------------------------------------------------------------------
 		// left .... qualifier, i.e. <PEER>, <PMMM> or <WIRING>
 		// right .... <propName>
 		if((this.kind == IToken.Kind.BOP) && OpDefs.isDotBOPName(rawText)) {
-			/**/ tracer.println(qualifierContext.toMsg() + "resolving type of DOT OP = " + this.toTypedInfo(), Level.NO, m);
+			/**/ tracer.println(() -> qualifierContext.toMsg() + "resolving type of DOT OP = " + this.toTypedInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// !!! CAUTION: '.' could be nested !!!
 			// - eg: $who == (PMMM . (players # (WINDEX . 1)))
 			// !!! so recursively resolve right part first !!!
 			right.resolveQualifierTypes(qualifierContext);
-			/**/ tracer.println("resolved right: " + right.toTypedInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "resolved right: " + right.toTypedInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// check left to have kind NAME
 			if(left.getKind() == IToken.Kind.NAME) {
 				//--------------------------------------------------------------------------------
 				/**/ tracer.println("left is NAME -- fine!", Level.NO, m);
-				/**/ tracer.println(qualifierContext.toMsg() + "resolving QUALIFIER type = " + this.toTypedInfo(), Level.NO, m);
+				/**/ tracer.println(() -> qualifierContext.toMsg() + "resolving QUALIFIER type = " + this.toTypedInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// get qualifier name
 				String qualifierName = left.getRawText();
 				//--------------------------------------------------------------------------------
 				// !!! get the *basic* label name (see comment above)
 				// - nb: right must be a (complex) prop label specification
-				/**/ tracer.println("right = " + right.toTypedInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "right = " + right.toTypedInfo(), Level.NO, m);
 				Token propNameToken = right.getBasicLabelNameToken();
 				String propName = propNameToken.getRawText();
-				/**/ tracer.println("qualifierName = " + qualifierName + "; propNameToken = " + propName, Level.NO, m);
+				/**/ tracer.println(() -> "qualifierName = " + qualifierName + "; propNameToken = " + propName, Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// find type in the respective context:
 				try {
@@ -487,7 +564,7 @@ public class Token {
 								IPmDefs.WIRING_QUALIFIER + "'; but is '" + left.getRawText() + "'; ", m);
 					}
 					//--------------------------------------------------------------------------------
-					/**/ tracer.println("computed type = " + type, Level.NO, m);
+					/**/ tracer.println(() -> "computed type = " + type, Level.NO, m);
 				//--------------------------------------------------------------------------------
 				} catch(NotFoundException e) {
 					throw new SyntaxException(qualifierContext.toMsg() + "can't resolve qualifier expression " + this.toUserInfo(), m, e);
@@ -497,7 +574,7 @@ public class Token {
 				// set also type of left and right sides of the token
 				left.type = IData.Type.STRING;
 				right.type = type;
-				/**/ tracer.println(qualifierContext.toMsg() + qualifierName + "." + right + " resolved to " + type, Level.NO, m);
+				/**/ tracer.println(() -> qualifierContext.toMsg() + qualifierName + "." + right + " resolved to " + type, Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// !!! TRICKY !!!
 				// if right is a complex prop label, then inherit the type to it
@@ -505,7 +582,7 @@ public class Token {
 				// -- here players is still undefined....
 				if(propNameToken.type == IData.Type.UNDEFINED) {
 					propNameToken.type = type;
-					/**/ tracer.println("FIX TYPE of complex label " + propName + " to " + type, Level.NO, m);
+					/**/ tracer.println(() -> "FIX TYPE of complex label " + propName + " to " + type, Level.NO, m);
 				}
 			}
 			else {
@@ -536,28 +613,40 @@ public class Token {
 	// TBD: pass all peer names for verification...
 	// TBD: review...
 	// TBD: too complicated logic --> just change any occurrence of FLEX_ARRAY_REF to URL_ARRAY_REF, and of FLEX to URL
-	public void resolveFlexTypes() {
+	// - copy on write: returns me if nothing was to be resolved, otherwise a copy (see copyWithArgs)
+	public Token resolveFlexTypes() {
 		//--------------------------------------------------------------------------------
 		// /**/ O m = new O(){}; // debug
 		//--------------------------------------------------------------------------------
 		// REPLACE FLEX BY URL
+		IData.Type resolvedType = type;
 		if(type == IData.Type.FLEX)
-			type = IData.Type.URL;
+			resolvedType = IData.Type.URL;
 		//--------------------------------------------------------------------------------
 		// REPLACE FLEX_ARRAY_REF BY URL_ARRAY_REF
 		if(type == IData.Type.FLEX_ARRAY_REF)
-			type = IData.Type.URL_ARRAY_REF;
+			resolvedType = IData.Type.URL_ARRAY_REF;
 		//--------------------------------------------------------------------------------
 		// BOP?
+		Token resolvedLeft = left;
+		Token resolvedRight = right;
 		if(kind == IToken.Kind.BOP) {
-			this.left.resolveFlexTypes();
-			this.right.resolveFlexTypes();
+			resolvedLeft = this.left.resolveFlexTypes();
+			resolvedRight = this.right.resolveFlexTypes();
 		}
 		//--------------------------------------------------------------------------------
 		// UOP?
-		if(kind == IToken.Kind.BOP) {
-			this.left.resolveFlexTypes();
+		// - nb: its arg is right (see Tokens2Expressions)
+		if(kind == IToken.Kind.UOP && right != null) {
+			resolvedRight = this.right.resolveFlexTypes();
 		}
+		//--------------------------------------------------------------------------------
+		// nothing changed?
+		if(resolvedType == type && resolvedLeft == left && resolvedRight == right)
+			return this;
+		Token resolvedToken = copyWithArgs(resolvedLeft, resolvedRight);
+		resolvedToken.type = resolvedType;
+		return resolvedToken;
 	}
 	
 	//================================================================================
@@ -567,7 +656,7 @@ public class Token {
 	// all types must be DEFINED
 	public void verifyTypeDefinedness() throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_verifyTypeDefinedness; // debug
 		//--------------------------------------------------------------------------------
 		// check me
 		if(this.type == IData.Type.UNDEFINED)
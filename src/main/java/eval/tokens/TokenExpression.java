@@ -36,7 +36,7 @@ import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -46,6 +46,29 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	// tracer
 	public Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_addPropDef = TracePoint.of(TokenExpression.class, "addPropDef"); // debug
+	/**/ private static final TracePoint M_deepCloneFromTokenExpression = TracePoint.of(TokenExpression.class, "deepCloneFromTokenExpression"); // debug
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(TokenExpression.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_resolveQualifierTypes = TracePoint.of(TokenExpression.class, "resolveQualifierTypes"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(TokenExpression.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(TokenExpression.class, "plausiCheck"); // debug
+	/**/ private static final TracePoint M_mta = TracePoint.of(TokenExpression.class, "mta"); // debug
+	/**/ private static final TracePoint M__mta = TracePoint.of(TokenExpression.class, "_mta"); // debug
+	/**/ private static final TracePoint M_resolveImply = TracePoint.of(TokenExpression.class, "resolveImply"); // debug
+	/**/ private static final TracePoint M_decomposeQuantifiers = TracePoint.of(TokenExpression.class, "decomposeQuantifiers"); // debug
+	/**/ private static final TracePoint M_applyImply = TracePoint.of(TokenExpression.class, "applyImply"); // debug
+	/**/ private static final TracePoint M_deepCloneAndMta = TracePoint.of(TokenExpression.class, "deepCloneAndMta"); // debug
+	/**/ private static final TracePoint M_deepCloneMergeMta_Assignments = TracePoint.of(TokenExpression.class, "deepCloneMergeMta_Assignments"); // debug
+	/**/ private static final TracePoint M_mergeAssignments = TracePoint.of(TokenExpression.class, "mergeAssignments"); // debug
+	/**/ private static final TracePoint M_tvv2Names = TracePoint.of(TokenExpression.class, "tvv2Names"); // debug
+	/**/ private static final TracePoint M_tvv2PropsTypesHashMap = TracePoint.of(TokenExpression.class, "tvv2PropsTypesHashMap"); // debug
+	/**/ private static final TracePoint M_getRootToken = TracePoint.of(TokenExpression.class, "getRootToken"); // debug
+	/**/ private static final TracePoint M_getPropValueToken = TracePoint.of(TokenExpression.class, "getPropValueToken"); // debug
+	/**/ private static final TracePoint M_searchPropValueToken = TracePoint.of(TokenExpression.class, "searchPropValueToken"); // debug
+	/**/ private static final TracePoint M_equalLabels = TracePoint.of(TokenExpression.class, "equalLabels"); // debug
+	/**/ private static final TracePoint M_buildPropDefsIndex = TracePoint.of(TokenExpression.class, "buildPropDefsIndex"); // debug
+	/**/ private static final TracePoint M_resolveCount = TracePoint.of(TokenExpression.class, "resolveCount"); // debug
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// different forms of representing the expression according to the results of the parsing phases:
@@ -57,6 +80,37 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// raw:
 	// - CAUION: keep raw up-to-date with any change of TVV!!!
 	protected String raw = "";
+	//--------------------------------------------------------------------------------
+	// index over the prop defs for getPropValueToken; null if not (yet) built
+	// - lazily built at the first lookup; only used for (processed) prop defs
+	// - nb: volatile, because the code generators of several targets may look up in parallel
+	private volatile PropDefsIndex propDefsIndex = null;
+
+	//================================================================================
+	// PROP DEFS INDEX
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// flattened prop label (eg "x" or "x#1#2") -> position of the first prop def with this label in the tvv
+	// - CAUTION: it is only valid for the tvv (same vector and same size) it was built for;
+	// -- and a hit is verified against the prop def found at its position; otherwise the tvv is searched linearly as before
+	private static class PropDefsIndex {
+		// the indexed tvv and its size at build time
+		final Vector<TV> tvv;
+		final int size;
+		// flattened label -> position in tvv; null if the tvv cannot be indexed
+		final HashMap<String,Integer> positions;
+		//--------------------------------------------------------------------------------
+		PropDefsIndex(Vector<TV> tvv, int size, HashMap<String,Integer> positions) {
+			this.tvv = tvv;
+			this.size = size;
+			this.positions = positions;
+		}
+		//--------------------------------------------------------------------------------
+		// is the index still valid for the given tvv?
+		boolean isValidFor(Vector<TV> tokenVV) {
+			return tvv == tokenVV && size == tokenVV.size();
+		}
+	}
 
 	//================================================================================
 	// CONSTRUCTOR
@@ -105,7 +159,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// - the label is just for convenience...
 	public void addPropDef(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_addPropDef; // debug
 		//--------------------------------------------------------------------------------
 		// TRICK
 		// - construct an artificial token expression that contains token
@@ -117,7 +171,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 		te2.deepCloneFromTokenExpression(this);
 		// - clone me from me plus the artificial token expression
 		this.mergeAssignments(te2, te1);
-		/**/ tracer.println("merged = '" + this.toUserInfo(true, true) + "'", Level.NO, m);
+		/**/ tracer.println(() -> "merged = '" + this.toUserInfo(true, true) + "'", Level.NO, m);
 	}
 
 	//================================================================================
@@ -127,15 +181,15 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// deep copy
 	public void deepCloneFromTokenExpression(TokenExpression tokenExpressionToBeCloned) {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_deepCloneFromTokenExpression; // debug
 		//--------------------------------------------------------------------------------
 		this.raw = new String(tokenExpressionToBeCloned.raw);
 		this.phase = new String(tokenExpressionToBeCloned.phase);
 		super.deepCloneFromTokenVV(tokenExpressionToBeCloned);
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("token expression: " + tokenExpressionToBeCloned.toUserInfo(true, true), Level.NO, m);
-		/**/ tracer.println("cloned: " + this.toUserInfo(true, true), Level.NO, m);
-		/**/ tracer.println("cloned raw: " + this.raw, Level.NO, m);
+		/**/ tracer.println(() -> "token expression: " + tokenExpressionToBeCloned.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "cloned: " + this.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "cloned raw: " + this.raw, Level.NO, m);
 	}
 	//--------------------------------------------------------------------------------
 	// not deep cloning
@@ -172,15 +226,15 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// translate raw string into nested token tree(s);
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//--------------------------------------------------------------------------------
 		// empty?
 		if(raw.length() == 0)
 			return;
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("========================================================="
-				+ "===========================================================", Level.NO, new Object(){});
-		/**/ tracer.println("TOKENIZE: " + raw, Level.NO, new Object(){}); 
+		/**/ tracer.println(() -> "========================================================="
+				+ "===========================================================", Level.NO, M_tokenize);
+		/**/ tracer.println(() -> "TOKENIZE: " + raw, Level.NO, M_tokenize); 
 		//--------------------------------------------------------------------------------
 		try {
 			//--------------------------------------------------------------------------------
@@ -190,7 +244,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			// set
 			this.tokenVV = tokenExpression.tokenVV;
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("TOKENIZED: " + tokenVV, Level.ME, new Object(){}); 
+			/**/ tracer.println(() -> "TOKENIZED: " + tokenVV, Level.ME, M_tokenize); 
 		} catch(SyntaxException e) {
 			// just pass te exception further; there is no extra news...
 			throw e;
@@ -204,9 +258,9 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// in all my props defs resolve the types of all qualifiers
-	public void resolveQualifierTypes(QualifierContext qualifierContext) throws SyntaxException {
+	public void resolveQualifierTypes(QualifierContext qualifierContext) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_resolveQualifierTypes; // debug
 		//--------------------------------------------------------------------------------
 		// go through my tvv 
 		for(int i = 0; i < tokenVV.size(); i++) {
@@ -240,13 +294,13 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// evaluate all token types
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println(this.toInfo(), Level.NO, m); 
+		/**/ TracePoint m = M_evalDataTypes; // debug
+		/**/ tracer.println(() -> this.toInfo(), Level.NO, m); 
 		//--------------------------------------------------------------------------------
 		setPhase("EVALUATING");
 		//--------------------------------------------------------------------------------
 		if (! isTVVEmpty()) { 
-			/**/ tracer.println(context.toMsg() + "----> TOKEN TREE " + this, Level.NO, new Object(){}); 
+			/**/ tracer.println(() -> context.toMsg() + "----> TOKEN TREE " + this, Level.NO, M_evalDataTypes); 
 			for(int i = 0; i < size(); i++) {
 				//--------------------------------------------------------------------------------
 				// nb: after tokenization each TV has max. 1 root token
@@ -254,17 +308,17 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 				Token token = get(i).get(0);
 				//--------------------------------------------------------------------------------
 				// do the eval
-				String errMsg = "in: '" + this.toUserInfo(true, true) + "'";
+				// - nb: error msg is only constructed if needed
 				try {
 					(new TokenTypeEval(context, token)).typeEval();
 				} catch (SyntaxException e) {
-					throw new SyntaxException(errMsg, m, e);
+					throw new SyntaxException("in: '" + this.toUserInfo(true, true) + "'", m, e);
 				} catch (SNHException e) {
 					throw new SNHException(268965, context.toMsg(), m, e);
 				}
 			}
 			/**/ this.setPhase("EVALUATED"); // redundant, but good for the following trace
-			/**/ tracer.println(context.toMsg() + "----> TYPED TOKEN TREE " + this, Level.NO, new Object(){}); 
+			/**/ tracer.println(() -> context.toMsg() + "----> TYPED TOKEN TREE " + this, Level.NO, M_evalDataTypes); 
 		}
 		//--------------------------------------------------------------------------------
 		this.setPhase("EVALUATED");
@@ -278,10 +332,11 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// verify that
 	// (A) each TV must have exactly 1 root token
 	// (B) no UNDEFINED types exist
+	// finally freeze all tokens, as their types are final now (see Token.frozenFlag)
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("start: ", Level.NO, new Object(){});
+		/**/ TracePoint m = M_plausiCheck; // debug
+		/**/ tracer.println("start: ", Level.NO, M_plausiCheck);
 		//--------------------------------------------------------------------------------
 		// if empty -> nothing to be checked
 		if(isTVVEmpty())
@@ -304,6 +359,24 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			throw new SNHException(340202, "UNDEFINED type in: " + toUserInfo() + " " + toTypedInfo() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
+		// freeze
+		// - nb: from now on mta shares my tokens with the trees of all instances (see deepCloneAndMta)
+		freeze();
+		//--------------------------------------------------------------------------------
+	}
+
+	//================================================================================
+	// FREEZE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// freeze all my tokens (see Token.frozenFlag)
+	// - CAUTION: call it only when their types are final
+	public void freeze() {
+		for(int i = 0; i < size(); i++) {
+			TV tv = get(i);
+			for(int j = 0; j < tv.size(); j++)
+				tv.get(j).freeze();
+		}
 	}
 
 	//================================================================================
@@ -325,19 +398,19 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// caution: finally refresh raw !!!
 	public void mta(PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("before mta: " + this.toUserInfo(), Level.NO, m);
+		/**/ TracePoint m = M_mta; // debug
+		/**/ tracer.println(() -> "before mta: " + this.toUserInfo(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// iteration
 		this._mta(curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
-		/**/ tracer.println("after resolve qualifiers: " + this.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "after resolve qualifiers: " + this.toUserInfo(true, true), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// resolve FLEX types 
 		this.resolveFlexTypes();
 		//--------------------------------------------------------------------------------
 		// refresh raw from tvv
 		this.raw = this.toUserInfo(true /* printSemiColonAfterTv */, true /* removeOuterBrackets */);
-		/**/ tracer.println("after mta: " + this.toUserInfo(), Level.NO, m);
+		/**/ tracer.println(() -> "after mta: " + this.toUserInfo(), Level.NO, m);
 	}
 
 	//================================================================================
@@ -347,11 +420,9 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// caution: finally refresh raw !!!
 	public void _mta(PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M__mta; // debug
 		// nb: assertions on params not possible... depend on context
-		//--------------------------------------------------------------------------------
-		// local var
-		String errMsg = "resolve qualifier values in '" + this.toUserInfo() + "'";
+		// nb: error msg is only constructed if needed (see catch)
 		//--------------------------------------------------------------------------------
 		// generate a new TVV
 		TokenExpression resultTokenExpression = new TokenExpression();
@@ -386,7 +457,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 						for(int j = 0; j < this.size(); j++) {
 							resultTokenExpression.add(new TV(retToken));
 						}
-						/**/ tracer.println("retToken: " + retToken.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "retToken: " + retToken.toUserInfo(), Level.NO, m);
 					}
 					//================================================================================
 					// '->'
@@ -404,7 +475,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 						// 2.) resolve '->'
 						TokenExpression tempTokenExpression = resolveImply(leftRetToken, rootToken.right, 
 								curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
-						/**/ tracer.println("tempTokenExpression: " + tempTokenExpression.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "tempTokenExpression: " + tempTokenExpression.toUserInfo(), Level.NO, m);
 						//--------------------------------------------------------------------------------
 						// 3.) resolve qualifier values in result (aka the transformed right side)
 						tempTokenExpression._mta(curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
@@ -423,28 +494,28 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 					// - eg (EXISTS...) AND (FORALL ...) 
 					else {					
 						//--------------------------------------------------------------------------------
-						/**/ tracer.println("other BOP: " + rootToken.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "other BOP: " + rootToken.toUserInfo(), Level.NO, m);
 						//--------------------------------------------------------------------------------
 						// resolve qualifier values in left side
 						// - construct artificial token expression
-						/**/ tracer.println("rootToken.left: " + rootToken.left.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "rootToken.left: " + rootToken.left.toUserInfo(), Level.NO, m);
 						TokenExpression leftTokenExpression = new TokenExpression();
 						leftTokenExpression.phase = "EVALUATED"; // TBD: hardcoded
 						leftTokenExpression.add(new TV(rootToken.left));
 						/// leftTokenExpression.setRaw(leftTokenExpression.toUserInfo());
 						// - mta it
 						leftTokenExpression._mta(curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
-						/**/ tracer.println("leftTokenExpression: " + leftTokenExpression.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "leftTokenExpression: " + leftTokenExpression.toUserInfo(), Level.NO, m);
 						//--------------------------------------------------------------------------------
 						// resolve qualifier values in right side
 						// - construct artificial token expression
-						/**/ tracer.println("rootToken.right: " + rootToken.right.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "rootToken.right: " + rootToken.right.toUserInfo(), Level.NO, m);
 						TokenExpression rightTokenExpression = new TokenExpression();
 						rightTokenExpression.phase = "EVALUATED"; // TBD: hardcoded
 						rightTokenExpression.add(new TV(rootToken.right));
 						// - mta it
 						rightTokenExpression._mta(curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
-						/**/ tracer.println("rightTokenExpression: " + rightTokenExpression.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "rightTokenExpression: " + rightTokenExpression.toUserInfo(), Level.NO, m);
 						//--------------------------------------------------------------------------------
 						// verify and combine
 						// - both must have been reduced to one root token
@@ -461,11 +532,13 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 							throw new SyntaxException("ill. expr.: " + rootToken.toUserInfo(), m);
 						}
 						// - combine
-						rootToken.left = leftTV.get(0);
-						rootToken.right = rightTV.get(0);
+						// -- nb: copy on write, as root token might be shared with other instances
+						Token combinedToken = rootToken;
+						if(leftTV.get(0) != rootToken.left || rightTV.get(0) != rootToken.right)
+							combinedToken = rootToken.copyWithArgs(leftTV.get(0), rightTV.get(0));
 						//--------------------------------------------------------------------------------
 						// add
-						resultTokenExpression.add(new TV(rootToken));
+						resultTokenExpression.add(new TV(combinedToken));
 					}
 				}
 				//================================================================================
@@ -499,10 +572,13 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 						throw new SyntaxException("ill. expr. found: " + this.toUserInfo(), m);
 					}
 					// - combine
-					rootToken.right = rightTV.get(0);
+					// -- nb: copy on write, as root token might be shared with other instances
+					Token combinedToken = rootToken;
+					if(rightTV.get(0) != rootToken.right)
+						combinedToken = rootToken.copyWithArgs(rootToken.left, rightTV.get(0));
 					//--------------------------------------------------------------------------------
 					// add
-					resultTokenExpression.add(new TV(rootToken));
+					resultTokenExpression.add(new TV(combinedToken));
 				}
 				//================================================================================
 				// BASIC TERM
@@ -517,9 +593,9 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			}
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			throw new SyntaxException(errMsg, m, e);
+			throw new SyntaxException("resolve qualifier values in '" + this.toUserInfo() + "'", m, e);
 		} catch (SNHException e) {
-			throw new SNHException(953872, errMsg, m, e);
+			throw new SNHException(953872, "resolve qualifier values in '" + this.toUserInfo() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// exchange my TVV
@@ -546,10 +622,10 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) 
 					throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_resolveImply; // debug
 		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ tracer.println("quantifierToken: " + quantifierToken.toUserInfo(), Level.NO, m);
-		/**/ tracer.println("apply to token:  " + applyToToken.toUserInfo(), Level.NO, m);
+		/**/ tracer.println(() -> "quantifierToken: " + quantifierToken.toUserInfo(), Level.NO, m);
+		/**/ tracer.println(() -> "apply to token:  " + applyToToken.toUserInfo(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg = "resolve '->' expression";
@@ -589,7 +665,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 		retTokenExpression.raw = retTokenExpression.toUserInfo(true /* printSemiColonAfterTv */, true /* removeOuterBrackets */);
 		//--------------------------------------------------------------------------------
 		// ok
-		/**/ tracer.println("result: " + retTokenExpression.toUserInfo(), Level.NO, m);
+		/**/ tracer.println(() -> "result: " + retTokenExpression.toUserInfo(), Level.NO, m);
 		return retTokenExpression;
 	}
 
@@ -601,9 +677,9 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	private static Stack<QuantifierTerm> decomposeQuantifiers(Token token, Stack<QuantifierTerm> quantifierTermStack) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_decomposeQuantifiers; // debug
 		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ tracer.println("token: " + token.toUserInfo(), Level.NO, m);
+		/**/ tracer.println(() -> "token: " + token.toUserInfo(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// ',' ?
 		if(OpDefs.isCommaBOPName(token.rawText)) {
@@ -623,14 +699,14 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			//--------------------------------------------------------------------------------
 			// get left side, ie: ((RANGE INDEX.<n1>) IN <range1>')
 			Token inToken = token;
-			/**/ tracer.println("inToken: " + inToken.toUserInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "inToken: " + inToken.toUserInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// 'IN'?
 			if(OpDefs.isInBOPName(inToken.rawText)) {
 				//--------------------------------------------------------------------------------
 				// get left side of 'IN', ie: (<quantifier> INDEX.<n1>)
 				Token quantifierToken = inToken.left;
-				/**/ tracer.println("quantifier token: " + quantifierToken.toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "quantifier token: " + quantifierToken.toUserInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// 'quantifier?
 				// - TBD: FORALL and EXISTS need separate treatment
@@ -641,12 +717,12 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 					//--------------------------------------------------------------------------------
 					// get its arg (unary, ie right side), ie: (INDEX.<n1>)
 					Token dotToken = quantifierToken.right;
-					/**/ tracer.println("dotToken: " + dotToken.toUserInfo(), Level.NO, m);
+					/**/ tracer.println(() -> "dotToken: " + dotToken.toUserInfo(), Level.NO, m);
 					//--------------------------------------------------------------------------------
 					// '.'?
 					if(OpDefs.isDotBOPName(dotToken.rawText)) {
 						//--------------------------------------------------------------------------------
-						/**/ tracer.println("dotToken : " + dotToken.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "dotToken : " + dotToken.toUserInfo(), Level.NO, m);
 						//--------------------------------------------------------------------------------
 						// check if left side is "INDEX"
 						// - tbd: hardcoded
@@ -657,15 +733,15 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 						quantifierTerm.indexId = dotToken.right.rawText;
 						//--------------------------------------------------------------------------------
 						// verify that indexId is ok
-						String errMsg = "ill. index number; indices must be increasing and dense, starting with 1: '"  + dotToken.toUserInfo() + "'";
+						// - nb: error msg is only constructed if needed
+						boolean indexIdOkFlag;
 						try {
-							if(Integer.parseInt(quantifierTerm.indexId) != (quantifierTermStack.size() + 1))
-								throw new SyntaxException("", m); // catched below...
+							indexIdOkFlag = (Integer.parseInt(quantifierTerm.indexId) == (quantifierTermStack.size() + 1));
 						} catch (NumberFormatException e) {
-							throw new SyntaxException(errMsg, m);
-						} catch (SyntaxException e) {
-							throw new SyntaxException(errMsg, m);
+							indexIdOkFlag = false;
 						}
+						if(! indexIdOkFlag)
+							throw new SyntaxException("ill. index number; indices must be increasing and dense, starting with 1: '"  + dotToken.toUserInfo() + "'", m);
 					}						
 				}						
 				//--------------------------------------------------------------------------------
@@ -676,27 +752,27 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 				// get right side of 'IN', ie, range: (<min> .. <max>)
 				// - CAUTION: must already have been *statically* be resolved to int vals
 				Token rangeToken = inToken.right;
-				/**/ tracer.println("rangeArg: " + rangeToken.toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "rangeArg: " + rangeToken.toUserInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// '..'?
 				if(OpDefs.isDotsBOPName(rangeToken.rawText)) {
-					/**/ tracer.println("min: " + rangeToken.left.rawText, Level.NO, m);
-					/**/ tracer.println("max: " + rangeToken.right.rawText, Level.NO, m);
+					/**/ tracer.println(() -> "min: " + rangeToken.left.rawText, Level.NO, m);
+					/**/ tracer.println(() -> "max: " + rangeToken.right.rawText, Level.NO, m);
 					//--------------------------------------------------------------------------------
 					try {
 						// get left side, ie, (<min>) and set it in stack entry
-						/**/ tracer.println("eval min: " + rangeToken.left.toInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "eval min: " + rangeToken.left.toInfo(), Level.NO, m);
 						quantifierTerm.min = IntTokenValEval.compute(rangeToken.left);
-						/**/ tracer.println("result = " + quantifierTerm.min, Level.NO, m);
+						/**/ tracer.println(() -> "result = " + quantifierTerm.min, Level.NO, m);
 					} catch (NumberFormatException e) {
 						throw new SyntaxException("ill. min val in range expression: '" + rangeToken.toUserInfo() + "'", m);
 					}
 					//--------------------------------------------------------------------------------
 					try {
 						// get right side, ie, (<max>) and set it in stack entry
-						/**/ tracer.println("eval max: " + rangeToken.right.toInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "eval max: " + rangeToken.right.toInfo(), Level.NO, m);
 						quantifierTerm.max = IntTokenValEval.compute(rangeToken.right);
-						/**/ tracer.println("result = " + quantifierTerm.max, Level.NO, m);
+						/**/ tracer.println(() -> "result = " + quantifierTerm.max, Level.NO, m);
 					} catch (NumberFormatException e) {
 						throw new SyntaxException("ill. max val in range expression: '" + rangeToken.toUserInfo() + "'", m);
 					}
@@ -709,12 +785,12 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			//--------------------------------------------------------------------------------
 			// push on stack
 			quantifierTermStack.push(quantifierTerm);
-			/**/ tracer.println("push quantifier term: " + quantifierTerm.toString(), Level.NO, m);
-			/**/ tracer.println("token expression: " + token.toUserInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "push quantifier term: " + quantifierTerm.toString(), Level.NO, m);
+			/**/ tracer.println(() -> "token expression: " + token.toUserInfo(), Level.NO, m);
 		} 
 		//--------------------------------------------------------------------------------
 		// ok
-		/**/ tracer.println("quantifierTermStack: " + quantifierTermStack, Level.NO, m);
+		/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("quantifierTermStack: " + quantifierTermStack, Level.NO, m);
 		return quantifierTermStack;
 	}
 
@@ -729,7 +805,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// nb: FORALL and EXISTS shall generate exactly one root token in the TVV!
 	private static TVV applyImply(Stack<QuantifierTerm> quantifierTermStack, TVV tvv) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_applyImply; // debug
 		/**/ Tracer tracer = new Tracer();  // debug
 		//--------------------------------------------------------------------------------
 		// cur TVV to apply the stack info to and that holds the final result
@@ -743,7 +819,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			QuantifierTerm quantifierTerm;
 			try {
 				quantifierTerm = quantifierTermStack.pop();
-				/**/ tracer.println("pop quantifier term: " + quantifierTerm.toString(), Level.NO, m);
+				/**/ tracer.println(() -> "pop quantifier term: " + quantifierTerm.toString(), Level.NO, m);
 			} catch (Exception e) {
 				// done -> stack is empty now
 				break;
@@ -755,35 +831,30 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			// RANGE
 			//================================================================================
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println(quantifierTerm.toString(), Level.NO, m);
+			/**/ tracer.println(() -> quantifierTerm.toString(), Level.NO, m);
 			//--------------------------------------------------------------------------------
-			if(quantifierTerm.opName.equals(OpDefs.RANGE)) {
+			if(quantifierTerm.isRange()) {
 				//--------------------------------------------------------------------------------
 				// do for r in range
-				/**/ tracer.println("do for " + quantifierTerm.min + " .. " + quantifierTerm.max, Level.NO, m);
+				/**/ tracer.println(() -> "do for " + quantifierTerm.min + " .. " + quantifierTerm.max, Level.NO, m);
 				for(int r = quantifierTerm.min; r <= quantifierTerm.max; r++) {
-					/**/ tracer.println("r = " + r, Level.NO, m);
-					/**/ tracer.println("apply to curTVV = " + curTVV.toString(), Level.NO, m);
+					/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("r = " + r, Level.NO, m);
+					/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("apply to curTVV = " + curTVV.toString(), Level.NO, m);
 					//--------------------------------------------------------------------------------
 					// apply to all root tokens in the curTVV
 					for(int i = 0; i < curTVV.tokenVV.size(); i++) {
 						//--------------------------------------------------------------------------------
 						// get next root token
 						Token rootToken = curTVV.get(i).getRootToken();
-						/**/ tracer.println("token: " + rootToken.toUserInfo(), Level.NO, m);
-						//--------------------------------------------------------------------------------
-						// clone next root token
-						Token clonedRootToken = rootToken.deepCopy();
+						/**/ tracer.println(() -> "token: " + rootToken.toUserInfo(), Level.NO, m);
 						//--------------------------------------------------------------------------------
 						// transform actual index (from the stack entry)
-						// - tbd hardcoded
-						/**/ tracer.println("quantifierTerm.indexId = " + quantifierTerm.indexId, Level.NO, m);
-						/**/ tracer.println("r = " + Integer.toString(r), Level.NO, m);
-						clonedRootToken = replaceIndexExpressions(clonedRootToken, "INDEX", quantifierTerm.indexId, Integer.toString(r));
-						/**/ tracer.println("replaced token': " + clonedRootToken.toUserInfo(), Level.NO, m);
+						// - nb: no need to clone the root token before, because only the paths down to the replaced indices are copied
+						Token expandedRootToken = quantifierTerm.expandAt(rootToken, r);
+						/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("replaced token': " + expandedRootToken.toUserInfo(), Level.NO, m);
 						//--------------------------------------------------------------------------------
 						// add to result TVV
-						resultTVV.add(new TV(clonedRootToken));
+						resultTVV.add(new TV(expandedRootToken));
 					}
 				}
 				//--------------------------------------------------------------------------------
@@ -791,89 +862,32 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			//================================================================================
 			// FORALL and EXISTS
 			//================================================================================
-			//================================================================================
 			//--------------------------------------------------------------------------------
 			// CAUTION: should be used only in queries... must be checked later;
 			// for FORALL: 
-			// - generate an "A AND B AND C" ... expression
-			// - generate exactly one root token which is either "A" (if range is 1..1) or "A AND B AND C" (otherwise)
+			// - generate exactly one root token "A AND B AND C ..." (or just "A" if range is 1..1)
 			// for EXISTS: 
-			// - generate an "A OR B OR C" ... expression
-			// - generate exactly one root token which is either "A" (if range is 1..1) or "A OR B OR C" (otherwise)
-			else if(quantifierTerm.opName.equals(OpDefs.FORALL) || quantifierTerm.opName.equals(OpDefs.EXISTS)) {
-				//--------------------------------------------------------------------------------
-				// result token for the query AND-expression
-				Token queryToken = new Token(IToken.Kind.EMPTY, "" /* raw */);
+			// - generate exactly one root token "A OR B OR C ..." (or just "A" if range is 1..1)
+			// nb: the expression is a balanced tree (see QuantifierTerm.fold)
+			else if(quantifierTerm.isForAll() || quantifierTerm.isExists()) {
 				//--------------------------------------------------------------------------------
 				// apply to the one root token in the curTVV which represents the query
 				// - assertion
 				if(curTVV.tokenVV.size() != 1)
-					throw new SyntaxException("ill. usage of FORALL: '" + quantifierTerm.opName + "'", m);
+					throw new SyntaxException("ill. usage of " + quantifierTerm.opName, m);
 				// - get the exactly one root token
 				Token rootToken = curTVV.get(0).getRootToken();
-				/**/ tracer.println("token: " + rootToken.toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "token: " + rootToken.toUserInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
-				// do for r in range
-				// - generate the AND expression
-				/**/ tracer.println("do for " + quantifierTerm.min + " .. " + quantifierTerm.max, Level.NO, m);
-				for(int r = quantifierTerm.min; r <= quantifierTerm.max; r++) {
-					/**/ tracer.println("r = " + r, Level.NO, m);
-					/**/ tracer.println("apply to curTVV = " + curTVV.toString(), Level.NO, m);
-					//--------------------------------------------------------------------------------
-					// clone it
-					Token clonedRootToken = rootToken.deepCopy();
-					//--------------------------------------------------------------------------------
-					// transform actual index (from the stack entry)
-					// - tbd hardcoded
-					/**/ tracer.println("quantifierTerm.indexId = " + quantifierTerm.indexId, Level.NO, m);
-					/**/ tracer.println("r = " + Integer.toString(r), Level.NO, m);
-					clonedRootToken = replaceIndexExpressions(clonedRootToken, "INDEX", quantifierTerm.indexId, Integer.toString(r));
-					/**/ tracer.println("replaced token': " + clonedRootToken.toUserInfo(), Level.NO, m);
-					//--------------------------------------------------------------------------------
-					// construct the resulting AND expression:
-					//--------------------------------------------------------------------------------
-					// - if first term: set queryToken to clonedRootToken
-					if(r == quantifierTerm.min) {
-						queryToken = clonedRootToken;
-					}
-					//--------------------------------------------------------------------------------
-					// - else: construct AND-expression A AND B, where A is current queryToken and B is clonedRootToken
-					else {
-						//--------------------------------------------------------------------------------
-						// build up a new temp token
-						Token tempToken;
-						//--------------------------------------------------------------------------------
-						// - AND?
-						if(quantifierTerm.opName.equals(OpDefs.FORALL)) 
-							tempToken = new Token(IToken.Kind.BOP, IOpDefs.AND /* raw */);	
-						//--------------------------------------------------------------------------------
-						// - otherwise OR
-						else 
-							tempToken = new Token(IToken.Kind.BOP, IOpDefs.OR /* raw */);	
-						//--------------------------------------------------------------------------------
-						// - init the token
-						tempToken.setType(IData.Type.BOOLEAN);
-						tempToken.setLeft(queryToken);
-						tempToken.setRight(clonedRootToken);
-						//--------------------------------------------------------------------------------
-						// - set query token to the temp token
-						queryToken = tempToken;
-					}
-				}
+				// generate the AND resp. OR expression
+				/**/ tracer.println(() -> "do for " + quantifierTerm.min + " .. " + quantifierTerm.max, Level.NO, m);
+				Token queryToken = quantifierTerm.fold(rootToken);
+				/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("query token: " + queryToken.toUserInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// add the query token to the result TVV
 				resultTVV.add(new TV(queryToken));
 			}
 			//================================================================================
-			// EXISTS
-			//================================================================================
-			//--------------------------------------------------------------------------------
-			// CAUTION: should be used only in queries... must be checked later
-			// - generates an A OR B OR C ... expression
-			else if(quantifierTerm.opName.equals(OpDefs.EXISTS)) {
-				/**/ tracer.println("*** TBD: EXISTS -- NOT YET IMPLEMENTED", Level.ERROR, m);
-			}			
-			//================================================================================
 			//--------------------------------------------------------------------------------
 			// error
 			else
@@ -888,57 +902,6 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 		return curTVV;
 	}
 
-	//================================================================================
-	// REPLACE INDEX 
-	//================================================================================
-	//--------------------------------------------------------------------------------
-	// replace all occurrences of '<indexName>.<indexId>' in token by INT Token with value = numberAsString
-	private static Token replaceIndexExpressions(Token token, String indexName, String indexId, String numberAsString) throws SNHException {
-		//--------------------------------------------------------------------------------
-		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("replace " + indexName + "." + indexId + " by " + numberAsString + " in token: " + token.toUserInfo(), Level.NO, m);
-		//--------------------------------------------------------------------------------
-		// create new return token
-		Token newToken = new Token(IToken.Kind.EMPTY, "" /* Raw */);
-		//--------------------------------------------------------------------------------
-		// very INDEX '.' <indexId> expression that shall be replaced? 
-		// - tbd: "INDEX" is hard coded
-		if(token.kind == IToken.Kind.BOP && OpDefs.isDotBOPName(token.rawText) && 
-				token.left.rawText.equals("INDEX") && token.right.rawText.equals(indexId)) {
-			newToken.kind = IToken.Kind.INT;
-			newToken.isLabelFlag = false;
-			newToken.rawText = numberAsString;
-			newToken.left = null; 
-			newToken.right = null; 
-			newToken.type = IData.Type.INT;
-			newToken.treatedFlag = true;
-			newToken.integratedFlag = true;
-		}
-		//--------------------------------------------------------------------------------
-		// OTHER '.' OR OTHER BOP
-		else if(token.kind == IToken.Kind.BOP) {
-			newToken.flatClone(token);
-			newToken.left = replaceIndexExpressions(token.left, indexName, indexId, numberAsString);
-			newToken.right = replaceIndexExpressions(token.right, indexName, indexId, numberAsString);
-		}
-		//--------------------------------------------------------------------------------
-		// UOP?
-		else if(token.kind == IToken.Kind.UOP) {
-			newToken.flatClone(token);
-			newToken.left = null; 
-			newToken.right = replaceIndexExpressions(token.right, indexName, indexId, numberAsString);
-		}
-		//--------------------------------------------------------------------------------
-		// BASIC VAL: done -> no further recursion needed
-		else
-			newToken = token;
-		//--------------------------------------------------------------------------------
-		// ok
-		/**/ tracer.println("--> result token: " + newToken.toUserInfo(), Level.NO, m);
-		return newToken;
-	}
-
 	//================================================================================
 	// RESOLVE FLEX TYPES
 	//================================================================================
@@ -957,8 +920,11 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			// get next root token
 			Token token = tokenVV.get(i).getRootToken();
 			//--------------------------------------------------------------------------------
-			// resolve ts FLEX types
-			token.resolveFlexTypes();
+			// resolve its FLEX types
+			// - nb: copy on write, so exchange the root token only if s.th. was resolved
+			Token resolvedToken = token.resolveFlexTypes();
+			if(resolvedToken != token)
+				tokenVV.set(i, new TV(resolvedToken));
 		}
 	}
 
@@ -969,20 +935,22 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	//================================================================================
 
 	//--------------------------------------------------------------------------------
-	// 1) deeply clone me from token expression
+	// 1) clone me from token expression
 	// 2) apply mta
+	// - nb: the tokens need not be deeply copied, because mta is copy on write:
+	// -- only the paths that it rewrites are copied, all other subtrees are shared with the given token expression
 	public void deepCloneAndMta(TokenExpression tokenExpression, PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_deepCloneAndMta; // debug
 		//--------------------------------------------------------------------------------
 		// clone
-		this.deepCloneFromTokenExpression(tokenExpression);
+		this.shallowCloneFromTokenExpression(tokenExpression);
 		//--------------------------------------------------------------------------------
 		// iteratively resolve
 		this.mta(curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("cloned = " + this, Level.NO, m);
-		/**/ tracer.println("after mta = " + this, Level.NO, m);
+		/**/ tracer.println(() -> "cloned = " + this, Level.NO, m);
+		/**/ tracer.println(() -> "after mta = " + this, Level.NO, m);
 	}
 
 	//--------------------------------------------------------------------------------
@@ -997,18 +965,18 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	public void deepCloneMergeMta_Assignments(TokenExpression origs, TokenExpression defaults, 
 			PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException{
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_deepCloneMergeMta_Assignments; // debug
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("origs      : " + origs.toUserInfo(true, true), Level.NO, m);
-		/**/ tracer.println("origs      : " + origs.toInfo(), Level.NO, m);
-		/**/ tracer.println("defaults      : " + defaults.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "origs      : " + origs.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "origs      : " + origs.toInfo(), Level.NO, m);
+		/**/ tracer.println(() -> "defaults      : " + defaults.toUserInfo(true, true), Level.NO, m);
 		//================================================================================
 		// DEEP CLONE & MTA ORIGS:
 		//================================================================================
 		TokenExpression tempOrigs = new TokenExpression();
 		tempOrigs.deepCloneAndMta(origs, curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("mta-ed origs: " + tempOrigs.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "mta-ed origs: " + tempOrigs.toUserInfo(true, true), Level.NO, m);
 		//================================================================================
 		// DEEP CLONE & MTA DEFAULTS:
 		//================================================================================
@@ -1016,7 +984,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 		TokenExpression tempDefaults = new TokenExpression();
 		tempDefaults.deepCloneAndMta(defaults, curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("mta-ed origs defaults: " + tempDefaults.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "mta-ed origs defaults: " + tempDefaults.toUserInfo(true, true), Level.NO, m);
 		//================================================================================
 		// MERGE:
 		//================================================================================
@@ -1024,7 +992,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 		this.mergeAssignments(tempOrigs, tempDefaults);
 		// - TBD: mta again... namely if the own props defs list may serve for resolving, too...
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("merged mta-ed props defs: " + this.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "merged mta-ed props defs: " + this.toUserInfo(true, true), Level.NO, m);
 	}
 
 	//================================================================================
@@ -1046,9 +1014,9 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// CAUTION: call only *after* tokenization
 	private void mergeAssignments(TokenExpression origs, TokenExpression defaults) throws SNHException, SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("origs = " + origs, Level.NO, m);
-		/**/ tracer.println("defaults = " + defaults, Level.NO, m);
+		/**/ TracePoint m = M_mergeAssignments; // debug
+		/**/ tracer.println(() -> "origs = " + origs, Level.NO, m);
+		/**/ tracer.println(() -> "defaults = " + defaults, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// alias used first for origs and then for defaults 
 		TokenExpression nexts;
@@ -1087,7 +1055,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 					//--------------------------------------------------------------------------------
 					// add new tv with root token to my tvv
 					this.add(new TV(nextRootToken));
-					/**/ tracer.println("add implies expression = " + nextRootToken.toUserInfo(), Level.NO, m);
+					/**/ tracer.println(() -> "add implies expression = " + nextRootToken.toUserInfo(), Level.NO, m);
 					//--------------------------------------------------------------------------------
 					// done
 					continue;
@@ -1102,7 +1070,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 					//--------------------------------------------------------------------------------
 					// add new tv with root token to my tvv
 					this.add(new TV(nextRootToken));
-					/**/ tracer.println("add var assignment = " + nextRootToken.toUserInfo(), Level.NO, m);
+					/**/ tracer.println(() -> "add var assignment = " + nextRootToken.toUserInfo(), Level.NO, m);
 					//--------------------------------------------------------------------------------
 					// done
 					continue;
@@ -1131,8 +1099,8 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 						if(thisRootToken.left.kind == IToken.Kind.VAR) 
 							continue;
 						//--------------------------------------------------------------------------------
-						/**/ tracer.println("this = " + thisRootToken.toUserInfo(), Level.NO, m);
-						/**/ tracer.println("next = " + nextRootToken.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "this = " + thisRootToken.toUserInfo(), Level.NO, m);
+						/**/ tracer.println(() -> "next = " + nextRootToken.toUserInfo(), Level.NO, m);
 						//--------------------------------------------------------------------------------
 						// both must be assignments to prop labels
 						// - nb: labels are found on the left side of '='
@@ -1190,7 +1158,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// nb: checks valifity of the name
 	public Vector<String> tvv2Names() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tvv2Names; // debug
 		//--------------------------------------------------------------------------------
 		// assertion
 		if(tokenVV == null)
@@ -1205,7 +1173,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			//--------------------------------------------------------------------------------
 			// get root token of tv
 			Token rootToken = tokenVV.get(i).getRootToken();
-			/**/ tracer.println("token = " + rootToken.toUserInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "token = " + rootToken.toUserInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// get its flattened label
 			String flattenedLabel = rootToken.getFlattenedHashLabel();
@@ -1230,7 +1198,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// put key = <propLabel> and value = <entire prop type/def specification>;
 	public HashMap<String,Token> tvv2PropsTypesHashMap() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tvv2PropsTypesHashMap; // debug
 		//--------------------------------------------------------------------------------
 		// assertion
 		if(tokenVV == null)
@@ -1245,11 +1213,11 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			//--------------------------------------------------------------------------------
 			// get next TV
 			TV tv = tokenVV.get(i);
-			/**/ tracer.println("tv:" + tv.toTypedInfo(), Level.LO, new Object(){});			
+			/**/ tracer.println(() -> "tv:" + tv.toTypedInfo(), Level.LO, M_tvv2PropsTypesHashMap);			
 			//--------------------------------------------------------------------------------
 			// get root token
 			Token token = tv.getRootToken();
-			/**/ tracer.println("token: " + token.toNode() + " <====> " + token.toNode_plus_TypeInProgress_Kind_Flags(), Level.LO, new Object(){});			
+			/**/ tracer.println(() -> "token: " + token.toNode() + " <====> " + token.toNode_plus_TypeInProgress_Kind_Flags(), Level.LO, M_tvv2PropsTypesHashMap);			
 			//--------------------------------------------------------------------------------
 			// must be the correct BOP
 			if((token.getKind() == IToken.Kind.BOP) && OpDefs.isColonBOPName(token.getRawText())) {
@@ -1293,7 +1261,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// --- return this token
 	public Token getRootToken() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getRootToken; // debug
 		//--------------------------------------------------------------------------------
 		if(tokenVV.isEmpty())
 			throw new SyntaxException("empty", m);
@@ -1316,17 +1284,48 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// CAUTION: verification is only possible for statically evaluable vales; ie not possible if vars are used in '#' expression
 	public Token getPropValueToken(Token propNameToken) throws NotFoundException, SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("search for: " + propNameToken.toTypedInfo(), Level.NO, m);
+		/**/ TracePoint m = M_getPropValueToken; // debug
+		/**/ tracer.println(() -> "search for: " + propNameToken.toTypedInfo(), Level.NO, m);
+		//--------------------------------------------------------------------------------
+		// try the index first
+		// - nb: labels that cannot be flattened, labels that are not found and a stale index lead to the linear search
+		String label;
+		try {
+			label = flattenLabel(propNameToken);
+		} catch (SyntaxException e) {
+			label = null;
+		}
+		if(label != null) {
+			PropDefsIndex index = getPropDefsIndex();
+			if(index.positions != null) {
+				Integer position = index.positions.get(label);
+				if(position != null) {
+					Token rootToken = this.tokenVV.get(position).getRootToken();
+					// verify the hit
+					if(equalLabels(propNameToken, rootToken.getPropLabelToken(false /* propTypeFlag */))) {
+						/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("found in index: " + propNameToken.toUserInfo(), Level.NO, m);
+						return rootToken.getRight();
+					}
+				}
+			}
+		}
+		//--------------------------------------------------------------------------------
+		// linear search
+		return searchPropValueToken(propNameToken);
+	}
+	//--------------------------------------------------------------------------------
+	// see getPropValueToken: search linearly through the tvv
+	private Token searchPropValueToken(Token propNameToken) throws NotFoundException, SyntaxException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_searchPropValueToken; // debug
 		//--------------------------------------------------------------------------------
 		// local var
 		Token nextPropNameToken;
-		//--------------------------------------------------------------------------------
 		for(int i = 0; i < this.tokenVV.size(); i++) {
 			//--------------------------------------------------------------------------------
 			// get root token
 			Token rootToken = this.tokenVV.get(i).getRootToken();
-			/**/ tracer.println("next: " + rootToken.toUserInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "next: " + rootToken.toUserInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			try {
 				// verify the root token to be a prop def and get its label
@@ -1339,7 +1338,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			// - nb: regards also '#'s
 			if(equalLabels(propNameToken, nextPropNameToken)) {
 				// yes -- found! return value, ie right side of root token 
-				/**/ tracer.println("equal labels: " + propNameToken.toUserInfo() + " AND " + nextPropNameToken.toUserInfo(), Level.NO, m);
+				/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("equal labels: " + propNameToken.toUserInfo() + " AND " + nextPropNameToken.toUserInfo(), Level.NO, m);
 				return rootToken.getRight();
 			}
 			//--------------------------------------------------------------------------------
@@ -1348,6 +1347,73 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 		throw new NotFoundException("prop label '" + propNameToken.toUserInfo() + "' not found in '" + this.toUserInfo(true, true) + "'", m);
 	}
 
+	//--------------------------------------------------------------------------------
+	// get the index over my prop defs; build it if there is none or if it is stale
+	// - nb: if the tvv cannot be indexed, the positions of the index are null; then the linear search must be used
+	private PropDefsIndex getPropDefsIndex() {
+		PropDefsIndex index = propDefsIndex;
+		if(index == null || ! index.isValidFor(this.tokenVV)) {
+			index = buildPropDefsIndex();
+			propDefsIndex = index;
+		}
+		return index;
+	}
+	//--------------------------------------------------------------------------------
+	// build the index over my prop defs
+	// - no positions, if any tv is not a prop def with a label that can be flattened
+	// -- the linear search reports the error then (as it would without index)
+	private PropDefsIndex buildPropDefsIndex() {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_buildPropDefsIndex; // debug
+		//--------------------------------------------------------------------------------
+		Vector<TV> tvv = this.tokenVV;
+		int size = tvv.size();
+		HashMap<String,Integer> positions = new HashMap<String,Integer>();
+		try {
+			for(int i = 0; i < size; i++) {
+				Token labelToken = tvv.get(i).getRootToken().getPropLabelToken(false /* propTypeFlag */);
+				String label = flattenLabel(labelToken);
+				if(label == null) 
+					return new PropDefsIndex(tvv, size, null);
+				// nb: the first one wins (as for the linear search)
+				if(! positions.containsKey(label))
+					positions.put(label, i);
+			}
+		} catch (SyntaxException e) {
+			/**/ tracer.println(() -> "no index: " + e.getPmErrorMsg(), Level.NO, m);
+			return new PropDefsIndex(tvv, size, null);
+		}
+		/**/ tracer.println(() -> "indexed " + positions.size() + " prop defs", Level.NO, m);
+		return new PropDefsIndex(tvv, size, positions);
+	}
+	//--------------------------------------------------------------------------------
+	// flatten a label token for the prop defs index: 
+	// - <name> -> "<name>"
+	// - '#' expression -> "<flattened left side>#<int val of right side>", eg "x#1#2"
+	// - returns null, if the label cannot be flattened statically (see equalLabels)
+	private static String flattenLabel(Token labelToken) throws SyntaxException {
+		//--------------------------------------------------------------------------------
+		// NAME?
+		if(labelToken.kind == IToken.Kind.NAME)
+			return labelToken.rawText;
+		//--------------------------------------------------------------------------------
+		// '#'?
+		if(labelToken.kind == IToken.Kind.BOP && OpDefs.isHashBOPName(labelToken.rawText) && 
+				labelToken.left != null && labelToken.right != null && IData.Type.INT == labelToken.right.type) {
+			String left = flattenLabel(labelToken.left);
+			if(left == null)
+				return null;
+			int val = IntTokenValEval.compute(labelToken.right);
+			// nb: reserved names like ALL or NONE are not allowed here
+			if(val < 0)
+				return null;
+			return left + "#" + val;
+		}
+		//--------------------------------------------------------------------------------
+		// no label
+		return null;
+	}
+
 	//--------------------------------------------------------------------------------
 	// compare two tokens to be labels and to be equal labels
 	// CAUTION: could be strings or (nested) '#' expressions
@@ -1356,7 +1422,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	private static boolean equalLabels(Token token1, Token token2) throws SyntaxException {
 		//--------------------------------------------------------------------------------
 		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_equalLabels; // debug
 		//--------------------------------------------------------------------------------
 		// are both NAMES?
 		if((token1.kind == IToken.Kind.NAME) && (token2.kind == IToken.Kind.NAME)) {
@@ -1375,8 +1441,8 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 				OpDefs.isHashBOPName(token1.rawText) && OpDefs.isHashBOPName(token2.rawText)) {
 			//--------------------------------------------------------------------------------
 			/**/ tracer.println("both are '#'", Level.NO, m);
-			/**/ tracer.println("token1 right side type = " + token1.right.type, Level.NO, m);
-			/**/ tracer.println("token2 right side type = " + token2.right.type, Level.NO, m);
+			/**/ tracer.println(() -> "token1 right side type = " + token1.right.type, Level.NO, m);
+			/**/ tracer.println(() -> "token2 right side type = " + token2.right.type, Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// CHECK RIGHT SIDE of '#'
 			// - right side must be equal ints
@@ -1389,14 +1455,14 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 				int val1 = IntTokenValEval.compute(token1.right);
 				int val2 = IntTokenValEval.compute(token2.right);
 				//--------------------------------------------------------------------------------
-				/**/ tracer.println("val1 = " + val1 + "; val2 = " + val2, Level.NO, m);
+				/**/ tracer.println(() -> "val1 = " + val1 + "; val2 = " + val2, Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// difference found? or reserved name like ALL or NONE which are not allowed here
 				if(val1 != val2 || val1 < 0) {
 					return false;
 				}
 				//--------------------------------------------------------------------------------
-				/**/ tracer.println("EQUAL INT VALS: val1 = " + val1 + "; val2 = " + val2, Level.NO, m);
+				/**/ tracer.println(() -> "EQUAL INT VALS: val1 = " + val1 + "; val2 = " + val2, Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// CHECK LEFT SIDE of '#'
 				// - left side must be equal labels
@@ -1475,7 +1541,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 	// info: both sides might contain qualifier expressions;
 	public MinMaxTokens resolveCount() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_resolveCount; // debug
 		//--------------------------------------------------------------------------------
 		// construct new min/max expression
 		MinMaxTokens minMaxTokens = new MinMaxTokens();
@@ -1515,7 +1581,7 @@ public class TokenExpression extends TVV implements IEvaluation, IMta {
 			minMaxTokens.setMaxToken(token);
 		}
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("minMax expression = " + minMaxTokens.toStructuredString(), Level.NO, m);
+		/**/ tracer.println(() -> "minMax expression = " + minMaxTokens.toStructuredString(), Level.NO, m);
 		return minMaxTokens;
 	}
 
@@ -29,26 +29,42 @@ import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
 // transforms token sequences into expression trees;
 // uses expression automaton (for documentation: see drawio picture)
+// - default: single pass precedence climbing parser
+// - legacy: the original melder (repeated scans per priority); kept for A/B comparison 
 public class Tokens2Expressions {
 	// -------------------------
 	// tracer
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_meldRange = TracePoint.of(Tokens2Expressions.class, "meldRange"); // debug
+	/**/ private static final TracePoint M_meldLegacy = TracePoint.of(Tokens2Expressions.class, "meldLegacy"); // debug
+	/**/ private static final TracePoint M_meldTVLegacy = TracePoint.of(Tokens2Expressions.class, "meldTVLegacy"); // debug
+	/**/ private static final TracePoint M_meldAB = TracePoint.of(Tokens2Expressions.class, "meldAB"); // debug
+	// -------------------------
+	// SWITCHES:
+	// - use the original melder instead of the precedence climbing parser
+	public static boolean legacyMeldFlag = false; // <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<
+	// - A/B: run both and compare the resulting trees; a difference is a system error
+	public static boolean abMeldFlag = false; // <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<
 	// -------------------------
 	// all peer model ops
-	// - STATIC!!
-	private static OpDefs opDefs = new OpDefs();
+	// - shared!!
+	private static final OpDefs opDefs = OpDefs.OP_DEFS;
 	// -------------------------
 	// sequence of tokens: 
 	// - this is the current working vector for melding!
 	// - for internal use only!!!!
 	private TV tokenV = new TV();
 	// -------------------------
+	// precedence climbing: index of the next token in tokenV
+	private int cursor = 0;
+	// -------------------------
 	// OUTPUT:
 	// vector of token vectors
 	private TokenExpression tokenVV = new TokenExpression();
@@ -71,6 +87,253 @@ public class Tokens2Expressions {
 	// MELD
 	//================================================================================
 	
+	//--------------------------------------------------------------------------------
+	// reduce all tokens into token trees
+	public TokenExpression meld() throws SyntaxException, SNHException {
+		if(abMeldFlag) {
+			return meldAB();
+		}
+		if(legacyMeldFlag) {
+			return meldLegacy();
+		}
+		return meldByPrecedenceClimbing();
+	}
+
+	//================================================================================
+	// MELD BY PRECEDENCE CLIMBING
+	//================================================================================
+
+	//--------------------------------------------------------------------------------
+	// reduce all tokens into token trees in one pass per tv;
+	// yields the same trees (incl. treated and integrated flags) as the legacy melder:
+	// - brackets first
+	// - the higher the priority the stronger the op binds; same priority: left associative
+	// - unary ops stand on the left hand side of the arg and get an EMPTY left arg
+	// nb: the legacy melder does not nest unary ops properly (eg "- - a", "a . - b"): if a unary op
+	// is the arg of an op with higher or same priority it is taken as arg "as is" and its own arg is left over;
+	// such tvs -- as well as all erroneous ones -- are reset and melded by the legacy melder, 
+	// so that the result (or error message) is exactly the same as before
+	private TokenExpression meldByPrecedenceClimbing() throws SyntaxException, SNHException {
+		//--------------------------------------------------------------------------------
+		// set phase of TVV and store phase in local var
+		String myPhase = "MELTING";
+		tokenVV.setPhase(myPhase);
+		//--------------------------------------------------------------------------------
+		for(int i = 0; i < tokenVV.size(); i++) { 
+			this.tokenV = tokenVV.get(i);
+			if(tokenV.size() == 0) {
+				continue;
+			}
+			//--------------------------------------------------------------------------------
+			// parse
+			cursor = 0;
+			Token rootToken = parseExpression(0);
+			//--------------------------------------------------------------------------------
+			// not parsed entirely -> fallback
+			if((null == rootToken) || (cursor != tokenV.size())) {
+				resetTokens();
+				meldTVLegacy(myPhase);
+				continue;
+			}
+			//--------------------------------------------------------------------------------
+			// tv consists of the root token only
+			tokenV.tokenV.clear();
+			tokenV.add(rootToken);
+		}
+		//--------------------------------------------------------------------------------
+		// set phase of TVV
+		tokenVV.setPhase("MELTED");
+		//--------------------------------------------------------------------------------
+		return tokenVV;
+	}
+
+	//--------------------------------------------------------------------------------
+	// parse expression at cursor whose binary ops have at least the given priority
+	// returns null if it can't be parsed like the legacy melder would do it
+	private Token parseExpression(int minPrio) {
+		//--------------------------------------------------------------------------------
+		// left arg
+		Token lToken = parseArg(minPrio);
+		if(null == lToken) {
+			return null;
+		}
+		//--------------------------------------------------------------------------------
+		// binary ops with sufficient priority
+		while(cursor < tokenV.size()) {
+			Token token = tokenV.get(cursor);
+			if(token.kind != IToken.Kind.BOP) {
+				break;
+			}
+			int prio = getOpPriority(IOpDefs.Arity.BINARY, token);
+			if(prio < 0) {
+				return null;
+			}
+			if(prio < minPrio) {
+				break;
+			}
+			cursor++;
+			//--------------------------------------------------------------------------------
+			// right arg: only ops with higher priority bind stronger (left associative)
+			Token rToken = parseExpression(prio + 1);
+			if(null == rToken) {
+				return null;
+			}
+			//--------------------------------------------------------------------------------
+			// meld
+			token.left = lToken;
+			token.right = rToken;
+			lToken.integratedFlag = true;
+			rToken.integratedFlag = true;
+			token.treatedFlag = true;
+			lToken = token;
+		}
+		return lToken;
+	}
+
+	//--------------------------------------------------------------------------------
+	// parse arg at cursor: bracketed expression, unary op with its arg, or simple token
+	// returns null if it can't be parsed like the legacy melder would do it
+	private Token parseArg(int minPrio) {
+		if(cursor >= tokenV.size()) {
+			return null;
+		}
+		Token token = tokenV.get(cursor);
+		switch(token.kind) {
+		//--------------------------------------------------------------------------------
+		// '(' expr ')'
+		case LB:
+			cursor++;
+			Token bracketedToken = parseExpression(0);
+			if((null == bracketedToken) || (cursor >= tokenV.size()) || (tokenV.get(cursor).kind != IToken.Kind.RB)) {
+				return null;
+			}
+			cursor++;
+			return bracketedToken;
+		//--------------------------------------------------------------------------------
+		// unary op
+		case UOP:
+			int prio = getOpPriority(IOpDefs.Arity.UNARY, token);
+			// - nb: see above: the legacy melder would take it "as is"
+			if((prio < 0) || (prio < minPrio)) {
+				return null;
+			}
+			cursor++;
+			Token rToken = parseExpression(prio + 1);
+			if(null == rToken) {
+				return null;
+			}
+			token.left = new Token(IToken.Kind.EMPTY, "");
+			token.right = rToken;
+			rToken.integratedFlag = true;
+			token.treatedFlag = true;
+			return token;
+		//--------------------------------------------------------------------------------
+		// no arg
+		case BOP:
+		case RB:
+			return null;
+		//--------------------------------------------------------------------------------
+		// simple token
+		default:
+			cursor++;
+			return token;
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// priority of op token; -1 if no such op
+	private int getOpPriority(IOpDefs.Arity arity, Token token) {
+		try {
+			return opDefs.getOp(arity, token.rawText).getPriority();
+		} catch (NotFoundException e) {
+			return -1;
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// undo the (partial) melding of the tokens of tokenV
+	// nb: the tokens come fresh from the lexer
+	private void resetTokens() {
+		for(int i = 0; i < tokenV.size(); i++) {
+			Token token = tokenV.get(i);
+			token.left = null;
+			token.right = null;
+			token.treatedFlag = false;
+			token.integratedFlag = false;
+		}
+	}
+
+	//================================================================================
+	// A/B COMPARISON
+	//================================================================================
+
+	//--------------------------------------------------------------------------------
+	// meld a copy with the legacy melder and the original by precedence climbing and compare them
+	private TokenExpression meldAB() throws SyntaxException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_meldAB; // debug
+		//--------------------------------------------------------------------------------
+		// copy
+		TokenExpression legacyTokenVV = new TokenExpression();
+		for(int i = 0; i < tokenVV.size(); i++) {
+			TV legacyTokenV = new TV();
+			for(int j = 0; j < tokenVV.get(i).size(); j++) {
+				Token token = tokenVV.get(i).get(j);
+				legacyTokenV.add(new Token(token.kind, token.rawText));
+			}
+			legacyTokenVV.add(legacyTokenV);
+		}
+		//--------------------------------------------------------------------------------
+		// meld both
+		String legacyErrMsg = null;
+		try {
+			new Tokens2Expressions(legacyTokenVV).meldLegacy();
+		} catch (SyntaxException e) {
+			legacyErrMsg = e.getPmErrorMsg();
+		} catch (SNHException e) {
+			legacyErrMsg = e.getPmErrorMsg();
+		}
+		meldByPrecedenceClimbing();
+		//--------------------------------------------------------------------------------
+		// compare
+		// - nb: if there was an error, then the precedence climbing parser throws the same one (see fallback)
+		if(null != legacyErrMsg) {
+			throw new SNHException(551370, "A/B meld: legacy melder failed, but precedence climbing did not: " + legacyErrMsg, m);
+		}
+		for(int i = 0; i < tokenVV.size(); i++) {
+			if(! isSameTV(tokenVV.get(i), legacyTokenVV.get(i))) {
+				throw new SNHException(551371, "A/B meld: different trees: " + tokenVV.get(i).toStringIntelligence("MELTED") + 
+						" <> " + legacyTokenVV.get(i).toStringIntelligence("MELTED"), m);
+			}
+		}
+		return tokenVV;
+	}
+	//--------------------------------------------------------------------------------
+	private static boolean isSameTV(TV tv1, TV tv2) {
+		if(tv1.size() != tv2.size()) {
+			return false;
+		}
+		for(int i = 0; i < tv1.size(); i++) {
+			if(! isSameTree(tv1.get(i), tv2.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+	//--------------------------------------------------------------------------------
+	private static boolean isSameTree(Token t1, Token t2) {
+		if(null == t1 || null == t2) {
+			return t1 == t2;
+		}
+		return (t1.kind == t2.kind) && t1.rawText.equals(t2.rawText) && 
+				(t1.treatedFlag == t2.treatedFlag) && (t1.integratedFlag == t2.integratedFlag) &&
+				isSameTree(t1.left, t2.left) && isSameTree(t1.right, t2.right);
+	}
+
+	//================================================================================
+	// LEGACY MELD
+	//================================================================================
+	
 	//--------------------------------------------------------------------------------
 	// reduce all tokens into token trees;
 	// treat bracketed tokens first and then meld remaining tokens;
@@ -84,9 +347,9 @@ public class Tokens2Expressions {
 	// *         meld bracketed tokens          *
 	// *    meld remaining tokens               *
 	// ******************************************
-	public TokenExpression meld() throws SyntaxException, SNHException {
+	private TokenExpression meldLegacy() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_meldLegacy; // debug
 		/**/ tracer.println("====================================================================================================================", Level.ME, m);
 		//--------------------------------------------------------------------------------
 		// set phase of TVV and store phase in local var
@@ -94,58 +357,65 @@ public class Tokens2Expressions {
 		tokenVV.setPhase(myPhase);
 		// ---------------------------------------
 		// iterate over token vector vector
-		// CAUTION: do it from right to left, because vector will shrink;
 		for(int i = 0; i < tokenVV.size(); i++) { 
 			//--------------------------------------------------------------------------------
 			// get next tokenV
 			this.tokenV = tokenVV.get(i);
-			/**/ tracer.println("next tokenV = " + tokenV.toStringIntelligence(myPhase), Level.NO, m);						
-			//--------------------------------------------------------------------------------
-			// LOOP over tokenV from right to left
-			for(int lbIndex = tokenV.size() - 1; lbIndex >= 0; lbIndex--) {
-				//--------------------------------------------------------------------------------
-				// get next token
-				Token token = tokenV.get(lbIndex);
-				//--------------------------------------------------------------------------------
-				// LB?
-				if(token.kind == IToken.Kind.LB) {
-					/**/ tracer.println("LB found at index = " + lbIndex, Level.ME, m);						
-					//--------------------------------------------------------------------------------
-					// find next RB to the right 
-					// - get stack size
-					int rbIndex = -1;
-					for(rbIndex = lbIndex + 1; rbIndex < tokenV.size(); rbIndex++) {
-						if(tokenV.get(rbIndex).kind == IToken.Kind.RB) {
-							// found -> break from for loop
-							break;
-						}
-					}
-					if(rbIndex < 0)
-						throw new SyntaxException("ill. bracketing structure: ')' is missing", m);
-					//--------------------------------------------------------------------------------
-					// remove both brackets in correct order
-					// - nb: remove shifts everything to the left, so start with RB and then remove LB
-					/**/ tracer.println("remove brackets at indices " + rbIndex + " and " + lbIndex + ", nTokens = " + tokenV.size(), Level.ME, m);
-					tokenV.remove(rbIndex);
-					tokenV.remove(lbIndex);
-					//--------------------------------------------------------------------------------
-					// meld the bracketed tokens within tokenV 
-					// - nb: 2 brackets were removes
-					meldRange(lbIndex, rbIndex - 1);
-				}				
-			}
-			// finally meld all remaining tokens within tokenV, i.e. from index 0 to the end
-			// - needed as the entire term is not necessarily bracketed 
-			meldRange(0, tokenV.size());
+			meldTVLegacy(myPhase);
 		}
-		/**/ tracer.println("RESULT: " + tokenVV.size() + " TV(s) ----> " + tokenVV, Level.ME, m);
+		/**/ tracer.println(() -> "RESULT: " + tokenVV.size() + " TV(s) ----> " + tokenVV, Level.ME, m);
 		//--------------------------------------------------------------------------------
 		// set phase of TVV
 		tokenVV.setPhase("MELTED");
 		//--------------------------------------------------------------------------------
 		return tokenVV;
 	}
-	
+
+	//--------------------------------------------------------------------------------
+	// meld tokenV
+	private void meldTVLegacy(String myPhase) throws SyntaxException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_meldTVLegacy; // debug
+		/**/ tracer.println(() -> "next tokenV = " + tokenV.toStringIntelligence(myPhase), Level.NO, m);						
+		//--------------------------------------------------------------------------------
+		// LOOP over tokenV from right to left
+		// CAUTION: do it from right to left, because vector will shrink;
+		for(int lbIndex = tokenV.size() - 1; lbIndex >= 0; lbIndex--) {
+			//--------------------------------------------------------------------------------
+			// get next token
+			Token token = tokenV.get(lbIndex);
+			//--------------------------------------------------------------------------------
+			// LB?
+			if(token.kind == IToken.Kind.LB) {
+				/**/ if(Tracer.isEnabled(Level.ME, m)) tracer.println("LB found at index = " + lbIndex, Level.ME, m);						
+				//--------------------------------------------------------------------------------
+				// find next RB to the right 
+				// - get stack size
+				int rbIndex = -1;
+				for(rbIndex = lbIndex + 1; rbIndex < tokenV.size(); rbIndex++) {
+					if(tokenV.get(rbIndex).kind == IToken.Kind.RB) {
+						// found -> break from for loop
+						break;
+					}
+				}
+				if(rbIndex < 0)
+					throw new SyntaxException("ill. bracketing structure: ')' is missing", m);
+				//--------------------------------------------------------------------------------
+				// remove both brackets in correct order
+				// - nb: remove shifts everything to the left, so start with RB and then remove LB
+				/**/ if(Tracer.isEnabled(Level.ME, m)) tracer.println("remove brackets at indices " + rbIndex + " and " + lbIndex + ", nTokens = " + tokenV.size(), Level.ME, m);
+				tokenV.remove(rbIndex);
+				tokenV.remove(lbIndex);
+				//--------------------------------------------------------------------------------
+				// meld the bracketed tokens within tokenV 
+				// - nb: 2 brackets were removes
+				meldRange(lbIndex, rbIndex - 1);
+			}				
+		}
+		// finally meld all remaining tokens within tokenV, i.e. from index 0 to the end
+		// - needed as the entire term is not necessarily bracketed 
+		meldRange(0, tokenV.size());
+	}
 
 	//--------------------------------------------------------------------------------
 	// reduce current tokens between given indices (including the firs one, and excluding the second one) into token tree;
@@ -162,7 +432,7 @@ public class Tokens2Expressions {
 	// ----  replace these 3 tokens by the new subtree
 	private void meldRange(int fromIndex, int toIndex) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_meldRange; // debug
 		//--------------------------------------------------------------------------------
 		// current token, left token, right token;
 		Token token, lToken, rToken = null;
@@ -171,8 +441,8 @@ public class Tokens2Expressions {
 		IOpDefs.Arity arity;
 		
 		/**/ tracer.println("start: __________________________________________________________", Level.NO, m);
-		/**/ tracer.println("input tokens = " + tokenVV, Level.LO, m);
-		/**/ tracer.println("fromIndex = " + fromIndex + ", toIndex = " + toIndex + ", nTokens = " + tokenV.size(), Level.LO, m);
+		/**/ tracer.println(() -> "input tokens = " + tokenVV, Level.LO, m);
+		/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("fromIndex = " + fromIndex + ", toIndex = " + toIndex + ", nTokens = " + tokenV.size(), Level.LO, m);
 		// TBD: assert that indices are in range
 		if((fromIndex < 0) || (fromIndex > tokenV.size()) || (toIndex < 0) || (toIndex > tokenV.size())) {
 			throw new SNHException(897342, "index out of range", m);
@@ -185,7 +455,7 @@ public class Tokens2Expressions {
 			// ---------------------------------------
 			// get next highest op priority
 			prio = opDefs.getNextHighestOpPriority(prio);
-			/**/ tracer.println("next priority ====================> " + prio + ":", Level.LO, m);
+			/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("next priority ====================> " + prio + ":", Level.LO, m);
 			if(prio < 0) {
 				// all priorities have been processed, break from loop over op priorities
 				break;
@@ -200,7 +470,7 @@ public class Tokens2Expressions {
 				// iterate over tokens 
 				for(int j = fromIndex; j < toIndex; j++) {
 					token = tokenV.get(j);
-					/**/ tracer.println("next token = " + token.toString(), Level.NO, m);
+					/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("next token = " + token.toString(), Level.NO, m);
 					// ---------------------------------------
 					// OP:
 					// - not yet melted op, which is unary or binary and has desired priority
@@ -214,21 +484,21 @@ public class Tokens2Expressions {
 						// - nb: there could be ops with same name but different arity, so it must be done this way
 						try {
 							op = opDefs.getOp(arity, token.rawText);
-							/**/ tracer.println("is OPERATOR " + op, Level.LO, m);
+							/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("is OPERATOR " + op, Level.LO, m);
 						} catch (NotFoundException e) {
 							throw new SyntaxException("ill. op", m, e);
 						}
 						if (op.getPriority() == prio) {
-							/**/ tracer.println("trying to meld " + op + "", Level.LO, m);  // !!!
+							/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("trying to meld " + op + "", Level.LO, m);  // !!!
 							// ---------------------------------------
 							// TREAT ARG(S):
 							// RIGHT ARG
-							/**/ tracer.println("curTokens.size() = " + tokenV.size() + ", j = " + j, Level.NO, m);
+							/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("curTokens.size() = " + tokenV.size() + ", j = " + j, Level.NO, m);
 							if(tokenV.size() > j + 1) {
 								// ---------------------------------------
 								// get right token
 								rToken = tokenV.get(j + 1);
-								/**/ tracer.println("get right token " + rToken + " into op", Level.NO, m);
+								/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("get right token " + rToken + " into op", Level.NO, m);
 								// ---------------------------------------
 								// meld right arg into op
 								token.right = rToken;
@@ -262,22 +532,22 @@ public class Tokens2Expressions {
 								// mark this operator-token as melted
 								token.treatedFlag = true;
 								// ---------------------------------------
-								/**/ tracer.println("" + token.toNode(), Level.LO, m);		
+								/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("" + token.toNode(), Level.LO, m);		
 							} else {
-								/**/ tracer.println("tokens: " + tokenV, Level.LO, m);		
+								/**/ tracer.println(() -> "tokens: " + tokenV, Level.LO, m);		
 								throw new SyntaxException(j + ".Token: missing right argument of " + op + ".", m);
 							}
 						} // if prio
 					} // if binary/unary op	
 					// ---------------------------------------
 					// remove integrated tokens from vector 
-					/**/ tracer.println("removing " + nIntegratedTokens + " integrated tokens", Level.NO, m);		
+					/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("removing " + nIntegratedTokens + " integrated tokens", Level.NO, m);		
 					for(int n = 0; n < nIntegratedTokens; n++) {
 						// start at beginning for each in order not to destroy the vector
 						// - nb tokens are only removed from vector but not deallocated as they are still used in the tree
 						for(int q = fromIndex; q < toIndex; q++) {
 							if(tokenV.get(q).integratedFlag) {
-								/**/ tracer.println("removing " + tokenV.get(q), Level.NO, m);	
+								/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("removing " + tokenV.get(q), Level.NO, m);	
 								// ---------------------------------------
 								// remove token
 								tokenV.remove(q);
@@ -298,7 +568,7 @@ public class Tokens2Expressions {
 				} // for j ... meld tokens
 			} while (nIntegratedTokens > 0); // do while there were integrated tokens
 		} // for (;;)	
-		/**/ tracer.println("output tokens = " + tokenVV, Level.LO, m);
+		/**/ tracer.println(() -> "output tokens = " + tokenVV, Level.LO, m);
 	}
 	
 
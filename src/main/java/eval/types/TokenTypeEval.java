@@ -31,7 +31,7 @@ import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -49,6 +49,21 @@ public class TokenTypeEval {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_typeEval = TracePoint.of(TokenTypeEval.class, "typeEval"); // debug
+	/**/ private static final TracePoint M__typeEval = TracePoint.of(TokenTypeEval.class, "_typeEval"); // debug
+	/**/ private static final TracePoint M_nameTypeEval = TracePoint.of(TokenTypeEval.class, "nameTypeEval"); // debug
+	/**/ private static final TracePoint M_arithmeticBopTypeEval = TracePoint.of(TokenTypeEval.class, "arithmeticBopTypeEval"); // debug
+	/**/ private static final TracePoint M_relationalBopTypeEval = TracePoint.of(TokenTypeEval.class, "relationalBopTypeEval"); // debug
+	/**/ private static final TracePoint M_booleanBopTypeEval = TracePoint.of(TokenTypeEval.class, "booleanBopTypeEval"); // debug
+	/**/ private static final TracePoint M_assignmentBopTypeEval = TracePoint.of(TokenTypeEval.class, "assignmentBopTypeEval"); // debug
+	/**/ private static final TracePoint M_dotsBopTypeEval = TracePoint.of(TokenTypeEval.class, "dotsBopTypeEval"); // debug
+	/**/ private static final TracePoint M_colonBopTypeEval = TracePoint.of(TokenTypeEval.class, "colonBopTypeEval"); // debug
+	/**/ private static final TracePoint M_concatBopTypeEval = TracePoint.of(TokenTypeEval.class, "concatBopTypeEval"); // debug
+	/**/ private static final TracePoint M_hashBopTypeEval = TracePoint.of(TokenTypeEval.class, "hashBopTypeEval"); // debug
+	/**/ private static final TracePoint M_inBopTypeEval = TracePoint.of(TokenTypeEval.class, "inBopTypeEval"); // debug
+	/**/ private static final TracePoint M_impliesBopTypeEval = TracePoint.of(TokenTypeEval.class, "impliesBopTypeEval"); // debug
+	/**/ private static final TracePoint M_commaBopTypeEval = TracePoint.of(TokenTypeEval.class, "commaBopTypeEval"); // debug
 	//--------------------------------------------------------------------------------
 	// root of the token tree to be type-evaluated
 	private Token rootToken;
@@ -72,29 +87,29 @@ public class TokenTypeEval {
 	// evaluate the rootToken (nested) and set types
 	public void typeEval() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_typeEval; // debug
 		//--------------------------------------------------------------------------------
 		// assert that root token is not null
 		if(rootToken == null)
 			throw new SNHException(893666, "root token must not be null", m);
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println(context.toMsg() + "TOKEN TREE = " + rootToken.toTypedInfo(), Level.LO, m); 
+		/**/ tracer.println(() -> context.toMsg() + "TOKEN TREE = " + rootToken.toTypedInfo(), Level.LO, m); 
 		/**/ tracer.println("___________________________________________", Level.HI, m);		
-		/**/ tracer.println("CONTEXT: " + context.toMsg(), Level.HI, m);		
-		/**/ tracer.println("EVAL: " + rootToken.toUserInfo() + " <=> "  + rootToken.toTypedInfo(), Level.HI, m);		
+		/**/ tracer.println(() -> "CONTEXT: " + context.toMsg(), Level.HI, m);		
+		/**/ tracer.println(() -> "EVAL: " + rootToken.toUserInfo() + " <=> "  + rootToken.toTypedInfo(), Level.HI, m);		
 		//--------------------------------------------------------------------------------
 		// do it recursively
-		String errMsg = "type eval of '" + rootToken.toUserInfo() + "' failed";
+		// - nb: error msg is only constructed if needed (see catch)
 		try { 
 			_typeEval(rootToken);
 		} catch (SyntaxException e) {
 			// throw new SyntaxException(errMsg, m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(564738, errMsg, m, e);
+			throw new SNHException(564738, "type eval of '" + rootToken.toUserInfo() + "' failed", m, e);
 		}
-		/**/ tracer.println("CONTEXT: " + context.toMsg(), Level.NO, m);		
-		/**/ tracer.println("EVALUATED: " + rootToken.toTypedInfo(), Level.HI, m); 
+		/**/ tracer.println(() -> "CONTEXT: " + context.toMsg(), Level.NO, m);		
+		/**/ tracer.println(() -> "EVALUATED: " + rootToken.toTypedInfo(), Level.HI, m); 
 	}
 
 	//================================================================================
@@ -105,16 +120,13 @@ public class TokenTypeEval {
 	// returns resolved token type and raises exception on type error;
 	private IData.Type _typeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		//--------------------------------------------------------------------------------
-		// local var
-		String errMsg;
+		/**/ TracePoint m = M__typeEval; // debug
 		//--------------------------------------------------------------------------------
 		// check that token is not null
 		if(token == null) {
 			throw new SNHException(785235, "token must not be null", m);
 		}
-		/**/ tracer.println("eval " + token.toTypedInfo(), Level.LO, m);		
+		/**/ tracer.println(() -> "eval " + token.toTypedInfo(), Level.LO, m);		
 		//--------------------------------------------------------------------------------
 		// even if type is defined, continue with eval, because some sub-tokens could still be undefined 
 		// eg: right side of '.' might need further evaluation
@@ -127,7 +139,7 @@ public class TokenTypeEval {
 		//--------------------------------------------------------------------------------
 		// get token kind
 		IToken.Kind kind = token.getKind();
-		/**/ tracer.println("eval next token: kind = " + kind + "; raw = '" + token.getRawText() + "'", Level.LO, m);		
+		/**/ tracer.println(() -> "eval next token: kind = " + kind + "; raw = '" + token.getRawText() + "'", Level.LO, m);		
 		//--------------------------------------------------------------------------------
 		// analyze token by its kind:
 		switch(kind) {
@@ -173,17 +185,16 @@ public class TokenTypeEval {
 			//--------------------------------------------------------------------------------
 			// sys var? 
 			//--------------------------------------------------------------------------------
-			try {
-				type = context.getSysVarType(varName);
+			type = context.tryGetSysVarType(varName);
+			if(type != null)
 				break;
-			} catch(Exception e1) {}
 			//--------------------------------------------------------------------------------
 			// user var?
 			//--------------------------------------------------------------------------------
-			try {
-				type = context.getUserVarType(varName);
-			} catch(Exception e2) {
+			type = context.tryGetUserVarType(varName);
+			if(type == null) {
 				// just do nothing for now and return undefined type; type will be treated by assignment later;
+				type = IData.Type.UNDEFINED;
 			}
 			break;
 			//--------------------------------------------------------------------------------
@@ -199,7 +210,7 @@ public class TokenTypeEval {
 			//--------------------------------------------------------------------------------
 			try {
 				type = context.getSysFuType(fuName);
-				/**/ tracer.println("FU = " + fuName + "()", Level.NO, m);
+				/**/ tracer.println(() -> "FU = " + fuName + "()", Level.NO, m);
 			} catch(NotFoundException e2) {
 				throw new SyntaxException("ill. fu = " + fuName + "()", m, e2);
 			}
@@ -235,7 +246,7 @@ public class TokenTypeEval {
 				type = IData.Type.INT;
 				// type of its arg, too!
 				token.getRight().setType(type);
-				/**/ tracer.println("FOR*: " + token.getRight().toTypedInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "FOR*: " + token.getRight().toTypedInfo(), Level.NO, m);
 			}
 			//--------------------------------------------------------------------------------
 			// snh: the UOP was analyzed before so its name must be valid
@@ -244,13 +255,12 @@ public class TokenTypeEval {
 			//--------------------------------------------------------------------------------
 			// eval right arg and verify that it has the same type
 			IData.Type argType;
-			errMsg = "can't eval type of right arg of unary op '" + uopName + "'";
 			try {
 				argType = _typeEval(token.getRight());
 			} catch (SyntaxException e) {
-				throw new SyntaxException(errMsg, m, e);
+				throw new SyntaxException("can't eval type of right arg of unary op '" + uopName + "'", m, e);
 			} catch (SNHException e) {
-				throw new SNHException(298765, errMsg, m, e);
+				throw new SNHException(298765, "can't eval type of right arg of unary op '" + uopName + "'", m, e);
 			}
 			if(type != argType) {
 				throw new SyntaxException("right arg of unary op '" + uopName + "' has wrong type " + argType + "; should be " + type, m);
@@ -268,7 +278,7 @@ public class TokenTypeEval {
 			// eval BOP
 			// - depending on what BOP it is
 			//--------------------------------------------------------------------------------
-			errMsg = "binary operator '" + bopName + "'";
+			// nb: errMsg = "binary operator '" + bopName + "'" is not constructed, as it is not used (too much info)
 			//--------------------------------------------------------------------------------
 			if(OpDefs.isArithmeticBOPName(bopName)) {
 				try {
@@ -388,7 +398,7 @@ public class TokenTypeEval {
 				// - nb: left side must be qualifier name...
 				// - TBD: UOP
 				if((token.getRight().getKind() == IToken.Kind.BOP) || (token.getRight().getKind() == IToken.Kind.UOP)) {
-					/**/ tracer.println("eval DOT's right side" + token.getRight().toTypedInfo(), Level.NO, m);
+					/**/ tracer.println(() -> "eval DOT's right side" + token.getRight().toTypedInfo(), Level.NO, m);
 					_typeEval(token.getRight());
 				}
 			}
@@ -402,7 +412,7 @@ public class TokenTypeEval {
 			if(type == IData.Type.UNDEFINED)
 				throw new SyntaxException("type eval error: ill. specification: " + token.toUserInfo(), m);
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("type of " + bopName + " = " + type, Level.NO, m);
+			/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("type of " + bopName + " = " + type, Level.NO, m);
 			//--------------------------------------------------------------------------------
 			break;
 
@@ -440,7 +450,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// set my token's type and also return it
-		/**/ tracer.println("result = <" + type + ">", Level.LO, m);		
+		/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("result = <" + type + ">", Level.LO, m);		
 		token.setType(type);
 		return type;
 	}
@@ -454,13 +464,13 @@ public class TokenTypeEval {
 	// - nb: caller gets type and sets it on the token, too
 	private IData.Type nameTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_nameTypeEval; // debug
 		//--------------------------------------------------------------------------------
 		// type (to be returned) 
 		IData.Type type = IData.Type.UNDEFINED;			
 		//--------------------------------------------------------------------------------
 		String name = token.getRawText();
-		/**/ tracer.println("NAME: " + name, Level.LO, m);
+		/**/ tracer.println(() -> "NAME: " + name, Level.LO, m);
 		//--------------------------------------------------------------------------------
 		// assertion: must have kind NAME
 		if(token.getKind() != IToken.Kind.NAME)
@@ -471,110 +481,107 @@ public class TokenTypeEval {
 		// -- ... player is determined already and cannot be determined here without qualifier context
 		// !! COMPLICATED !!
 		if(token.getType() != IData.Type.UNDEFINED) {
-			/**/ tracer.println("type of NAME " + name + " has already been early determined as " + token.getType(), Level.LO, m);
+			/**/ tracer.println(() -> "type of NAME " + name + " has already been early determined as " + token.getType(), Level.LO, m);
 			return token.getType();
 		}
 		//================================================================================
 		// SYS CONST?	
 		//================================================================================
-		try {
-			type = context.getSysConstType(name); 
-			/**/ tracer.println("...is SYS CONST of type " + type, Level.LO, m);
-		} catch (NotFoundException e1) {
+		// nb: a miss is no error here, so use the lookups that do not construct exceptions
+		if((type = context.tryGetSysConstType(name)) != null) {
+			/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("...is SYS CONST of type " + type, Level.LO, m);
+		} 
+		//================================================================================
+		// SYS PROP?
+		//================================================================================
+		else if((type = context.tryGetSysPropType(name)) != null) {
+			/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("...is SYS PROP of type " + type, Level.LO, m);
+			// yes -> set flag !!!!!!
+			token.setIsLabelFlag(true);
+		} 
+		//================================================================================
+		// USER PROP?
+		//================================================================================
+		// pmmm props, eprop, pprop, wprop, lprops
+		else if((type = context.tryGetUserPropType(name)) != null) {
+			/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("...is USER PROP of type " + type, Level.LO, m);
+			// yes -> set flag !!!!!!
+			token.setIsLabelFlag(true);
+		} 
+		else {
+			type = IData.Type.UNDEFINED;
 			//================================================================================
-			// SYS PROP?
+			// URL?
 			//================================================================================
-			try {
-				type = context.getSysPropType(name); 
-				/**/ tracer.println("...is SYS PROP of type " + type, Level.LO, m);
-				// yes -> set flag !!!!!!
-				token.setIsLabelFlag(true);
-			} catch (NotFoundException e2) {
-				//================================================================================
-				// USER PROP?
-				//================================================================================
-				// pmmm props, eprop, pprop, wprop, lprops
-				try {
-					// user prop?
-					type = context.getUserPropType(name);
-					/**/ tracer.println("...is USER PROP of type " + type, Level.LO, m);
-					// yes -> set flag !!!!!!
-					token.setIsLabelFlag(true);
-				} catch (NotFoundException e3) {
-					//================================================================================
-					// URL?
-					//================================================================================
-					// name of a user peer from the PMMM or of a built-in sys peer?
-					if(context.peerTypeNameExists(name)) {
-						type = IData.Type.URL;
-						// /**/ tracer.println(name + " is peer type (URL)", Level.DEBUG, m);
-					}
-					//--------------------------------------------------------------------------------
-					// if parsing any kind of PROPS TYPES:
-					// - still chance to be resolved by type eval, namely it
-					// -- could be right hand side of "<type>:<name>" definition, where <name> will inherit the <type> 
-					// -- this is checked & resolved when returning to parsing of ":" in the recursion
-					// -- so skip the type eval for the moment
-					else if(context.curUsageisPropsTypes()) {
-						// delay type eval of name
-						/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
-						type = IData.Type.FLEX;
-					}
-					//--------------------------------------------------------------------------------
-					// if parsing any kind of PROPS DEFS: 
-					// - still chance to be resolved by type eval, namely it
-					// -- could be right hand side of "<xxx> = <name>" expression, where <name> will inherit the <type>
-					// nb: peer defs have the syntax: 
-					// - <peerName>
-					// - <comma separated peer names>
-					// check peer type
-					else if(context.curUsageIsPropsDefs()) {
-						// delay type eval of name
-						/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
-						type = IData.Type.FLEX;
-					}			
-					//--------------------------------------------------------------------------------
-					// if parsing definition of peer name (in config) --> 
-					// - still chance to be resolved by type eval, namely it
-					// -- could be right hand side of "<peerType> : <name>" expression, where <name> will inherit the <type>
-					else if(context.getCurUsage() == IContext.Usage.PEER_CONFIG) {
-						// delay type eval of name
-						/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
-						type = IData.Type.FLEX;
-					}		
-					//--------------------------------------------------------------------------------
-					// peer name? 
-					else if(context.getCurUsage() == IContext.Usage.PEER_NAMES) {
-						// delay type eval of name
-						/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
-						type = IData.Type.FLEX;
-					}		
-					//--------------------------------------------------------------------------------
-					// wiring name? 
-					else if(context.getCurUsage() == IContext.Usage.WIRING_NAMES) {
-						// delay type eval of name
-						/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
-						type = IData.Type.FLEX;
-					}		
-					//================================================================================
-					// TBD: if entry type name is wildcard '*': 
-					// - TBD: if so, we could assume that it is a label
-					// - TBD: ??? but problem: which type
-					//================================================================================
-					//--------------------------------------------------------------------------------
-					//================================================================================
-					// otherwise: 
-					//================================================================================
-					// - if parsing entry type defs and peer type defs -> ill. entry name
-					else {
-						/**/ tracer.println(context.getCurUsage() + "; name is undefined; type = " + type, Level.LO, m);
-						/**/ tracer.println(context.getCurUsage() + "; sys props = " + context.getCurSysPropTypeMap().toString(), Level.LO, m);
-						//--------------------------------------------------------------------------------
-						throw new SyntaxException(
-								// "<" + token.getKind() + ">" + // too much info
-								"'" + name + "' " + "undefined (neither sys keyword nor user prop)", m);
-					}
-				}
+			// name of a user peer from the PMMM or of a built-in sys peer?
+			if(context.peerTypeNameExists(name)) {
+				type = IData.Type.URL;
+				// /**/ tracer.println(name + " is peer type (URL)", Level.DEBUG, m);
+			}
+			//--------------------------------------------------------------------------------
+			// if parsing any kind of PROPS TYPES:
+			// - still chance to be resolved by type eval, namely it
+			// -- could be right hand side of "<type>:<name>" definition, where <name> will inherit the <type> 
+			// -- this is checked & resolved when returning to parsing of ":" in the recursion
+			// -- so skip the type eval for the moment
+			else if(context.curUsageisPropsTypes()) {
+				// delay type eval of name
+				/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
+				type = IData.Type.FLEX;
+			}
+			//--------------------------------------------------------------------------------
+			// if parsing any kind of PROPS DEFS: 
+			// - still chance to be resolved by type eval, namely it
+			// -- could be right hand side of "<xxx> = <name>" expression, where <name> will inherit the <type>
+			// nb: peer defs have the syntax: 
+			// - <peerName>
+			// - <comma separated peer names>
+			// check peer type
+			else if(context.curUsageIsPropsDefs()) {
+				// delay type eval of name
+				/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
+				type = IData.Type.FLEX;
+			}			
+			//--------------------------------------------------------------------------------
+			// if parsing definition of peer name (in config) --> 
+			// - still chance to be resolved by type eval, namely it
+			// -- could be right hand side of "<peerType> : <name>" expression, where <name> will inherit the <type>
+			else if(context.getCurUsage() == IContext.Usage.PEER_CONFIG) {
+				// delay type eval of name
+				/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
+				type = IData.Type.FLEX;
+			}		
+			//--------------------------------------------------------------------------------
+			// peer name? 
+			else if(context.getCurUsage() == IContext.Usage.PEER_NAMES) {
+				// delay type eval of name
+				/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
+				type = IData.Type.FLEX;
+			}		
+			//--------------------------------------------------------------------------------
+			// wiring name? 
+			else if(context.getCurUsage() == IContext.Usage.WIRING_NAMES) {
+				// delay type eval of name
+				/**/ tracer.println("...DELAY EVAL ", Level.LO, m);
+				type = IData.Type.FLEX;
+			}		
+			//================================================================================
+			// TBD: if entry type name is wildcard '*': 
+			// - TBD: if so, we could assume that it is a label
+			// - TBD: ??? but problem: which type
+			//================================================================================
+			//--------------------------------------------------------------------------------
+			//================================================================================
+			// otherwise: 
+			//================================================================================
+			// - if parsing entry type defs and peer type defs -> ill. entry name
+			else {
+				/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println(context.getCurUsage() + "; name is undefined; type = " + type, Level.LO, m);
+				/**/ tracer.println(() -> context.getCurUsage() + "; sys props = " + context.getCurSysPropTypeMap().toString(), Level.LO, m);
+				//--------------------------------------------------------------------------------
+				throw new SyntaxException(
+						// "<" + token.getKind() + ">" + // too much info
+						"'" + name + "' " + "undefined (neither sys keyword nor user prop)", m);
 			}
 		}
 		return type;
@@ -714,11 +721,10 @@ public class TokenTypeEval {
 	// - type must be int
 	private IData.Type arithmeticBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_arithmeticBopTypeEval; // debug
 		/**/ tracer.println("is ARITHMETIC BOP", Level.LO, m);	
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -731,13 +737,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(663676, errMsg1 + errMsg2, m, e);
+			throw new SNHException(663676, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// verify that both args types are defined and are INT compatible
@@ -747,7 +753,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// ok
-		/**/ tracer.println("arithmetic op type = " + IData.Type.INT, Level.LO, m);							
+		/**/ tracer.println(() -> "arithmetic op type = " + IData.Type.INT, Level.LO, m);							
 		return IData.Type.INT;
 	}
 
@@ -759,11 +765,10 @@ public class TokenTypeEval {
 	// - type must be boolean
 	private IData.Type relationalBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_relationalBopTypeEval; // debug
 		/**/ tracer.println("is RELATIONAL BOP", Level.LO, m);	
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -776,13 +781,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(364674, errMsg1 + errMsg2, m, e);
+			throw new SNHException(364674, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// check that both arg's types are defined and have compatible type
@@ -792,7 +797,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// ok
-		/**/ tracer.println("relational op '" + token.getRawText() + "': type = " + IData.Type.BOOLEAN, Level.NO, m);							
+		/**/ tracer.println(() -> "relational op '" + token.getRawText() + "': type = " + IData.Type.BOOLEAN, Level.NO, m);							
 		return IData.Type.BOOLEAN;
 	}
 
@@ -804,11 +809,10 @@ public class TokenTypeEval {
 	// - type must be boolean
 	private IData.Type booleanBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_booleanBopTypeEval; // debug
 		/**/ tracer.println("is BOOLEAN BOP", Level.LO, m);	
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -821,13 +825,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(835254, errMsg1 + errMsg2, m, e);
+			throw new SNHException(835254, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// check that both arg's types are defined and are BOOLEAN compatible
@@ -839,7 +843,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// ok
-		/**/ tracer.println("boolean op type = " + IData.Type.BOOLEAN, Level.LO, m);							
+		/**/ tracer.println(() -> "boolean op type = " + IData.Type.BOOLEAN, Level.LO, m);							
 		return IData.Type.BOOLEAN;
 	}
 
@@ -852,13 +856,12 @@ public class TokenTypeEval {
 	// assignment operator "="
 	private IData.Type assignmentBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_assignmentBopTypeEval; // debug
 		/**/ tracer.println("is ASSIGNMENT BOP", Level.LO, m);	
-		/**/ tracer.println("ASSIGNMENT BOP: " + token.toTypedInfo(), Level.NO, m);	
+		/**/ tracer.println(() -> "ASSIGNMENT BOP: " + token.toTypedInfo(), Level.NO, m);	
 		//--------------------------------------------------------------------------------
 		// local vars
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -871,13 +874,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(923468, errMsg1 + errMsg2, m, e);
+			throw new SNHException(923468, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//================================================================================
 		// LEFT SIDE IS LABEL OF A PROP:
@@ -931,11 +934,11 @@ public class TokenTypeEval {
 			// - must be user var, because type of sys var would be defined
 			// - implicitly define its type with the type of the right arg
 			if(token.getLeft().getKind() == IToken.Kind.VAR) {
-				/**/ tracer.println("VAR: " + token.toTypedInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "VAR: " + token.toTypedInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// "release" right type
 				IData.Type releasedType = TokenTypeEval.releaseToBasicType(rightArgType);
-				/**/ tracer.println("releasedType = " + releasedType, Level.NO, m);
+				/**/ tracer.println(() -> "releasedType = " + releasedType, Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// if it could be released to a basic type -> set left type to right type
 				// CAUTION: vars must not be set to arrays (LIMITATION!)
@@ -974,7 +977,7 @@ public class TokenTypeEval {
 			}
 			//--------------------------------------------------------------------------------
 			// left + right types are compatible -> ok my type, is clearly the same like the one of either arg
-			/**/ tracer.println("assignment op type = " + rightArgType, Level.LO, m);
+			/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("assignment op type = " + rightArgType, Level.LO, m);
 			return rightArgType;
 		}
 	}
@@ -989,11 +992,10 @@ public class TokenTypeEval {
 	// nb: whether the int-expressions can be statically evaluated or not is checked by mta later
 	private IData.Type dotsBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_dotsBopTypeEval; // debug
 		/**/ tracer.println("is DOTS BOP", Level.LO, m);	
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -1006,13 +1008,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(333399, errMsg1 + errMsg2, m, e);
+			throw new SNHException(333399, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// check that both arg's types are defined and are INT compatible
@@ -1024,7 +1026,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// ok
-		/**/ tracer.println("dots op type = " + IData.Type.INT, Level.LO, m);	
+		/**/ tracer.println(() -> "dots op type = " + IData.Type.INT, Level.LO, m);	
 		return IData.Type.INT;
 	}
 
@@ -1039,14 +1041,13 @@ public class TokenTypeEval {
 	// -- check that both args are defined afterwards
 	private IData.Type colonBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_colonBopTypeEval; // debug
 		/**/ tracer.println("is COLON BOP", Level.LO, m);	
 		//--------------------------------------------------------------------------------
 		// type 
 		IData.Type type = IData.Type.UNDEFINED;			
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -1059,13 +1060,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(298718, errMsg1 + errMsg2, m, e);
+			throw new SNHException(298718, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		if(leftArgType != IData.Type.UNDEFINED) {
@@ -1074,7 +1075,7 @@ public class TokenTypeEval {
 			// - eg: 'URL : <peerName>' .... peer name is FLEX as it could not yet be determined
 			// - nb: throws exception if not compatible
 			type = computeCompatibleType(leftArgType, rightArgType);
-			/**/ tracer.println("compatible type = " + type, Level.NO, m);	
+			/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("compatible type = " + type, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 			// ok -> compatible
 			if(type != IData.Type.UNDEFINED) {
@@ -1101,7 +1102,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// ok
-		/**/ tracer.println("colon op type = " + type, Level.LO, m);	
+		/**/ if(Tracer.isEnabled(Level.LO, m)) tracer.println("colon op type = " + type, Level.LO, m);	
 		return type;
 	}
 
@@ -1114,11 +1115,10 @@ public class TokenTypeEval {
 	// CAUTION: target runtime system must convert all args to strings
 	private IData.Type concatBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_concatBopTypeEval; // debug
 		/**/ tracer.println("is CONCAT BOP", Level.LO, m);	
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -1131,17 +1131,17 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(734567, errMsg1 + errMsg2, m, e);
+			throw new SNHException(734567, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// ok:
-		/**/ tracer.println("concat op type = " + IData.Type.STRING, Level.LO, m);	
+		/**/ tracer.println(() -> "concat op type = " + IData.Type.STRING, Level.LO, m);	
 		return IData.Type.STRING;
 	}
 
@@ -1159,14 +1159,13 @@ public class TokenTypeEval {
 	// - ((PMMM . (players # (WINDEX . 1))) == $$PID) ... here type of players can't be evaluated, but can be any type
 	private IData.Type hashBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("is '#' BOP: " + token.toUserInfo(), Level.NO, m);	
+		/**/ TracePoint m = M_hashBopTypeEval; // debug
+		/**/ tracer.println(() -> "is '#' BOP: " + token.toUserInfo(), Level.NO, m);	
 		//--------------------------------------------------------------------------------
 		// default
 		IData.Type type = IData.Type.FLEX_ARRAY_REF; // default for '#'	
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -1179,13 +1178,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(562901, errMsg1 + errMsg2, m, e);
+			throw new SNHException(562901, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// verify that right arg type is INT and if not set it to INT!!!
@@ -1246,12 +1245,12 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		token.setType(type); // for debug output...
-		/**/ tracer.println("### token = " + token.toTypedInfo(), Level.NO, m);	
-		/**/ tracer.println("context: cur user props types = " + this.context.getCurUserPropsTypes().toPairs(), Level.NO, m);	
-		/**/ tracer.println("#'s type := left arg type = " + leftArgType, Level.NO, m);	
+		/**/ tracer.println(() -> "### token = " + token.toTypedInfo(), Level.NO, m);	
+		/**/ tracer.println(() -> "context: cur user props types = " + this.context.getCurUserPropsTypes().toPairs(), Level.NO, m);	
+		/**/ tracer.println(() -> "#'s type := left arg type = " + leftArgType, Level.NO, m);	
 		//--------------------------------------------------------------------------------
 		// can't do more...
-		/**/ tracer.println("'#' op type = " + type, Level.NO, m);							
+		/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("'#' op type = " + type, Level.NO, m);							
 		return type;
 	}
 
@@ -1263,11 +1262,10 @@ public class TokenTypeEval {
 	// - type of both args must be "INT" and therefore also 'IN' is INT
 	private IData.Type inBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_inBopTypeEval; // debug
 		/**/ tracer.println("is 'IN' BOP", Level.LO, m);	
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -1280,13 +1278,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(975355, errMsg1 + errMsg2, m, e);
+			throw new SNHException(975355, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// verify that boths agrs have type INT
@@ -1298,7 +1296,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// ok
-		/**/ tracer.println("'IN' op type = " + IData.Type.INT, Level.LO, m);							
+		/**/ tracer.println(() -> "'IN' op type = " + IData.Type.INT, Level.LO, m);							
 		return IData.Type.INT;
 	}
 
@@ -1312,15 +1310,14 @@ public class TokenTypeEval {
 	// - if type of right side cannot be determined, the type of '->' type is set to "FLEX"
 	private IData.Type impliesBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_impliesBopTypeEval; // debug
 		/**/ tracer.println("is '->' BOP", Level.LO, m);	
-		/**/ tracer.println("token: " + token.toUserInfo(), Level.NO, m);	
+		/**/ tracer.println(() -> "token: " + token.toUserInfo(), Level.NO, m);	
 		//--------------------------------------------------------------------------------
 		// type is FLEX, if expression is ok
 		IData.Type type = IData.Type.FLEX;			
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -1333,13 +1330,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(800345, errMsg1 + errMsg2, m, e);
+			throw new SNHException(800345, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// verify that left arg type is INT
@@ -1348,7 +1345,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// can't do more...
-		/**/ tracer.println("'->' op type = " + type, Level.LO, m);							
+		/**/ tracer.println(() -> "'->' op type = " + type, Level.LO, m);							
 		return type;
 	}
 
@@ -1363,15 +1360,14 @@ public class TokenTypeEval {
 	// -- otherwise (in case of nested expressions) it is set to right sides type (which is INT in this case)
 	private IData.Type commaBopTypeEval(Token token) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_commaBopTypeEval; // debug
 		/**/ tracer.println("is ',' BOP", Level.LO, m);	
-		/**/ tracer.println("token: " + token.toUserInfo(), Level.NO, m);	
+		/**/ tracer.println(() -> "token: " + token.toUserInfo(), Level.NO, m);	
 		//--------------------------------------------------------------------------------
 		// type is INT
 		IData.Type type = IData.Type.INT;			
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "";
-		String errMsg2 = "'" + token.getRawText() + "'";
 		//--------------------------------------------------------------------------------
 		// evaluate data type of args
 		IData.Type leftArgType;
@@ -1384,13 +1380,13 @@ public class TokenTypeEval {
 			errMsg1 = "right arg of ";
 			rightArgType = _typeEval(token.getRight());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
+			/**/ tracer.println(() -> "left type = " + leftArgType + ", right type = " + rightArgType, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
-			// throw new SyntaxException(errMsg1 + errMsg2, m, e); // too much info
+			// throw new SyntaxException(errMsg1 + "'" + token.getRawText() + "'", m, e); // too much info
 			throw e;
 		} catch (SNHException e) {
-			throw new SNHException(801235, errMsg1 + errMsg2, m, e);
+			throw new SNHException(801235, errMsg1 + "'" + token.getRawText() + "'", m, e);
 		}
 		//--------------------------------------------------------------------------------
 		// verify that left arg type is INT
@@ -1404,7 +1400,7 @@ public class TokenTypeEval {
 		}
 		//--------------------------------------------------------------------------------
 		// can't do more...
-		/**/ tracer.println("'->' op type = " + type, Level.LO, m);							
+		/**/ tracer.println(() -> "'->' op type = " + type, Level.LO, m);							
 		return type;
 	}
 
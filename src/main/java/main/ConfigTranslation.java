@@ -0,0 +1,263 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package main;
+
+import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import pmmm.*;
+import qa.exceptions.CodeGenException;
+import qa.exceptions.SNHException;
+import qa.exceptions.SyntaxException;
+import qa.stats.Phase;
+import qa.tracer.Level;
+import qa.tracer.TracePoint;
+import qa.tracer.Tracer;
+
+//================================================================================
+// translation of the already evaluated pmmm type for one config:
+// - instantiate a pmmm for the config and generate the code for all targets
+// - nb: several config translations may run in parallel on the same pmmm type
+// - nb: optionally, the targets of a config are generated in parallel, too
+class ConfigTranslation {
+	//--------------------------------------------------------------------------------
+	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_translate = TracePoint.of(ConfigTranslation.class, "translate"); // debug
+	/**/ private static final TracePoint M_translateTarget = TracePoint.of(ConfigTranslation.class, "translateTarget"); // debug
+	/**/ private static final TracePoint M_translateTargetsInParallel = TracePoint.of(ConfigTranslation.class, "translateTargetsInParallel"); // debug
+	//--------------------------------------------------------------------------------
+	// the evaluated pmmm type (shared, read only)
+	PmmmType pmmmType;
+	//--------------------------------------------------------------------------------
+	// my config
+	Config config;
+	//--------------------------------------------------------------------------------
+	// where to generate what
+	String absolutePeerModelToolchainPath = "";
+	String relativeUcPath = "";
+	Vector<String> targetKinds = new Vector<String>();
+	boolean writeAlsoToConsoleFlag = false;
+	//--------------------------------------------------------------------------------
+	// generate the targets in parallel; each target writes to its own output tree
+	boolean parallelTargetsFlag = false;
+	//================================================================================
+	// COMPUTED:
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// output paths; one per target kind (same index); null if not (yet) generated
+	Vector<String> targetPaths = new Vector<String>();
+	//--------------------------------------------------------------------------------
+	// timing in ms
+	long instantiateMillis = 0;
+	long codeGenMillis = 0;
+	// - wall clock time per target kind (same index)
+	Vector<Long> targetMillis = new Vector<Long>();
+	//--------------------------------------------------------------------------------
+	// measured phases: instantiation and code gen per target (see qa.stats.Report)
+	// - nb: Vector, as the targets may be generated in parallel
+	Vector<Phase> phases = new Vector<Phase>();
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	ConfigTranslation(PmmmType pmmmType, Config config, String absolutePeerModelToolchainPath, String relativeUcPath,
+			Vector<String> targetKinds, boolean writeAlsoToConsoleFlag, boolean parallelTargetsFlag) {
+		this.pmmmType = pmmmType;
+		this.config = config;
+		this.absolutePeerModelToolchainPath = absolutePeerModelToolchainPath;
+		this.relativeUcPath = relativeUcPath;
+		this.targetKinds = targetKinds;
+		this.writeAlsoToConsoleFlag = writeAlsoToConsoleFlag;
+		this.parallelTargetsFlag = parallelTargetsFlag;
+	}
+
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	String getConfigName() {
+		return config.getConfigName();
+	}
+
+	//================================================================================
+	// TRANSLATE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	void translate() throws SyntaxException, CodeGenException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_translate; // debug
+		//--------------------------------------------------------------------------------
+		String configName = config.getConfigName();
+		Phase instantiatePhase = Phase.start("instantiate:" + configName);
+
+		//================================================================================
+		// INSTANTIATION OF A PMMM FOR THE CONFIG
+		//================================================================================
+		//--------------------------------------------------------------------------------
+		/**/ tracer.println(() -> ui.Out.border('-'), Level.INFO, m);
+		/**/ tracer.println(() -> "INSTANTIATE PMMM FROM CONFIG '" + configName + "'", Level.INFO, m);
+		//--------------------------------------------------------------------------------
+		// create pmmm instance
+		PmmmInstance pmmmInstance = new PmmmInstance(pmmmType, config);
+		// evaluate and transform it
+		pmmmInstance.evaluateAndTransform();
+		//--------------------------------------------------------------------------------
+		// success
+		/**/ tracer.println(() -> "Pmmm for Config '" + configName + "':\n" + pmmmInstance.toString(), Level.NO, m);
+		/**/ tracer.println("successfully instantiated", Level.NO, m);
+		//--------------------------------------------------------------------------------
+		phases.add(instantiatePhase.stop());
+		instantiateMillis = instantiatePhase.getWallMillis();
+		long t1 = System.nanoTime();
+
+		//================================================================================
+		// CODE GENERATOR: PMMM 2 ALL TARGETS
+		//================================================================================
+		//--------------------------------------------------------------------------------
+		targetPaths.setSize(targetKinds.size());
+		targetMillis.setSize(targetKinds.size());
+		//--------------------------------------------------------------------------------
+		if(parallelTargetsFlag && targetKinds.size() > 1)
+			translateTargetsInParallel(pmmmInstance);
+		else {
+			for(int i = 0; i < targetKinds.size(); i++) 
+				translateTarget(pmmmInstance, i);
+		}
+		//--------------------------------------------------------------------------------
+		codeGenMillis = (System.nanoTime() - t1) / 1000000;
+	}
+	//--------------------------------------------------------------------------------
+	// generate the code for the i-th target kind
+	private void translateTarget(PmmmInstance pmmmInstance, int i) throws CodeGenException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_translateTarget; // debug
+		//--------------------------------------------------------------------------------
+		String targetKind = targetKinds.get(i);
+		String absoluteUcTargetPath = "";
+		codeGen.BasicCodeGen codeGenerator;
+		Phase phase = Phase.start("code gen:" + config.getConfigName() + ":" + targetKind);
+		//--------------------------------------------------------------------------------
+		try {
+			//--------------------------------------------------------------------------------
+			// go code
+			if(targetKind.equals(Main.GO_CODE)) {
+				String dir = "useCases";
+				absoluteUcTargetPath = absolutePeerModelToolchainPath + "_GO-AUTOMATON/src/" + dir + "/" + relativeUcPath;
+				codeGenerator = new codeGen.Go.GoCodeGen(pmmmInstance, relativeUcPath, absoluteUcTargetPath, dir, writeAlsoToConsoleFlag);
+			}
+			//--------------------------------------------------------------------------------
+			// pm dsl
+			else if(targetKind.equals(Main.PM_DSL)) {
+				absoluteUcTargetPath = absolutePeerModelToolchainPath + "_USE-CASES/_AUTO_GENERATED/_PM_DSL/" + relativeUcPath;
+				codeGenerator = new codeGen.PmDsl.PmDslCodeGen(pmmmInstance, absoluteUcTargetPath, writeAlsoToConsoleFlag);
+			}
+			//--------------------------------------------------------------------------------
+			// latex
+			else if(targetKind.equals(Main.LATEX)) {
+				absoluteUcTargetPath = absolutePeerModelToolchainPath + "_USE-CASES/_AUTO_GENERATED/_LATEX/" + relativeUcPath;
+				codeGenerator = new codeGen.LaTeX.LaTeXCodeGen(pmmmInstance, absoluteUcTargetPath, writeAlsoToConsoleFlag);
+			}
+			//--------------------------------------------------------------------------------
+			else {
+				// should not happen -- was checked by args
+				// exc would be catched below...
+				throw new SNHException(101010, "ill. target kind = " + targetKind, m);
+			}
+			//--------------------------------------------------------------------------------
+			// do it
+			(new codeGen.CodeGenDirector(codeGenerator)).generate();
+			//--------------------------------------------------------------------------------
+		} catch (CodeGenException e) {
+			throw new CodeGenException(targetKind + ": can't generate code", m, e);
+		} catch (SNHException e) {
+			throw new SNHException(375215, targetKind + ": can't generate code", m, e);
+		}
+		targetPaths.set(i, absoluteUcTargetPath);
+		phases.add(phase.stop());
+		targetMillis.set(i, phase.getWallMillis());
+		/**/ tracer.println(() -> "config '" + config.getConfigName() + "' successfully translated to " + targetKind, Level.INFO, m);
+	}
+	//--------------------------------------------------------------------------------
+	// generate the code for all target kinds in parallel on the same (read only) pmmm instance
+	// - nb: the first error (in time) is reported; the other targets are stopped
+	private void translateTargetsInParallel(PmmmInstance pmmmInstance) throws CodeGenException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_translateTargetsInParallel; // debug
+		//--------------------------------------------------------------------------------
+		ExecutorService executor = Executors.newFixedThreadPool(targetKinds.size());
+		ExecutorCompletionService<Integer> completionService = new ExecutorCompletionService<Integer>(executor);
+		Vector<Future<Integer>> futures = new Vector<Future<Integer>>();
+		try {
+			//--------------------------------------------------------------------------------
+			// submit all
+			for(int i = 0; i < targetKinds.size(); i++) {
+				int targetIndex = i;
+				futures.add(completionService.submit(() -> {
+					translateTarget(pmmmInstance, targetIndex);
+					return targetIndex;
+				}));
+			}
+			//--------------------------------------------------------------------------------
+			// wait for all in the order they complete
+			for(int i = 0; i < futures.size(); i++) {
+				Future<Integer> future = completionService.take();
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					// nb: translateTarget has already put the target kind into the message
+					Throwable cause = e.getCause();
+					if(cause instanceof CodeGenException)
+						throw (CodeGenException) cause;
+					if(cause instanceof SNHException)
+						throw (SNHException) cause;
+					if(cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if(cause instanceof Error)
+						throw (Error) cause;
+					throw new SNHException(375216, "can't generate code: " + cause, m);
+				}
+			}
+		} catch (InterruptedException e) {
+			throw new SNHException(375217, "code generation interrupted", m);
+		} finally {
+			//--------------------------------------------------------------------------------
+			// stop the remaining ones on error
+			for(int i = 0; i < futures.size(); i++) 
+				futures.get(i).cancel(true);
+			executor.shutdownNow();
+		}
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+//EOF
+//================================================================================
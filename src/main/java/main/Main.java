@@ -23,20 +23,28 @@
 package main;
 
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import pmmm.*;
 import qa.exceptions.CodeGenException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
+import qa.stats.Phase;
+import qa.stats.Report;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
 // auto generated XML; can be "re-consumed" by translator :-)
 public class Main {
-	//--------------------------------------------------------------------------------
-	/**/ O m = new O(){}; // debug
+	// trace points
+	/**/ private static final TracePoint M_translate = TracePoint.of(Main.class, "translate"); // debug
+	/**/ private static final TracePoint M_translateConfigs = TracePoint.of(Main.class, "translateConfigs"); // debug
+	/**/ private static final TracePoint M_checkArgs = TracePoint.of(Main.class, "checkArgs"); // debug
 	//--------------------------------------------------------------------------------
 	//================================================================================
 	// MAIN ARGS:
@@ -58,8 +66,8 @@ public class Main {
 	// - nb: extension ".xml" is automatically added to file name;
 	static String ucName = ""; 
 	//--------------------------------------------------------------------------------
-	// CONFIG NAME:
-	static String configName = ""; 
+	// CONFIG NAMES: one or more config names separated by ",", or ALL
+	static Vector<String> configNames = new Vector<String>(); 
 	//--------------------------------------------------------------------------------
 	// TARGET-KINDS: vector of TARGETS = [ GO-CODE | PM-DSL | LATEX ]
 	static Vector<String> targetKinds = new Vector<String>(); 
@@ -69,6 +77,24 @@ public class Main {
 	static final String PM_DSL = "PM-DSL";
 	static final String GO_CODE = "GO-CODE";
 	static final String LATEX = "LATEX";
+	static final String ALL_CONFIGS = "ALL";
+	static final String PARALLEL_TARGETS = "PARALLEL-TARGETS";
+	static final String REPORT_SUMMARY = "REPORT-SUMMARY";
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// max. number of configs translated in parallel
+	static int nConfigThreads = Runtime.getRuntime().availableProcessors(); // <<<<<<<<<<<<<<<<<<<< configure here
+	//--------------------------------------------------------------------------------
+	// generate the targets of a config in parallel; each target writes to its own output tree
+	// - nb: can also be switched on by the PARALLEL-TARGETS arg
+	static boolean parallelTargetsFlag = false; // <<<<<<<<<<<<<<<<<<<< configure here
+	//--------------------------------------------------------------------------------
+	// show the summary of the translation report after the success banner
+	// - nb: the json report is written in any case (see translate); can also be switched on by the REPORT-SUMMARY arg
+	static boolean reportSummaryFlag = false; // <<<<<<<<<<<<<<<<<<<< configure here
+	//--------------------------------------------------------------------------------
+	// report of the last translation; null if it failed
+	static Report report = null;
 
 	//================================================================================
 	// MAIN
@@ -106,6 +132,8 @@ public class Main {
 		}
 		else {
 			/**/ System.out.println("\n" + ui.Out.banner("SUCCESS", '!'));
+			if(reportSummaryFlag && report != null)
+				/**/ System.out.print("\n" + report.toSummary());
 		}
 		//--------------------------------------------------------------------------------
 		// /**/ System.out.print(ui.Out.borderline('_'));
@@ -115,23 +143,34 @@ public class Main {
 	//--------------------------------------------------------------------------------
 	// directory structure and file names are based on conventions
 	private static void translate() throws SyntaxException, CodeGenException, SNHException {
+		report = null;
+		Report curReport = new Report(ucName, sourceKind);
+		try {
+			translate(curReport);
+		} finally {
+			// nb: no-op if the translation succeeded (finished)
+			curReport.close();
+		}
+	}
+	//--------------------------------------------------------------------------------
+	private static void translate(Report curReport) throws SyntaxException, CodeGenException, SNHException {
 		//--------------------------------------------------------------------------------
 		// for debug
 		/**/ Tracer tracer = new Tracer();
-		/**/ Object m = new Object(){};  
+		/**/ TracePoint m = M_translate;  
 		//--------------------------------------------------------------------------------
 		// local vars:
 		parser.PmmmComponents pmmmComponents;
-		pmmm.PmmmInstance pmmmInstance; 
-		Vector<String> targetPaths = new Vector<String>();
 		String extension = ".xml";
 		String errMsg = "";
+		long t0 = System.nanoTime();
+		long nExceptions0 = qa.exceptions.BasicException.getNConstructed();
 		//--------------------------------------------------------------------------------
 
 		//================================================================================
 		// PARSER: SOURCE 2 PMMM TYPE
 		//================================================================================
-		/**/ tracer.println(ui.Out.border('-') + sourceKind + " 2 'RAW' PMMM", Level.INFO, m);	
+		/**/ tracer.println(() -> ui.Out.border('-') + sourceKind + " 2 'RAW' PMMM", Level.INFO, m);	
 		//--------------------------------------------------------------------------------
 		// builder pattern
 		parser.Parser parser;
@@ -153,6 +192,7 @@ public class Main {
 		//--------------------------------------------------------------------------------
 		// do the parsing from the right source
 		errMsg = sourceKind + " parser error";
+		Phase phase = Phase.start("parse");
 		try {
 			pmmmComponents = new parser.Director(parser).parse();
 		} catch (SyntaxException e) {
@@ -160,17 +200,23 @@ public class Main {
 		} catch (SNHException e) {
 			throw new SNHException(600000, errMsg, m, e);
 		}
+		curReport.addPhase(phase.stop());
+		if(parser instanceof parser.drawio.DrawioParser) {
+			parser.drawio.DrawioParser drawioParser = (parser.drawio.DrawioParser) parser;
+			curReport.setDrawioRead(drawioParser.getReaderName(), drawioParser.getReadNanos(), drawioParser.getPeakHeapBytes(), drawioParser.getNDiagrams(), 
+					drawioParser.getNCacheHits(), drawioParser.getNCacheMisses());
+		}
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("source = " + absoluteUcPath + ucName + extension, Level.INFO, new Object(){});
-		/**/ tracer.println("use case file successfully parsed", Level.INFO, new Object(){});
-		/**/ tracer.println("'Raw' Pmmm:\n" + pmmmComponents.toString(false /* n/a: showProcessedFieldsFlag */), Level.NO, new Object(){});
+		/**/ tracer.println(() -> "source = " + absoluteUcPath + ucName + extension, Level.INFO, M_translate);
+		/**/ tracer.println("use case file successfully parsed", Level.INFO, M_translate);
+		/**/ tracer.println(() -> "'Raw' Pmmm:\n" + pmmmComponents.toString(false /* n/a: showProcessedFieldsFlag */), Level.NO, M_translate);
 		//--------------------------------------------------------------------------------
 
 		//================================================================================
 		// CREATE PMMM TYPE AND EVALUATE IT (TOKENIZE, TYPE CHECK & PLAUSI CHECK)
 		//================================================================================
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println(ui.Out.border('-'), Level.INFO, m);	
+		/**/ tracer.println(() -> ui.Out.border('-'), Level.INFO, m);	
 		/**/ tracer.println("'RAW' PMMM TYPE 2 EVALUATED PMMM TYPE", Level.INFO, m);	
 		PmUtil.setShowTvvFlag(false /* showTvvFlag */); // <<<<<<<<<<<<<<<<<<<< configure here; if true, traces will display also the tvv info
 		//--------------------------------------------------------------------------------
@@ -178,9 +224,12 @@ public class Main {
 		try {
 			//--------------------------------------------------------------------------------
 			// create pmmm type from components
+			phase = Phase.start("pmmm type");
 			pmmmType = new PmmmType(pmmmComponents); 
+			curReport.addPhase(phase.stop());
 			// evaluate the pmmm type 
 			pmmmType.evaluate();
+			curReport.addPhases(pmmmType.getEvaluatePhases());
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
 			// throw new SyntaxException("user model error", m, e); // too much info
@@ -190,81 +239,60 @@ public class Main {
 		}
 		//--------------------------------------------------------------------------------
 		// success
-		/**/ tracer.println("Pmmm Type:\n" + pmmmComponents.toString(false /* showProcessedFieldsFlag */), Level.INFO, new Object(){});
-		/**/ tracer.println("successfully evaluated", Level.NO, new Object(){});
+		/**/ tracer.println(() -> "Pmmm Type:\n" + pmmmComponents.toString(false /* showProcessedFieldsFlag */), Level.INFO, M_translate);
+		/**/ tracer.println("successfully evaluated", Level.NO, M_translate);
 		//--------------------------------------------------------------------------------
 
 		//================================================================================
-		// INSTANTIATION OF A PMMM FOR THE DESIRED CONFIG
+		// SELECT CONFIGS
 		//================================================================================
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println(ui.Out.border('-'), Level.INFO, m);	
-		/**/ tracer.println("INSTANTIATE PMMM FROM CONFIG '" + configName + "'", Level.INFO, m);	
-		//--------------------------------------------------------------------------------
-		// find config
-		// - just pass the exception on (ie if config is not found)
-		Config config = pmmmComponents.getConfig(configName);
-		// create pmmm instance
-		pmmmInstance = new PmmmInstance(pmmmType, config);
-		// evaluate and transform it
-		pmmmInstance.evaluateAndTransform();
-		//--------------------------------------------------------------------------------
-		// success
-		/**/ tracer.println("Pmmm for Config '" + configName + "':\n" + pmmmInstance.toString(), Level.NO, new Object(){});
-		/**/ tracer.println("successfully instantiated", Level.NO, new Object(){});
+		// - just pass the exception on (ie if a config is not found)
+		Vector<Config> configs = new Vector<Config>();
+		if(configNames.size() == 1 && configNames.get(0).equals(ALL_CONFIGS)) 
+			configs.addAll(pmmmComponents.configs);
+		else {
+			for(int i = 0; i < configNames.size(); i++) 
+				configs.add(pmmmType.getConfig(configNames.get(i)));
+		}
 		//--------------------------------------------------------------------------------
+		long parseAndEvaluateMillis = (System.nanoTime() - t0) / 1000000;
 
 		//================================================================================
-		// CODE GENERATOR: PMMM 2 ALL TARGETS
+		// PER CONFIG: INSTANTIATION OF A PMMM AND CODE GENERATION FOR ALL TARGETS
 		//================================================================================
 		//--------------------------------------------------------------------------------
-		// create code gen
-		codeGen.BasicCodeGen codeGenerator;
 		// write output also to console
 		boolean writeAlsoToConsoleFlag = false; // <<<<<<<<<<<<<<<<<<<< configure here
 		//--------------------------------------------------------------------------------
-		for(int i = 0; i < targetKinds.size(); i++) {
-			String targetKind = targetKinds.get(i);
-			String absoluteUcTargetPath = "";
-			//--------------------------------------------------------------------------------
-			try {
-				//--------------------------------------------------------------------------------
-				// go code
-				if(targetKind.equals(GO_CODE)) {
-					String dir = "useCases"; 
-					absoluteUcTargetPath = absolutePeerModelToolchainPath + "_GO-AUTOMATON/src/" + dir + "/" + relativeUcPath; 					
-					codeGenerator = new codeGen.Go.GoCodeGen(pmmmInstance, relativeUcPath, absoluteUcTargetPath, dir, writeAlsoToConsoleFlag);
-				}
-				//--------------------------------------------------------------------------------
-				// pm dsl
-				else if(targetKind.equals(PM_DSL)) {
-					absoluteUcTargetPath = absolutePeerModelToolchainPath + "_USE-CASES/_AUTO_GENERATED/_PM_DSL/" + relativeUcPath; 
-					codeGenerator = new codeGen.PmDsl.PmDslCodeGen(pmmmInstance, absoluteUcTargetPath, writeAlsoToConsoleFlag);
-				}
-				//--------------------------------------------------------------------------------
-				// latex
-				else if(targetKind.equals(LATEX)) {
-					absoluteUcTargetPath = absolutePeerModelToolchainPath + "_USE-CASES/_AUTO_GENERATED/_LATEX/" + relativeUcPath; 
-					codeGenerator = new codeGen.LaTeX.LaTeXCodeGen(pmmmInstance, absoluteUcTargetPath, writeAlsoToConsoleFlag);
-				}
-				//--------------------------------------------------------------------------------
-				else {
-					// should not happen -- was checked by args
-					// exc would be catched below...
-					throw new SNHException(101010, "ill. target kind = " + targetKind, m);
-				}
-				//--------------------------------------------------------------------------------
-				// do it
-				(new codeGen.CodeGenDirector(codeGenerator)).generate();
-				//--------------------------------------------------------------------------------
-			} catch (CodeGenException e) {
-				throw new CodeGenException(targetKind + ": can't generate code", m, e);
-			} catch (SNHException e) {
-				throw new SNHException(375215, targetKind + ": can't generate code", m, e);
-			}
-			targetPaths.add(absoluteUcTargetPath);
-			/**/ tracer.println("use case successfully translated to " + targetKind, Level.INFO, new Object(){});
+		Vector<ConfigTranslation> configTranslations = new Vector<ConfigTranslation>();
+		for(int i = 0; i < configs.size(); i++) {
+			configTranslations.add(new ConfigTranslation(pmmmType, configs.get(i), absolutePeerModelToolchainPath, relativeUcPath, targetKinds, writeAlsoToConsoleFlag, parallelTargetsFlag));
 		}
+		//--------------------------------------------------------------------------------
+		// run them in parallel
+		translateConfigs(configTranslations);
+		//--------------------------------------------------------------------------------
+		long totalMillis = (System.nanoTime() - t0) / 1000000;
+		long nExceptions = qa.exceptions.BasicException.getNConstructed() - nExceptions0;
+
+		//================================================================================
+		// TRANSLATION REPORT
+		//================================================================================
+		//--------------------------------------------------------------------------------
+		// nb: the phases of the configs in config order, although they may have run in parallel
+		for(int i = 0; i < configTranslations.size(); i++) 
+			curReport.addPhases(configTranslations.get(i).phases);
+		curReport.finish();
+		// - nb: the report is only diagnostics, so a translation does not fail if it can't be written
+		String reportFileName = absolutePeerModelToolchainPath + "_USE-CASES/_AUTO_GENERATED/_REPORT/" + relativeUcPath + ucName + "_report.json";
+		String reportInfo = reportFileName;
+		try {
+			curReport.write(reportFileName);
+		} catch (java.io.IOException e) {
+			reportInfo = "WARNING: can't write " + reportFileName + "; " + e.getMessage();
+		}
+		report = curReport;
 
 		//================================================================================
 		// INFO: MESSAGES TO THE USER
@@ -274,30 +302,90 @@ public class Main {
 		/**/ System.out.print(ui.Out.borderline('-'));
 		// /**/ System.out.println("!!! SUCCESS !!!\n");
 		/**/ System.out.println("input:  " + absoluteUcPath + ucName + extension + " (" + sourceKind + ")");
-		/**/ System.out.println("config: " + configName);
-		//--------------------------------------------------------------------------------
-		for(int i = 0; i < targetKinds.size() && i < targetPaths.size(); i++) {
-			String targetKind = targetKinds.get(i);
-			// TBD: tricky....
-			/**/ System.out.println("output: " + targetPaths.get(i) + 
-					((targetKind.equals(GO_CODE)) ? "..." : (ucName + "_" + configName + 
-							(targetKind.equals(LATEX) ? ".tex" : ".xml"))) + 
-					" (" + targetKind + ")");
+		/**/ System.out.println("parse & evaluate: " + parseAndEvaluateMillis + " ms");
+		//--------------------------------------------------------------------------------
+		for(int j = 0; j < configTranslations.size(); j++) {
+			ConfigTranslation configTranslation = configTranslations.get(j);
+			String configName = configTranslation.getConfigName();
+			/**/ System.out.println("config: " + configName + " (instantiate: " + configTranslation.instantiateMillis + " ms, code gen: " + configTranslation.codeGenMillis + " ms)");
+			//--------------------------------------------------------------------------------
+			for(int i = 0; i < targetKinds.size() && i < configTranslation.targetPaths.size(); i++) {
+				String targetKind = targetKinds.get(i);
+				// TBD: tricky....
+				/**/ System.out.println("output: " + configTranslation.targetPaths.get(i) + 
+						((targetKind.equals(GO_CODE)) ? "..." : (ucName + "_" + configName + 
+								(targetKind.equals(LATEX) ? ".tex" : ".xml"))) + 
+						" (" + targetKind + ", " + configTranslation.targetMillis.get(i) + " ms)");
+			}
 		}
+		/**/ System.out.println("total:  " + totalMillis + " ms");
+		/**/ System.out.println("internal exceptions: " + nExceptions);
+		/**/ System.out.println("report: " + reportInfo);
 		//--------------------------------------------------------------------------------
 		/**/ System.out.print(ui.Out.borderline('-'));
 		//--------------------------------------------------------------------------------
 	}
 
+	//--------------------------------------------------------------------------------
+	// run the translations of the configs on a thread pool
+	// - nb: the error of the first failing config (in the given order) is reported; the others are cancelled
+	private static void translateConfigs(Vector<ConfigTranslation> configTranslations) throws SyntaxException, CodeGenException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_translateConfigs; // debug
+		//--------------------------------------------------------------------------------
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(nConfigThreads, configTranslations.size())));
+		Vector<Future<?>> futures = new Vector<Future<?>>();
+		try {
+			//--------------------------------------------------------------------------------
+			// submit all
+			for(int i = 0; i < configTranslations.size(); i++) {
+				ConfigTranslation configTranslation = configTranslations.get(i);
+				futures.add(executor.submit(() -> {
+					configTranslation.translate();
+					return null;
+				}));
+			}
+			//--------------------------------------------------------------------------------
+			// wait for all in config order
+			for(int i = 0; i < futures.size(); i++) {
+				String errMsg = "config '" + configTranslations.get(i).getConfigName() + "'";
+				try {
+					futures.get(i).get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if(cause instanceof SyntaxException)
+						throw new SyntaxException(errMsg, m, (SyntaxException) cause);
+					if(cause instanceof CodeGenException)
+						throw new CodeGenException(errMsg, m, (CodeGenException) cause);
+					if(cause instanceof SNHException)
+						throw new SNHException(600007, errMsg, m, (SNHException) cause);
+					if(cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if(cause instanceof Error)
+						throw (Error) cause;
+					throw new SNHException(600008, errMsg + ": " + cause, m);
+				} catch (InterruptedException e) {
+					throw new SNHException(600009, errMsg + ": interrupted", m);
+				}
+			}
+		} finally {
+			//--------------------------------------------------------------------------------
+			// cancel the remaining ones on error
+			for(int i = 0; i < futures.size(); i++) 
+				futures.get(i).cancel(true);
+			executor.shutdownNow();
+		}
+	}
+
 	//================================================================================
 	// CHECK ARGS
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	// call: main [DRAWIO|PM-DSL] <peer-model-path> <use-case-name> <config-name> {GO-CODE} {PM-DSL} {LATEX}
+	// call: main [DRAWIO|PM-DSL] <peer-model-path> <use-case-name> <config-name>{,<config-name>}|ALL {GO-CODE} {PM-DSL} {LATEX} {PARALLEL-TARGETS} {REPORT-SUMMARY}
 	private static void checkArgs(String[] args) throws SyntaxException {
 		//--------------------------------------------------------------------------------
 		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_checkArgs; // debug
 		//--------------------------------------------------------------------------------
 		// check args
 		if(args.length >= 5) {
@@ -316,22 +404,40 @@ public class Main {
 			// uc name
 			ucName = args[3];
 			//--------------------------------------------------------------------------------
-			// config name
-			configName = args[4];
+			// config names
+			String[] names = args[4].split(",");
+			for(int i = 0; i < names.length; i++) {
+				if(names[i].trim().length() > 0 && ! configNames.contains(names[i].trim()))
+					configNames.add(names[i].trim());
+			}
+			if(configNames.size() == 0)
+				throw new SyntaxException("config name is missing \n", m);
+			if(configNames.size() > 1 && configNames.contains(ALL_CONFIGS))
+				throw new SyntaxException("ill. config names: " + ALL_CONFIGS + " must be used alone \n", m);
 			//--------------------------------------------------------------------------------
 			// targets:
 			for(int i = 5; i < args.length; i++) {
 				String targetKind = args[i];
+				if(targetKind.equals(PARALLEL_TARGETS)) {
+					parallelTargetsFlag = true;
+					continue;
+				}
+				if(targetKind.equals(REPORT_SUMMARY)) {
+					reportSummaryFlag = true;
+					continue;
+				}
 				if(! (targetKind.equals(GO_CODE) || targetKind.equals(PM_DSL) || targetKind.equals(LATEX)))
 					throw new SyntaxException("ill. targetKind1 \n", m);
 				targetKinds.add(targetKind);
 			}
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("sourceKind = " + sourceKind, Level.NO, m);
-			/**/ tracer.println("absolutePeerModelToolchainPath = " + absolutePeerModelToolchainPath, Level.NO, m);
-			/**/ tracer.println("relativeUcPath = " + relativeUcPath, Level.NO, m);
-			/**/ tracer.println("ucName = " + ucName, Level.NO, m);
-			/**/ tracer.println("configName = " + configName, Level.NO, m);
+			/**/ tracer.println(() -> "sourceKind = " + sourceKind, Level.NO, m);
+			/**/ tracer.println(() -> "absolutePeerModelToolchainPath = " + absolutePeerModelToolchainPath, Level.NO, m);
+			/**/ tracer.println(() -> "relativeUcPath = " + relativeUcPath, Level.NO, m);
+			/**/ tracer.println(() -> "ucName = " + ucName, Level.NO, m);
+			/**/ tracer.println(() -> "configNames = " + configNames, Level.NO, m);
+			/**/ tracer.println(() -> "targetKinds = " + targetKinds + (parallelTargetsFlag ? " (in parallel)" : ""), Level.NO, m);
+			/**/ tracer.println(() -> "reportSummaryFlag = " + reportSummaryFlag, Level.NO, m);
 			//--------------------------------------------------------------------------------
 		}
 		else {
@@ -340,10 +446,10 @@ public class Main {
 			for(int i = 0; i < args.length; i++) {
 				buf.append("  arg[" + i + "] = " + args[i] + "\n");
 			}
-			buf.append("\ncall with: <SourceKind> <PeerModelToolchainPath> <UseCasePath> <UseCaseName> {GO-CODE|PM-DSL|LATEX}\n\nwith:\n\n" +
+			buf.append("\ncall with: <SourceKind> <PeerModelToolchainPath> <UseCasePath> <UseCaseName> <ConfigName>{,<ConfigName>}|ALL {GO-CODE|PM-DSL|LATEX} {PARALLEL-TARGETS} {REPORT-SUMMARY}\n\nwith:\n\n" +
 					"<SourceKind>\n" + 
 					"  kind of source for the Peer Model Meta Model: \n" +
-					"    DRAWIO ... uncompressed drawio xml file \n" +
+					"    DRAWIO ... drawio xml file (compressed or uncompressed) \n" +
 					"    PM-DSL ... Peer Model (= PM) Domain Specific Language xml file \n" +
 					"<PeerModelToolchainPath>\n" + 
 					"   absolute path to the Peer Model toolchain for the poor wo/man \n" +
@@ -358,6 +464,8 @@ public class Main {
 					"<ConfigName>\n" + 
 					"  name of the configuration to be generated \n" +
 					"  a configuration with this name must be contained in the Peer Model Meta Model (= PMMM) \n" +
+					"  several names separated by \",\" (without blanks) or ALL for all configurations \n" +
+					"  are translated in parallel from the once parsed and evaluated PMMM \n" +
 					"  in drawio: a diagram termed \"Config : <config-name>\" \n" +
 					"  in PM-DSL: an element termed \"<Config name=<config-name>\" \n" +
 					"{GO-CODE}\n" + 
@@ -365,7 +473,15 @@ public class Main {
 					"{PM-DSL}\n" + 
 					"  optional: generate PM-DSL \n" +
 					"{LATEX}\n" + 
-					"  optional: generate LATEX \n");
+					"  optional: generate LATEX \n" +
+					"{PARALLEL-TARGETS}\n" + 
+					"  optional: generate the targets of a configuration in parallel \n" +
+					"  each target writes to its own output tree; the first error stops the others \n" +
+					"{REPORT-SUMMARY}\n" + 
+					"  optional: show a summary of the translation report (time, cpu time and allocated bytes \n" +
+					"  per phase, counters, output files) after the success message \n" +
+					"  the report is always written to <PeerModelToolchainPath>/_USE-CASES/_AUTO_GENERATED/_REPORT/<UseCasePath> \n" +
+					"  (if possible; otherwise a warning is shown) \n");
 			throw new SyntaxException(new String(buf), m);
 		}
 	}
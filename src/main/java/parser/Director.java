@@ -24,7 +24,7 @@
 
 package parser;
 
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 import qa.exceptions.*;
 
@@ -34,6 +34,8 @@ public class Director {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_parse = TracePoint.of(Director.class, "parse"); // debug
 	//--------------------------------------------------------------------------------
 	Parser parser;
 
@@ -59,7 +61,7 @@ public class Director {
 	//--------------------------------------------------------------------------------
 	public PmmmComponents parse() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_parse; // debug
 		//--------------------------------------------------------------------------------
 		// assertion that parser is initialized
 		if(parser == null)
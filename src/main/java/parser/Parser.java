@@ -38,7 +38,7 @@ import org.xml.sax.SAXException;
 
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -47,6 +47,8 @@ public abstract class Parser implements IParser {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	protected Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_getFirstSubElementWithName = TracePoint.of(Parser.class, "getFirstSubElementWithName"); // debug
 	//--------------------------------------------------------------------------------
 	protected String sourcePath = "";
 	protected String ucName = "";
@@ -98,7 +100,7 @@ public abstract class Parser implements IParser {
 	public static Element getFirstSubElementWithName(String subElementName, Element element) throws SyntaxException {
 		//--------------------------------------------------------------------------------
 		/**/ Tracer tracer = new Tracer();  // debug
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getFirstSubElementWithName; // debug
 		//--------------------------------------------------------------------------------
 		// assert that element is not null
 		if(element == null) {
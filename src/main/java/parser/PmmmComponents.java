@@ -25,8 +25,6 @@ import java.util.Vector;
 
 import eval.tokens.TokenExpression;
 import pmmm.*;
-import qa.exceptions.SyntaxException;
-import qa.tracer.O;
 
 //================================================================================
 // result of parsing: assembly of all PMMM components
@@ -65,22 +63,6 @@ public class PmmmComponents {
 	public PmmmComponents() {
 	}
 
-	//================================================================================
-	// QUERY
-	//================================================================================
-	//--------------------------------------------------------------------------------
-	public Config getConfig(String configName) throws SyntaxException {
-		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		//--------------------------------------------------------------------------------
-		for(int i = 0; i < configs.size(); i++) {
-			Config config = configs.get(i);
-			if(config.getConfigName().equals(configName))
-				return config;
-		}
-		throw new SyntaxException("config '" + configName + "' does not exist", m);
-	}
-
 	//================================================================================
 	//================================================================================
 	// DEBUG
@@ -23,11 +23,14 @@
 //================================================================================
 package parser.drawio;
 
+import javax.xml.stream.XMLStreamReader;
+
 import org.w3c.dom.Element;
 
 import qa.tracer.Level;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
-import util.replace.xml.XmlReplacements;
+import util.replace.MarkupScanner;
 
 //================================================================================
 // artifact extracts selected attributes of an XML Element (from the XML file) that is relevant for the model;
@@ -39,6 +42,8 @@ public class Artifact {
 	//--------------------------------------------------------------------------------
 	// debug
 	/**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_constructXmlArtifact = TracePoint.of(Artifact.class, "constructXmlArtifact"); // debug
 	//--------------------------------------------------------------------------------
 	// the "value" of the <PMARTIFACT> marker (see style attribute in Peer Model drawio shapes)
 	String artifactName = "";
@@ -73,44 +78,86 @@ public class Artifact {
 		// help fu needed because tracer mechanism does not work in constructor
 		constructXmlArtifact(mxCellElement, artifactName);
 	}
+	//--------------------------------------------------------------------------------
+	// the same for the current start element "mxCell" of a streaming (StAX) reader;
+	// nb: here a non existing attribute is null, which is mapped to an empty string;
+	public Artifact(XMLStreamReader mxCellReader, String artifactName) {
+		constructXmlArtifact(artifactName, 
+				attribute(mxCellReader, "id"), 
+				attribute(mxCellReader, "parent"), 
+				attribute(mxCellReader, "source"), 
+				attribute(mxCellReader, "target"), 
+				attribute(mxCellReader, "value"));
+	}
+
+	//--------------------------------------------------------------------------------
+	// re-create an artifact from its already extracted and cleaned attributes;
+	// - nb: used by the artifacts cache
+	Artifact(String artifactName, String id, String parentId, String sourceId, String targetId, String value) {
+		this.artifactName = artifactName;
+		this.id = id;
+		this.parentId = parentId;
+		this.sourceId = sourceId;
+		this.targetId = targetId;
+		this.value = value;
+	}
 
 	//--------------------------------------------------------------------------------
 	// this help fu is a trick so that tracer can be used - which is not possible in a constructor...
 	private void constructXmlArtifact(Element mxCellElement, String artifactName) {
+		constructXmlArtifact(artifactName, 
+				mxCellElement.getAttribute("id"), 
+				mxCellElement.getAttribute("parent"), 
+				mxCellElement.getAttribute("source"), 
+				mxCellElement.getAttribute("target"), 
+				mxCellElement.getAttribute("value"));
+	}
+	//--------------------------------------------------------------------------------
+	// nb: value is the raw value of the xml attribute
+	private void constructXmlArtifact(String artifactName, String id, String parentId, String sourceId, String targetId, String value) {
 		// for debug:
-		/**/ Object m = new Object(){};
+		/**/ TracePoint m = M_constructXmlArtifact;
 		//================================================================================
 		// artifactName
 		this.artifactName = artifactName;
 		//================================================================================
 		// "id" 
-		id = mxCellElement.getAttribute("id");
+		this.id = id;
 		//================================================================================
 		// "parent"  
-		parentId = mxCellElement.getAttribute("parent");
+		this.parentId = parentId;
 		//================================================================================
 		// "source" 
-		sourceId = mxCellElement.getAttribute("source"); 
+		this.sourceId = sourceId; 
 		//================================================================================
 		// "target" 
-		targetId = mxCellElement.getAttribute("target");
+		this.targetId = targetId;
 		//================================================================================
 		// "value" 
-		value = mxCellElement.getAttribute("value");			
+		value = cleanValue(value);
+		//================================================================================
+		/**/ tracer.println(artifactName, Level.NO, m);
 		//--------------------------------------------------------------------------------
-		// - remove all html tags from value
-		// -- a bit tricky :-)
-		// -- CAUTION replace by " " otherwise names might peck into each other
-		value = value.replaceAll("\\<.*?\\>", " ");
+		this.value = value;
+	}
+	//--------------------------------------------------------------------------------
+	// the value of an artifact from the raw value of the xml attribute
+	// - nb: also used by the streaming reader, which cleans the values of a diagram only if it is not cached
+	static String cleanValue(String value) {
 		//--------------------------------------------------------------------------------
-		// - replace special html characters in xml value
-		// -- TBD: check if these are all needed ones ....
-		value = (new util.replace.Director(new XmlReplacements())).x2String(value);		
+		// - remove all html tags from value and replace special html characters in xml value
+		// -- in one single pass over the chars (no regex and no replacement chain per cell)
+		// -- CAUTION tags are replaced by " " otherwise names might peck into each other
+		value = MarkupScanner.stripTagsAndDecodeEntities(value);
 		//--------------------------------------------------------------------------------
 		// strip leading and trailing white space of value
-		value = value.trim();
-		//================================================================================
-		/**/ tracer.println(artifactName, Level.NO, m);
+		return value.trim();
+	}
+	//--------------------------------------------------------------------------------
+	// value of the attribute of the current start element; "" if it does not exist
+	private static String attribute(XMLStreamReader reader, String attributeName) {
+		String value = reader.getAttributeValue(null, attributeName);
+		return (value == null) ? "" : value;
 	}
 
 	//================================================================================
@@ -31,6 +31,7 @@ import org.w3c.dom.NodeList;
 
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -39,9 +40,24 @@ public class Artifacts {
 	//--------------------------------------------------------------------------------
 	// debug
 	/**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_extractArtifacts = TracePoint.of(Artifacts.class, "extractArtifacts"); // debug
+	/**/ private static final TracePoint M_getArtifactsUniqueSubArtifactValues = TracePoint.of(Artifacts.class, "getArtifactsUniqueSubArtifactValues"); // debug
 	//--------------------------------------------------------------------------------
 	// artifacts collection
 	Vector<Artifact> artifacts = new Vector<Artifact>();
+	//--------------------------------------------------------------------------------
+	// indexes over the artifacts collection; built on first use and dropped when artifacts are added
+	// - nb: all vectors keep the order of the artifacts collection
+	// - nb: ids are unique only per diagram, so an id may map to several artifacts
+	// id -> artifacts with this id
+	private HashMap<String, Vector<Artifact>> artifactsById = null;
+	// parent id -> child artifacts
+	private HashMap<String, Vector<Artifact>> artifactsByParentId = null;
+	// parent id -> artifact name -> child artifacts with this name
+	private HashMap<String, HashMap<String, Vector<Artifact>>> artifactsByParentIdAndName = null;
+	// returned if nothing is found; CAUTION: must not be modified
+	private static final Vector<Artifact> NO_ARTIFACTS = new Vector<Artifact>();
 
 	//================================================================================
 	// CONSTRUCTORS
@@ -57,20 +73,40 @@ public class Artifacts {
 		// this fu is 1) support fu for constructor so that tracer can be used and 2) needed also from outside
 		parseAndAddArtifacts(mxCellNodeList);
 	}
+	//--------------------------------------------------------------------------------
+	// take over the already extracted artifacts of a diagram
+	// - nb: e.g. from the artifacts cache
+	public Artifacts(Vector<Artifact> artifacts) {
+		addArtifacts(artifacts);
+	}
 
 	//================================================================================
 	// CONSTRUCTOR HELP FU
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	public void parseAndAddArtifacts(NodeList mxCellNodeList) {
+		addArtifacts(extractArtifacts(mxCellNodeList));
+	}
+	//--------------------------------------------------------------------------------
+	public void addArtifacts(Vector<Artifact> artifacts) {
+		this.artifacts.addAll(artifacts);
+		dropIndexes();
+	}
+	//--------------------------------------------------------------------------------
+	// extract all Peer Model related artifacts from the node list
+	public static Vector<Artifact> extractArtifacts(NodeList mxCellNodeList) {
 		//--------------------------------------------------------------------------------
 		// debug
-		/**/ Object m = new Object(){};  
+		/**/ Tracer tracer = new Tracer(); 
+		/**/ TracePoint m = M_extractArtifacts;  
 		/**/ tracer.println("mxCellNodeList" + mxCellNodeList, Level.NO, m);
 		//--------------------------------------------------------------------------------
+		// collect them here
+		Vector<Artifact> artifacts = new Vector<Artifact>();
+		//--------------------------------------------------------------------------------
 		// if node list is null do nothing
 		if(mxCellNodeList == null)
-			return;
+			return artifacts;
 		//--------------------------------------------------------------------------------
 		// get number of "nMxCell" nodes
 		int nMxCell = mxCellNodeList.getLength();
@@ -87,20 +123,10 @@ public class Artifacts {
 			// get value of "style" attribute from the "mxCell" Element
 			String style = mxCellElement.getAttribute("style");
 			//--------------------------------------------------------------------------------
-			// check for existence of the style marker
-			int k1 = style.indexOf(Defines.PMARTIFACT);
-			// does the substring <PMARTIFACT> occur in style?
-			if (k1 >= 0) {
+			// is it a PM related artifact?
+			String artifactName = getArtifactName(style);
+			if (artifactName != null) {
 				/**/ tracer.println("style = " + style, Level.NO, m);
-				//--------------------------------------------------------------------------------
-				// nb: the syntax is: ' <PMARTIFACT> = <ArtifactName> ; '
-				// get first occurrence of "=" and of ";" after <PMARTIFACT>, i.e. after position k1
-				int k2 = style.indexOf("=", k1);
-				int k3 = style.indexOf(";", k1);
-				// artifact name is the string between '=' and ';' (exclusive)
-				String artifactName = style.substring(k2 + 1, k3);
-				// remove leading and trailing blanks and here we go
-				artifactName.trim();
 				/**/ tracer.println("artifact name = " + artifactName, Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// construct new artifact with the required fields
@@ -111,6 +137,89 @@ public class Artifacts {
 				artifacts.add(artifact);
 			}
 		}
+		return artifacts;
+	}
+	//--------------------------------------------------------------------------------
+	// get the artifact name from the value of the "style" attribute of a mxCell;
+	// - null if the mxCell is no PM related artifact, i.e. style does not contain <PMARTIFACT>
+	// - nb: also used by the streaming drawio reader
+	static String getArtifactName(String style) {
+		//--------------------------------------------------------------------------------
+		// check for existence of the style marker
+		int k1 = style.indexOf(Defines.PMARTIFACT);
+		// does the substring <PMARTIFACT> occur in style?
+		if (k1 < 0) 
+			return null;
+		//--------------------------------------------------------------------------------
+		// nb: the syntax is: ' <PMARTIFACT> = <ArtifactName> ; '
+		// get first occurrence of "=" and of ";" after <PMARTIFACT>, i.e. after position k1
+		int k2 = style.indexOf("=", k1);
+		int k3 = style.indexOf(";", k1);
+		// artifact name is the string between '=' and ';' (exclusive)
+		String artifactName = style.substring(k2 + 1, k3);
+		// remove leading and trailing blanks and here we go
+		artifactName.trim();
+		return artifactName;
+	}
+
+	//================================================================================
+	// INDEXES
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// build all indexes in one pass over the artifacts
+	// - nb: must be called again if the artifacts collection was modified directly
+	protected void buildIndexes() {
+		artifactsById = new HashMap<String, Vector<Artifact>>();
+		artifactsByParentId = new HashMap<String, Vector<Artifact>>();
+		artifactsByParentIdAndName = new HashMap<String, HashMap<String, Vector<Artifact>>>();
+		for(int i = 0; i < artifacts.size(); i++) {
+			Artifact a = artifacts.get(i);
+			artifactsById.computeIfAbsent(a.id, k -> new Vector<Artifact>()).add(a);
+			artifactsByParentId.computeIfAbsent(a.parentId, k -> new Vector<Artifact>()).add(a);
+			artifactsByParentIdAndName.computeIfAbsent(a.parentId, k -> new HashMap<String, Vector<Artifact>>())
+				.computeIfAbsent(a.artifactName, k -> new Vector<Artifact>()).add(a);
+		}
+	}
+	//--------------------------------------------------------------------------------
+	private void dropIndexes() {
+		artifactsById = null;
+		artifactsByParentId = null;
+		artifactsByParentIdAndName = null;
+	}
+	//--------------------------------------------------------------------------------
+	private void assertIndexes() {
+		if(artifactsById == null)
+			buildIndexes();
+	}
+	//--------------------------------------------------------------------------------
+	// all artifacts with the given id; CAUTION: do not modify the result
+	protected Vector<Artifact> getArtifactsWithId(String id) {
+		assertIndexes();
+		Vector<Artifact> result = artifactsById.get(id);
+		return (result == null) ? NO_ARTIFACTS : result;
+	}
+	//--------------------------------------------------------------------------------
+	// first artifact with the given id; null if none
+	protected Artifact getFirstArtifactWithId(String id) {
+		Vector<Artifact> result = getArtifactsWithId(id);
+		return (result.size() == 0) ? null : result.get(0);
+	}
+	//--------------------------------------------------------------------------------
+	// all artifacts whose parent has the given id; CAUTION: do not modify the result
+	protected Vector<Artifact> getChildArtifacts(String parentId) {
+		assertIndexes();
+		Vector<Artifact> result = artifactsByParentId.get(parentId);
+		return (result == null) ? NO_ARTIFACTS : result;
+	}
+	//--------------------------------------------------------------------------------
+	// first artifact with the given name whose parent has the given id; null if none
+	protected Artifact getFirstChildArtifactWithName(String parentId, String artifactName) {
+		assertIndexes();
+		HashMap<String, Vector<Artifact>> children = artifactsByParentIdAndName.get(parentId);
+		if(children == null)
+			return null;
+		Vector<Artifact> result = children.get(artifactName);
+		return (result == null) ? null : result.get(0);
 	}
 
 	//================================================================================
@@ -124,12 +233,11 @@ public class Artifacts {
 	// -- otherwise exception is raised
 	// - nb: if the sub artifact does not occur, put "" in the return vector on its place !!! VERY IMPORTANT 
 	// -- because the raw value must be string and not null !!!
-	// TBD: the mechanism is a bit inefficient... but easy to maintain...
 	protected Vector<HashMap<String,String>> getArtifactsUniqueSubArtifactValues (String artifactName, Vector<String> subArtifactNames) throws SyntaxException {
 		//--------------------------------------------------------------------------------
 		// debug
 		/**/ Tracer tracer = new Tracer(); 
-		/**/ Object m = new Object(){};  
+		/**/ TracePoint m = M_getArtifactsUniqueSubArtifactValues;  
 		//--------------------------------------------------------------------------------
 		// local vars
 		String nextSubArtifactValue;
@@ -157,24 +265,14 @@ public class Artifacts {
 					nextSubArtifactName = subArtifactNames.get(j);
 					nextSubArtifactValue = "";
 					// -------------------------------------------------------
-					// iterate over all artifacts and search for current sub artifact name
+					// search for current sub artifact name among the sub artifacts of a1
 					// - i.e. where parent id == id of a1
-					for(int k = 0; k < artifacts.size(); k++) {
-						Artifact a2 = artifacts.get(k);
-						/**/ tracer.println("a2 = " + a2.artifactName, Level.NO, m);
-						// -------------------------------------------------------
-						// is a2 a sub artifact of a1 AND with the desired name?
-						if(a2.parentId.equals(a1.id) && a2.artifactName.equals(nextSubArtifactName)) {
-							/**/ tracer.println("found: a2 = " + a2.artifactName, Level.LO, m);
-							// -------------------------------------------------------
-							// found -> set key + value
-							nextSubArtifactValue = a2.value;
-							// -------------------------------------------------------
-							// ok done; nb: there is max. 1 sub artifact with this name allowed
-							break;
-						}
-						// -------------------------------------------------------
-					} // for loop over all artifacts
+					// - nb: there is max. 1 sub artifact with this name allowed; take the first one
+					Artifact a2 = getFirstChildArtifactWithName(a1.id, nextSubArtifactName);
+					if(a2 != null) {
+						/**/ tracer.println("found: a2 = " + a2.artifactName, Level.LO, m);
+						nextSubArtifactValue = a2.value;
+					}
 					// -------------------------------------------------------
 					// add result for this sub artifact name to the return vector; possibly ""
 					// - first: plausi check that key does not yet exist
@@ -0,0 +1,277 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package parser.drawio;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Vector;
+
+import qa.tracer.Level;
+import qa.tracer.TracePoint;
+import qa.tracer.Tracer;
+import util.replace.MarkupScanner;
+
+//================================================================================
+// on-disk cache of the artifacts extracted from the diagrams of one drawio file;
+// - the file lies in the use case directory: <ucName>.artifacts.cache
+// - key of a diagram = hash over the translator version, the version of the markup scanner and the xml of the diagram;
+// -- the hash is computed by the streaming reader while it reads the diagram (see DrawioStreamReader), i.e. the file
+//    is not held as text;
+// -- so the values of only new or changed diagrams must be cleaned, and only new or changed compressed diagrams must
+//    be decoded;
+// - nb: the cache is only a hint: if it cannot be read or written, all diagrams are extracted anew;
+// - CAUTION: only the extraction of the artifacts is cached; their translation into pmmm components and the evaluation
+//   of the pmmm type always run over all diagrams, as they cross-reference the diagrams
+public class ArtifactsCache {
+	//--------------------------------------------------------------------------------
+	// debug
+	/**/ private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_load = TracePoint.of(ArtifactsCache.class, "load"); // debug
+	/**/ private static final TracePoint M_save = TracePoint.of(ArtifactsCache.class, "save"); // debug
+	//--------------------------------------------------------------------------------
+	// version of the translator as far as the artifacts are concerned;
+	// - CAUTION: change it whenever the extraction of the artifacts changes!!!
+	// -- so that all cached artifacts become invalid
+	// - nb: the cleaning of the values is versioned by MarkupScanner.VERSION, which is part of the key
+	public static final String TRANSLATOR_VERSION = "PMTC-ARTIFACTS-4";
+	//--------------------------------------------------------------------------------
+	// version as written to the cache file
+	private static final String CACHE_VERSION = TRANSLATOR_VERSION + "/" + MarkupScanner.VERSION;
+	//--------------------------------------------------------------------------------
+	// extension of the cache file
+	public static final String CACHE_FILE_EXTENSION = ".artifacts.cache";
+	//--------------------------------------------------------------------------------
+	// first int of the cache file
+	private static final int MAGIC = 0x504d4143;
+	//--------------------------------------------------------------------------------
+	// path and name of the cache file
+	String cacheFileName = "";
+	//--------------------------------------------------------------------------------
+	// diagrams read from the cache file: key -> diagram artifacts
+	HashMap<String, DiagramArtifacts> oldDiagrams = new HashMap<String, DiagramArtifacts>();
+	//--------------------------------------------------------------------------------
+	// diagrams of the current translation: key -> diagram artifacts
+	// - nb: only these are written back, so that stale diagrams do not pile up
+	HashMap<String, DiagramArtifacts> newDiagrams = new HashMap<String, DiagramArtifacts>();
+	//--------------------------------------------------------------------------------
+	// statistics
+	int nHits = 0;
+	int nMisses = 0;
+
+	//================================================================================
+	// DIAGRAM ARTIFACTS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// the artifacts of one diagram
+	public static class DiagramArtifacts {
+		//--------------------------------------------------------------------------------
+		// name of the diagram; not yet trimmed
+		String diagramName = "";
+		//--------------------------------------------------------------------------------
+		// diagram has no "mxGraphModel/root" element (i.e. is empty) and must be skipped
+		boolean skipFlag = false;
+		//--------------------------------------------------------------------------------
+		// the artifacts
+		Vector<Artifact> artifacts = new Vector<Artifact>();
+		//--------------------------------------------------------------------------------
+		DiagramArtifacts(String diagramName, boolean skipFlag, Vector<Artifact> artifacts) {
+			this.diagramName = diagramName;
+			this.skipFlag = skipFlag;
+			this.artifacts = artifacts;
+		}
+		//--------------------------------------------------------------------------------
+		public String getDiagramName() {
+			return diagramName;
+		}
+		//--------------------------------------------------------------------------------
+		public Vector<Artifact> getArtifacts() {
+			return artifacts;
+		}
+	}
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public ArtifactsCache(String absoluteUcPath, String ucName) {
+		this.cacheFileName = absoluteUcPath + ucName + CACHE_FILE_EXTENSION;
+	}
+
+	//================================================================================
+	// KEY
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// new digest for the key of a diagram, already fed with the versions; the reader feeds the xml of the diagram
+	// - nb: returns null if no hash fu is available; the caller must not use the cache then
+	public static MessageDigest newKeyDigest() {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(CACHE_VERSION.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			return digest;
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// the key of a diagram from its fed digest
+	public static String key(MessageDigest digest) {
+		byte[] hash = digest.digest();
+		StringBuffer buf = new StringBuffer();
+		for(int i = 0; i < hash.length; i++) {
+			buf.append(String.format("%02x", hash[i]));
+		}
+		return new String(buf);
+	}
+
+	//================================================================================
+	// GET & PUT
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// get the cached artifacts of the diagram with the given key; null if not cached
+	public DiagramArtifacts get(String key) {
+		DiagramArtifacts diagramArtifacts = oldDiagrams.get(key);
+		if(diagramArtifacts == null) {
+			nMisses++;
+			return null;
+		}
+		nHits++;
+		newDiagrams.put(key, diagramArtifacts);
+		return diagramArtifacts;
+	}
+	//--------------------------------------------------------------------------------
+	// remember the freshly extracted artifacts of the diagram with the given key
+	public void put(String key, DiagramArtifacts diagramArtifacts) {
+		newDiagrams.put(key, diagramArtifacts);
+	}
+	//--------------------------------------------------------------------------------
+	public int getNHits() {
+		return nHits;
+	}
+	//--------------------------------------------------------------------------------
+	public int getNMisses() {
+		return nMisses;
+	}
+
+	//================================================================================
+	// LOAD & SAVE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// read the cache file
+	// - nb: a missing, outdated or corrupt cache file is ignored
+	public void load() {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_load; // debug
+		//--------------------------------------------------------------------------------
+		oldDiagrams.clear();
+		File file = new File(cacheFileName);
+		if(! file.isFile())
+			return;
+		//--------------------------------------------------------------------------------
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if(in.readInt() != MAGIC || ! CACHE_VERSION.equals(in.readUTF()))
+				return;
+			int nDiagrams = in.readInt();
+			for(int i = 0; i < nDiagrams; i++) {
+				String key = in.readUTF();
+				String diagramName = readString(in);
+				boolean skipFlag = in.readBoolean();
+				int nArtifacts = in.readInt();
+				Vector<Artifact> artifacts = new Vector<Artifact>(nArtifacts);
+				for(int j = 0; j < nArtifacts; j++) {
+					artifacts.add(new Artifact(readString(in), readString(in), readString(in), readString(in), readString(in), readString(in)));
+				}
+				oldDiagrams.put(key, new DiagramArtifacts(diagramName, skipFlag, artifacts));
+			}
+		} catch (IOException | RuntimeException e) {
+			/**/ tracer.println("ignore artifacts cache " + cacheFileName + ": " + e, Level.LO, m);
+			oldDiagrams.clear();
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// write the diagrams of the current translation to the cache file
+	// - nb: a cache file that cannot be written is ignored
+	public void save() {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_save; // debug
+		//--------------------------------------------------------------------------------
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(cacheFileName)))) {
+			out.writeInt(MAGIC);
+			out.writeUTF(CACHE_VERSION);
+			out.writeInt(newDiagrams.size());
+			for(String key : newDiagrams.keySet()) {
+				DiagramArtifacts diagramArtifacts = newDiagrams.get(key);
+				out.writeUTF(key);
+				writeString(out, diagramArtifacts.diagramName);
+				out.writeBoolean(diagramArtifacts.skipFlag);
+				out.writeInt(diagramArtifacts.artifacts.size());
+				for(int j = 0; j < diagramArtifacts.artifacts.size(); j++) {
+					Artifact a = diagramArtifacts.artifacts.get(j);
+					writeString(out, a.artifactName);
+					writeString(out, a.id);
+					writeString(out, a.parentId);
+					writeString(out, a.sourceId);
+					writeString(out, a.targetId);
+					writeString(out, a.value);
+				}
+			}
+		} catch (IOException e) {
+			/**/ tracer.println("can't write artifacts cache " + cacheFileName + ": " + e, Level.LO, m);
+		}
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// nb: writeUTF is limited to 64k bytes, values can be longer
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+	//--------------------------------------------------------------------------------
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
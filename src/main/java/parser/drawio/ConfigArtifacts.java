@@ -32,7 +32,7 @@ import org.w3c.dom.NodeList;
 import pmmm.*;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -43,6 +43,8 @@ public class ConfigArtifacts extends Artifacts {
 	//--------------------------------------------------------------------------------
 	// for debug
 	/**/ Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_translate = TracePoint.of(ConfigArtifacts.class, "translate"); // debug
 	// -------------------------------------------------------
 	// config name
 	String configName = "";
@@ -62,6 +64,15 @@ public class ConfigArtifacts extends Artifacts {
 		// set config name
 		this.configName = configName;
 	}
+	//--------------------------------------------------------------------------------
+	// take over the already extracted artifacts of one drawio diagram
+	// - nb: e.g. from the artifacts cache
+	public ConfigArtifacts(String configName, Vector<Artifact> artifacts) {
+		// set the artifacts collection
+		super(artifacts);
+		// set name
+		this.configName = configName;
+	}
 
 	//================================================================================
 	// TRANSLATE
@@ -70,7 +81,7 @@ public class ConfigArtifacts extends Artifacts {
 	// recognize config related artifacts and translate them to Config;
 	public Config translate() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_translate; // debug
 		//--------------------------------------------------------------------------------
 		// assemble all config parts here
 		Config config = new Config(configName);
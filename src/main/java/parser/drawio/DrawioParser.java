@@ -24,7 +24,16 @@
 
 package parser.drawio;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.util.Vector;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -36,7 +45,7 @@ import pmmm.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -44,6 +53,7 @@ import qa.tracer.Tracer;
 // steps of the xml parser:
 // 1.) xml file (exported from drawio) 2 Document
 //     - use existing package DocumentBuilder for that
+//     - nb: by default the streaming reader is used instead, which does 1.) and 2.) in one pass without a Document
 // 2.) Document 2 Artifacts
 //     - each component of the PM has an own artifacts class that inherits from Artifacts
 //     - for each diagram call the respective component's artifacts class 
@@ -57,6 +67,29 @@ import qa.tracer.Tracer;
 public class DrawioParser extends Parser implements IParser {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_drawio_2_artifacts = TracePoint.of(DrawioParser.class, "drawio_2_artifacts"); // debug
+	/**/ private static final TracePoint M_diagrams_2_artifacts = TracePoint.of(DrawioParser.class, "diagrams_2_artifacts"); // debug
+	/**/ private static final TracePoint M_cachedDiagrams_2_artifacts = TracePoint.of(DrawioParser.class, "cachedDiagrams_2_artifacts"); // debug
+	/**/ private static final TracePoint M_diagram_2_artifacts = TracePoint.of(DrawioParser.class, "diagram_2_artifacts"); // debug
+	/**/ private static final TracePoint M_artifacts_2_PmmmType = TracePoint.of(DrawioParser.class, "artifacts_2_PmmmType"); // debug
+	/**/ private static final TracePoint M_extractName = TracePoint.of(DrawioParser.class, "extractName"); // debug
+	/**/ private static final TracePoint M_join = TracePoint.of(DrawioParser.class, "join"); // debug
+	//--------------------------------------------------------------------------------
+	// use the artifacts cache in the use case directory, so that only new or changed diagrams are extracted
+	// - nb: only with the streaming reader, which hashes the diagrams while it reads them
+	public static boolean artifactsCacheFlag = true; // <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<
+	//--------------------------------------------------------------------------------
+	// read the diagrams with the streaming (StAX) reader instead of building a DOM model document
+	// - nb: read time and peak heap go to the translation report (see getReadStats); both readers are compared side by
+	//   side by the DrawioReaderBenchmark
+	public static boolean streamingReaderFlag = true; // <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<
+	//--------------------------------------------------------------------------------
+	// the diagrams are extracted and translated in parallel on a bounded thread pool
+	// - max. number of threads
+	public static int parseParallelism = Runtime.getRuntime().availableProcessors(); // <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<
+	// - force sequential mode, e.g. for debugging
+	public static boolean sequentialFlag = false; // <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<
 	//--------------------------------------------------------------------------------
 	//================================================================================
 	// ALL PMMM ARTIFACTS
@@ -75,6 +108,15 @@ public class DrawioParser extends Parser implements IParser {
 	//--------------------------------------------------------------------------------
 	// - CONFIGS: PMMM and PEERS
 	Vector<ConfigArtifacts> configsArtifacts = new Vector<ConfigArtifacts>();
+	//================================================================================
+	// READ STATS (see drawio_2_artifacts)
+	//--------------------------------------------------------------------------------
+	long readNanos = 0;
+	long peakHeapBytes = 0;
+	int nDiagrams = 0;
+	// -1 if the artifacts cache was not used
+	int nCacheHits = -1;
+	int nCacheMisses = -1;
 
 	//================================================================================
 	// CONSTRUCTORS
@@ -84,6 +126,38 @@ public class DrawioParser extends Parser implements IParser {
 		super(absoluteUcPath, ucName, fileExtension);
 	}
 
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// reader, read time, peak heap and artifacts cache use of the last parse, for the translation report
+	// - nb: peak heap is the sum of the peaks of the heap pools, i.e. an upper bound (see getPeakHeap)
+	public String getReaderName() {
+		return streamingReaderFlag ? "StAX" : "DOM";
+	}
+	public long getReadNanos() {
+		return readNanos;
+	}
+	public long getPeakHeapBytes() {
+		return peakHeapBytes;
+	}
+	public int getNDiagrams() {
+		return nDiagrams;
+	}
+	// - -1 if the artifacts cache was not used
+	public int getNCacheHits() {
+		return nCacheHits;
+	}
+	public int getNCacheMisses() {
+		return nCacheMisses;
+	}
+	//--------------------------------------------------------------------------------
+	public String getReadStats() {
+		return getReaderName() + " reader: " + nDiagrams + " diagram(s), " + (readNanos / 1000000) + " ms, peak heap " + 
+				(peakHeapBytes / (1024 * 1024)) + " MB" + 
+				((nCacheHits < 0) ? "" : "; artifacts cache: " + nCacheHits + " diagram(s) reused, " + nCacheMisses + " diagram(s) extracted");
+	}
+
 	//================================================================================
 	// PARSE
 	//================================================================================
@@ -110,7 +184,7 @@ public class DrawioParser extends Parser implements IParser {
 	// the PM artifacts are marked by the string <PMARTIFACT>=<artifactName> contained in their style attribute;
 	public void drawio_2_artifacts() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_drawio_2_artifacts; // debug
 		/**/ tracer.println("Draw.IO XML Parser start", Level.NO, m);
 		/**/ tracer.println("sourcePath = " + sourcePath, Level.NO, m);
 		/**/ tracer.println("fileName = " + ucName, Level.NO, m);
@@ -120,6 +194,130 @@ public class DrawioParser extends Parser implements IParser {
 		//--------------------------------------------------------------------------------
 		/**/ tracer.println("fullFileName = " + fullFileName, Level.NO, m);
 		//--------------------------------------------------------------------------------
+		// get the artifacts of all diagrams in document order
+		// - if possible from the artifacts cache, where only new or changed diagrams are parsed
+		// - otherwise parse the entire file
+		long t0 = System.nanoTime();
+		resetPeakHeap();
+		Vector<ArtifactsCache.DiagramArtifacts> diagramsArtifacts;
+		if(artifactsCacheFlag && streamingReaderFlag)
+			diagramsArtifacts = cachedDiagrams_2_artifacts(fullFileName);
+		else
+			diagramsArtifacts = diagrams_2_artifacts(fullFileName);
+		//--------------------------------------------------------------------------------
+		// reader, read time and peak heap for the translation report (see getReadStats)
+		readNanos = System.nanoTime() - t0;
+		peakHeapBytes = getPeakHeap();
+		nDiagrams = diagramsArtifacts.size();
+		/**/ tracer.println(() -> "drawio read: " + getReadStats(), Level.LO, m);
+		//--------------------------------------------------------------------------------
+		// iterate over all diagrams
+		for (int i = 0; i < diagramsArtifacts.size(); i++) {
+			ArtifactsCache.DiagramArtifacts diagramArtifacts = diagramsArtifacts.get(i);
+			//--------------------------------------------------------------------------------
+			// diagram could be empty; it will be checked later if this is a problem;
+			// just skip for now
+			// TBD: better give a warning....
+			if(diagramArtifacts.skipFlag)
+				continue; // for loop
+			//--------------------------------------------------------------------------------
+			// remove leading and trailing blanks from the diagram name
+			String diagramName = diagramArtifacts.diagramName.trim();
+			Vector<Artifact> artifacts = diagramArtifacts.artifacts;
+			/**/ tracer.println((i+1) + ".DIAGRAM = '" + diagramName + "'", Level.NO, m);
+			//--------------------------------------------------------------------------------
+			// treat diagram depending on its name:
+
+			//================================================================================
+			// PMMM TYPE 
+			//================================================================================
+			//--------------------------------------------------------------------------------
+			// nb: there can be at most one pmmm type diagram
+			// - this is implicitly asserted as there cannot be two diagrams with same name
+			// TBD: not true; drawio allows diagrams with same name ... is a general issue
+			//--------------------------------------------------------------------------------
+			if(diagramName.startsWith(Defines.DIAGRAM__PMMM_TYPE)) {
+				/**/ tracer.println("fileName = " + ucName, Level.NO, m);
+				//--------------------------------------------------------------------------------
+				// set
+				pmmmType_NameAndPropsArtifacts = new PmmmType_NameAndPropsArtifacts(ucName /* convention: pmmm name == xml file name */, artifacts);
+			}
+			//================================================================================
+			// ENTRY TYPES 
+			//================================================================================
+			//--------------------------------------------------------------------------------
+			// nb: there can be many entry types diagrams
+			// each must start with "<DIAGRAM__ENTRY_TYPES> ... "
+			// collect all artifacts of all diagrams in entryTypesArtifacts
+			if(diagramName.startsWith(Defines.DIAGRAM__ENTRY_TYPES)) {
+				//--------------------------------------------------------------------------------
+				// add
+				entryTypesArtifacts.addArtifacts(artifacts);
+			}
+			//================================================================================
+			// PEER TYPE 
+			//================================================================================
+			//--------------------------------------------------------------------------------
+			// diagramName == "<DIAGRAM__PEER_TYPE_PREFIX> : <peerTypeName>"
+			// - nb: there can be several peer type diagrams
+			else if(diagramName.startsWith(Defines.DIAGRAM__PEER_TYPE_PREFIX)) {
+				//--------------------------------------------------------------------------------
+				// get name
+				String peerTypeName = extractName(diagramName, Defines.DIAGRAM__PEER_TYPE_PREFIX);
+				//--------------------------------------------------------------------------------
+				// add  
+				peerTypesArtifacts.add(new PeerTypeArtifacts(peerTypeName, artifacts));
+			}
+			//================================================================================
+			// WIRING TYPES 
+			//================================================================================
+			//--------------------------------------------------------------------------------
+			// nb: there can be many wiring types diagrams
+			// each must start with "<DIAGRAM__WIRING_TYPES> ... "
+			// collect all artifacts of all diagrams in entryTypesArtifacts
+			if(diagramName.startsWith(Defines.DIAGRAM__WIRING_TYPES)) {
+				/**/ tracer.println("WIRING TYPE DIAGRAM = " + diagramName, Level.NO, m);
+				//--------------------------------------------------------------------------------
+				// add
+				wiringTypesArtifacts.addArtifacts(artifacts);
+			}
+			//================================================================================
+			// CONFIG
+			//================================================================================
+			//--------------------------------------------------------------------------------
+			// diagramName == "<DIAGRAM__CONFIG_PREFIX> : <configName>"
+			// - nb: there can be several config diagrams
+			else if(diagramName.startsWith(Defines.DIAGRAM__CONFIG_PREFIX)) {
+				//--------------------------------------------------------------------------------
+				// get name
+				String configName = extractName(diagramName, Defines.DIAGRAM__CONFIG_PREFIX);
+				//--------------------------------------------------------------------------------
+				// add 
+				configsArtifacts.add(new ConfigArtifacts(configName, artifacts));
+			}
+			//================================================================================
+			// ALL OTHER DIAGRAMS
+			//================================================================================
+			//--------------------------------------------------------------------------------
+			// - just skip
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// extract the artifacts of all diagrams of the entire file
+	// - either streaming or via a DOM model document
+	private Vector<ArtifactsCache.DiagramArtifacts> diagrams_2_artifacts(String fullFileName) throws SyntaxException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_diagrams_2_artifacts; // debug
+		//--------------------------------------------------------------------------------
+		if(streamingReaderFlag) {
+			try {
+				return new DrawioStreamReader().readFile(fullFileName);
+			} catch (Exception e1) {
+				throw new SyntaxException("can't read drawio file: " + e1.getMessage(), m);
+			}
+		}
+		//--------------------------------------------------------------------------------
 		// open file and convert it into DOM model document
 		Document doc;
 		try {
@@ -141,10 +339,8 @@ public class DrawioParser extends Parser implements IParser {
 		/**/ tracer.println("nDiagrams = " + nDiagrams, Level.LO, m);
 		//--------------------------------------------------------------------------------
 		// iterate over all diagrams
+		Vector<ArtifactsCache.DiagramArtifacts> diagramsArtifacts = new Vector<ArtifactsCache.DiagramArtifacts>();
 		for (int i = 0; i < nDiagrams; i++) {
-			//--------------------------------------------------------------------------------
-			// NEXT DIAGRAM:
-			//--------------------------------------------------------------------------------
 			// get its node
 			// - TBD: assert that node name is "diagram" ...
 			Node diagramNode = diagramNodeList.item(i);
@@ -152,200 +348,263 @@ public class DrawioParser extends Parser implements IParser {
 			//--------------------------------------------------------------------------------
 			// node type must be "ELEMENT_NODE" anyhow...
 			if (diagramNode.getNodeType() == Node.ELEMENT_NODE) {
-				//--------------------------------------------------------------------------------
-				// convert diagram node to element
-				Element diagramElement = (Element) diagramNode;
-				//--------------------------------------------------------------------------------
-				// get diagram name
-				String diagramName = diagramElement.getAttribute("name");
-				/**/ tracer.println("Diagram = " + diagramName, Level.NO, m);	
-				//--------------------------------------------------------------------------------
-				// is there a root element?
-				Element rootElement = null;
-				try {
-					//--------------------------------------------------------------------------------
-					// get the diagram's "mxGraphModel" element
-					Element mxGraphModelElement = getFirstSubElementWithName("mxGraphModel", diagramElement);
-					//--------------------------------------------------------------------------------
-					// get the mxGraphModel's "root" element
-					rootElement = getFirstSubElementWithName("root", mxGraphModelElement);
-				} catch (Exception e) {
-					//--------------------------------------------------------------------------------
-					// diagram could be empty; it will be checked later if this is a problem;
-					// just skip for now
-					// TBD: better give a warning.... maybe compressed xml
-					continue; // for loop
-				}
-				//--------------------------------------------------------------------------------
-				// get nodes of all "mxCell" elements from the "root" element ... there may be many
-				NodeList mxCellNodeList = rootElement.getElementsByTagName("mxCell");
-				//--------------------------------------------------------------------------------
-				// remove leading and trailing blanks from the diagram name
-				diagramName = diagramName.trim();
-				/**/ tracer.println((i+1) + ".DIAGRAM = '" + diagramName + "'", Level.NO, m);
-				//--------------------------------------------------------------------------------
-				// treat diagram depending on its name:
-
-				//================================================================================
-				// PMMM TYPE 
-				//================================================================================
-				//--------------------------------------------------------------------------------
-				// nb: there can be at most one pmmm type diagram
-				// - this is implicitly asserted as there cannot be two diagrams with same name
-				// TBD: not true; drawio allows diagrams with same name ... is a general issue
-				//--------------------------------------------------------------------------------
-				if(diagramName.startsWith(Defines.DIAGRAM__PMMM_TYPE)) {
-					/**/ tracer.println("fileName = " + ucName, Level.NO, m);
-					//--------------------------------------------------------------------------------
-					// parse and set
-					pmmmType_NameAndPropsArtifacts = new PmmmType_NameAndPropsArtifacts(ucName /* convention: pmmm name == xml file name */, mxCellNodeList);
-				}
-				//================================================================================
-				// ENTRY TYPES 
-				//================================================================================
-				//--------------------------------------------------------------------------------
-				// nb: there can be many entry types diagrams
-				// each must start with "<DIAGRAM__ENTRY_TYPES> ... "
-				// collect all artifacts of all diagrams in entryTypesArtifacts
-				if(diagramName.startsWith(Defines.DIAGRAM__ENTRY_TYPES)) {
-					//--------------------------------------------------------------------------------
-					// parse and set
-					entryTypesArtifacts.parseAndAddArtifacts(mxCellNodeList);
-				}
-				//================================================================================
-				// PEER TYPE 
-				//================================================================================
-				//--------------------------------------------------------------------------------
-				// diagramName == "<DIAGRAM__PEER_TYPE_PREFIX> : <peerTypeName>"
-				// - nb: there can be several peer type diagrams
-				else if(diagramName.startsWith(Defines.DIAGRAM__PEER_TYPE_PREFIX)) {
-					//--------------------------------------------------------------------------------
-					// get name
-					String peerTypeName = extractName(diagramName, Defines.DIAGRAM__PEER_TYPE_PREFIX);
-					//--------------------------------------------------------------------------------
-					// parse 
-					PeerTypeArtifacts peerTypeArtifacts = new PeerTypeArtifacts(peerTypeName, mxCellNodeList);
-					//--------------------------------------------------------------------------------
-					// add  
-					peerTypesArtifacts.add(peerTypeArtifacts);
-				}
-				//================================================================================
-				// WIRING TYPES 
-				//================================================================================
-				//--------------------------------------------------------------------------------
-				// nb: there can be many wiring types diagrams
-				// each must start with "<DIAGRAM__WIRING_TYPES> ... "
-				// collect all artifacts of all diagrams in entryTypesArtifacts
-				if(diagramName.startsWith(Defines.DIAGRAM__WIRING_TYPES)) {
-					/**/ tracer.println("WIRING TYPE DIAGRAM = " + diagramName, Level.NO, m);
-					//--------------------------------------------------------------------------------
-					// parse and set
-					wiringTypesArtifacts.parseAndAddArtifacts(mxCellNodeList);
-				}
-				//================================================================================
-				// CONFIG
-				//================================================================================
-				//--------------------------------------------------------------------------------
-				// diagramName == "<DIAGRAM__CONFIG_PREFIX> : <configName>"
-				// - nb: there can be several config diagrams
-				else if(diagramName.startsWith(Defines.DIAGRAM__CONFIG_PREFIX)) {
-					//--------------------------------------------------------------------------------
-					// get name
-					String configName = extractName(diagramName, Defines.DIAGRAM__CONFIG_PREFIX);
-					//--------------------------------------------------------------------------------
-					// parse 
-					ConfigArtifacts configArtifacts = new ConfigArtifacts(configName, mxCellNodeList);
-					//--------------------------------------------------------------------------------
-					// add 
-					configsArtifacts.add(configArtifacts);
-				}
-				//================================================================================
-				// ALL OTHER DIAGRAMS
-				//================================================================================
-				//--------------------------------------------------------------------------------
-				// - just skip
+				diagramsArtifacts.add(diagram_2_artifacts((Element) diagramNode));
 			}
 		}
+		//--------------------------------------------------------------------------------
+		return diagramsArtifacts;
 	}
 
-	//================================================================================
-	// PASS 2: ARTIFACTS 2 "RAW" PMMM Type (with still raw expressions in the tokens)
-	//================================================================================
 	//--------------------------------------------------------------------------------
-	public PmmmComponents artifacts_2_PmmmType() throws SyntaxException, SNHException {
+	// get the artifacts of all diagrams by the streaming reader via the artifacts cache;
+	// - only new or changed diagrams are extracted (see ArtifactsCache)
+	private Vector<ArtifactsCache.DiagramArtifacts> cachedDiagrams_2_artifacts(String fullFileName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_cachedDiagrams_2_artifacts; // debug
 		//--------------------------------------------------------------------------------
-		//================================================================================
-		// PMMM TYPE: 
-		//================================================================================
-		/**/ tracer.println("\n" + ui.Out.banner("PMMM TYPE:", '>'), Level.NO, m);
-		//--------------------------------------------------------------------------------
-		// create new PMMM type and assemble everything there
-		// sets name, props types and props defs; rest is done below
-		// just pass on exceptions
-		PmmmComponents pmmmComponents = pmmmType_NameAndPropsArtifacts.translate();
-		//--------------------------------------------------------------------------------
-		// if there was no diagram for the pmmm type -> just set the pmmm name to the file name
-		// - TBD: warning
-		if(util.Util.isEmptyString(pmmmComponents.pmmmTypeName)) {
-			pmmmComponents.pmmmTypeName = ucName;
+		ArtifactsCache cache = new ArtifactsCache(sourcePath, ucName);
+		cache.load();
+		Vector<ArtifactsCache.DiagramArtifacts> diagramsArtifacts;
+		try {
+			diagramsArtifacts = new DrawioStreamReader(cache).readFile(fullFileName);
+		} catch (Exception e1) {
+			throw new SyntaxException("can't read drawio file: " + e1.getMessage(), m);
 		}
+		cache.save();
 		//--------------------------------------------------------------------------------
-		//================================================================================
-		// ENTRY TYPES:
-		//================================================================================
-		/**/ tracer.println("\n" + ui.Out.banner("ENTRY TYPES:", '>'), Level.NO, m);
+		nCacheHits = cache.getNHits();
+		nCacheMisses = cache.getNMisses();
+		/**/ tracer.println(() -> "artifacts cache: " + nCacheHits + " diagram(s) reused, " + nCacheMisses + " diagram(s) extracted", Level.LO, m);
+		return diagramsArtifacts;
+	}
+
+	//--------------------------------------------------------------------------------
+	// extract the artifacts of one diagram
+	private ArtifactsCache.DiagramArtifacts diagram_2_artifacts(Element diagramElement) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		// just pass on exceptions
-		pmmmComponents.entryTypes = entryTypesArtifacts.translate();
+		/**/ TracePoint m = M_diagram_2_artifacts; // debug
 		//--------------------------------------------------------------------------------
-		//================================================================================
-		// WIRING TYPES:
-		//================================================================================
+		// get diagram name
+		String diagramName = diagramElement.getAttribute("name");
+		/**/ tracer.println("Diagram = " + diagramName, Level.NO, m);	
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("\n" + ui.Out.banner("WIRING TYPES:", '>'), Level.NO, m);
-		// just pass on exceptions
-		pmmmComponents.wiringTypes = wiringTypesArtifacts.translate();
+		// is there a root element?
+		Element rootElement = null;
+		try {
+			//--------------------------------------------------------------------------------
+			// get the diagram's "mxGraphModel" element
+			Element mxGraphModelElement = getFirstSubElementWithName("mxGraphModel", diagramElement);
+			//--------------------------------------------------------------------------------
+			// get the mxGraphModel's "root" element
+			rootElement = getFirstSubElementWithName("root", mxGraphModelElement);
+		} catch (Exception e) {
+			//--------------------------------------------------------------------------------
+			// compressed diagram: decode it
+			String compressedText = diagramElement.getTextContent().trim();
+			if(compressedText.length() > 0) {
+				try {
+					return DrawioStreamReader.decodeCompressedDiagram(diagramName, compressedText);
+				} catch (Exception e1) {
+					throw new SyntaxException(e1.getMessage(), m);
+				}
+			}
+			//--------------------------------------------------------------------------------
+			// diagram could be empty; mark it to be skipped
+			return new ArtifactsCache.DiagramArtifacts(diagramName, true /* skipFlag */, new Vector<Artifact>());
+		}
 		//--------------------------------------------------------------------------------
-		//================================================================================
-		// PEER TYPES:
-		//================================================================================
-		/**/ tracer.println("\n" + ui.Out.banner("PEER TYPES:", '>'), Level.NO, m);
+		// get nodes of all "mxCell" elements from the "root" element ... there may be many
+		NodeList mxCellNodeList = rootElement.getElementsByTagName("mxCell");
 		//--------------------------------------------------------------------------------
-		Vector<PeerType> peerTypes = new Vector<PeerType>();
-		// iterate over all peer artifacts
-		for(int i = 0; i < peerTypesArtifacts.size(); i++) {
-			/**/ tracer.println("next peer artifact", Level.NO, m);
-			// just pass on exceptions
-			PeerType peer = peerTypesArtifacts.get(i).translate();
-			/**/ tracer.println("peer = " + peer, Level.NO, m);
-			peerTypes.add(peer);
+		// pick out the Peer Model artifacts
+		return new ArtifactsCache.DiagramArtifacts(diagramName, false /* skipFlag */, Artifacts.extractArtifacts(mxCellNodeList));
+	}
+
+	//--------------------------------------------------------------------------------
+	// reset the peak usage of all heap memory pools
+	private static void resetPeakHeap() {
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() == MemoryType.HEAP)
+				pool.resetPeakUsage();
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// sum of the peak usages of all heap memory pools in bytes since the last reset
+	// - nb: an upper bound for the real peak, as the pools need not peak at the same time
+	private static long getPeakHeap() {
+		long bytes = 0;
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if(pool.getType() == MemoryType.HEAP)
+				bytes += pool.getPeakUsage().getUsed();
 		}
-		pmmmComponents.peerTypes = peerTypes;
+		return bytes;
+	}
+
+	//================================================================================
+	// PASS 2: ARTIFACTS 2 "RAW" PMMM Type (with still raw expressions in the tokens)
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public PmmmComponents artifacts_2_PmmmType() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		//================================================================================
-		// CONFIGS:
-		//================================================================================
-		/**/ tracer.println("\n" + ui.Out.banner("CONFIGS:", '>'), Level.NO, m);
+		/**/ TracePoint m = M_artifacts_2_PmmmType; // debug
 		//--------------------------------------------------------------------------------
-		Vector<Config> configs = new Vector<Config>();
-		// iterate over all config artifactss
-		for(int i = 0; i < configsArtifacts.size(); i++) {
-			/**/ tracer.println("next config artifact = configsArtifacts.get(i)", Level.NO, m);
+		// all artifacts are translated independently of each other
+		// - i.e. in parallel on the thread pool (unless in sequential mode)
+		// - the results are collected in document order (pmmm type, entry types, wiring types, peer types, configs);
+		// -- so if several ones fail, the error is the same as in sequential mode
+		ExecutorService executor = newExecutor(3 + peerTypesArtifacts.size() + configsArtifacts.size());
+		Vector<Future<?>> futures = new Vector<Future<?>>();
+		try {
+			//--------------------------------------------------------------------------------
+			// submit all
+			Future<PmmmComponents> pmmmTypeFuture = submit(executor, () -> pmmmType_NameAndPropsArtifacts.translate());
+			futures.add(pmmmTypeFuture);
+			Future<EntryTypes> entryTypesFuture = submit(executor, () -> entryTypesArtifacts.translate());
+			futures.add(entryTypesFuture);
+			Future<Vector<WiringType>> wiringTypesFuture = submit(executor, () -> wiringTypesArtifacts.translate());
+			futures.add(wiringTypesFuture);
+			Vector<Future<PeerType>> peerTypeFutures = new Vector<Future<PeerType>>();
+			for(int i = 0; i < peerTypesArtifacts.size(); i++) {
+				PeerTypeArtifacts peerTypeArtifacts = peerTypesArtifacts.get(i);
+				peerTypeFutures.add(submit(executor, () -> peerTypeArtifacts.translate()));
+			}
+			futures.addAll(peerTypeFutures);
+			Vector<Future<Config>> configFutures = new Vector<Future<Config>>();
+			for(int i = 0; i < configsArtifacts.size(); i++) {
+				ConfigArtifacts configArtifacts = configsArtifacts.get(i);
+				configFutures.add(submit(executor, () -> configArtifacts.translate()));
+			}
+			futures.addAll(configFutures);
+
+			//================================================================================
+			// PMMM TYPE: 
+			//================================================================================
+			/**/ tracer.println("\n" + ui.Out.banner("PMMM TYPE:", '>'), Level.NO, m);
+			//--------------------------------------------------------------------------------
+			// create new PMMM type and assemble everything there
+			// sets name, props types and props defs; rest is done below
+			// just pass on exceptions
+			PmmmComponents pmmmComponents = join(executor, pmmmTypeFuture);
+			//--------------------------------------------------------------------------------
+			// if there was no diagram for the pmmm type -> just set the pmmm name to the file name
+			// - TBD: warning
+			if(util.Util.isEmptyString(pmmmComponents.pmmmTypeName)) {
+				pmmmComponents.pmmmTypeName = ucName;
+			}
+			//--------------------------------------------------------------------------------
+			//================================================================================
+			// ENTRY TYPES:
+			//================================================================================
+			/**/ tracer.println("\n" + ui.Out.banner("ENTRY TYPES:", '>'), Level.NO, m);
+			//--------------------------------------------------------------------------------
 			// just pass on exceptions
-			Config config = configsArtifacts.get(i).translate();
-			/**/ tracer.println("config = " + config, Level.NO, m);
-			configs.add(config);
+			pmmmComponents.entryTypes = join(executor, entryTypesFuture);
+			//--------------------------------------------------------------------------------
+			//================================================================================
+			// WIRING TYPES:
+			//================================================================================
+			//--------------------------------------------------------------------------------
+			/**/ tracer.println("\n" + ui.Out.banner("WIRING TYPES:", '>'), Level.NO, m);
+			// just pass on exceptions
+			pmmmComponents.wiringTypes = join(executor, wiringTypesFuture);
+			//--------------------------------------------------------------------------------
+			//================================================================================
+			// PEER TYPES:
+			//================================================================================
+			/**/ tracer.println("\n" + ui.Out.banner("PEER TYPES:", '>'), Level.NO, m);
+			//--------------------------------------------------------------------------------
+			Vector<PeerType> peerTypes = new Vector<PeerType>();
+			// iterate over all peer artifacts
+			for(int i = 0; i < peerTypeFutures.size(); i++) {
+				/**/ tracer.println("next peer artifact", Level.NO, m);
+				// just pass on exceptions
+				PeerType peer = join(executor, peerTypeFutures.get(i));
+				/**/ tracer.println("peer = " + peer, Level.NO, m);
+				peerTypes.add(peer);
+			}
+			pmmmComponents.peerTypes = peerTypes;
+			//--------------------------------------------------------------------------------
+			//================================================================================
+			// CONFIGS:
+			//================================================================================
+			/**/ tracer.println("\n" + ui.Out.banner("CONFIGS:", '>'), Level.NO, m);
+			//--------------------------------------------------------------------------------
+			Vector<Config> configs = new Vector<Config>();
+			// iterate over all config artifactss
+			for(int i = 0; i < configFutures.size(); i++) {
+				/**/ tracer.println("next config artifact = configsArtifacts.get(i)", Level.NO, m);
+				// just pass on exceptions
+				Config config = join(executor, configFutures.get(i));
+				/**/ tracer.println("config = " + config, Level.NO, m);
+				configs.add(config);
+			}
+			pmmmComponents.configs = configs;
+			//--------------------------------------------------------------------------------
+			//================================================================================
+			// ok done
+			//================================================================================
+			return pmmmComponents;
+		} finally {
+			shutdown(executor, futures);
 		}
-		pmmmComponents.configs = configs;
+	}
+
+	//================================================================================
+	// THREAD POOL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// bounded thread pool for the given number of tasks; null in sequential mode
+	private static ExecutorService newExecutor(int nTasks) {
+		if(sequentialFlag || parseParallelism <= 1 || nTasks <= 1)
+			return null;
+		return Executors.newFixedThreadPool(Math.min(parseParallelism, nTasks));
+	}
+	//--------------------------------------------------------------------------------
+	// submit the task to the pool
+	// - nb: in sequential mode (no pool) the task is run only by join
+	private static <T> Future<T> submit(ExecutorService executor, Callable<T> task) {
+		if(executor == null)
+			return new FutureTask<T>(task);
+		return executor.submit(task);
+	}
+	//--------------------------------------------------------------------------------
+	// wait for the result of the task and pass its exception on
+	private static <T> T join(ExecutorService executor, Future<T> future) throws SyntaxException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_join; // debug
 		//--------------------------------------------------------------------------------
-		//================================================================================
-		// ok done
-		//================================================================================
-		return pmmmComponents;
+		if(executor == null)
+			((FutureTask<T>) future).run();
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof SyntaxException)
+				throw (SyntaxException) cause;
+			if(cause instanceof SNHException)
+				throw (SNHException) cause;
+			if(cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			if(cause instanceof Error)
+				throw (Error) cause;
+			throw new SNHException(622229, "translation of the artifacts failed: " + cause, m);
+		} catch (InterruptedException e) {
+			throw new SNHException(622230, "translation of the artifacts interrupted", m);
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// cancel the remaining tasks (on error) and stop the pool
+	private static void shutdown(ExecutorService executor, Vector<? extends Future<?>> futures) {
+		if(executor == null)
+			return;
+		for(int i = 0; i < futures.size(); i++) {
+			if(futures.get(i) != null)
+				futures.get(i).cancel(true);
+		}
+		executor.shutdownNow();
 	}
 
+
 	//================================================================================
 	// UTIL
 	//================================================================================
@@ -354,7 +613,7 @@ public class DrawioParser extends Parser implements IParser {
 	// - extract the name without leading/trailing blanks
 	private String extractName(String diagramName, String keyword) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_extractName; // debug
 		//--------------------------------------------------------------------------------
 		// skip leading/trailing blanks
 		String name = diagramName.trim();
@@ -376,6 +635,7 @@ public class DrawioParser extends Parser implements IParser {
 		return name;
 	}
 
+
 	//================================================================================
 	// DEBUG
 	//================================================================================
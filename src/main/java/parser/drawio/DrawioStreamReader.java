@@ -0,0 +1,526 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package parser.drawio;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import qa.tracer.Level;
+import qa.tracer.TracePoint;
+import qa.tracer.Tracer;
+
+//================================================================================
+// streaming (StAX) reader for drawio xml:
+// - turns the "diagram" and "mxCell" events directly into the artifacts of each diagram in one pass;
+// - no DOM model document is built, i.e. only the artifacts are kept on the heap;
+// - yields the same artifacts as the DOM based extraction (cf. DrawioParser.diagram_2_artifacts):
+// -- the artifacts are the PM related "mxCell" elements below the first "root" of the first "mxGraphModel" of a diagram;
+// -- a diagram without them (i.e. empty) is marked to be skipped;
+// - compressed diagrams are decoded: base64 -> raw inflate -> url decode -> "mxGraphModel";
+// -- the decoding is streamed, i.e. only the (small) compressed text of the diagram is held as string;
+// -- if there are several compressed diagrams, they are decoded in parallel;
+// - with the artifacts cache, the key of each diagram is hashed from its events while it is read (see ArtifactsCache);
+// -- the values of a diagram are only cleaned, and a compressed diagram is only decoded, if it is not in the cache;
+// - nb: "diagram" elements nested in a diagram are not treated as diagrams of their own
+public class DrawioStreamReader {
+	//--------------------------------------------------------------------------------
+	// debug
+	/**/ private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_read = TracePoint.of(DrawioStreamReader.class, "read"); // debug
+	/**/ private static final TracePoint M_decodeCompressedDiagrams = TracePoint.of(DrawioStreamReader.class, "decodeCompressedDiagrams"); // debug
+	//--------------------------------------------------------------------------------
+	// max. number of compressed diagrams decoded in parallel
+	public static int nDecodeThreads = Runtime.getRuntime().availableProcessors(); // <<<<<<<<<<<<<<<<<<<< configure here
+	//--------------------------------------------------------------------------------
+	// nb: the factory is thread safe once configured
+	private static final XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+	//--------------------------------------------------------------------------------
+	// the artifacts cache; null if not used
+	private ArtifactsCache cache = null;
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public DrawioStreamReader() {
+	}
+	//--------------------------------------------------------------------------------
+	// nb: the caller loads and saves the cache
+	public DrawioStreamReader(ArtifactsCache cache) {
+		this.cache = cache;
+	}
+
+	//================================================================================
+	// CELL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// PM related "mxCell" with the raw attribute values, i.e. its value is not yet cleaned
+	// - nb: used if the diagram may be in the cache
+	private static class Cell {
+		String artifactName;
+		String id;
+		String parentId;
+		String sourceId;
+		String targetId;
+		String rawValue;
+		//--------------------------------------------------------------------------------
+		Cell(XMLStreamReader reader, String artifactName) {
+			this.artifactName = artifactName;
+			id = attribute(reader, "id");
+			parentId = attribute(reader, "parent");
+			sourceId = attribute(reader, "source");
+			targetId = attribute(reader, "target");
+			rawValue = attribute(reader, "value");
+		}
+		//--------------------------------------------------------------------------------
+		Artifact toArtifact() {
+			return new Artifact(artifactName, id, parentId, sourceId, targetId, Artifact.cleanValue(rawValue));
+		}
+		//--------------------------------------------------------------------------------
+		private static String attribute(XMLStreamReader reader, String attributeName) {
+			String value = reader.getAttributeValue(null, attributeName);
+			return (value == null) ? "" : value;
+		}
+	}
+
+	//================================================================================
+	// DIAGRAM STATE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// state of the diagram being read
+	// - nb: depths are absolute element depths; -1 = not within such an element
+	private static class DiagramState {
+		String diagramName = "";
+		int diagramDepth = -1;
+		boolean mxGraphModelSeen = false;
+		int mxGraphModelDepth = -1;
+		boolean rootSeen = false;
+		int rootDepth = -1;
+		Vector<Artifact> artifacts = new Vector<Artifact>();
+		// text directly below the diagram element; i.e. the compressed diagram
+		StringBuilder text = null;
+		// the cache key is hashed from all events of the diagram; null if the cache is not used
+		// - then the cells are kept raw (see Cell) instead of the artifacts
+		MessageDigest digest = null;
+		Vector<Cell> cells = null;
+		//--------------------------------------------------------------------------------
+		DiagramState(String diagramName, int diagramDepth, MessageDigest digest) {
+			this.diagramName = diagramName;
+			this.diagramDepth = diagramDepth;
+			this.digest = digest;
+			if(digest != null)
+				cells = new Vector<Cell>();
+		}
+		//--------------------------------------------------------------------------------
+		// start element of the diagram or below it: hash it
+		// - nb: element name and all attributes (in document order), each terminated by 0
+		void digestStartElement(XMLStreamReader reader) {
+			if(digest == null)
+				return;
+			digest("<" + reader.getLocalName());
+			for(int i = 0; i < reader.getAttributeCount(); i++)
+				digest(" " + reader.getAttributeLocalName(i) + "=" + reader.getAttributeValue(i));
+			digest(">");
+		}
+		//--------------------------------------------------------------------------------
+		private void digest(String s) {
+			digest.update(s.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+		//--------------------------------------------------------------------------------
+		// key of the diagram after its end element; null if the cache is not used
+		String key() {
+			return (digest == null) ? null : ArtifactsCache.key(digest);
+		}
+		//--------------------------------------------------------------------------------
+		// start element below the diagram element
+		void startElement(XMLStreamReader reader, int depth) {
+			digestStartElement(reader);
+			String elementName = reader.getLocalName();
+			//--------------------------------------------------------------------------------
+			// first "mxGraphModel" of the diagram
+			if(! mxGraphModelSeen) {
+				if(elementName.equals("mxGraphModel")) {
+					mxGraphModelSeen = true;
+					mxGraphModelDepth = depth;
+				}
+			}
+			//--------------------------------------------------------------------------------
+			// first "root" of this "mxGraphModel"
+			else if(! rootSeen) {
+				if(mxGraphModelDepth >= 0 && elementName.equals("root")) {
+					rootSeen = true;
+					rootDepth = depth;
+				}
+			}
+			//--------------------------------------------------------------------------------
+			// "mxCell" below this "root": pick out the PM related artifacts
+			else if(rootDepth >= 0 && elementName.equals("mxCell")) {
+				String style = reader.getAttributeValue(null, "style");
+				String artifactName = Artifacts.getArtifactName((style == null) ? "" : style);
+				if(artifactName != null) {
+					if(cells != null)
+						cells.add(new Cell(reader, artifactName));
+					else
+						artifacts.add(new Artifact(reader, artifactName));
+				}
+			}
+		}
+		//--------------------------------------------------------------------------------
+		// end element below the diagram element
+		void endElement(int depth) {
+			if(digest != null)
+				digest("</");
+			if(depth == rootDepth)
+				rootDepth = -1;
+			else if(depth == mxGraphModelDepth)
+				mxGraphModelDepth = -1;
+		}
+		//--------------------------------------------------------------------------------
+		// text below the diagram element
+		void characters(XMLStreamReader reader, int depth) {
+			if(digest != null)
+				digest(new String(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength()));
+			if(depth != diagramDepth || mxGraphModelSeen)
+				return;
+			if(text == null)
+				text = new StringBuilder();
+			text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+		}
+		//--------------------------------------------------------------------------------
+		// is it a compressed diagram?
+		boolean isCompressed() {
+			return ! mxGraphModelSeen && text != null && text.toString().trim().length() > 0;
+		}
+		//--------------------------------------------------------------------------------
+		ArtifactsCache.DiagramArtifacts getDiagramArtifacts() {
+			if(cells != null) {
+				for(int i = 0; i < cells.size(); i++)
+					artifacts.add(cells.get(i).toArtifact());
+				cells = null;
+			}
+			return new ArtifactsCache.DiagramArtifacts(diagramName, ! rootSeen /* skipFlag */, artifacts);
+		}
+	}
+
+	//================================================================================
+	// READ
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// read the artifacts of all diagrams of a drawio file in document order
+	// - nb: the encoding is taken from the xml declaration
+	public Vector<ArtifactsCache.DiagramArtifacts> readFile(String fullFileName) throws IOException, XMLStreamException {
+		try (InputStream in = new BufferedInputStream(new FileInputStream(fullFileName))) {
+			XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(in);
+			try {
+				return read(reader);
+			} finally {
+				reader.close();
+			}
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// read the artifacts of all diagrams contained in the xml text in document order
+	// - nb: the text may also consist of one "diagram" element only (cf. artifacts cache)
+	public Vector<ArtifactsCache.DiagramArtifacts> readString(String xml) throws IOException, XMLStreamException {
+		XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(new StringReader(xml));
+		try {
+			return read(reader);
+		} finally {
+			reader.close();
+		}
+	}
+	//--------------------------------------------------------------------------------
+	private Vector<ArtifactsCache.DiagramArtifacts> read(XMLStreamReader reader) throws IOException, XMLStreamException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_read; // debug
+		//--------------------------------------------------------------------------------
+		Vector<ArtifactsCache.DiagramArtifacts> diagramsArtifacts = new Vector<ArtifactsCache.DiagramArtifacts>();
+		// compressed diagrams; nb: their place in diagramsArtifacts is reserved with null
+		Vector<Integer> compressedIndices = new Vector<Integer>();
+		Vector<DiagramState> compressedDiagrams = new Vector<DiagramState>();
+		// their cache keys; null if the cache is not used
+		Vector<String> compressedKeys = new Vector<String>();
+		//--------------------------------------------------------------------------------
+		// depth of the current element
+		int depth = 0;
+		// the current diagram; null if not within a diagram
+		DiagramState diagram = null;
+		//--------------------------------------------------------------------------------
+		while(reader.hasNext()) {
+			switch(reader.next()) {
+			//================================================================================
+			case XMLStreamConstants.START_ELEMENT:
+				depth++;
+				//--------------------------------------------------------------------------------
+				// new diagram
+				if(diagram == null) {
+					if(reader.getLocalName().equals("diagram")) {
+						String name = reader.getAttributeValue(null, "name");
+						diagram = new DiagramState((name == null) ? "" : name, depth, (cache == null) ? null : ArtifactsCache.newKeyDigest());
+						diagram.digestStartElement(reader);
+						/**/ tracer.println("Diagram = " + diagram.diagramName, Level.NO, m);
+					}
+				}
+				else
+					diagram.startElement(reader, depth);
+				break;
+			//================================================================================
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.CDATA:
+				if(diagram != null)
+					diagram.characters(reader, depth);
+				break;
+			//================================================================================
+			case XMLStreamConstants.END_ELEMENT:
+				if(diagram != null) {
+					if(depth == diagram.diagramDepth) {
+						diagram.endElement(depth);
+						//--------------------------------------------------------------------------------
+						// known diagram?
+						String key = diagram.key();
+						ArtifactsCache.DiagramArtifacts cachedDiagram = (key == null) ? null : cache.get(key);
+						if(cachedDiagram != null)
+							diagramsArtifacts.add(cachedDiagram);
+						//--------------------------------------------------------------------------------
+						// new or changed diagram
+						else if(diagram.isCompressed()) {
+							compressedIndices.add(diagramsArtifacts.size());
+							compressedDiagrams.add(diagram);
+							compressedKeys.add(key);
+							diagramsArtifacts.add(null);
+						}
+						else {
+							ArtifactsCache.DiagramArtifacts diagramArtifacts = diagram.getDiagramArtifacts();
+							if(key != null)
+								cache.put(key, diagramArtifacts);
+							diagramsArtifacts.add(diagramArtifacts);
+						}
+						diagram = null;
+					}
+					else
+						diagram.endElement(depth);
+				}
+				depth--;
+				break;
+			//================================================================================
+			default:
+				break;
+			}
+		}
+		//--------------------------------------------------------------------------------
+		// decode the compressed diagrams and put them on their places
+		Vector<ArtifactsCache.DiagramArtifacts> decodedDiagrams = decodeCompressedDiagrams(compressedDiagrams);
+		for(int i = 0; i < compressedIndices.size(); i++) {
+			diagramsArtifacts.set(compressedIndices.get(i), decodedDiagrams.get(i));
+			if(compressedKeys.get(i) != null)
+				cache.put(compressedKeys.get(i), decodedDiagrams.get(i));
+		}
+		//--------------------------------------------------------------------------------
+		/**/ tracer.println("nDiagrams = " + diagramsArtifacts.size() + " (compressed: " + compressedDiagrams.size() + ")", Level.LO, m);
+		return diagramsArtifacts;
+	}
+
+	//================================================================================
+	// COMPRESSED DIAGRAMS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// decode the artifacts of one compressed diagram
+	// - nb: also used by the DOM based extraction
+	public static ArtifactsCache.DiagramArtifacts decodeCompressedDiagram(String diagramName, String compressedText) throws IOException, XMLStreamException {
+		//--------------------------------------------------------------------------------
+		// base64 -> raw inflate -> url decode
+		// - nb: the mime decoder ignores line breaks
+		// - nb: raw inflate may need an extra dummy byte at the end
+		InputStream base64Decoded = Base64.getMimeDecoder().wrap(new ByteArrayInputStream(compressedText.getBytes(StandardCharsets.US_ASCII)));
+		InputStream inflated = new InflaterInputStream(new SequenceInputStream(base64Decoded, new ByteArrayInputStream(new byte[1])), new Inflater(true /* nowrap */));
+		InputStream decoded = new UrlDecodingInputStream(new BufferedInputStream(inflated));
+		//--------------------------------------------------------------------------------
+		// read the "mxGraphModel"
+		// - nb: the depth of the (virtual) diagram element is 0
+		DiagramState diagram = new DiagramState(diagramName, 0, null /* digest */);
+		try {
+			XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(decoded, "UTF-8");
+			try {
+				int depth = 0;
+				while(reader.hasNext()) {
+					switch(reader.next()) {
+					case XMLStreamConstants.START_ELEMENT:
+						depth++;
+						diagram.startElement(reader, depth);
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						diagram.endElement(depth);
+						depth--;
+						break;
+					default:
+						break;
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new XMLStreamException("can't decode compressed diagram '" + diagramName + "': " + e.getMessage(), e);
+		}
+		return diagram.getDiagramArtifacts();
+	}
+	//--------------------------------------------------------------------------------
+	// decode the compressed diagrams; in parallel if there are several ones
+	// - result has the same order
+	private Vector<ArtifactsCache.DiagramArtifacts> decodeCompressedDiagrams(Vector<DiagramState> compressedDiagrams) throws IOException, XMLStreamException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_decodeCompressedDiagrams; // debug
+		//--------------------------------------------------------------------------------
+		Vector<ArtifactsCache.DiagramArtifacts> decodedDiagrams = new Vector<ArtifactsCache.DiagramArtifacts>();
+		//--------------------------------------------------------------------------------
+		// sequentially
+		if(compressedDiagrams.size() <= 1 || nDecodeThreads <= 1) {
+			for(int i = 0; i < compressedDiagrams.size(); i++) {
+				DiagramState diagram = compressedDiagrams.get(i);
+				decodedDiagrams.add(decodeCompressedDiagram(diagram.diagramName, diagram.text.toString()));
+			}
+			return decodedDiagrams;
+		}
+		//--------------------------------------------------------------------------------
+		// in parallel
+		/**/ tracer.println("decode " + compressedDiagrams.size() + " compressed diagrams in parallel", Level.LO, m);
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(nDecodeThreads, compressedDiagrams.size()));
+		Vector<Future<ArtifactsCache.DiagramArtifacts>> futures = new Vector<Future<ArtifactsCache.DiagramArtifacts>>();
+		try {
+			for(int i = 0; i < compressedDiagrams.size(); i++) {
+				DiagramState diagram = compressedDiagrams.get(i);
+				futures.add(executor.submit(() -> decodeCompressedDiagram(diagram.diagramName, diagram.text.toString())));
+			}
+			for(int i = 0; i < futures.size(); i++) {
+				try {
+					decodedDiagrams.add(futures.get(i).get());
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if(cause instanceof IOException)
+						throw (IOException) cause;
+					if(cause instanceof XMLStreamException)
+						throw (XMLStreamException) cause;
+					if(cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if(cause instanceof Error)
+						throw (Error) cause;
+					throw new IOException(cause);
+				} catch (InterruptedException e) {
+					throw new IOException("decoding of compressed diagrams interrupted");
+				}
+			}
+		} finally {
+			for(int i = 0; i < futures.size(); i++) 
+				futures.get(i).cancel(true);
+			executor.shutdownNow();
+		}
+		return decodedDiagrams;
+	}
+
+	//================================================================================
+	// URL DECODING
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// streaming url decoding (cf. decodeURIComponent in javascript): %XX -> byte XX; all other bytes unchanged
+	// - nb: drawio encodes with encodeURIComponent, so "+" is not a blank
+	private static class UrlDecodingInputStream extends FilterInputStream {
+		//--------------------------------------------------------------------------------
+		UrlDecodingInputStream(InputStream in) {
+			super(in);
+		}
+		//--------------------------------------------------------------------------------
+		@Override
+		public int read() throws IOException {
+			int b = in.read();
+			if(b != '%')
+				return b;
+			int hi = Character.digit(in.read(), 16);
+			int lo = Character.digit(in.read(), 16);
+			if(hi < 0 || lo < 0)
+				throw new IOException("ill. url encoding in compressed diagram");
+			return (hi << 4) | lo;
+		}
+		//--------------------------------------------------------------------------------
+		@Override
+		public int read(byte[] buf, int off, int len) throws IOException {
+			if(len == 0)
+				return 0;
+			int n = 0;
+			while(n < len) {
+				int b = read();
+				if(b < 0)
+					return (n == 0) ? -1 : n;
+				buf[off + n++] = (byte) b;
+			}
+			return n;
+		}
+		//--------------------------------------------------------------------------------
+		@Override
+		public long skip(long n) throws IOException {
+			long i = 0;
+			while(i < n && read() >= 0) 
+				i++;
+			return i;
+		}
+		//--------------------------------------------------------------------------------
+		@Override
+		public int available() throws IOException {
+			return 0;
+		}
+		//--------------------------------------------------------------------------------
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -31,6 +31,7 @@ import pmmm.EntryType;
 import pmmm.EntryTypes;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -39,6 +40,8 @@ public class EntryTypesArtifacts extends Artifacts {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	/**/ Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_translate = TracePoint.of(EntryTypesArtifacts.class, "translate"); // debug
 	
 	//================================================================================
 	// CONSTRUCTORS
@@ -62,7 +65,7 @@ public class EntryTypesArtifacts extends Artifacts {
 	public EntryTypes translate() throws SyntaxException {
 		//--------------------------------------------------------------------------------
 		// debug:
-		/**/ Object m = new Object(){};  
+		/**/ TracePoint m = M_translate;  
 		//--------------------------------------------------------------------------------
 		// collect entry types here
 		EntryTypes entryTypes = new EntryTypes();
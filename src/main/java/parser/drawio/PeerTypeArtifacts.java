@@ -33,7 +33,7 @@ import pmmm.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -42,6 +42,8 @@ public class PeerTypeArtifacts extends Artifacts {
 	// -------------------------------------------------------
 	// for debug:
 	/**/ private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_translate = TracePoint.of(PeerTypeArtifacts.class, "translate"); // debug
 	// -------------------------------------------------------
 	// peer name
 	String peerTypeName = "";
@@ -58,6 +60,15 @@ public class PeerTypeArtifacts extends Artifacts {
 		// set peer type name
 		this.peerTypeName = peerTypeName;
 	}
+	// -------------------------------------------------------
+	// take over the already extracted artifacts of one drawio diagram
+	// - nb: e.g. from the artifacts cache
+	public PeerTypeArtifacts(String peerTypeName, Vector<Artifact> artifacts) {
+		// set the artifacts collection
+		super(artifacts);
+		// set name
+		this.peerTypeName = peerTypeName;
+	}
 
 	//================================================================================
 	// TRANSLATE
@@ -67,7 +78,7 @@ public class PeerTypeArtifacts extends Artifacts {
 	// - nb: is one peer type in the diagram; 
 	public PeerType translate() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_translate; // debug
 		/**/ tracer.println("parse peer's artifacts", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		PeerType peerType = new PeerType(peerTypeName);
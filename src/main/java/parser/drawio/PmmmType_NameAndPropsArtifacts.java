@@ -33,6 +33,7 @@ import parser.PmmmComponents;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -41,6 +42,8 @@ public class PmmmType_NameAndPropsArtifacts extends Artifacts {
 	// -------------------------------------------------------
 	// for debug:
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_translate = TracePoint.of(PmmmType_NameAndPropsArtifacts.class, "translate"); // debug
 	// -------------------------------------------------------
 	// pmmm type name will only be verified
 	// - has namely already been set to the file name
@@ -67,6 +70,15 @@ public class PmmmType_NameAndPropsArtifacts extends Artifacts {
 		// set pmmm name
 		this.pmmmTypeName = pmmmTypeName;
 	}
+	// -------------------------------------------------------
+	// take over the already extracted artifacts of one drawio diagram
+	// - nb: e.g. from the artifacts cache
+	public PmmmType_NameAndPropsArtifacts(String pmmmTypeName, Vector<Artifact> artifacts) {
+		// set the artifacts collection
+		super(artifacts);
+		// set name
+		this.pmmmTypeName = pmmmTypeName;
+	}
 
 	//================================================================================
 	// GET
@@ -88,7 +100,7 @@ public class PmmmType_NameAndPropsArtifacts extends Artifacts {
 	public PmmmComponents translate() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
 		// debug:
-		/**/ Object m = new Object(){};  
+		/**/ TracePoint m = M_translate;  
 		//--------------------------------------------------------------------------------
 		// create new PmmmType
 		PmmmComponents pmmmComponents = new PmmmComponents();
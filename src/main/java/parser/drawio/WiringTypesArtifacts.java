@@ -33,7 +33,7 @@ import pmmm.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -42,6 +42,8 @@ public class WiringTypesArtifacts extends Artifacts {
 	// -------------------------------------------------------
 	// for debug:
 	/**/ private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_translate = TracePoint.of(WiringTypesArtifacts.class, "translate"); // debug
 
 	//================================================================================
 	// CONSTRUCTORS
@@ -65,7 +67,7 @@ public class WiringTypesArtifacts extends Artifacts {
 	// - nb: ignore not needed artifacts; 
 	public Vector<WiringType> translate() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_translate; // debug
 		/**/ tracer.println("parse " + artifacts.size() + " wirings's artifacts", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		Vector<WiringType> wiringTypes = new Vector<WiringType>();
@@ -37,7 +37,7 @@ import pmmm.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 import util.replace.xml.XmlReplacements;
 
@@ -52,6 +52,13 @@ public class PmDslParser extends Parser implements IParser {
 	//--------------------------------------------------------------------------------
 	// debug
 	/**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_parse = TracePoint.of(PmDslParser.class, "parse"); // debug
+	/**/ private static final TracePoint M_getIthElement = TracePoint.of(PmDslParser.class, "getIthElement"); // debug
+	/**/ private static final TracePoint M_getRawTextOfChildElement = TracePoint.of(PmDslParser.class, "getRawTextOfChildElement"); // debug
+	//--------------------------------------------------------------------------------
+	// decoder of special xml chars; stateless, so shared by all
+	private static final util.replace.Director xmlReplacementsDirector = new util.replace.Director(new XmlReplacements());
 	//--------------------------------------------------------------------------------
 
 	//================================================================================
@@ -69,7 +76,7 @@ public class PmDslParser extends Parser implements IParser {
 	// generate PMMM from file
 	public PmmmComponents parse() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_parse; // debug
 		//--------------------------------------------------------------------------------
 		// local vars
 		String errMsg1 = "";
@@ -457,7 +464,7 @@ public class PmDslParser extends Parser implements IParser {
 	// get i-th element from node list
 	private Element getIthElement(NodeList nodeList, int i) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getIthElement; // debug
 		//--------------------------------------------------------------------------------
 		// assertion
 		if(nodeList.getLength() < i)
@@ -485,7 +492,7 @@ public class PmDslParser extends Parser implements IParser {
 	private static String getRawTextOfChildElement(Element element, String subElementName) throws SyntaxException { 
 		//--------------------------------------------------------------------------------
 		/**/ Tracer tracer = new Tracer(); 
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getRawTextOfChildElement; // debug
 		//--------------------------------------------------------------------------------
 		String rawText = "";
 		//--------------------------------------------------------------------------------
@@ -520,7 +527,7 @@ public class PmDslParser extends Parser implements IParser {
 		}
 		/**/ tracer.println("rawText = " + rawText, Level.HI, m);	
 		// replace special chars
-		return (new util.replace.Director(new XmlReplacements())).x2String(rawText);		
+		return xmlReplacementsDirector.x2String(rawText);		
 	}
 
 } // END OF CLASS
@@ -28,7 +28,7 @@ import eval.tokens.TokenExpression;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -36,6 +36,10 @@ import qa.tracer.Tracer;
 public class Config implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(Config.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(Config.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(Config.class, "plausiCheck"); // debug
 	//--------------------------------------------------------------------------------
 	// CONFIG NAME: 
 	protected String configName = "";
@@ -91,24 +95,24 @@ public class Config implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//--------------------------------------------------------------------------------
 		// PMMM PROPS DEFS:
 		pmmmPropsDefsTokenExpression.tokenize();
-		/**/ tracer.println("pmmm props defs = " + pmmmPropsDefsTokenExpression, Level.NO, m);
+		/**/ tracer.println(() -> "pmmm props defs = " + pmmmPropsDefsTokenExpression, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// PEERS CONFIGS: 
 		for(int i = 0; i < peerConfigs.size(); i++) {
 			//--------------------------------------------------------------------------------
 			// get next peer config
 			PeerConfig peerConfig = peerConfigs.get(i);
-			/**/ tracer.println("tokenize peer config; peer name(s) = " + peerConfig.peerNamesTokenExpression.getRaw(), Level.NO, m);
+			/**/ tracer.println(() -> "tokenize peer config; peer name(s) = " + peerConfig.peerNamesTokenExpression.getRaw(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// tokenize
 			peerConfig.tokenize();
 		}
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("tokenized CONFIG: \n" + this.toString(), Level.NO, m);
+		/**/ tracer.println(() -> "tokenized CONFIG: \n" + this.toString(), Level.NO, m);
 	}
 
 	//================================================================================
@@ -118,7 +122,7 @@ public class Config implements IEvaluation, IMta {
 	// keep the order! 
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evalDataTypes; // debug
 		/**/ tracer.println("eval data types of PMMM", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// local var
@@ -129,11 +133,11 @@ public class Config implements IEvaluation, IMta {
 			// PMMM PROPS DEFS:
 			errMsg = "pmmm props defs";
 			// - resolve qualifier types 
-			pmmmPropsDefsTokenExpression.resolveQualifierTypes(context.setPmmmQualifierContext(context.pmmmTypePmmmPropsTypes, context.pmmmTypeName).getQualifierContext());
+			pmmmPropsDefsTokenExpression.resolveQualifierTypes(context.setPmmmQualifierContext(context.getPmmmTypePmmmPropsTypes(), context.getPmmmTypeName()).getQualifierContext());
 			// - eval data types
 			pmmmPropsDefsTokenExpression.evalDataTypes(context.switch2PmmmType_PmmmPropsTypes().switch2Config_Pmmm_PropsDefs());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("pmmm props defs = " + pmmmPropsDefsTokenExpression, Level.NO, m);
+			/**/ tracer.println(() -> "pmmm props defs = " + pmmmPropsDefsTokenExpression, Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// PEERS:
 			//--------------------------------------------------------------------------------
@@ -143,15 +147,15 @@ public class Config implements IEvaluation, IMta {
 				PeerConfig peerConfig = peerConfigs.get(i);
 				//--------------------------------------------------------------------------------
 				errMsg = "config of peer '" + peerConfig.peerNamesTokenExpression.getRaw() + "'";
-				/**/ tracer.println("peerConfig: " + peerConfig.toString(false /* print peer type */), Level.NO, m);
-				/**/ tracer.println("peerConfig raw peer name = '" + peerConfig.getRawPeerNames() + "'", Level.NO, m);
-				/**/ tracer.println("peerConfig peer type name = '" + peerConfig.peerTypeName + "'", Level.NO, m);
+				/**/ tracer.println(() -> "peerConfig: " + peerConfig.toString(false /* print peer type */), Level.NO, m);
+				/**/ tracer.println(() -> "peerConfig raw peer name = '" + peerConfig.getRawPeerNames() + "'", Level.NO, m);
+				/**/ tracer.println(() -> "peerConfig peer type name = '" + peerConfig.peerTypeName + "'", Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// eval
 				peerConfig.evalDataTypes(context.switch2Config_PeerConfig(peerConfig.peerTypeName, peerConfig.getRawPeerNames() /* docu */));
 			}
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("EVALUATED PEER CONFIG: \n" + this, Level.NO, m);
+			/**/ tracer.println(() -> "EVALUATED PEER CONFIG: \n" + this, Level.NO, m);
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
 			throw new SyntaxException(errMsg, m, e);
@@ -166,7 +170,7 @@ public class Config implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_plausiCheck; // debug
 		/**/ tracer.println("plausiCheck CONFIG:", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "config " + this.configName;
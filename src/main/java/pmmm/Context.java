@@ -22,14 +22,12 @@
 
 package pmmm;
 
-import java.util.Vector;
-
 import eval.IData;
 import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -40,34 +38,38 @@ public class Context {
 	//================================================================================
 	// for debug:
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_switch2PmmmType_PmmmPropsTypes = TracePoint.of(Context.class, "switch2PmmmType_PmmmPropsTypes"); // debug
+	/**/ private static final TracePoint M_switch2EntryTypesEPropsDefs = TracePoint.of(Context.class, "switch2EntryTypesEPropsDefs"); // debug
+	/**/ private static final TracePoint M_switch2PeerType = TracePoint.of(Context.class, "switch2PeerType"); // debug
+	/**/ private static final TracePoint M_switch2PeerType_PPropsTypes = TracePoint.of(Context.class, "switch2PeerType_PPropsTypes"); // debug
+	/**/ private static final TracePoint M_switch2PeerType_PPropsDefs = TracePoint.of(Context.class, "switch2PeerType_PPropsDefs"); // debug
+	/**/ private static final TracePoint M_switch2Wiring = TracePoint.of(Context.class, "switch2Wiring"); // debug
+	/**/ private static final TracePoint M_switch2WiringType = TracePoint.of(Context.class, "switch2WiringType"); // debug
+	/**/ private static final TracePoint M_switch2WiringType_WPropsTypes = TracePoint.of(Context.class, "switch2WiringType_WPropsTypes"); // debug
+	/**/ private static final TracePoint M_switch2WiringNames = TracePoint.of(Context.class, "switch2WiringNames"); // debug
+	/**/ private static final TracePoint M_switch2WiringOrWiringType_WPropsDefs = TracePoint.of(Context.class, "switch2WiringOrWiringType_WPropsDefs"); // debug
+	/**/ private static final TracePoint M_switch2Link = TracePoint.of(Context.class, "switch2Link"); // debug
+	/**/ private static final TracePoint M_switch2Config_Pmmm_PropsDefs = TracePoint.of(Context.class, "switch2Config_Pmmm_PropsDefs"); // debug
+	/**/ private static final TracePoint M_switch2Config_PeerConfig = TracePoint.of(Context.class, "switch2Config_PeerConfig"); // debug
+	/**/ private static final TracePoint M_switch2Config_PeerNames = TracePoint.of(Context.class, "switch2Config_PeerNames"); // debug
+	/**/ private static final TracePoint M_switch2Config_Peer_PropsDefs = TracePoint.of(Context.class, "switch2Config_Peer_PropsDefs"); // debug
+	/**/ private static final TracePoint M_addUserVarType = TracePoint.of(Context.class, "addUserVarType"); // debug
+	/**/ private static final TracePoint M_getSysFuType = TracePoint.of(Context.class, "getSysFuType"); // debug
+	/**/ private static final TracePoint M_getPeerType = TracePoint.of(Context.class, "getPeerType"); // debug
+	/**/ private static final TracePoint M_getUserPeerTypePPropsTypes = TracePoint.of(Context.class, "getUserPeerTypePPropsTypes"); // debug
+	/**/ private static final TracePoint M_getUserWiringWPropsTypes = TracePoint.of(Context.class, "getUserWiringWPropsTypes"); // debug
+	/**/ private static final TracePoint M_findUserWiringWPropsTypes = TracePoint.of(Context.class, "findUserWiringWPropsTypes"); // debug
+	/**/ private static final TracePoint M_getUserEPropsTypes = TracePoint.of(Context.class, "getUserEPropsTypes"); // debug
+	/**/ private static final TracePoint M_getUserOrSysPmmmPropType = TracePoint.of(Context.class, "getUserOrSysPmmmPropType"); // debug
+	/**/ private static final TracePoint M_getUserOrSysPPropType = TracePoint.of(Context.class, "getUserOrSysPPropType"); // debug
+	/**/ private static final TracePoint M_getUserOrSysWPropType = TracePoint.of(Context.class, "getUserOrSysWPropType"); // debug
 	//================================================================================
 	// GLOBAL PMMM CONTEXT:
+	// - immutable; shared with all forked contexts
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	// pmmm type: name
-	String pmmmTypeName;
-	//--------------------------------------------------------------------------------
-	// pmmm type: props types
-	// - user props types
-	PropsTypes pmmmTypePmmmPropsTypes = new PropsTypes();
-	// - TBD: sys pmmm props types (needs extension of go automaton)
-	NameTypeMap sysPmmmPropTypeMap = new NameTypeMap();
-	//--------------------------------------------------------------------------------
-	// entry types
-	private EntryTypes entryTypes;
-	//--------------------------------------------------------------------------------
-	// sys data types
-	private KeywordTypes keywordTypes;
-	//--------------------------------------------------------------------------------
-	// peer type names 
-	private Vector<String> peerType_Names;
-	//--------------------------------------------------------------------------------
-	// peer types
-	Vector<PeerType> peerTypes = new Vector<PeerType>();
-	//--------------------------------------------------------------------------------
-	// artificial props vector with URL:peerTypeName pairs
-	// - for all peer type names!
-	NameTypeMap peerTypeNameMap = new NameTypeMap();
+	private final GlobalContext global;
 	//================================================================================
 	// CURRENT CONTEXT:
 	// - unused ones are empty
@@ -139,51 +141,34 @@ public class Context {
 	public Context(KeywordTypes keywordTypes, 
 			String pmmmTypeName, 
 			PropsTypes pmmmTypePmmmPropsTypes,
-			Vector<String> pmmmTypePeerNames, 
-			Vector<PeerType> pmmmPeerTypes,
-			EntryTypes pmmmEntryTypes) throws SyntaxException {
+			SymbolTable pmmmSymbolTable) throws SyntaxException {
+		this(new GlobalContext(keywordTypes, pmmmTypeName, pmmmTypePmmmPropsTypes, pmmmSymbolTable));
+	}
+	//--------------------------------------------------------------------------------
+	// new context with empty current context on the given global context
+	private Context(GlobalContext global) {
 		//--------------------------------------------------------------------------------
 		// reset entire current context
 		this.resetTypesContext();
 		//--------------------------------------------------------------------------------
 		// init global context
-		this.keywordTypes = keywordTypes;
-		this.pmmmTypeName = pmmmTypeName;
-		this.pmmmTypePmmmPropsTypes = pmmmTypePmmmPropsTypes;
-		this.peerType_Names = pmmmTypePeerNames;
-		this.peerTypes = pmmmPeerTypes;
-		this.entryTypes = pmmmEntryTypes;
+		this.global = global;
 		//--------------------------------------------------------------------------------
-		this.qualifierContext = new QualifierContext(keywordTypes);
-		//--------------------------------------------------------------------------------
-		// help fu because tracer mechanism can't be used in constructor
-		this.construct_Url_PeerTypeName_Pairs();
-	}
-
-	//--------------------------------------------------------------------------------
-	private void construct_Url_PeerTypeName_Pairs() throws SyntaxException { 
-		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		//--------------------------------------------------------------------------------
-		// construct artificial vector with URL:<peerTypeName> pairs for all peer type names
-		for(int i = 0; i < peerType_Names.size(); i++) {
-			String peerTypeName = peerType_Names.get(i);
-			try {
-				// add to my map
-				peerTypeNameMap.add(peerTypeName, IData.Type.URL);
-			} catch (SyntaxException e) {
-				throw new SyntaxException("peer type", m, e);
-			}
-		}	
+		this.qualifierContext = new QualifierContext(global.keywordTypes);
 	}
 
 	//================================================================================
-	// SET 
+	// FORK 
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	// enhance ***global*** context by pmmm props types as soon as they have been data type evaluated
-	public void setPmmmPropsTypes(PropsTypes pmmmTypePmmmPropsTypes) {
-		this.pmmmTypePmmmPropsTypes = pmmmTypePmmmPropsTypes;
+	// fork a child context for an independent scope (eg a wiring type or a peer type),
+	// - so that scopes can be type evaluated in parallel, each one with its own context;
+	// - the child shares my global context and starts with the <PMMM> part of my qualifier context (see QualifierContext);
+	// - its current context is empty, ie it must be switched before use (as usual)
+	public Context fork() {
+		Context child = new Context(global);
+		child.qualifierContext = new QualifierContext(qualifierContext);
+		return child;
 	}
 
 	//================================================================================
@@ -203,7 +188,15 @@ public class Context {
 	}
 	//--------------------------------------------------------------------------------
 	public KeywordTypes getKeywordTypes() {
-		return keywordTypes;
+		return global.keywordTypes;
+	}
+	//--------------------------------------------------------------------------------
+	public String getPmmmTypeName() {
+		return global.pmmmTypeName;
+	}
+	//--------------------------------------------------------------------------------
+	public PropsTypes getPmmmTypePmmmPropsTypes() {
+		return global.pmmmTypePmmmPropsTypes;
 	}
 	//--------------------------------------------------------------------------------
 	public QualifierContext getQualifierContext() {
@@ -275,16 +268,16 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	public Context switch2PmmmType_PmmmPropsTypes() {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2PmmmType_PmmmPropsTypes; // debug
 		//--------------------------------------------------------------------------------
 		// clear everything:
 		resetTypesContext();
 		//--------------------------------------------------------------------------------
 		// set:
 		curUsage = IContext.Usage.PMMM_TYPE__PMMM_PROPS_TYPES;
-		curSysPropTypeMap = keywordTypes.sysPmmmPropTypeMap; // for duplicate check	
+		curSysPropTypeMap = global.keywordTypes.sysPmmmPropTypeMap; // for duplicate check	
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("curUsage = " + curUsage, Level.NO, m);
+		/**/ tracer.println(() -> "curUsage = " + curUsage, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -301,8 +294,8 @@ public class Context {
 		//--------------------------------------------------------------------------------
 		// set:
 		curUsage = IContext.Usage.PMMM_TYPE_AND_PMMM__PMMM_PROPS_DEFS;
-		curUserPropsTypes = pmmmTypePmmmPropsTypes;	
-		curSysPropTypeMap = keywordTypes.sysPmmmPropTypeMap;	
+		curUserPropsTypes = global.pmmmTypePmmmPropsTypes;	
+		curSysPropTypeMap = global.keywordTypes.sysPmmmPropTypeMap;	
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -335,7 +328,7 @@ public class Context {
 		//--------------------------------------------------------------------------------
 		// set:
 		curUsage = IContext.Usage.ENTRY_TYPES__EPROPS_TYPES;
-		curSysPropTypeMap = keywordTypes.sysEPropTypeMap; // for duplicate check
+		curSysPropTypeMap = global.keywordTypes.sysEPropTypeMap; // for duplicate check
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -347,7 +340,7 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	public Context switch2EntryTypesEPropsDefs(PropsTypes epropsTypes) { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2EntryTypesEPropsDefs; // debug
 		//--------------------------------------------------------------------------------
 		// clear:
 		curPeerType_Name = "";
@@ -366,7 +359,7 @@ public class Context {
 		curUsage = IContext.Usage.ENTRY_TYPES__EPROPS_DEFS;
 		curUserPropsTypes = epropsTypes;
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("epropsTypes = " + epropsTypes.toPairs(), Level.NO, m);
+		/**/ tracer.println(() -> "epropsTypes = " + epropsTypes.toPairs(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -378,7 +371,7 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	public Context switch2PeerType(String peerTypeName) { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2PeerType; // debug
 		//--------------------------------------------------------------------------------
 		// clear everything:
 		resetTypesContext();
@@ -386,8 +379,8 @@ public class Context {
 		// set:
 		curUsage = IContext.Usage.PEER_TYPE;
 		curPeerType_Name = peerTypeName;
-		curSysPropTypeMap = keywordTypes.sysPPropTypeMap;
-		/**/ tracer.println("peerTypeName = '" + curPeerType_Name + "'", Level.NO, m);
+		curSysPropTypeMap = global.keywordTypes.sysPPropTypeMap;
+		/**/ tracer.println(() -> "peerTypeName = '" + curPeerType_Name + "'", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -399,7 +392,7 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	public Context switch2PeerType_PPropsTypes() { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2PeerType_PPropsTypes; // debug
 		//--------------------------------------------------------------------------------
 		// clear:
 		curWiring_NameOrNames = "";		
@@ -416,8 +409,8 @@ public class Context {
 		//--------------------------------------------------------------------------------
 		// set:
 		curUsage = IContext.Usage.PPROPS_TYPES;
-		curSysPropTypeMap = keywordTypes.sysPPropTypeMap;	
-		/**/ tracer.println("peerTypeName = '" + curPeerType_Name + "'", Level.NO, m);
+		curSysPropTypeMap = global.keywordTypes.sysPPropTypeMap;	
+		/**/ tracer.println(() -> "peerTypeName = '" + curPeerType_Name + "'", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -429,7 +422,7 @@ public class Context {
 	// nb: must be clearly called after eval of peer type pprops types
 	public Context switch2PeerType_PPropsDefs(PropsTypes ppropsTypes) { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2PeerType_PPropsDefs; // debug
 		//--------------------------------------------------------------------------------
 		// clear:
 		curWiring_NameOrNames = "";		
@@ -452,10 +445,10 @@ public class Context {
 		//		// -- tricky: because "PMMM." qualifier can be used in peer pprops !!!
 		//		curSysPropTypeMap = this.pmmmType_UserPropsTypes;
 		// TBD:
-		curSysPropTypeMap = keywordTypes.sysPPropTypeMap;	
+		curSysPropTypeMap = global.keywordTypes.sysPPropTypeMap;	
 		// - use the given pprops types
 		curUserPropsTypes = ppropsTypes;
-		/**/ tracer.println("ppropsTypes = '" + ppropsTypes.toUserInfo(true /* printSemiColonAfterTv */, true /* removeOuterBrackets */) + "'", Level.NO, m);
+		/**/ tracer.println(() -> "ppropsTypes = '" + ppropsTypes.toUserInfo(true /* printSemiColonAfterTv */, true /* removeOuterBrackets */) + "'", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -467,7 +460,7 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	public Context switch2Wiring(String wiringName, String wiringTypeName) { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2Wiring; // debug
 		//--------------------------------------------------------------------------------
 		// clear:
 		curLinkKindInfo = ""; 
@@ -485,7 +478,7 @@ public class Context {
 		curUsage = IContext.Usage.WIRING;
 		curWiring_NameOrNames = wiringName;
 		curWiringType_Name = wiringTypeName;
-		/**/ tracer.println("curPeerType_Name = '" + curPeerType_Name + "'; " +
+		/**/ tracer.println(() -> "curPeerType_Name = '" + curPeerType_Name + "'; " +
 				"curWiring_Name = '" + curWiring_NameOrNames + "'; curWiringType_Name = '" + curWiringType_Name, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
@@ -498,7 +491,7 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	public Context switch2WiringType(String wiringTypeName) { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2WiringType; // debug
 		//--------------------------------------------------------------------------------
 		// clear:
 		curLinkKindInfo = ""; 
@@ -516,7 +509,7 @@ public class Context {
 		// set:
 		curUsage = IContext.Usage.WIRING_TYPE;
 		curWiringType_Name = wiringTypeName;
-		/**/ tracer.println("curPeerType_Name = '" + curPeerType_Name + "'; " +
+		/**/ tracer.println(() -> "curPeerType_Name = '" + curPeerType_Name + "'; " +
 				"curWiring_Name = '" + curWiring_NameOrNames + "'; curWiringType_Name = '" + curWiringType_Name, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
@@ -527,7 +520,7 @@ public class Context {
 	// PMMM__WIRING_TYPE__WPROPS_TYPES
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	public Context switch2WiringType_WPropsTypes() { /**/O m=new O(){}/*debug*/;
+	public Context switch2WiringType_WPropsTypes() { /**/TracePoint m = M_switch2WiringType_WPropsTypes/*debug*/;
 	//--------------------------------------------------------------------------------
 	// clear:
 	curLinkKindInfo = ""; 
@@ -544,9 +537,9 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	// set:
 	curUsage = IContext.Usage.WPROPS_TYPES;
-	curSysPropTypeMap = keywordTypes.sysWPropTypeMap; // for duplicate check
+	curSysPropTypeMap = global.keywordTypes.sysWPropTypeMap; // for duplicate check
 	//--------------------------------------------------------------------------------
-	/**/ tracer.println("CONTEXT SWITCH to " + toMsg() + "...sys props = " + curSysPropTypeMap, Level.NO, m);
+	/**/ tracer.println(() -> "CONTEXT SWITCH to " + toMsg() + "...sys props = " + curSysPropTypeMap, Level.NO, m);
 	//--------------------------------------------------------------------------------
 	// return me
 	return this;
@@ -558,7 +551,7 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	public Context switch2WiringNames() { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2WiringNames; // debug
 		//--------------------------------------------------------------------------------
 		// clear:
 		curLinkKindInfo = ""; 
@@ -575,9 +568,9 @@ public class Context {
 		//--------------------------------------------------------------------------------
 		// set:
 		curUsage = IContext.Usage.WIRING_NAMES;
-		curSysPropTypeMap = keywordTypes.sysWPropTypeMap;
+		curSysPropTypeMap = global.keywordTypes.sysWPropTypeMap;
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("CONTEXT SWITCH to " + toMsg() + "...sys props = " + curSysPropTypeMap + 
+		/**/ tracer.println(() -> "CONTEXT SWITCH to " + toMsg() + "...sys props = " + curSysPropTypeMap + 
 				"; user props = " + curUserPropsTypes, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
@@ -590,7 +583,7 @@ public class Context {
 	//--------------------------------------------------------------------------------
 	public Context switch2WiringOrWiringType_WPropsDefs(PropsTypes wpropsTypes) { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2WiringOrWiringType_WPropsDefs; // debug
 		//--------------------------------------------------------------------------------
 		// clear:
 		curLinkKindInfo = ""; 
@@ -607,9 +600,9 @@ public class Context {
 		// set:
 		curUsage = IContext.Usage.WIRING_TYPE_AND_WIRING__WPROPS_DEFS;
 		curUserPropsTypes = wpropsTypes;
-		curSysPropTypeMap = keywordTypes.sysWPropTypeMap;
+		curSysPropTypeMap = global.keywordTypes.sysWPropTypeMap;
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("CONTEXT SWITCH to " + toMsg() + "...sys props = " + curSysPropTypeMap + 
+		/**/ tracer.println(() -> "CONTEXT SWITCH to " + toMsg() + "...sys props = " + curSysPropTypeMap + 
 				"; user props = " + curUserPropsTypes, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
@@ -623,7 +616,7 @@ public class Context {
 	public Context switch2Link(String linkIdentifier, boolean isNoopLinkFlag, String linkEntryTypeName, String spaceOpName) 
 			throws SyntaxException { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2Link; // debug
 		//--------------------------------------------------------------------------------
 		// keep:
 		// - curPeerType_Name 
@@ -645,7 +638,7 @@ public class Context {
 			//--------------------------------------------------------------------------------
 			// set curSysPropTypeMap to sys defined eprops types:
 			// NB: these also hold for type "*"
-			curSysPropTypeMap = keywordTypes.sysEPropTypeMap;
+			curSysPropTypeMap = global.keywordTypes.sysEPropTypeMap;
 			//--------------------------------------------------------------------------------
 			// if linkEntryTypeName != "*" aka WILDCARD
 			// - set curEntryType, curUserPropsTypes, and curSysPropTypeMap
@@ -654,12 +647,12 @@ public class Context {
 				try {
 					//--------------------------------------------------------------------------------
 					// set curEntryType:
-					curEntryType = entryTypes.getEntryType(linkEntryTypeName);
+					curEntryType = global.entryTypes.getEntryType(linkEntryTypeName);
 					//--------------------------------------------------------------------------------
 					// set curUserPropsTypes to user defined eprop types:
 					curUserPropsTypes = curEntryType.epropsTypes;
 					//--------------------------------------------------------------------------------
-					/**/ tracer.println(linkEntryTypeName + " --> has eprop types " + curUserPropsTypes, Level.LO, m);
+					/**/ tracer.println(() -> linkEntryTypeName + " --> has eprop types " + curUserPropsTypes, Level.LO, m);
 				} catch (NotFoundException e) { 
 					throw new SyntaxException(this.toMsg() + "entry type definition missing", m, e);
 				}
@@ -763,7 +756,7 @@ public class Context {
 		//--------------------------------------------------------------------------------
 		// set:
 		curUsage = IContext.Usage.LINK__LPROPS_DEFS;
-		curSysPropTypeMap = keywordTypes.sysLPropTypeMap;
+		curSysPropTypeMap = global.keywordTypes.sysLPropTypeMap;
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -804,7 +797,7 @@ public class Context {
 	//================================================================================
 	public Context switch2Config_Pmmm_PropsDefs() { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2Config_Pmmm_PropsDefs; // debug
 		//--------------------------------------------------------------------------------
 		// clear:
 		// - clear types context:
@@ -818,10 +811,10 @@ public class Context {
 		//--------------------------------------------------------------------------------
 		// set:
 		curUsage = IContext.Usage.PMMM_TYPE_AND_PMMM__PMMM_PROPS_DEFS;
-		curUserPropsTypes = pmmmTypePmmmPropsTypes;
-		curSysPropTypeMap = keywordTypes.sysPmmmPropTypeMap;	
+		curUserPropsTypes = global.pmmmTypePmmmPropsTypes;
+		curSysPropTypeMap = global.keywordTypes.sysPmmmPropTypeMap;	
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("curUserPropsTypes = " + curUserPropsTypes.toPairs(), Level.NO, m);
+		/**/ tracer.println(() -> "curUserPropsTypes = " + curUserPropsTypes.toPairs(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -833,9 +826,9 @@ public class Context {
 	// nb: rawPeerName is the not yet processed peer name(s); used for docu only...
 	public Context switch2Config_PeerConfig(String peerTypeName, String rawPeerName) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2Config_PeerConfig; // debug
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("curPeer_PeerTypeName = '" + peerTypeName + "'; curPeer_RawPeerName = '" + rawPeerName + "'", Level.NO, m);
+		/**/ tracer.println(() -> "curPeer_PeerTypeName = '" + peerTypeName + "'; curPeer_RawPeerName = '" + rawPeerName + "'", Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// clear types context:
 		resetTypesContext();
@@ -855,27 +848,14 @@ public class Context {
 		curUsage = IContext.Usage.PEER_CONFIG;
 		//................................................................................
 		// - curUserPropsTypes:
-		boolean foundFlag = false; 
-		//................................................................................
 		// -- find peer type's pprops types
-		for(int i = 0; !foundFlag && i < peerTypes.size(); i++) {
-			//................................................................................
-			// get next peer type
-			PeerType nextPeerType = peerTypes.get(i);
-			//................................................................................
-			// same name?
-			if(nextPeerType.peerTypeName.equals(peerTypeName)) {
-				//................................................................................
-				// set cur user props types to peer type's pprops
-				curUserPropsTypes = nextPeerType.peerTypePPropsTypes;
-				/**/ tracer.println("curUserPropsTypes = " + curUserPropsTypes.toPairs(), Level.NO, m);
-				//................................................................................
-				// found
-				foundFlag = true;
-			}
-		}
-		if(! foundFlag) 
+		PeerType peerType = global.symbolTable.findPeerType(peerTypeName);
+		if(peerType == null) 
 			throw new SyntaxException("missing peer type " + peerTypeName, m);
+		//................................................................................
+		// -- set cur user props types to peer type's pprops
+		curUserPropsTypes = peerType.peerTypePPropsTypes;
+		/**/ tracer.println(() -> "curUserPropsTypes = " + curUserPropsTypes.toPairs(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// set (beyond the usual mechanism ... just stays until next peer is encountered ...)
 		this.curPeer_PeerTypeName = peerTypeName;
@@ -890,7 +870,7 @@ public class Context {
 	//================================================================================
 	public Context switch2Config_PeerNames() throws SNHException { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2Config_PeerNames; // debug
 		//--------------------------------------------------------------------------------
 		// keep everything from types context, especially curUserPropsTypes
 		//--------------------------------------------------------------------------------
@@ -917,7 +897,7 @@ public class Context {
 	//================================================================================
 	public Context switch2Config_Peer_PropsDefs() throws SNHException { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_switch2Config_Peer_PropsDefs; // debug
 		//--------------------------------------------------------------------------------
 		// keep everything from types context, especially curUserPropsTypes
 		//--------------------------------------------------------------------------------
@@ -935,8 +915,8 @@ public class Context {
 		// set:
 		curUsage = IContext.Usage.PEER__PPROPS_DEFS;
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("curPeer_PeerTypeName = '" + curPeer_PeerTypeName + "'; curPeer_RawPeerName = '" + curPeer_RawPeerName + "'", Level.NO, m);
-		/**/ tracer.println("curUserPropsTypes = " + curUserPropsTypes.toPairs(), Level.NO, m);
+		/**/ tracer.println(() -> "curPeer_PeerTypeName = '" + curPeer_PeerTypeName + "'; curPeer_RawPeerName = '" + curPeer_RawPeerName + "'", Level.NO, m);
+		/**/ tracer.println(() -> "curUserPropsTypes = " + curUserPropsTypes.toPairs(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// return me
 		return this;
@@ -979,13 +959,13 @@ public class Context {
 	// nb: var name with $
 	public Context addUserVarType(String varName, IData.Type varType) throws SyntaxException { 
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println(this.toMsg() + "add user var type: " + varName + "<"+  varType+ ">" + " to context", Level.NO, m);		
+		/**/ TracePoint m = M_addUserVarType; // debug
+		/**/ tracer.println(() -> this.toMsg() + "add user var type: " + varName + "<"+  varType+ ">" + " to context", Level.NO, m);		
 		//--------------------------------------------------------------------------------
 		try {
 			// add checks for duplicates
 			curUserVarTypeMap.add(varName, varType); 
-			/**/ tracer.println(this.toMsg() + "all current user var types = " + curUserVarTypeMap, Level.NO, m);		
+			/**/ tracer.println(() -> this.toMsg() + "all current user var types = " + curUserVarTypeMap, Level.NO, m);		
 		} catch(SyntaxException e) {
 			// duplicate var
 			throw new SyntaxException(this.toMsg() + "duplicate user var type for '" + varName + "'", m);
@@ -1004,27 +984,22 @@ public class Context {
 	public boolean peerTypeNameExists(String peerTypeName) {
 		//--------------------------------------------------------------------------------
 		// user peer type?
-		for(int i = 0; i < peerType_Names.size(); i++) {
-			if(peerType_Names.get(i).equals(peerTypeName)) {
-				return true;
-			}
-		}
-		//--------------------------------------------------------------------------------
-		// built-in peer type?
-		try {
-			keywordTypes.getSysPeerType(peerTypeName);
+		if(global.symbolTable.peerTypeNameExists(peerTypeName))
 			return true;
-		} catch(NotFoundException e) {
-			// no peer type
-		}
 		//--------------------------------------------------------------------------------
-		return false;
+		// built-in peer type?
+		return global.keywordTypes.tryGetSysPeerType(peerTypeName) != null;
 	}
 
 	//--------------------------------------------------------------------------------
 	// get type of sys const;
 	public IData.Type getSysConstType(String name) throws NotFoundException {
-		return keywordTypes.getSysConstType(name);
+		return global.keywordTypes.getSysConstType(name);
+	}
+	//--------------------------------------------------------------------------------
+	// get type of sys const; null if it is none
+	public IData.Type tryGetSysConstType(String name) {
+		return global.keywordTypes.tryGetSysConstType(name);
 	}
 	//--------------------------------------------------------------------------------
 	// test if it is a user prop depending on the context:
@@ -1043,12 +1018,22 @@ public class Context {
 		return curUserPropsTypes.getType(propName);
 	}
 	//--------------------------------------------------------------------------------
+	// get type of property of the currently used user defined property; null if it is none
+	public IData.Type tryGetUserPropType(String propName) {
+		return curUserPropsTypes.findType(propName);
+	}
+	//--------------------------------------------------------------------------------
 	// get type of property of the current sys props;
 	public IData.Type getSysPropType(String propName) throws NotFoundException {
 		// just pass on the exception without extra info
 		return curSysPropTypeMap.getType(propName);
 	}
 	//--------------------------------------------------------------------------------
+	// get type of property of the current sys props; null if it is none
+	public IData.Type tryGetSysPropType(String propName) {
+		return curSysPropTypeMap.findType(propName);
+	}
+	//--------------------------------------------------------------------------------
 	// test if name is a current sys prop;
 	public boolean isSysProp(String name) {
 		return curSysPropTypeMap.nameExists(name);
@@ -1061,34 +1046,42 @@ public class Context {
 		return curUserVarTypeMap.getType(varName);
 	}
 	//--------------------------------------------------------------------------------
+	// get type of user var; null if it is none
+	public IData.Type tryGetUserVarType(String varName) {
+		return curUserVarTypeMap.findType(varName);
+	}
+	//--------------------------------------------------------------------------------
 	// get type of sys fu;
 	public IData.Type getSysFuType(String sysFuName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getSysFuType; // debug
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("searching for " + sysFuName, Level.NO, m);
+		/**/ tracer.println(() -> "searching for " + sysFuName, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// just pass on the exception without extra info
-		return keywordTypes.getSysFuType(sysFuName);
+		return global.keywordTypes.getSysFuType(sysFuName);
 	}
 	//--------------------------------------------------------------------------------
 	// get type of sys var;
 	// nb: var name includes the starting '$$';
 	public IData.Type getSysVarType(String sysVarName) throws NotFoundException {
 		// just pass on the exception without extra info
-		return keywordTypes.getSysVarType(sysVarName);
+		return global.keywordTypes.getSysVarType(sysVarName);
+	}
+	//--------------------------------------------------------------------------------
+	// get type of sys var; null if it is none
+	public IData.Type tryGetSysVarType(String sysVarName) {
+		return global.keywordTypes.tryGetSysVarType(sysVarName);
 	}
 	//--------------------------------------------------------------------------------
 	// test if name is a peer type name
 	// - if so, return the type URL
 	public IData.Type getPeerType(String peerTypeName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getPeerType; // debug
 		//--------------------------------------------------------------------------------
-		for(int i = 0; i < peerType_Names.size(); i++) {
-			if(peerType_Names.get(i).equals(peerTypeName))
-				return IData.Type.URL;
-		}
+		if(global.symbolTable.peerTypeNameExists(peerTypeName))
+			return IData.Type.URL;
 		throw new NotFoundException("not found", m);
 	}
 
@@ -1100,59 +1093,66 @@ public class Context {
 	// get pprops declarations of a peer type
 	public PropsTypes getUserPeerTypePPropsTypes(String peerTypeName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("searching for " + peerTypeName, Level.NO, m);
-		/**/ tracer.println("peerTypes = " + peerTypes, Level.NO, m);
+		/**/ TracePoint m = M_getUserPeerTypePPropsTypes; // debug
+		/**/ tracer.println(() -> "searching for " + peerTypeName, Level.NO, m);
+		/**/ tracer.println(() -> "peerTypes = " + global.symbolTable.getPeerTypeNames(), Level.NO, m);
 		//--------------------------------------------------------------------------------
-		for(int i = 0; i < peerTypes.size(); i++) {
-			PeerType peerType = peerTypes.get(i);
-			if(peerType.peerTypeName.equals(peerTypeName)) {
-				/**/ tracer.println("found!", Level.NO, m);
-				return peerType.peerTypePPropsTypes;
-			}
+		PropsTypes ppropsTypes = findUserPeerTypePPropsTypes(peerTypeName);
+		if(ppropsTypes != null) {
+			/**/ tracer.println("found!", Level.NO, m);
+			return ppropsTypes;
 		}
 		throw new NotFoundException("peer type" + peerTypeName + "not found", m);
 	}
+	//--------------------------------------------------------------------------------
+	// get pprops declarations of a peer type; null if peer type does not exist
+	private PropsTypes findUserPeerTypePPropsTypes(String peerTypeName) {
+		PeerType peerType = global.symbolTable.findPeerType(peerTypeName);
+		if(peerType == null)
+			return null;
+		return peerType.peerTypePPropsTypes;
+	}
 
 	//--------------------------------------------------------------------------------
 	// get wprops types of a peer type's wiring;
 	// caution: do not use wiring types any more... they have been integrated into wirings.. wiring types are not type evaluated!
 	public PropsTypes getUserWiringWPropsTypes(String peerTypeName, String wiringTypeName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getUserWiringWPropsTypes; // debug
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("searching for " + peerTypeName, Level.NO, m);
-		for(int i = 0; i < peerTypes.size(); i++) {
-			PeerType peerType = peerTypes.get(i);
-			//--------------------------------------------------------------------------------
-			if(peerType.peerTypeName.equals(peerTypeName)) {
-				/**/ tracer.println("peer type '" + peerTypeName + "' found; search for wiring with type '" + wiringTypeName + "'", Level.NO, m);
-				//--------------------------------------------------------------------------------
-				// search for wiring type with given name
-				for(int j = 0; j < peerType.wirings.size(); j++ ) {
-					Wiring wiring = peerType.wirings.get(j);
-					if(wiring.wiringType.wiringTypeName.equals(wiringTypeName)) {
-						//--------------------------------------------------------------------------------
-						// found
-						/**/ tracer.println("wprops types = " + wiring.wiringType.wiringTypeWPropsTypes, Level.NO, m);
-						return wiring.wiringType.wiringTypeWPropsTypes;
-					}
-				}
-			}
-		}
+		PropsTypes wpropsTypes = findUserWiringWPropsTypes(peerTypeName, wiringTypeName);
+		if(wpropsTypes != null)
+			return wpropsTypes;
 		throw new NotFoundException("wiring type '" + wiringTypeName + "' of peer type '" + peerTypeName + "' not found", m);
 	}
+	//--------------------------------------------------------------------------------
+	// get wprops types of a peer type's wiring; null if not found
+	private PropsTypes findUserWiringWPropsTypes(String peerTypeName, String wiringTypeName) {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_findUserWiringWPropsTypes; // debug
+		//--------------------------------------------------------------------------------
+		/**/ tracer.println(() -> "searching for " + peerTypeName, Level.NO, m);
+		//--------------------------------------------------------------------------------
+		// search for wiring of the peer type with the given wiring type name
+		Wiring wiring = global.symbolTable.findWiring(peerTypeName, wiringTypeName);
+		if(wiring == null)
+			return null;
+		//--------------------------------------------------------------------------------
+		// found
+		/**/ tracer.println(() -> "wprops types = " + wiring.wiringType.wiringTypeWPropsTypes, Level.NO, m);
+		return wiring.wiringType.wiringTypeWPropsTypes;
+	}
 
 	//--------------------------------------------------------------------------------
 	// get eprops declarations of an entry type
 	public PropsTypes getUserEPropsTypes(String entryTypeName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getUserEPropsTypes; // debug
 		//--------------------------------------------------------------------------------
 		EntryType entryType;
 		try {
-			entryType = entryTypes.getEntryType(entryTypeName);
-			/**/ tracer.println(entryTypeName + " EPROPS: " + entryType.epropsTypes, Level.NO, m);
+			entryType = global.entryTypes.getEntryType(entryTypeName);
+			/**/ tracer.println(() -> entryTypeName + " EPROPS: " + entryType.epropsTypes, Level.NO, m);
 		} catch (NotFoundException e) {
 			throw new NotFoundException("eprop def", m, e);
 		}
@@ -1163,77 +1163,73 @@ public class Context {
 	// get type of user or sys pmmm prop of current PMMM
 	public IData.Type getUserOrSysPmmmPropType(String pmmmPropName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("searching for " + pmmmPropName, Level.NO, m);
+		/**/ TracePoint m = M_getUserOrSysPmmmPropType; // debug
+		/**/ tracer.println(() -> "searching for " + pmmmPropName, Level.NO, m);
 		//--------------------------------------------------------------------------------
-		IData.Type type = IData.Type.UNDEFINED;
 		//--------------------------------------------------------------------------------
 		// user pmmm prop?
+		IData.Type type = global.pmmmTypePmmmPropsTypes.findType(pmmmPropName);
+		if(type != null) {
+			/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("type = " + type, Level.NO, m);
+			return type;
+		}
+		//--------------------------------------------------------------------------------
+		// sys pmmm prop?
 		try {
-			type = pmmmTypePmmmPropsTypes.getType(pmmmPropName);
-			/**/ tracer.println("type = " + type, Level.NO, m);
-		} catch (NotFoundException e1) {
-			//--------------------------------------------------------------------------------
-			// sys pmmm prop?
-			try {
-				return sysPmmmPropTypeMap.getType(pmmmPropName);
-			} catch (NotFoundException e2) {
-				throw new NotFoundException("user or sys pmmm prop", m, e2);
-			}
+			return global.sysPmmmPropTypeMap.getType(pmmmPropName);
+		} catch (NotFoundException e2) {
+			throw new NotFoundException("user or sys pmmm prop", m, e2);
 		}
-		return type;
 	}
 
 	//--------------------------------------------------------------------------------
 	// get type of user or sys pprop of current peer
 	public IData.Type getUserOrSysPPropType(String ppropName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("searching for " + ppropName, Level.NO, m);
+		/**/ TracePoint m = M_getUserOrSysPPropType; // debug
+		/**/ tracer.println(() -> "searching for " + ppropName, Level.NO, m);
 		//--------------------------------------------------------------------------------
-		IData.Type type = IData.Type.UNDEFINED;
 		//--------------------------------------------------------------------------------
 		// user pprop?
+		PropsTypes userPPropsTypes = findUserPeerTypePPropsTypes(curPeerType_Name); // TBD: treat missing peer type extra...
+		/**/ tracer.println(() -> "userPPropsDeclarations = " + userPPropsTypes, Level.NO, m);
+		if(userPPropsTypes != null) {
+			IData.Type type = userPPropsTypes.findType(ppropName);
+			if(type != null)
+				return type;
+		}
+		//--------------------------------------------------------------------------------
+		// sys pprop?
 		try {
-			PropsTypes userPPropsTypes = getUserPeerTypePPropsTypes(curPeerType_Name); // TBD: treat this exception extra...
-			/**/ tracer.println("userPPropsDeclarations = " + userPPropsTypes, Level.NO, m);
-			type = userPPropsTypes.getType(ppropName);
-		} catch (Exception e1) {
-			//--------------------------------------------------------------------------------
-			// sys pprop?
-			try {
-				type = keywordTypes.getSysPPropType(ppropName);
-			} catch (NotFoundException e2) {
-				throw new NotFoundException("user or sys pprop", m, e2);
-			}
+			return global.keywordTypes.getSysPPropType(ppropName);
+		} catch (NotFoundException e2) {
+			throw new NotFoundException("user or sys pprop", m, e2);
 		}
-		return type;
 	}
 
 	//--------------------------------------------------------------------------------
 	// get type of user or sys wprop of current wiring of current peer
 	public IData.Type getUserOrSysWPropType(String wpropName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("searching for " + wpropName + "; curPeerType_Name = " + curPeerType_Name + "; curWiringType_Name = " + curWiringType_Name, Level.NO, m);
+		/**/ TracePoint m = M_getUserOrSysWPropType; // debug
+		/**/ tracer.println(() -> "searching for " + wpropName + "; curPeerType_Name = " + curPeerType_Name + "; curWiringType_Name = " + curWiringType_Name, Level.NO, m);
 		//--------------------------------------------------------------------------------
-		IData.Type type = IData.Type.UNDEFINED;
 		//--------------------------------------------------------------------------------
 		// user wprop?
+		PropsTypes userWPropsDeclarations = findUserWiringWPropsTypes(curPeerType_Name, curWiringType_Name); // TBD: treat missing wiring separately
+		/**/ tracer.println(() -> "userWPropsDeclarations = " + userWPropsDeclarations, Level.NO, m);
+		if(userWPropsDeclarations != null) {
+			IData.Type type = userWPropsDeclarations.findType(wpropName);
+			if(type != null)
+				return type;
+		}
+		//--------------------------------------------------------------------------------
+		// sys wprop?
 		try {
-			PropsTypes userWPropsDeclarations = getUserWiringWPropsTypes(curPeerType_Name, curWiringType_Name); // TBD: treat this exception separately
-			/**/ tracer.println("userWPropsDeclarations = " + userWPropsDeclarations, Level.NO, m);
-			type = userWPropsDeclarations.getType(wpropName);
-		} catch (NotFoundException e1) {
-			//--------------------------------------------------------------------------------
-			// sys wprop?
-			try {
-				type = keywordTypes.getSysWPropType(wpropName);
-			} catch (NotFoundException e2) {
-				throw new NotFoundException("user or sys wprop", m, e2);
-			}
+			return global.keywordTypes.getSysWPropType(wpropName);
+		} catch (NotFoundException e2) {
+			throw new NotFoundException("user or sys wprop", m, e2);
 		}
-		return type;
 	}
 
 	//--------------------------------------------------------------------------------
@@ -1313,7 +1309,7 @@ public class Context {
 		boolean inPeerType = false;
 
 		//--------------------------------------------------------------------------------
-		buf.append(pmmmTypeName);
+		buf.append(global.pmmmTypeName);
 		//--------------------------------------------------------------------------------
 		if(curPeerType_Name != null && curPeerType_Name.length() > 0) {
 			buf.append(" / " + curPeerType_Name);
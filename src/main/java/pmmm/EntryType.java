@@ -30,7 +30,7 @@ import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -40,6 +40,12 @@ public class EntryType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_setEntryTypeName = TracePoint.of(EntryType.class, "setEntryTypeName"); // debug
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(EntryType.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(EntryType.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(EntryType.class, "plausiCheck"); // debug
+	/**/ private static final TracePoint M_getEPropType = TracePoint.of(EntryType.class, "getEPropType"); // debug
 	//--------------------------------------------------------------------------------
 	// "entry name" aka "entry type"
 	protected String entryTypeName = "";
@@ -75,7 +81,7 @@ public class EntryType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void setEntryTypeName(String entryTypeName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_setEntryTypeName; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			// name validity check 
@@ -141,7 +147,7 @@ public class EntryType implements IEvaluation {
 	// throws (user)exceptions
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "entry type " + this.entryTypeName;
 		String errMsg2 = "";
@@ -170,7 +176,7 @@ public class EntryType implements IEvaluation {
 	// evaluate all token types
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evalDataTypes; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "entry type " + this.entryTypeName;
 		String errMsg2 = "";
@@ -186,8 +192,8 @@ public class EntryType implements IEvaluation {
 			errMsg2 = "/eprops defs qualifier types";
 			epropsDefsTokenExpression.resolveQualifierTypes(context.getQualifierContext());
 			//................................................................................
-			/**/ tracer.println("PROPS DEFS (raw) = " + epropsDefsTokenExpression.getRaw(), Level.NO, m); 
-			/**/ tracer.println("PROPS DEFS (tvv) = " + epropsDefsTokenExpression.toInfo(), Level.NO, m); 
+			/**/ tracer.println(() -> "PROPS DEFS (raw) = " + epropsDefsTokenExpression.getRaw(), Level.NO, m); 
+			/**/ tracer.println(() -> "PROPS DEFS (tvv) = " + epropsDefsTokenExpression.toInfo(), Level.NO, m); 
 			//................................................................................
 			// - eval data types
 			errMsg2 = "/eprops defs";
@@ -206,7 +212,7 @@ public class EntryType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_plausiCheck; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "entry type " + this.entryTypeName;
 		String errMsg2 = "";
@@ -228,6 +234,17 @@ public class EntryType implements IEvaluation {
 		}
 	}
 
+	//================================================================================
+	// FREEZE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// freeze my eprops types and defs, as their types are final (see Token.frozenFlag)
+	// - nb: links work on deep clones of me (see Link), which are not frozen
+	public void freeze() {
+		epropsTypes.freeze();
+		epropsDefsTokenExpression.freeze();
+	}
+
 	//================================================================================
 	//================================================================================
 	// QUERIES
@@ -237,7 +254,7 @@ public class EntryType implements IEvaluation {
 	// retrieve eprop type by name
 	public IData.Type getEPropType(String epropName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getEPropType; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			return epropsTypes.getType(epropName);
@@ -245,6 +262,11 @@ public class EntryType implements IEvaluation {
 			throw new NotFoundException("eprop", m, e);
 		}
 	}
+	//--------------------------------------------------------------------------------
+	// retrieve eprop type by name; null if not found
+	public IData.Type findEPropType(String epropName) {
+		return epropsTypes.findType(epropName);
+	}
 
 	//================================================================================
 	//================================================================================
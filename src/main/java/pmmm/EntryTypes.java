@@ -24,23 +24,31 @@
 
 package pmmm;
 
+import java.util.HashMap;
 import java.util.Vector;
 
 import eval.IData;
 import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // collection of entry definitions
 public class EntryTypes implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	// /**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_get = TracePoint.of(EntryTypes.class, "get"); // debug
+	/**/ private static final TracePoint M_add = TracePoint.of(EntryTypes.class, "add"); // debug
+	/**/ private static final TracePoint M_getEntryType = TracePoint.of(EntryTypes.class, "getEntryType"); // debug
 	//--------------------------------------------------------------------------------
 	// ENTRY TYPES:
 	protected Vector<EntryType> entryTypes = new Vector<EntryType>();
 	//--------------------------------------------------------------------------------
+	// name index of the entry types; nb: kept in sync by add
+	private HashMap<String, EntryType> entryTypesByName = new HashMap<String, EntryType>();
+	//--------------------------------------------------------------------------------
 
 	//================================================================================
 	// CONSTRUCTORS
@@ -65,7 +73,7 @@ public class EntryTypes implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public EntryType get(int i) throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_get; // debug
 		//--------------------------------------------------------------------------------
 		// assertion
 		if(i < 0 || i >= entryTypes.size())
@@ -83,13 +91,10 @@ public class EntryTypes implements IEvaluation {
 	// check for duplicates and throw exception if entry type name exists already
 	public void add(EntryType entryType) throws SyntaxException {	
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_add; // debug
 		//--------------------------------------------------------------------------------
-		for(int i = 0; i < entryTypes.size(); i++) {
-			if(entryTypes.get(i).entryTypeName.equals(entryType.entryTypeName)) {
-				throw new SyntaxException("duplicate entry type " + entryType.entryTypeName, m);
-			}
-		}
+		if(entryTypesByName.putIfAbsent(entryType.entryTypeName, entryType) != null)
+			throw new SyntaxException("duplicate entry type " + entryType.entryTypeName, m);
 		entryTypes.add(entryType);
 	}
 	
@@ -131,6 +136,7 @@ public class EntryTypes implements IEvaluation {
 		}
 		// add
 		this.entryTypes.add(entryType);
+		this.entryTypesByName.put(entryTypeName, entryType);
 		// ok
 		return entryType;
 	}
@@ -177,6 +183,17 @@ public class EntryTypes implements IEvaluation {
 		}
 	}
 	
+	//================================================================================
+	// FREEZE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// freeze the token trees of all entry types (see EntryType.freeze)
+	public void freeze() {
+		for(int i = 0; i < entryTypes.size(); i++) {
+			entryTypes.get(i).freeze();
+		}
+	}
+	
 	//================================================================================
 	//================================================================================
 	// QUERY 
@@ -187,26 +204,25 @@ public class EntryTypes implements IEvaluation {
 	// throws exception if not found
 	public EntryType getEntryType(String entryTypeName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ Object m = new Object(){}; // debug
+		/**/ TracePoint m = M_getEntryType; // debug
 		//--------------------------------------------------------------------------------
-		EntryType entryType;
-		for(int i = 0; i < entryTypes.size(); i++) {
-			entryType = entryTypes.get(i);
-			if(entryType.entryTypeName.equals(entryTypeName))
-				return entryType; // found
-		}
+		EntryType entryType = findEntryType(entryTypeName);
+		if(entryType != null)
+			return entryType; // found
 		throw new NotFoundException("entry type '" + entryTypeName + "' not found", m);
 	}
 	//--------------------------------------------------------------------------------
+	// get entry type for given entry type name; null if not found
+	public EntryType findEntryType(String entryTypeName) {
+		return entryTypesByName.get(entryTypeName);
+	}
+	//--------------------------------------------------------------------------------
 	// get eprop type by given entry type name and eprop name
 	// throws exception if not found
 	public IData.Type getEPropType(String entryTypeName, String epropName) throws Exception {
-		for(int i = 0; i < entryTypes.size(); i++) {
-			EntryType entryType = entryTypes.get(i);
-			if(entryType.entryTypeName.equals(entryTypeName)) {
-				return entryType.getEPropType(epropName);
-			}
-		}
+		EntryType entryType = findEntryType(entryTypeName);
+		if(entryType != null)
+			return entryType.getEPropType(epropName);
 		throw new Exception("entry prop '" + entryTypeName + "." + epropName + "' not found");
 	}
 	//--------------------------------------------------------------------------------
@@ -217,15 +233,8 @@ public class EntryTypes implements IEvaluation {
 	public String searchAnyEPropAndReturnEntryTypeName(String epropName) throws Exception {
 		for(int i = 0; i < entryTypes.size(); i++) {
 			EntryType entryType = entryTypes.get(i);
-			try {
-				// trick: reuse type search fu here; 
-				// - raises exception if not found
-				entryType.getEPropType(epropName);
-				// return corresponding entry name, if prop was found, ie no exception
+			if(entryType.findEPropType(epropName) != null)
 				return entryType.entryTypeName;
-			} catch (Exception e) {
-				// continue
-			}
 		}
 		throw new Exception("eprop not found in any entry type");
 	}
@@ -0,0 +1,93 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package pmmm;
+
+import eval.IData;
+import qa.exceptions.SyntaxException;
+import qa.tracer.TracePoint;
+
+//================================================================================
+// global pmmm context for data type evaluation: the part of the context that is the same for all scopes
+// - set once and never changed, so it is shared by a context and all contexts forked from it (see Context.fork);
+// - CAUTION: the referred objects are not copied; they must not be changed while forked contexts are in use,
+//   eg the pmmm props types must be type evaluated before forking
+public final class GlobalContext {
+	//--------------------------------------------------------------------------------
+	// trace points
+	/**/ private static final TracePoint M_GlobalContext = TracePoint.of(GlobalContext.class, "GlobalContext"); // debug
+	//--------------------------------------------------------------------------------
+	// pmmm type: name
+	final String pmmmTypeName;
+	//--------------------------------------------------------------------------------
+	// pmmm type: props types
+	// - user props types
+	final PropsTypes pmmmTypePmmmPropsTypes;
+	// - TBD: sys pmmm props types (needs extension of go automaton)
+	final NameTypeMap sysPmmmPropTypeMap = new NameTypeMap();
+	//--------------------------------------------------------------------------------
+	// sys data types
+	final KeywordTypes keywordTypes;
+	//--------------------------------------------------------------------------------
+	// name -> entry types, peer types and their wirings
+	final SymbolTable symbolTable;
+	// - nb: shortcut
+	final EntryTypes entryTypes;
+	//--------------------------------------------------------------------------------
+	// artificial props vector with URL:peerTypeName pairs
+	// - for all peer type names!
+	final NameTypeMap peerTypeNameMap = new NameTypeMap();
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public GlobalContext(KeywordTypes keywordTypes,
+			String pmmmTypeName,
+			PropsTypes pmmmTypePmmmPropsTypes,
+			SymbolTable symbolTable) throws SyntaxException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_GlobalContext; // debug
+		//--------------------------------------------------------------------------------
+		this.keywordTypes = keywordTypes;
+		this.pmmmTypeName = pmmmTypeName;
+		this.pmmmTypePmmmPropsTypes = pmmmTypePmmmPropsTypes;
+		this.symbolTable = symbolTable;
+		this.entryTypes = symbolTable.getEntryTypes();
+		//--------------------------------------------------------------------------------
+		// construct artificial map with URL:<peerTypeName> pairs for all peer type names
+		for(String peerTypeName : symbolTable.getPeerTypeNames()) {
+			try {
+				peerTypeNameMap.add(peerTypeName, IData.Type.URL);
+			} catch (SyntaxException e) {
+				throw new SyntaxException("peer type", m, e);
+			}
+		}
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -27,7 +27,7 @@ import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -37,6 +37,17 @@ public class KeywordTypes {
 	//--------------------------------------------------------------------------------
 	// for debugging
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_init = TracePoint.of(KeywordTypes.class, "<init>"); // debug
+	/**/ private static final TracePoint M_getSysConstType = TracePoint.of(KeywordTypes.class, "getSysConstType"); // debug
+	/**/ private static final TracePoint M_getSysVarType = TracePoint.of(KeywordTypes.class, "getSysVarType"); // debug
+	/**/ private static final TracePoint M_getSysPeerType = TracePoint.of(KeywordTypes.class, "getSysPeerType"); // debug
+	/**/ private static final TracePoint M_getSysFuType = TracePoint.of(KeywordTypes.class, "getSysFuType"); // debug
+	/**/ private static final TracePoint M_getSysPmmmPropType = TracePoint.of(KeywordTypes.class, "getSysPmmmPropType"); // debug
+	/**/ private static final TracePoint M_getSysPPropType = TracePoint.of(KeywordTypes.class, "getSysPPropType"); // debug
+	/**/ private static final TracePoint M_getSysWPropType = TracePoint.of(KeywordTypes.class, "getSysWPropType"); // debug
+	/**/ private static final TracePoint M_getSysEPropType = TracePoint.of(KeywordTypes.class, "getSysEPropType"); // debug
+	/**/ private static final TracePoint M_getSysLPropType = TracePoint.of(KeywordTypes.class, "getSysLPropType"); // debug
 	//--------------------------------------------------------------------------------
 	// sys consts
 	protected NameTypeMap sysConstTypeMap = new NameTypeMap(); 
@@ -70,7 +81,7 @@ public class KeywordTypes {
 	// each group shall be sorted in alphabetical order... to easier check duplicates with a group
 	public KeywordTypes() throws SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_init; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			//--------------------------------------------------------------------------------
@@ -171,15 +182,8 @@ public class KeywordTypes {
 	} 
 	//--------------------------------------------------------------------------------
 	// test if name is a sys const;
-	// throws exception if not found;
 	public boolean isSysConst(String name) {
-		try {
-			sysConstTypeMap.getType(name);
-			// found
-			return true;
-		} catch (NotFoundException e) {
-			return false;
-		}		
+		return sysConstTypeMap.findType(name) != null;
 	}
 
 	//================================================================================
@@ -189,7 +193,7 @@ public class KeywordTypes {
 	// get sys const type
 	public IData.Type getSysConstType(String name) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getSysConstType; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			return sysConstTypeMap.getType(name);
@@ -201,8 +205,8 @@ public class KeywordTypes {
 	// get sys var type
 	public IData.Type getSysVarType(String sysVarName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("sysVarTypeMap = " + sysVarTypeMap.toPairs(), Level.NO, m);
+		/**/ TracePoint m = M_getSysVarType; // debug
+		/**/ tracer.println(() -> "sysVarTypeMap = " + sysVarTypeMap.toPairs(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		try {
 			return sysVarTypeMap.getType(sysVarName);
@@ -215,8 +219,8 @@ public class KeywordTypes {
 	// - TBD: type must be URL... 
 	public IData.Type getSysPeerType(String sysPeerName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("sysPeerTypeMap = " + sysPeerTypeMap.toPairs(), Level.NO, m);
+		/**/ TracePoint m = M_getSysPeerType; // debug
+		/**/ tracer.println(() -> "sysPeerTypeMap = " + sysPeerTypeMap.toPairs(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		try {
 			return sysPeerTypeMap.getType(sysPeerName);
@@ -228,8 +232,8 @@ public class KeywordTypes {
 	// get sys fu type
 	public IData.Type getSysFuType(String sysFuName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("sysFuTypeMap" + sysFuTypeMap, Level.NO, m);
+		/**/ TracePoint m = M_getSysFuType; // debug
+		/**/ tracer.println(() -> "sysFuTypeMap" + sysFuTypeMap, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		try {
 			return sysFuTypeMap.getType(sysFuName);
@@ -241,7 +245,7 @@ public class KeywordTypes {
 	// get sys pmmm prop type
 	public IData.Type getSysPmmmPropType(String name) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getSysPmmmPropType; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			return sysPmmmPropTypeMap.getType(name);
@@ -253,7 +257,7 @@ public class KeywordTypes {
 	// get sys pprop type
 	public IData.Type getSysPPropType(String name) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getSysPPropType; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			return sysPPropTypeMap.getType(name);
@@ -265,7 +269,7 @@ public class KeywordTypes {
 	// get sys wprop type
 	public IData.Type getSysWPropType(String name) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getSysWPropType; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			return sysWPropTypeMap.getType(name);
@@ -277,7 +281,7 @@ public class KeywordTypes {
 	// get sys eprop type
 	public IData.Type getSysEPropType(String name) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getSysEPropType; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			return sysEPropTypeMap.getType(name);
@@ -289,7 +293,7 @@ public class KeywordTypes {
 	// get sys lprop type
 	public IData.Type getSysLPropType(String name) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getSysLPropType; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			return sysLPropTypeMap.getType(name);
@@ -298,6 +302,49 @@ public class KeywordTypes {
 		}
 	} 
 
+	//================================================================================
+	// TRY GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// as the above getters, but return null if not found
+	// - nb: for lookups where a miss is no error (no exception is constructed)
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysConstType(String name) {
+		return sysConstTypeMap.findType(name);
+	} 
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysVarType(String sysVarName) {
+		return sysVarTypeMap.findType(sysVarName);
+	} 
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysPeerType(String sysPeerName) {
+		return sysPeerTypeMap.findType(sysPeerName);
+	} 
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysFuType(String sysFuName) {
+		return sysFuTypeMap.findType(sysFuName);
+	} 
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysPmmmPropType(String name) {
+		return sysPmmmPropTypeMap.findType(name);
+	} 
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysPPropType(String name) {
+		return sysPPropTypeMap.findType(name);
+	} 
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysWPropType(String name) {
+		return sysWPropTypeMap.findType(name);
+	} 
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysEPropType(String name) {
+		return sysEPropTypeMap.findType(name);
+	} 
+	//--------------------------------------------------------------------------------
+	public IData.Type tryGetSysLPropType(String name) {
+		return sysLPropTypeMap.findType(name);
+	} 
+
 	
 } // END OF CLASS
 
@@ -27,7 +27,7 @@ import eval.tokens.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -36,6 +36,12 @@ import qa.tracer.Tracer;
 public class Link implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_setEntryTypeName = TracePoint.of(Link.class, "setEntryTypeName"); // debug
+	/**/ private static final TracePoint M_setRawEntryCount = TracePoint.of(Link.class, "setRawEntryCount"); // debug
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(Link.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(Link.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(Link.class, "plausiCheck"); // debug
 	//--------------------------------------------------------------------------------
 	// ENTRY TYPE: local var
 	// - caution: is set by data type eval, because it is needed for preprocessor
@@ -120,7 +126,7 @@ public class Link implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void setEntryTypeName(String entryTypeName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_setEntryTypeName; // debug
 		//--------------------------------------------------------------------------------
 		// name validity check: "*" (wildcard) or type name
 		// TBD: wildcard is hard coded...
@@ -139,8 +145,8 @@ public class Link implements IEvaluation {
 	// no plausi checks possible because count could be a range specification 
 	public void setRawEntryCount(String raw) {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println(this.linkKind + this.linkNumberAsString + " raw count = " + raw, Level.NO, m);
+		/**/ TracePoint m = M_setRawEntryCount; // debug
+		/**/ tracer.println(() -> this.linkKind + this.linkNumberAsString + " raw count = " + raw, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		this.countTokenExpression.setRaw(raw);
 	}
@@ -215,7 +221,7 @@ public class Link implements IEvaluation {
 	// and translate all expressions into nested token trees;
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = linkKind + linkNumberAsString;
 		String errMsg2 = "";
@@ -227,7 +233,7 @@ public class Link implements IEvaluation {
 			if(! isNoopLinkFlag) {
 				errMsg2 = "/count";
 				countTokenExpression.tokenize();
-				/**/ tracer.println(errMsg1 + "/countTokenExpression = " + countTokenExpression.toUserInfo(true, true), Level.NO, m);
+				/**/ tracer.println(() -> errMsg1 + "/countTokenExpression = " + countTokenExpression.toUserInfo(true, true), Level.NO, m);
 			}
 			//--------------------------------------------------------------------------------
 			// QUERY:
@@ -257,7 +263,7 @@ public class Link implements IEvaluation {
 	// evaluate token types in correct order;
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evalDataTypes; // debug
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg1 = this.linkKind + "-" + this.linkNumberAsString;
@@ -301,7 +307,7 @@ public class Link implements IEvaluation {
 				if(linkEntryType.isEmpty())
 					throw new SNHException(686868, "link entry type is empty; entry type name = " + linkEntryType.entryTypeName, m);
 			}
-			/**/ tracer.println(context.toMsg() + "link entry type := '" + linkEntryType.entryTypeName + "'; op = " + this.spaceOpName + "; " + linkKind + linkNumberAsString, Level.NO, m);
+			/**/ tracer.println(() -> context.toMsg() + "link entry type := '" + linkEntryType.entryTypeName + "'; op = " + this.spaceOpName + "; " + linkKind + linkNumberAsString, Level.NO, m);
 		}
 		//================================================================================
 		// ASSERTION:
@@ -316,7 +322,7 @@ public class Link implements IEvaluation {
 			//================================================================================
 			// COUNT:
 			//================================================================================
-			/**/ tracer.println("eval count; raw = " + countTokenExpression.getRaw(), Level.NO, m);
+			/**/ tracer.println(() -> "eval count; raw = " + countTokenExpression.getRaw(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// do it only for non-NOOP links
 			if(! isNoopLinkFlag) {
@@ -329,7 +335,7 @@ public class Link implements IEvaluation {
 				errMsg2 = " / count";
 				countTokenExpression.evalDataTypes(context);
 			}
-			/**/ tracer.println(context.toMsg() + "count = " + countTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> context.toMsg() + "count = " + countTokenExpression.toUserInfo(true, true), Level.NO, m);
 			//================================================================================
 			// QUERY:
 			//================================================================================
@@ -337,18 +343,18 @@ public class Link implements IEvaluation {
 			// caution: eval query before var/prop/set/get !!!
 			// nb: there must be max. 1 root token for query... this has been verified by the plausi check
 			/**/ tracer.println("eval query", Level.NO, m);
-			/**/ tracer.println(context.toMsg() + " type eval of query = '" + queryTokenExpression.getRaw() + "'", Level.NO, m);
+			/**/ tracer.println(() -> context.toMsg() + " type eval of query = '" + queryTokenExpression.getRaw() + "'", Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// orig: resolve qualifier types
 			errMsg2 = " / qualifier in query";
-			/**/ tracer.println("eval qualifier in query: " + queryTokenExpression.toUserInfo() + queryTokenExpression.toTypedInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "eval qualifier in query: " + queryTokenExpression.toUserInfo() + queryTokenExpression.toTypedInfo(), Level.NO, m);
 			queryTokenExpression.resolveQualifierTypes(context.getQualifierContext());
-			/**/ tracer.println("evaluated qualifier in query: " + queryTokenExpression.toUserInfo() + queryTokenExpression.toTypedInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "evaluated qualifier in query: " + queryTokenExpression.toUserInfo() + queryTokenExpression.toTypedInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// orig: eval data types
 			errMsg2 = " / query";
 			queryTokenExpression.evalDataTypes(context.switch2Link_Query());
-			/**/ tracer.println("evaluated query: " + queryTokenExpression.toUserInfo() + queryTokenExpression.toTypedInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "evaluated query: " + queryTokenExpression.toUserInfo() + queryTokenExpression.toTypedInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			//================================================================================
 			// VAR/PROP/SET/GET: 
@@ -390,7 +396,7 @@ public class Link implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_plausiCheck; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = linkKind + linkNumberAsString;
 		String errMsg2 = "";
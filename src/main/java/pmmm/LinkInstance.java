@@ -25,13 +25,15 @@ import eval.tokens.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
 public class LinkInstance implements IMta {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_mta = TracePoint.of(LinkInstance.class, "mta"); // debug
 	//--------------------------------------------------------------------------------
 	// pointer to my LINK
 	Link link;
@@ -95,7 +97,7 @@ public class LinkInstance implements IMta {
 		//--------------------------------------------------------------------------------
 		// /**/ O m = new O(){}; // debug
 		//--------------------------------------------------------------------------------
-		// /**/ tracer.println("processedLPropsDefsTokenExpression = " + processedLPropsDefsTokenExpression.toUserInfo(), Level.NO, m);
+		// /**/ tracer.println(() -> "processedLPropsDefsTokenExpression = " + processedLPropsDefsTokenExpression.toUserInfo(), Level.NO, m);
 		return processedLPropsDefsTokenExpression;
 	}
 	//--------------------------------------------------------------------------------
@@ -135,7 +137,7 @@ public class LinkInstance implements IMta {
 	//--------------------------------------------------------------------------------
 	public void mta(PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_mta; // debug
 		//--------------------------------------------------------------------------------
 		// local vars
 		String errMsg1 = link.linkKind + link.linkNumberAsString;
@@ -168,7 +170,7 @@ public class LinkInstance implements IMta {
 				//--------------------------------------------------------------------------------
 				// mta
 				processedCountTokenExpression.deepCloneAndMta(link.countTokenExpression, curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
-				/**/ tracer.println("processedCountTokenExpression:" + processedCountTokenExpression.toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "processedCountTokenExpression:" + processedCountTokenExpression.toUserInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// !! NOW: resolve count to min/max !!
 				// - CAUTION: do it only after mta-ing 
@@ -179,14 +181,14 @@ public class LinkInstance implements IMta {
 				// - orig
 				errMsg2 = "/count (1)"; // TBD: for debug only
 				minMaxTokens = processedCountTokenExpression.resolveCount();
-				/**/ tracer.println("resolved count: minMax = " + minMaxTokens.toStructuredString(), Level.NO, m);
+				/**/ tracer.println(() -> "resolved count: minMax = " + minMaxTokens.toStructuredString(), Level.NO, m);
 				//................................................................................
 				// - processed
 				errMsg2 = "/count (2)"; // TBD: for debug only
 				processedMinMaxTokens = processedCountTokenExpression.resolveCount();
-				/**/ tracer.println("resolved count: minMax = " + processedMinMaxTokens.toStructuredString(), Level.NO, m);
-				/**/ tracer.println(" - min token = " + processedMinMaxTokens.getMinToken().toUserInfo(), Level.NO, m);
-				/**/ tracer.println(" - max token = " + processedMinMaxTokens.getMaxToken().toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "resolved count: minMax = " + processedMinMaxTokens.toStructuredString(), Level.NO, m);
+				/**/ tracer.println(() -> " - min token = " + processedMinMaxTokens.getMinToken().toUserInfo(), Level.NO, m);
+				/**/ tracer.println(() -> " - max token = " + processedMinMaxTokens.getMaxToken().toUserInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// compute int vals of min/max
 				// - and set int vals in processed min/max int vals
@@ -195,8 +197,8 @@ public class LinkInstance implements IMta {
 				errMsg2 = "/count (4)"; // TBD: for debug only
 				processedMinMaxIntVals.setMax(IntTokenValEval.compute(processedMinMaxTokens.getMaxToken()));
 				//--------------------------------------------------------------------------------
-				/**/ tracer.println(" -- min/max int vals = " + processedMinMaxIntVals.toStructuredString(), Level.NO, m);
-				/**/ tracer.println(" -- min/max tokens = " + processedMinMaxTokens.toStructuredString(), Level.NO, m);
+				/**/ tracer.println(() -> " -- min/max int vals = " + processedMinMaxIntVals.toStructuredString(), Level.NO, m);
+				/**/ tracer.println(() -> " -- min/max tokens = " + processedMinMaxTokens.toStructuredString(), Level.NO, m);
 				//................................................................................
 			} catch(SyntaxException e) {
 				throw new SyntaxException(errMsg1 + errMsg2, m, e);
@@ -211,7 +213,7 @@ public class LinkInstance implements IMta {
 		// do it only for non-NOOP links
 		if(! link.isNoopLinkFlag) {
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("linkEntryType = " + link.linkEntryType.entryTypeName, Level.NO, m);
+			/**/ tracer.println(() -> "linkEntryType = " + link.linkEntryType.entryTypeName, Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// assertion
 			if(link.linkEntryType.isEmpty()) {
@@ -262,18 +264,18 @@ public class LinkInstance implements IMta {
 				throw new SyntaxException(errMsg1 + errMsg2 + IPmDefs.CREATE + " and wildcard ('*') are not allowed", m);
 			}
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("---\n enriching newly created entry " + entryTypeName + " by default eprops defs", Level.NO, m);
+			/**/ tracer.println(() -> "---\n enriching newly created entry " + entryTypeName + " by default eprops defs", Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// get default props defs of entry type 
 			TokenExpression defaultEPropsDefsTokenExpression = link.linkEntryType.getEPropsDefsTokenExpression();		
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("enriching newly created entry " + entryTypeName + " by default eprops defs", Level.NO, m);
-			/**/ tracer.println("old VAR/PROP/SET/GET = " + processedVarPropSetGetTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> "enriching newly created entry " + entryTypeName + " by default eprops defs", Level.NO, m);
+			/**/ tracer.println(() -> "old VAR/PROP/SET/GET = " + processedVarPropSetGetTokenExpression.toUserInfo(true, true), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// construct the merge and perform mta on merged props
 			processedVarPropSetGetTokenExpression.deepCloneMergeMta_Assignments(processedVarPropSetGetTokenExpression, defaultEPropsDefsTokenExpression, 
 					curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
-			/**/ tracer.println("enhanced processed VAR/PROP/SET/GET = " + this.processedVarPropSetGetTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> "enhanced processed VAR/PROP/SET/GET = " + this.processedVarPropSetGetTokenExpression.toUserInfo(true, true), Level.NO, m);
 		}
 	}
 
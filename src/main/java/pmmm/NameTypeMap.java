@@ -26,6 +26,7 @@ import eval.*;
 import qa.exceptions.NotFoundException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 import java.util.HashMap;
@@ -36,6 +37,9 @@ public class NameTypeMap {
 	//--------------------------------------------------------------------------------
 	// debug
 	/**/ private Tracer tracer = new Tracer(); 
+	// trace points
+	/**/ private static final TracePoint M_add = TracePoint.of(NameTypeMap.class, "add"); // debug
+	/**/ private static final TracePoint M_getType = TracePoint.of(NameTypeMap.class, "getType"); // debug
 	//--------------------------------------------------------------------------------
 	HashMap<String,IData.Type> map = new HashMap<String,IData.Type>();
 
@@ -54,7 +58,7 @@ public class NameTypeMap {
 	public void add(String name, IData.Type type) throws SyntaxException {
 		//--------------------------------------------------------------------------------
 		// debug:
-		/**/ Object m = new Object(){};  
+		/**/ TracePoint m = M_add;  
 		//--------------------------------------------------------------------------------
 		if(map.get(name) == null)
 			map.put(name, type);
@@ -70,15 +74,22 @@ public class NameTypeMap {
 	// otherwise throw exception
 	public IData.Type getType(String name) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ Object m = new Object(){}; // debug
+		/**/ TracePoint m = M_getType; // debug
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("map = " + map, Level.NO, m);
-		IData.Type type = map.get(name);
+		/**/ tracer.println(() -> "map = " + map, Level.NO, m);
+		IData.Type type = findType(name);
 		if(type == null) {
 			throw new NotFoundException("type of '" + name + "' not found", m);
 		}
 		return type;
 	}
+	//--------------------------------------------------------------------------------
+	// get type by name, if exists
+	// otherwise return null
+	// - nb: for lookups where a miss is no error (no exception is constructed)
+	public IData.Type findType(String name) {
+		return map.get(name);
+	}
 
 	//================================================================================
 	// TEST
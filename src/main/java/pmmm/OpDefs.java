@@ -24,37 +24,52 @@
 
 package pmmm;
 
+import java.util.HashMap;
 import java.util.Vector;
 
 import qa.exceptions.NotFoundException;
-import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
 // operators that are supported in Peer Model expressions
 // - all ops are assumed to be left associative
 // - for precedence see e.g., https://www.programiz.com/java-programming/operator-precedence
+// - immutable; there is only one instance (OP_DEFS) that is shared by lexer, parser and code generators
 public class OpDefs implements IOpDefs {
 	//--------------------------------------------------------------------------------
 	// for debug
 	Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_getOp = TracePoint.of(OpDefs.class, "getOp"); // debug
+	//--------------------------------------------------------------------------------
+	// result of the longest op name queries if no op name is a prefix
+	public static final int NOT_FOUND = -1;
+	//--------------------------------------------------------------------------------
+	// THE op defs
+	public static final OpDefs OP_DEFS = new OpDefs();
 	//--------------------------------------------------------------------------------
 	// all ops
-	Vector<Op> ops = new Vector<Op>();
+	private final Vector<Op> ops = new Vector<Op>();
+	//--------------------------------------------------------------------------------
+	// ops by name -- per arity
+	private final HashMap<String, Op> unaryOps = new HashMap<String, Op>();
+	private final HashMap<String, Op> binaryOps = new HashMap<String, Op>();
+	//--------------------------------------------------------------------------------
+	// prefix trees over the op names -- per arity
+	private final OpTrie unaryOpTrie = new OpTrie();
+	private final OpTrie binaryOpTrie = new OpTrie();
 	//--------------------------------------------------------------------------------
 	// max priority
 	int maxPriority = -1;
-	//--------------------------------------------------------------------------------
-	// longest op name
-	private int longestOpNameLen = 0;
 
 	//================================================================================
 	// CONSTRUCTORS
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// TBD: DOCU 
-	public OpDefs() {
+	// nb: use OP_DEFS
+	private OpDefs() {
 		//================================================================================
 		// PEER MODEL OPERATOR CONFIGURATION
 		//================================================================================
@@ -146,16 +161,16 @@ public class OpDefs implements IOpDefs {
 		//--------------------------------------------------------------------------------
 		// init max priority
 		maxPriority = getHighestOpPriority();
-		// init max op name len
-		longestOpNameLen = getLongestOpNameLen();
-	}
-
-	//================================================================================
-	// ADD
-	//================================================================================
-	//--------------------------------------------------------------------------------
-	public void add(Op op) {
-		ops.add(op);
+		// index ops by name and build the prefix trees
+		// - nb: first one wins if names are defined twice
+		for(int i = 0; i < ops.size(); i++) {
+			Op op = ops.get(i);
+			HashMap<String, Op> opsByName = (op.arity == Arity.UNARY) ? unaryOps : binaryOps;
+			if(! opsByName.containsKey(op.name)) {
+				opsByName.put(op.name, op);
+			}
+			((op.arity == Arity.UNARY) ? unaryOpTrie : binaryOpTrie).add(op);
+		}
 	}
 
 	//================================================================================
@@ -165,14 +180,17 @@ public class OpDefs implements IOpDefs {
 	// retrieve op by given arity and name
 	public Op getOp(Arity arity, String opName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getOp; // debug
 		//--------------------------------------------------------------------------------
-		Op op;
-		for(int i = 0; i < ops.size(); i++) {
-			op = ops.get(i);
-			if((arity == op.arity) && opName.equals(op.name)) {
-				return op;
-			}
+		Op op = null;
+		if(arity == Arity.UNARY) {
+			op = unaryOps.get(opName);
+		}
+		else if(arity == Arity.BINARY) {
+			op = binaryOps.get(opName);
+		}
+		if(null != op) {
+			return op;
 		}
 		throw new NotFoundException("op '" + opName + "' does not exist", m);
 	}
@@ -218,56 +236,20 @@ public class OpDefs implements IOpDefs {
 		return nextHiPrio;
 	} 
 	//--------------------------------------------------------------------------------
-	// search for unary whose name is a prefix of the given string;
-	// if found, return full op name, otherwise throw exception;
-	// CAUTION: search for op with longest op name, because some op names subsume others, eg: ">=" subsumes ">";
+	// search for the unary op with the longest name that is a prefix of s starting at fromIndex;
+	// if found, return the length of its name, otherwise NOT_FOUND;
+	// CAUTION: longest op name, because some op names subsume others, eg: ">=" subsumes ">";
 	// TBD: if op is a name (ie no special chars) *after* the op there must be a white space or '(', eg FORblabla is a NAME but not an OP!
-	public String getLongestUnaryOpNameThatIsPrefixOfS(String s) throws Exception {
-		//--------------------------------------------------------------------------------
-		// debug:
-		/**/ Object m = new Object(){};  
-		/**/ tracer.println("longestOpNameLen = " + longestOpNameLen, Level.NO, m);
-		/**/ tracer.println("s = " + s, Level.NO, m);
-		//--------------------------------------------------------------------------------
-		int sLen = s.length();
-		// a bit inefficient....
-		for(int nextLen = longestOpNameLen; nextLen > 0; nextLen--) {
-			if(sLen < nextLen)
-				continue;
-			for(int i = 0; i < ops.size(); i++) {	
-				Op op = ops.get(i);
-				if(((op.arity == IOpDefs.Arity.UNARY) && s.startsWith(op.name) && (op.name.length() == nextLen))) {
-					return op.name;
-				}
-			}
-		}
-		throw new Exception("not found");
+	public int getLongestUnaryOpNameLen(String s, int fromIndex) {
+		return unaryOpTrie.getLongestMatchLen(s, fromIndex);
 	}
 	//--------------------------------------------------------------------------------
-	// search for "longest" binary op whose name is a prefix of given string s;
-	// if found, return full op name, otherwise throw exception;
-	// CAUTION: search for op with longest op name, because some op names subsume others, eg: ">=" subsumes ">";
+	// search for the binary op with the longest name that is a prefix of s starting at fromIndex;
+	// if found, return the length of its name, otherwise NOT_FOUND;
+	// CAUTION: longest op name, because some op names subsume others, eg: ">=" subsumes ">";
 	// TBD: if op is a name (ie no special chars) *after* the op there must be a white space or '(', eg CONCATblabla is a NAME but not an OP!
-	public String getLongestBinaryOpNameThatIsPrefixOfS(String s) throws Exception {
-		//--------------------------------------------------------------------------------
-		// debug:
-		/**/ Object m = new Object(){};  
-		/**/ tracer.println("longestOpNameLen = " + longestOpNameLen, Level.NO, m);
-		/**/ tracer.println("s = " + s, Level.NO, m);
-		//--------------------------------------------------------------------------------
-		int sLen = s.length();
-		// a bit inefficient....
-		for(int nextLen = longestOpNameLen; nextLen > 0; nextLen--) {
-			if(sLen < nextLen)
-				continue;
-			for(int i = 0; i < ops.size(); i++) {	
-				Op op = ops.get(i);
-				if(((op.arity == IOpDefs.Arity.BINARY) && s.startsWith(op.name) && (op.name.length() == nextLen))) {
-					return op.name;
-				}
-			}
-		}
-		throw new Exception("not found");
+	public int getLongestBinaryOpNameLen(String s, int fromIndex) {
+		return binaryOpTrie.getLongestMatchLen(s, fromIndex);
 	}
 
 	//================================================================================
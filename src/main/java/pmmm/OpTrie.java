@@ -0,0 +1,95 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package pmmm;
+
+import java.util.HashMap;
+
+//================================================================================
+// prefix tree over the names of all ops with the same arity;
+// - used by the lexer to find the longest op name at a given position in one pass over the input chars
+// - built once by OpDefs; immutable afterwards
+class OpTrie {
+	//--------------------------------------------------------------------------------
+	// sub tries by next char
+	private HashMap<Character, OpTrie> children = new HashMap<Character, OpTrie>();
+	//--------------------------------------------------------------------------------
+	// op that ends here; null if none
+	private Op op = null;
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	OpTrie() {
+	}
+
+	//================================================================================
+	// ADD
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// add op by its name
+	// - nb: first one wins if there are several ops with the same name (as before with the linear search)
+	void add(Op op) {
+		OpTrie node = this;
+		for(int i = 0; i < op.name.length(); i++) {
+			char c = op.name.charAt(i);
+			OpTrie child = node.children.get(c);
+			if(null == child) {
+				child = new OpTrie();
+				node.children.put(c, child);
+			}
+			node = child;
+		}
+		if(null == node.op) {
+			node.op = op;
+		}
+	}
+
+	//================================================================================
+	// QUERY
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// length of the longest op name that is a prefix of s starting at fromIndex;
+	// returns OpDefs.NOT_FOUND if there is none
+	int getLongestMatchLen(String s, int fromIndex) {
+		int len = OpDefs.NOT_FOUND;
+		OpTrie node = this;
+		for(int i = fromIndex; i < s.length(); i++) {
+			node = node.children.get(s.charAt(i));
+			if(null == node) {
+				break;
+			}
+			if(null != node.op) {
+				len = i - fromIndex + 1;
+			}
+		}
+		return len;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -28,7 +28,7 @@ import eval.tokens.TokenExpression;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -36,6 +36,11 @@ import qa.tracer.Tracer;
 public class PeerConfig implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(PeerConfig.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(PeerConfig.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(PeerConfig.class, "plausiCheck"); // debug
+	/**/ private static final TracePoint M_mta = TracePoint.of(PeerConfig.class, "mta"); // debug
 	//--------------------------------------------------------------------------------
 	// PEER NAME(S):
 	// nb: could be ";" separated list of peer names which in turn can be expressions with qualifier and array access 
@@ -105,7 +110,7 @@ public class PeerConfig implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//--------------------------------------------------------------------------------
 		// peer name(s) must nor be empty:
 		if(util.Util.isEmptyString(this.peerNamesTokenExpression.getRaw()))
@@ -127,8 +132,8 @@ public class PeerConfig implements IEvaluation, IMta {
 			errMsg2 = "pprops defs";
 			ppropsDefsTokenExpression.tokenize();
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("pmmm config props defs = " + ppropsDefsTokenExpression, Level.NO, m);
-			/**/ tracer.println("peer config peer name = " + peerNamesTokenExpression, Level.NO, m);
+			/**/ tracer.println(() -> "pmmm config props defs = " + ppropsDefsTokenExpression, Level.NO, m);
+			/**/ tracer.println(() -> "peer config peer name = " + peerNamesTokenExpression, Level.NO, m);
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
 			throw new SyntaxException(errMsg1 + errMsg2, m, e);
@@ -143,10 +148,10 @@ public class PeerConfig implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("peer name(s) = " + peerNamesTokenExpression.getRaw(), Level.NO, m);
-		/**/ tracer.println("peer type = " + this.peerTypeName, Level.NO, m);
-		/**/ tracer.println("cur user props types = " + context.getCurUserPropsTypes(), Level.NO, m);
+		/**/ TracePoint m = M_evalDataTypes; // debug
+		/**/ tracer.println(() -> "peer name(s) = " + peerNamesTokenExpression.getRaw(), Level.NO, m);
+		/**/ tracer.println(() -> "peer type = " + this.peerTypeName, Level.NO, m);
+		/**/ tracer.println(() -> "cur user props types = " + context.getCurUserPropsTypes(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "peer config " + this.getRawPeerNames();
 		String errMsg2 = "";
@@ -160,7 +165,7 @@ public class PeerConfig implements IEvaluation, IMta {
 			// eval data types
 			peerNamesTokenExpression.evalDataTypes(context.switch2Config_PeerNames());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("type eval ok of peer name(s) = " + peerNamesTokenExpression.getRaw(), Level.NO, m);
+			/**/ tracer.println(() -> "type eval ok of peer name(s) = " + peerNamesTokenExpression.getRaw(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// PEER CONFIG PPROPS DEFS:
 			errMsg2 = "pprops defs";
@@ -169,7 +174,7 @@ public class PeerConfig implements IEvaluation, IMta {
 			// - eval types
 			ppropsDefsTokenExpression.evalDataTypes(context.switch2Config_Peer_PropsDefs());
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("evaluated pprops defs: " + ppropsDefsTokenExpression.toTypedInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "evaluated pprops defs: " + ppropsDefsTokenExpression.toTypedInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
 			throw new SyntaxException(errMsg1 + errMsg2, m, e);
@@ -183,7 +188,7 @@ public class PeerConfig implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_plausiCheck; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "peer config " + this.getRawPeerNames();
 		String errMsg2 = "";
@@ -217,16 +222,16 @@ public class PeerConfig implements IEvaluation, IMta {
 	//--------------------------------------------------------------------------------
 	public void mta(PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_mta; // debug
 		//--------------------------------------------------------------------------------
 		// PEER NAMES:
 		// - clone & mta
 		processedPeerNamesTokenExpression.deepCloneAndMta(peerNamesTokenExpression, curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
 		// - convert tvv to processed peer names
-		/**/ tracer.println("peer name expression = " + processedPeerNamesTokenExpression.toUserInfo(true, true), Level.NO, m);
+		/**/ tracer.println(() -> "peer name expression = " + processedPeerNamesTokenExpression.toUserInfo(true, true), Level.NO, m);
 		processedPeerNames = processedPeerNamesTokenExpression.tvv2Names();
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("peer names = " + processedPeerNames.toString(), Level.NO, m);
+		/**/ tracer.println(() -> "peer names = " + processedPeerNames.toString(), Level.NO, m);
 	}
 	
 	//================================================================================
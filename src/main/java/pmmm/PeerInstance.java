@@ -29,11 +29,12 @@ import java.util.Vector;
 import eval.tokens.IToken;
 import eval.tokens.Token;
 import eval.tokens.TokenExpression;
+import qa.exceptions.DiagnosticContext;
 import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -41,6 +42,11 @@ import qa.tracer.Tracer;
 public class PeerInstance implements IMta {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_getProcessedPPropDefsValueToken = TracePoint.of(PeerInstance.class, "getProcessedPPropDefsValueToken"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(PeerInstance.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_mta = TracePoint.of(PeerInstance.class, "mta"); // debug
+	/**/ private static final TracePoint M_constructWiringInstances = TracePoint.of(PeerInstance.class, "constructWiringInstances"); // debug
 	//--------------------------------------------------------------------------------
 	// pointer to my PEER TYPE (shared): 
 	protected PeerType peerType;
@@ -107,15 +113,15 @@ public class PeerInstance implements IMta {
 	// nb: mta has already been applied!
 	public Token getProcessedPPropDefsValueToken(Token propNameToken) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.nlprintln("searching for " + propNameToken + " in " + this.processedPeerPPropsDefsTokenExpression, Level.NO, m);
+		/**/ TracePoint m = M_getProcessedPPropDefsValueToken; // debug
+		/**/ tracer.nlprintln(() -> "searching for " + propNameToken + " in " + this.processedPeerPPropsDefsTokenExpression, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		try {
 			// search for propNameToken
 			Token token = processedPeerPPropsDefsTokenExpression.getPropValueToken(propNameToken);
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("processed props defs: " + processedPeerPPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
-			/**/ tracer.println("found: '" + propNameToken + "'; prop def: " + token.toUserInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "processed props defs: " + processedPeerPPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> "found: '" + propNameToken + "'; prop def: " + token.toUserInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			return token;
 		} catch(NotFoundException e) {
@@ -158,12 +164,12 @@ public class PeerInstance implements IMta {
 	// evaluate all token types
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evalDataTypes; // debug
 		//--------------------------------------------------------------------------------
 		// PEER PPROPS DEFS:
 		// TBD: not needed
 		// - resolve qualifier types
-		/**/ tracer.println("peer: resolve qualifier types in: " + peerPPropsDefsTokenExpression, Level.NO, m);
+		/**/ tracer.println(() -> "peer: resolve qualifier types in: " + peerPPropsDefsTokenExpression, Level.NO, m);
 		peerPPropsDefsTokenExpression.resolveQualifierTypes(context.setPeerQualifierContext(peerType.peerTypePPropsTypes, peerType.peerTypeName).getQualifierContext());
 		// - eval types
 		peerPPropsDefsTokenExpression.evalDataTypes(context.switch2Config_Peer_PropsDefs());
@@ -193,34 +199,39 @@ public class PeerInstance implements IMta {
 	// nb: constructs wiring instances
 	public void mta(PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		String what = "";
-		/**/ tracer.println("peer instance '" + this.peerInstanceName + "'", Level.NO, m);
+		/**/ TracePoint m = M_mta; // debug
+		/**/ tracer.println(() -> "peer instance '" + this.peerInstanceName + "'", Level.NO, m);
 		//--------------------------------------------------------------------------------
+		// nb: what is being done is told by the diagnostic context; it is only rendered if an error reaches the user
+		//--------------------------------------------------------------------------------
+		// PROCESSED PEER PPROPS DEFS:
+		DiagnosticContext.push(() -> "pprops defs", m);
 		try {
-			//--------------------------------------------------------------------------------
-			// PROCESSED PEER PPROPS DEFS:
-			what = "pprops defs";
 			processedPeerPPropsDefsTokenExpression.deepCloneMergeMta_Assignments(
 					peerPPropsDefsTokenExpression /* orig */, peerType.peerTypePPropsDefsTokenExpression /* defaults */, 
 					curPmmmInstance, this /* curPeerInstance */, curWiringInstance, curEntryType);
-			/**/ tracer.println("=== processedPeerPPropsDefsTokenExpression " + processedPeerPPropsDefsTokenExpression.toInfo(), Level.NO, m);
-			//--------------------------------------------------------------------------------
-			// CONSTRUCT WIRING INSTANCES:
-			what = "construct wiring instance";
+			/**/ tracer.println(() -> "=== processedPeerPPropsDefsTokenExpression " + processedPeerPPropsDefsTokenExpression.toInfo(), Level.NO, m);
+		} finally {
+			DiagnosticContext.pop();
+		}
+		//--------------------------------------------------------------------------------
+		// CONSTRUCT WIRING INSTANCES:
+		DiagnosticContext.push(() -> "construct wiring instance", m);
+		try {
 			constructWiringInstances(curPmmmInstance, this /* curPeerInstance */, curWiringInstance, curEntryType);
-			//--------------------------------------------------------------------------------
-			// MTA WIRING INSTANCES:
-			for(int i = 0; i < wiringInstances.size(); i++) {
-				WiringInstance wiringInstance = wiringInstances.get(i);
-				what = "wiring instance = " + wiringInstance.wiringInstanceName;
+		} finally {
+			DiagnosticContext.pop();
+		}
+		//--------------------------------------------------------------------------------
+		// MTA WIRING INSTANCES:
+		for(int i = 0; i < wiringInstances.size(); i++) {
+			WiringInstance wiringInstance = wiringInstances.get(i);
+			DiagnosticContext.push(() -> "wiring instance = " + wiringInstance.wiringInstanceName, m);
+			try {
 				wiringInstance.mta(curPmmmInstance, curPeerInstance, wiringInstance /* curWiringInstance */, curEntryType);
+			} finally {
+				DiagnosticContext.pop();
 			}
-			//--------------------------------------------------------------------------------
-		} catch (SyntaxException e) {
-			throw new SyntaxException(what, m, e);
-		} catch (SNHException e) {
-			throw new SNHException(111117, what, m, e);
 		}
 	}
 	
@@ -233,7 +244,7 @@ public class PeerInstance implements IMta {
 	public void constructWiringInstances(PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) 
 			throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_constructWiringInstances; // debug
 		//--------------------------------------------------------------------------------
 		// for all wirings of my peer type 
 		for(int i = 0; i < peerType.wirings.size(); i++) {
@@ -276,7 +287,7 @@ public class PeerInstance implements IMta {
 						wiring.wiringType.wiringTypeWPropsDefsTokenExpression /* defaults */, 
 						curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
 				//................................................................................
-				/**/ tracer.println("processed wiring wprops defs = " + wiringInstance.processedWPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
+				/**/ tracer.println(() -> "processed wiring wprops defs = " + wiringInstance.processedWPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
 				//................................................................................
 				// - construct link instances for guards and actions (caution: needs set link pointer!)
 				wiringInstance.constructLinkInstances();
@@ -284,7 +295,7 @@ public class PeerInstance implements IMta {
 				// add wiring instance
 				wiringInstances.add(wiringInstance);
 				//--------------------------------------------------------------------------------
-				/**/ tracer.println("wiring instance " + wiringInstance.wiringInstanceName + " of wiring type " + wiring.wiringType.wiringTypeName + " added", Level.NO, m);
+				/**/ tracer.println(() -> "wiring instance " + wiringInstance.wiringInstanceName + " of wiring type " + wiring.wiringType.wiringTypeName + " added", Level.NO, m);
 			}
 		}
 	}
@@ -30,7 +30,7 @@ import eval.tokens.TokenExpression;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -38,6 +38,13 @@ public class PeerType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	// for debug
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_setPeerTypeName = TracePoint.of(PeerType.class, "setPeerTypeName"); // debug
+	/**/ private static final TracePoint M_verifyPeerTypeName = TracePoint.of(PeerType.class, "verifyPeerTypeName"); // debug
+	/**/ private static final TracePoint M_addWiringTypeToNonInlineWirings = TracePoint.of(PeerType.class, "addWiringTypeToNonInlineWirings"); // debug
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(PeerType.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(PeerType.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(PeerType.class, "plausiCheck"); // debug
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// PEER TYPE NAME:
@@ -71,7 +78,7 @@ public class PeerType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void setPeerTypeName(String peerTypeName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_setPeerTypeName; // debug
 		//--------------------------------------------------------------------------------
 		// name validity check 
 		try {
@@ -123,7 +130,7 @@ public class PeerType implements IEvaluation {
 	// - info: needed to verify whether the peer type name in drawio diagram name equals the modeled one in the diagram...
 	public void verifyPeerTypeName(String peerTypeName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_verifyPeerTypeName; // debug
 		//--------------------------------------------------------------------------------
 		if(! this.peerTypeName.equals(peerTypeName)) {
 			throw new SyntaxException("peer type name inconsistency: this.peerTypeName '" + "' vs. '" + peerTypeName + "'", m);
@@ -171,9 +178,9 @@ public class PeerType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	// for all peers types: add wiring type to non-inline wirings 
 	// - ie wiring that is defined via "wiring config" based on a wiring type;
-	public void addWiringTypeToNonInlineWirings(Vector<WiringType> wiringTypes) throws SyntaxException {
+	public void addWiringTypeToNonInlineWirings(SymbolTable symbolTable) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_addWiringTypeToNonInlineWirings; // debug
 		//--------------------------------------------------------------------------------
 		// for all wirings
 		for(int j = 0; j < wirings.size(); j++) {
@@ -186,31 +193,18 @@ public class PeerType implements IEvaluation {
 			//--------------------------------------------------------------------------------
 			// non-inline wiring?
 			if(! wiringTypeName.startsWith("_")) {
-				/**/ tracer.println("NON-INLINE WIRING = " + wiring.getRawWiringNames() + "; of WIRING TYPE = " + wiringTypeName, Level.NO, m);	
+				/**/ tracer.println(() -> "NON-INLINE WIRING = " + wiring.getRawWiringNames() + "; of WIRING TYPE = " + wiringTypeName, Level.NO, m);	
 				//--------------------------------------------------------------------------------
 				// search the wiring type 
-				boolean wiringTypeFoundFlag = false;
-				for(int k = 0; (! wiringTypeFoundFlag) && (k < wiringTypes.size()); k++) {
-					//--------------------------------------------------------------------------------
-					// get next wiring type
-					WiringType wiringType = wiringTypes.get(k);
-					/**/ tracer.println("next wiringType = " + wiringType.getWiringTypeName(), Level.NO, m);	
-					//--------------------------------------------------------------------------------
-					// check if its name fits
-					if(wiringType.getWiringTypeName().equals(wiringTypeName)) {
-						//--------------------------------------------------------------------------------
-						// wiring type found 
-						wiringTypeFoundFlag = true;
-						//--------------------------------------------------------------------------------
-						// set it in wiring
-						wiring.setWiringType(wiringType);
-					}
-				}
+				WiringType wiringType = symbolTable.findWiringType(wiringTypeName);
 				//--------------------------------------------------------------------------------
 				// if wiring type not found -> error
-				if(! wiringTypeFoundFlag) {
+				if(wiringType == null) {
 					throw new SyntaxException("missing wiring type '" + wiringTypeName + "'", m);
 				}
+				//--------------------------------------------------------------------------------
+				// set it in wiring
+				wiring.setWiringType(wiringType);
 			}
 			// for inline wirings: nothing needs to be done; just keep them "as is"
 		}
@@ -241,7 +235,7 @@ public class PeerType implements IEvaluation {
 	// tokenize all values in the meta model
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "peer type " + this.peerTypeName;
 		String errMsg2 = "";
@@ -277,7 +271,7 @@ public class PeerType implements IEvaluation {
 	// nb: also transforms props types into name declaration pairs
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evalDataTypes; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "peer type = " + this.peerTypeName;
 		String errMsg2 = "";
@@ -300,7 +294,7 @@ public class PeerType implements IEvaluation {
 			// -- and also calls eval of its integrated wiring type
 			errMsg2 = " / wirings";
 			for(int i = 0; i < wirings.size(); i++) {
-				/**/ tracer.println("WIRING " + wirings.get(i).getRawWiringNames(), Level.NO, m);
+				/**/ if(Tracer.isEnabled(Level.NO, m)) tracer.println("WIRING " + wirings.get(i).getRawWiringNames(), Level.NO, m);
 				wirings.get(i).evalDataTypes(context);
 				//--------------------------------------------------------------------------------
 			}
@@ -319,7 +313,7 @@ public class PeerType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_plausiCheck; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "peer type " + this.peerTypeName;
 		String errMsg2 = "";
@@ -24,11 +24,15 @@ package pmmm;
 
 import eval.tokens.*;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // caution: keep everything up-to-date with the ISpaceDefs
 public class PmUtil implements IPmDefs {
+	// trace points
+	/**/ private static final TracePoint M_isContainerName = TracePoint.of(PmUtil.class, "isContainerName"); // debug
+	/**/ private static final TracePoint M_isSpaceOpName = TracePoint.of(PmUtil.class, "isSpaceOpName"); // debug
+	/**/ private static final TracePoint M_isValidName = TracePoint.of(PmUtil.class, "isValidName"); // debug
 	//--------------------------------------------------------------------------------
 	// CONFIG OF THIS CLASS
 	//--------------------------------------------------------------------------------
@@ -53,7 +57,7 @@ public class PmUtil implements IPmDefs {
 	// - TBD: SIN, SOUT
 	public static void isContainerName(String containerName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_isContainerName; // debug
 		//--------------------------------------------------------------------------------
 		if(! (containerName.equals(IPmDefs.PIC) || containerName.equals(IPmDefs.POC)))
 			throw new SyntaxException("ill. container name '" + containerName + "'", m);
@@ -64,7 +68,7 @@ public class PmUtil implements IPmDefs {
 	// if not, throw exception
 	public static void isSpaceOpName(String spaceOpName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_isSpaceOpName; // debug
 		//--------------------------------------------------------------------------------
 		if(! (spaceOpName.equals(IPmDefs.COPY) || 
 				spaceOpName.equals(IPmDefs.CREATE) || 
@@ -84,7 +88,7 @@ public class PmUtil implements IPmDefs {
 	// - throws exception is name contains chars beyond letters, numbers (but not at first place) and underline
 	public static void isValidName(String s, boolean emptyIsAllowedFlag, boolean wildcardIsAllowedFlag) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_isValidName; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg = "";
 		char c = ' ';
@@ -22,6 +22,9 @@
 package pmmm;
 
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import eval.tokens.Token;
 import eval.tokens.TokenExpression;
@@ -29,7 +32,7 @@ import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -38,6 +41,17 @@ import qa.tracer.Tracer;
 public class PmmmInstance {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_evaluateAndTransform = TracePoint.of(PmmmInstance.class, "evaluateAndTransform"); // debug
+	/**/ private static final TracePoint M_mtaPeerInstance = TracePoint.of(PmmmInstance.class, "mtaPeerInstance"); // debug
+	/**/ private static final TracePoint M_mtaPeerInstances = TracePoint.of(PmmmInstance.class, "mtaPeerInstances"); // debug
+	/**/ private static final TracePoint M_constructPeerInstances = TracePoint.of(PmmmInstance.class, "constructPeerInstances"); // debug
+	/**/ private static final TracePoint M_getProcessedPmmmPropDefValueToken = TracePoint.of(PmmmInstance.class, "getProcessedPmmmPropDefValueToken"); // debug
+	//--------------------------------------------------------------------------------
+	// CONFIG OF THIS CLASS
+	//--------------------------------------------------------------------------------
+	// parallelism of the fork join pool for the mta of the peer instances; 1 = sequential
+	static int peerMtaParallelism = Runtime.getRuntime().availableProcessors(); // <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<
 	//--------------------------------------------------------------------------------
 	// pointer to my PMMM Type (shared):
 	PmmmType pmmmType;
@@ -70,6 +84,14 @@ public class PmmmInstance {
 		this.config = config;
 	}
 
+	//================================================================================
+	// SET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public static void setPeerMtaParallelism(int peerMtaParallelism) {
+		PmmmInstance.peerMtaParallelism = Math.max(1, peerMtaParallelism);
+	}
+
 	//================================================================================
 	// GET
 	//================================================================================
@@ -119,81 +141,70 @@ public class PmmmInstance {
 	// CAUTION: do not change the order
 	public void evaluateAndTransform() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evaluateAndTransform; // debug
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg = "";
 		//--------------------------------------------------------------------------------
 		try {
-			//================================================================================
-			// 1) EVALUATE *CONFIG*
-			//================================================================================
-			//--------------------------------------------------------------------------------
-			errMsg = "data type eval of config";
-			//--------------------------------------------------------------------------------
-			// create new context with the global pmmm type facts 
-			Context context = new Context(pmmmType.keywordTypes, pmmmType.pmmmTypeName, pmmmType.pmmmTypePmmmPropsTypes, pmmmType.peerTypeNames, pmmmType.peerTypes, pmmmType.entryTypes);
-			//--------------------------------------------------------------------------------
-			// TOKENIZE:
-			config.tokenize();
-			/**/ tracer.println("config tokenized", Level.NO, m);
-			//--------------------------------------------------------------------------------
-			// EVAL DATA TYPES:
-			config.evalDataTypes(context.switch2Config(config.getConfigName()));		
-			/**/ tracer.println("config data type evaluated", Level.NO, m);
-			//--------------------------------------------------------------------------------
-			// PLAUSI CHECK:
-			config.plausiCheck();	
-			/**/ tracer.println("config plausi checked", Level.NO, m);
-			//================================================================================
-			// 2) MTA PMMM PROPS DEFS
-			//================================================================================
-			//--------------------------------------------------------------------------------
-			errMsg = "pmmm props defs";
-			/**/ tracer.println("pmmm props defs: " + config.pmmmPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
-			/**/ tracer.println("default pmmm props defs: " + pmmmType.pmmmTypePmmmPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
-			//--------------------------------------------------------------------------------
-			// mta processed pmmm props defs
-			processedPmmmPropsDefsTokenExpression.deepCloneMergeMta_Assignments(config.pmmmPropsDefsTokenExpression /* orig */, 
-					pmmmType.pmmmTypePmmmPropsDefsTokenExpression /* defaults */, this /* curPMMM */, null /* curPeer */, null /* curWiring */, null /* curEntryType */);
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("processed pmmm props defs: " + processedPmmmPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
-			/**/ tracer.println("processed pmmm props defs (raw): " + processedPmmmPropsDefsTokenExpression.getRaw(), Level.NO, m);
-			//================================================================================
-			// 3) MTA *CONFIG*
-			//================================================================================
-			//--------------------------------------------------------------------------------
-			errMsg = "eval of config";
-			//--------------------------------------------------------------------------------
-			// mta config
-			config.mta(this /* curPMMM */, null /* curPeer */, null /* curWiring */, null /* curEntryType */);
-			//--------------------------------------------------------------------------------
-			/**/ tracer.println("evaluated config: " + config.toString(), Level.NO, m);
-			//================================================================================
-			// 4) CONSTRUCT PEER INSTANCES
-			//================================================================================
-			//--------------------------------------------------------------------------------
-			// create a peer for each configure peer name
-			// - that points to its peer type
-			// - for each configured wiring name create a wiring instance
-			constructPeerInstances();
-			/**/ tracer.println("peers constructed", Level.NO, m);
-			//================================================================================
-			// 5) MTA PEER INSTANCES
-			//================================================================================
-			//--------------------------------------------------------------------------------
-			// mta peer instances
-			// - nb: constructs wiring instances
-			for(int i = 0; i < peerInstances.size(); i++) {
+			// CAUTION: the config is shared by all translations of it, which may run concurrently:
+			// - 1) re-tokenizes and type evaluates it, 3) writes its processed peer names that 4) reads;
+			// -- so these steps are serialized per config; afterwards only its frozen token trees are shared (see Token.frozenFlag)
+			synchronized(config) {
+				//================================================================================
+				// 1) EVALUATE *CONFIG*
+				//================================================================================
 				//--------------------------------------------------------------------------------
-				// get next peer instance
-				PeerInstance peerInstance = peerInstances.get(i);
+				errMsg = "data type eval of config";
+				//--------------------------------------------------------------------------------
+				// create new context with the global pmmm type facts 
+				Context context = new Context(pmmmType.keywordTypes, pmmmType.pmmmTypeName, pmmmType.pmmmTypePmmmPropsTypes, pmmmType.symbolTable);
+				//--------------------------------------------------------------------------------
+				// TOKENIZE:
+				config.tokenize();
+				/**/ tracer.println("config tokenized", Level.NO, m);
+				//--------------------------------------------------------------------------------
+				// EVAL DATA TYPES:
+				config.evalDataTypes(context.switch2Config(config.getConfigName()));		
+				/**/ tracer.println("config data type evaluated", Level.NO, m);
+				//--------------------------------------------------------------------------------
+				// PLAUSI CHECK:
+				config.plausiCheck();	
+				/**/ tracer.println("config plausi checked", Level.NO, m);
+				//================================================================================
+				// 2) MTA PMMM PROPS DEFS
+				//================================================================================
 				//--------------------------------------------------------------------------------
-				errMsg = "peer instance '" + peerInstance.getPeerInstanceName() + "'";
+				errMsg = "pmmm props defs";
+				/**/ tracer.println(() -> "pmmm props defs: " + config.pmmmPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
+				/**/ tracer.println(() -> "default pmmm props defs: " + pmmmType.pmmmTypePmmmPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
 				//--------------------------------------------------------------------------------
-				// mta it
-				peerInstance.mta(this /* curPmmmInstance */, peerInstance /* curPeerInstance */, null /* curWiringInstance */, null /* curEntryType */);  
+				// mta processed pmmm props defs
+				processedPmmmPropsDefsTokenExpression.deepCloneMergeMta_Assignments(config.pmmmPropsDefsTokenExpression /* orig */, 
+						pmmmType.pmmmTypePmmmPropsDefsTokenExpression /* defaults */, this /* curPMMM */, null /* curPeer */, null /* curWiring */, null /* curEntryType */);
 				//--------------------------------------------------------------------------------
+				/**/ tracer.println(() -> "processed pmmm props defs: " + processedPmmmPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
+				/**/ tracer.println(() -> "processed pmmm props defs (raw): " + processedPmmmPropsDefsTokenExpression.getRaw(), Level.NO, m);
+				//================================================================================
+				// 3) MTA *CONFIG*
+				//================================================================================
+				//--------------------------------------------------------------------------------
+				errMsg = "eval of config";
+				//--------------------------------------------------------------------------------
+				// mta config
+				config.mta(this /* curPMMM */, null /* curPeer */, null /* curWiring */, null /* curEntryType */);
+				//--------------------------------------------------------------------------------
+				/**/ tracer.println(() -> "evaluated config: " + config.toString(), Level.NO, m);
+				//================================================================================
+				// 4) CONSTRUCT PEER INSTANCES
+				//================================================================================
+				//--------------------------------------------------------------------------------
+				// create a peer for each configure peer name
+				// - that points to its peer type
+				// - for each configured wiring name create a wiring instance
+				constructPeerInstances();
+				/**/ tracer.println("peers constructed", Level.NO, m);
 			}
 			//================================================================================
 		} catch (SyntaxException e) {
@@ -201,6 +212,92 @@ public class PmmmInstance {
 		} catch (SNHException e) {
 			throw new SNHException(700007, errMsg, m, e);
 		}
+		//================================================================================
+		// 5) MTA PEER INSTANCES
+		//================================================================================
+		//--------------------------------------------------------------------------------
+		// mta peer instances
+		// - nb: constructs wiring instances
+		// - nb: exceptions are already wrapped
+		mtaPeerInstances();
+	}
+
+	//================================================================================
+	// MTA PEER INSTANCES:
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// mta all peer instances;
+	// - nb: they are independent of each other, given the processed pmmm props defs and the mta-ed config;
+	// -- so they are done in parallel on a fork join pool (see peerMtaParallelism);
+	// - nb: the error of the first failing peer instance in config order is reported
+	private void mtaPeerInstances() throws SyntaxException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_mtaPeerInstances; // debug
+		//--------------------------------------------------------------------------------
+		// sequential
+		if(peerMtaParallelism <= 1 || peerInstances.size() <= 1) {
+			for(int i = 0; i < peerInstances.size(); i++) {
+				mtaPeerInstance(peerInstances.get(i));
+			}
+			return;
+		}
+		//--------------------------------------------------------------------------------
+		// parallel
+		ForkJoinPool pool = new ForkJoinPool(Math.min(peerMtaParallelism, peerInstances.size()));
+		Vector<ForkJoinTask<Void>> tasks = new Vector<ForkJoinTask<Void>>();
+		try {
+			//--------------------------------------------------------------------------------
+			// fork all
+			for(int i = 0; i < peerInstances.size(); i++) {
+				PeerInstance peerInstance = peerInstances.get(i);
+				tasks.add(pool.submit(() -> {
+					mtaPeerInstance(peerInstance);
+					return null;
+				}));
+			}
+			//--------------------------------------------------------------------------------
+			// join all in config order
+			for(int i = 0; i < tasks.size(); i++) {
+				try {
+					tasks.get(i).get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if(cause instanceof SyntaxException)
+						throw (SyntaxException) cause;
+					if(cause instanceof SNHException)
+						throw (SNHException) cause;
+					if(cause instanceof RuntimeException)
+						throw (RuntimeException) cause;
+					if(cause instanceof Error)
+						throw (Error) cause;
+					throw new SNHException(700008, "mta of peer instance '" + peerInstances.get(i).getPeerInstanceName() + "' failed: " + cause, m);
+				} catch (InterruptedException e) {
+					throw new SNHException(700009, "mta of peer instance '" + peerInstances.get(i).getPeerInstanceName() + "' interrupted", m);
+				}
+			}
+		} finally {
+			//--------------------------------------------------------------------------------
+			// cancel the remaining ones on error
+			for(int i = 0; i < tasks.size(); i++) 
+				tasks.get(i).cancel(true);
+			pool.shutdownNow();
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// mta one peer instance
+	// - nb: wrap exceptions as in evaluateAndTransform
+	private void mtaPeerInstance(PeerInstance peerInstance) throws SyntaxException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_mtaPeerInstance; // debug
+		//--------------------------------------------------------------------------------
+		String errMsg = "peer instance '" + peerInstance.getPeerInstanceName() + "'";
+		try {
+			peerInstance.mta(this /* curPmmmInstance */, peerInstance /* curPeerInstance */, null /* curWiringInstance */, null /* curEntryType */);  
+		} catch (SyntaxException e) {
+			throw new SyntaxException(errMsg, m, e);
+		} catch (SNHException e) {
+			throw new SNHException(700007, errMsg, m, e);
+		}
 	}
 
 	//================================================================================
@@ -211,7 +308,7 @@ public class PmmmInstance {
 	// CAUTION: config must have been evaluated and mta-ed before!
 	public void constructPeerInstances() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_constructPeerInstances; // debug
 		//--------------------------------------------------------------------------------
 		// for all configured peers 
 		for(int i = 0; i < config.peerConfigs.size(); i++) {
@@ -238,14 +335,14 @@ public class PmmmInstance {
 				peerInstance.peerType = peerType;
 				//--------------------------------------------------------------------------------
 				// clone pprops defs
-				/**/ tracer.println("pprops defs BEFORE CLONING: " + peerConfig.ppropsDefsTokenExpression.toTypedInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "pprops defs BEFORE CLONING: " + peerConfig.ppropsDefsTokenExpression.toTypedInfo(), Level.NO, m);
 				peerInstance.peerPPropsDefsTokenExpression.deepCloneFromTokenExpression(peerConfig.ppropsDefsTokenExpression);
-				/**/ tracer.println("pprops defs AFTER CLONING: " + peerInstance.peerPPropsDefsTokenExpression.toTypedInfo(), Level.NO, m);
+				/**/ tracer.println(() -> "pprops defs AFTER CLONING: " + peerInstance.peerPPropsDefsTokenExpression.toTypedInfo(), Level.NO, m);
 				//--------------------------------------------------------------------------------
 				// add peer
 				peerInstances.add(peerInstance);
 				//--------------------------------------------------------------------------------
-				/**/ tracer.println("peer " + peerInstance.getPeerInstanceName() + " of peer type " + peerInstance.getPeerTypeName() + " added", Level.NO, m);
+				/**/ tracer.println(() -> "peer " + peerInstance.getPeerInstanceName() + " of peer type " + peerInstance.getPeerTypeName() + " added", Level.NO, m);
 			}
 		}
 	}
@@ -265,15 +362,15 @@ public class PmmmInstance {
 	// nb: mta has already been applied!
 	public Token getProcessedPmmmPropDefValueToken(Token propNameToken) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("search for " + propNameToken + " in " + processedPmmmPropsDefsTokenExpression, Level.NO, m);
+		/**/ TracePoint m = M_getProcessedPmmmPropDefValueToken; // debug
+		/**/ tracer.println(() -> "search for " + propNameToken + " in " + processedPmmmPropsDefsTokenExpression, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		try {
 			// search for propNameToken
 			Token token = processedPmmmPropsDefsTokenExpression.getPropValueToken(propNameToken);
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("processed props defs: " + processedPmmmPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
-			/**/ tracer.println("found: '" + propNameToken + "'; prop def: " + token.toUserInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "processed props defs: " + processedPmmmPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> "found: '" + propNameToken + "'; prop def: " + token.toUserInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			return token;
 		} catch(NotFoundException e) {
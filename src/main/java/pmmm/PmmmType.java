@@ -23,14 +23,20 @@
 //================================================================================
 
 package pmmm;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.Vector;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import parser.*;
 
 import eval.tokens.TokenExpression;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
+import qa.stats.Phase;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -38,9 +44,26 @@ import qa.tracer.Tracer;
 public class PmmmType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer(); // debug
+	// trace points
+	/**/ private static final TracePoint M_getPeerType = TracePoint.of(PmmmType.class, "getPeerType"); // debug
+	/**/ private static final TracePoint M_getConfig = TracePoint.of(PmmmType.class, "getConfig"); // debug
+	/**/ private static final TracePoint M_evaluate = TracePoint.of(PmmmType.class, "evaluate"); // debug
+	/**/ private static final TracePoint M_adaptLinkOrder = TracePoint.of(PmmmType.class, "adaptLinkOrder"); // debug
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(PmmmType.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(PmmmType.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(PmmmType.class, "plausiCheck"); // debug
+	/**/ private static final TracePoint M_runScopes = TracePoint.of(PmmmType.class, "runScopes"); // debug
 	//--------------------------------------------------------------------------------
-	// peer type names vector that is artificially constructed for data type evaluation
-	protected Vector<String> peerTypeNames = new Vector<String>();
+	// CONFIG OF THIS CLASS
+	//--------------------------------------------------------------------------------
+	// parallelism of the fork join pool for data type eval and plausi check of wiring types and peer types; 1 = sequential
+	static int scopeParallelism = Runtime.getRuntime().availableProcessors(); // <<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<<
+	//--------------------------------------------------------------------------------
+	// name -> definition of entry types, wiring types, peer types, wirings and configs
+	protected SymbolTable symbolTable = new SymbolTable();
+	//--------------------------------------------------------------------------------
+	// measured phases of evaluate (see qa.stats.Report)
+	protected Vector<Phase> evaluatePhases = new Vector<Phase>();
 	//--------------------------------------------------------------------------------
 	// keyword declarations 
 	protected KeywordTypes keywordTypes;
@@ -76,7 +99,8 @@ public class PmmmType implements IEvaluation {
 		this.keywordTypes = new KeywordTypes();
 	}
 	//--------------------------------------------------------------------------------
-	public PmmmType(PmmmComponents pmmmComponents) throws SNHException {
+	// - nb: duplicate definitions are detected here (by the symbol table)
+	public PmmmType(PmmmComponents pmmmComponents) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
 		// init keywords
 		this.keywordTypes = new KeywordTypes();
@@ -101,6 +125,12 @@ public class PmmmType implements IEvaluation {
 		//--------------------------------------------------------------------------------
 		// PEER TYPES:
 		this.peerTypes = pmmmComponents.peerTypes;
+		//--------------------------------------------------------------------------------
+		// SYMBOL TABLE:
+		this.symbolTable.setEntryTypes(entryTypes);
+		this.symbolTable.setWiringTypes(wiringTypes);
+		this.symbolTable.setPeerTypes(peerTypes);
+		this.symbolTable.setConfigs(pmmmComponents.configs);
 	}
 
 	//================================================================================
@@ -133,18 +163,21 @@ public class PmmmType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void setEntryTypes(EntryTypes entryTypes) throws SyntaxException {
 		this.entryTypes = entryTypes;
+		this.symbolTable.setEntryTypes(entryTypes);
 	}
 	//--------------------------------------------------------------------------------
 	// WIRING TYPES:
 	//--------------------------------------------------------------------------------
-	public void setWiringTypes(Vector<WiringType> wiringTypes) {
+	public void setWiringTypes(Vector<WiringType> wiringTypes) throws SyntaxException {
 		this.wiringTypes = wiringTypes;
+		this.symbolTable.setWiringTypes(wiringTypes);
 	}
 	//--------------------------------------------------------------------------------
 	// PEER TYPES:
 	//--------------------------------------------------------------------------------
-	public void setPeerTypes(Vector<PeerType> peerTypes) {
+	public void setPeerTypes(Vector<PeerType> peerTypes) throws SyntaxException {
 		this.peerTypes = peerTypes;
+		this.symbolTable.setPeerTypes(peerTypes);
 	}
 
 	//================================================================================
@@ -192,13 +225,34 @@ public class PmmmType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public PeerType getPeerType(String peerTypeName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_getPeerType; // debug
 		//--------------------------------------------------------------------------------
-		for(int i = 0; i < this.peerTypes.size(); i++) {
-			if(peerTypes.get(i).peerTypeName.equals(peerTypeName))
-				return peerTypes.get(i);
-		}
-		throw new SyntaxException("peer type " + peerTypeName + "not found", m);
+		PeerType peerType = symbolTable.findPeerType(peerTypeName);
+		if(peerType != null)
+			return peerType;
+		throw new SyntaxException("peer type " + peerTypeName + " not found", m);
+	}
+	//--------------------------------------------------------------------------------
+	// CONFIG:
+	//--------------------------------------------------------------------------------
+	public Config getConfig(String configName) throws SyntaxException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_getConfig; // debug
+		//--------------------------------------------------------------------------------
+		Config config = symbolTable.findConfig(configName);
+		if(config != null)
+			return config;
+		throw new SyntaxException("config '" + configName + "' does not exist", m);
+	}
+	//--------------------------------------------------------------------------------
+	// SYMBOL TABLE:
+	//--------------------------------------------------------------------------------
+	public SymbolTable getSymbolTable() {
+		return symbolTable;
+	}
+	//--------------------------------------------------------------------------------
+	public Vector<Phase> getEvaluatePhases() {
+		return evaluatePhases;
 	}
 
 	//================================================================================
@@ -220,25 +274,16 @@ public class PmmmType implements IEvaluation {
 	// - CAUTION: do not change the evaluation order;
 	public void evaluate() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evaluate; // debug
 		//--------------------------------------------------------------------------------
 		// check pmmm type name expression not to be empty
 		if(util.Util.isEmptyString(pmmmTypeName))
 			throw new SyntaxException("empty Peer Model Meta Model (PMMM) name; possible cause: \n" + 
 					"(*) is the XML export ok (nb: must not be compressed xml)?", m);
 		//================================================================================
-		// CREATE ARTIFICIAL VECTOR WITH ALL PEER NAMES:
-		//================================================================================
-		// CAUTION: 
-		// - needed for url check by eval;
-		// - needed for config treatment;
-		for(int i = 0; i < peerTypes.size(); i++) {
-			peerTypeNames.add(peerTypes.get(i).getPeerTypeName());
-		}
-		//================================================================================
 		// RAW INTEGRATE WIRING TYPES INTO NON-INLINE WIRINGS
 		//================================================================================
-		/**/ tracer.println(ui.Out.border('-'), Level.INFO, m);	
+		/**/ tracer.println(() -> ui.Out.border('-'), Level.INFO, m);	
 		/**/ tracer.println("'RAW' PMMM TYPE: INTEGRATE WIRING TYPES", Level.INFO, m);	
 		//--------------------------------------------------------------------------------
 		// for all peer types
@@ -246,13 +291,13 @@ public class PmmmType implements IEvaluation {
 			//--------------------------------------------------------------------------------
 			// get next peer type
 			PeerType peerType = peerTypes.get(i);
-			/**/ tracer.println("peerType = " + peerType.getPeerTypeName(), Level.NO, m);	
+			/**/ tracer.println(() -> "peerType = " + peerType.getPeerTypeName(), Level.NO, m);	
 			//--------------------------------------------------------------------------------
 			// integrate *raw info* of wiring types into peer type's non-inline wirings
 			// - nb: we are *before* tokenization
-			peerType.addWiringTypeToNonInlineWirings(wiringTypes);
+			peerType.addWiringTypeToNonInlineWirings(symbolTable);
 		}
-		/**/ tracer.println("'RAW' PMMM WITH WIRINGS ENHANCED BY WIRING TYPES:\n" + this, Level.NO, new Object(){});
+		/**/ tracer.println(() -> "'RAW' PMMM WITH WIRINGS ENHANCED BY WIRING TYPES:\n" + this, Level.NO, M_evaluate);
 		//--------------------------------------------------------------------------------
 		// local var:
 		String errMsg = "";
@@ -260,49 +305,57 @@ public class PmmmType implements IEvaluation {
 			//================================================================================
 			// TOKENIZE
 			//================================================================================
-			/**/ tracer.println(ui.Out.border('-'), Level.INFO, m);	
+			/**/ tracer.println(() -> ui.Out.border('-'), Level.INFO, m);	
 			/**/ tracer.println("'RAW' PMMM TYPE: TOKENIZE", Level.INFO, m);	
 			errMsg = "ill. expression syntax";
 			//--------------------------------------------------------------------------------
 			// tokenize all expressions
+			Phase phase = Phase.start("tokenize");
 			tokenize();
+			evaluatePhases.add(phase.stop());
 			//================================================================================
 			// SORT LINKS
 			//================================================================================
-			/**/ tracer.println(ui.Out.border('-'), Level.INFO, m);	
+			/**/ tracer.println(() -> ui.Out.border('-'), Level.INFO, m);	
 			/**/ tracer.println("PMMM TYPE: SORT LINKS", Level.INFO, m);	
 			errMsg = "ill. link numbering";
 			//--------------------------------------------------------------------------------
 			// sort guard and actions links and check for duplicates and/or missing links
+			phase = Phase.start("sort links");
 			adaptLinkOrder();
+			evaluatePhases.add(phase.stop());
 			//================================================================================
 			// EVAL DATA TYPES
 			//================================================================================
-			/**/ tracer.println(ui.Out.border('-'), Level.INFO, m);	
+			/**/ tracer.println(() -> ui.Out.border('-'), Level.INFO, m);	
 			/**/ tracer.println("PMMM TYPE: EVAL DATA TYPES", Level.INFO, m);	
 			errMsg = "data type error";
 			//--------------------------------------------------------------------------------
 			// create new context with the global pmmm type facts 
 			// nb: pmmmTypePmmmPropsTypes are still not type evaluated... but they are shared so context will be changed implicitly!!!
-			Context context = new Context(keywordTypes, pmmmTypeName, pmmmTypePmmmPropsTypes, peerTypeNames, peerTypes, entryTypes);
+			phase = Phase.start("eval data types");
+			Context context = new Context(keywordTypes, pmmmTypeName, pmmmTypePmmmPropsTypes, symbolTable);
 			//--------------------------------------------------------------------------------
 			// eval data types
 			evalDataTypes(context);
+			evaluatePhases.add(phase.stop());
 			//================================================================================
 			// PLAUSI CHECK
 			//================================================================================
-			/**/ tracer.println(ui.Out.border('-'), Level.INFO, m);	
+			/**/ tracer.println(() -> ui.Out.border('-'), Level.INFO, m);	
 			/**/ tracer.println("PMMM TYPE: PLAUSI CHECK", Level.INFO, m);	
 			errMsg = "plausibility check";
 			//--------------------------------------------------------------------------------
 			// check plausibility of the pmmm type
+			phase = Phase.start("plausi check");
 			plausiCheck();
+			evaluatePhases.add(phase.stop());
 			//================================================================================
 			// SUCCESS
 			//================================================================================
-			/**/ tracer.println(ui.Out.border('-'), Level.INFO, m);	
+			/**/ tracer.println(() -> ui.Out.border('-'), Level.INFO, m);	
 			/**/ tracer.println("PMMM TYPE: SUCCESSFULLY EVALUATED", Level.INFO, m);	
-			/**/ tracer.println(this.toString(), Level.NO, m);	
+			/**/ tracer.println(() -> this.toString(), Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {		
 			// throw new SyntaxException(errMsg, m, e); // too much info 
@@ -320,7 +373,7 @@ public class PmmmType implements IEvaluation {
 	// check & sort all guard/action links
 	private void adaptLinkOrder() throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_adaptLinkOrder; // debug
 		//--------------------------------------------------------------------------------
 		for(int i = 0; i < peerTypes.size(); i++) {
 			try {
@@ -346,7 +399,7 @@ public class PmmmType implements IEvaluation {
 	// tokenize all expressions
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "pmmm type = " + this.pmmmTypeName;
 		String errMsg2 = "";
@@ -401,7 +454,7 @@ public class PmmmType implements IEvaluation {
 	// evaluate data type of all tokens in the meta model
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evalDataTypes; // debug
 		String errMsg1 = "pmmm type = " + this.pmmmTypeName;
 		String errMsg2 = "";
 		//--------------------------------------------------------------------------------
@@ -428,34 +481,46 @@ public class PmmmType implements IEvaluation {
 			errMsg2 = " / entry types";
 			// - eval data types
 			entryTypes.evalDataTypes(context.switch2EntryTypes());
-			/**/ tracer.println("entryTypes: \n" + entryTypes, Level.NO, m);	
-			//--------------------------------------------------------------------------------
-			// WIRING TYPES:
-			//--------------------------------------------------------------------------------
-			for(int i = 0; i < wiringTypes.size(); i++) {
-				// get next wiring type
-				WiringType wiringType = wiringTypes.get(i);
-				errMsg2 = " / wiring type = " + wiringType.wiringTypeName;
-				// eval data types
-				wiringType.evalDataTypes(context.switch2WiringType(wiringType.getWiringTypeName()));
-			}
-			//--------------------------------------------------------------------------------
-			// PEER TYPES:
-			//--------------------------------------------------------------------------------
-			for(int i = 0; i < peerTypes.size(); i++) {
-				// get next peer type
-				PeerType peerType = peerTypes.get(i);
-				errMsg2 = " / peer type = " + peerType.peerTypeName;
-				// eval data types
-				peerType.evalDataTypes(context.switch2PeerType(peerType.getPeerTypeName()));
-			}	
-			/**/ tracer.println("TYPED PEER TYPES: \n" + peerTypes, Level.NO, m);
+			/**/ tracer.println(() -> "entryTypes: \n" + entryTypes, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
 			throw new SyntaxException(errMsg1 + errMsg2, m, e);
 		} catch (SNHException e) {
 			throw new SNHException(505050, errMsg1 + errMsg2, m, e);
 		}
+		//--------------------------------------------------------------------------------
+		// FREEZE the above, before they are shared by the forked contexts:
+		// - all scopes read the pmmm props types and defs and the entry types, so they must not be changed any more (see Token.frozenFlag)
+		pmmmTypePmmmPropsTypes.freeze();
+		pmmmTypePmmmPropsDefsTokenExpression.freeze();
+		entryTypes.freeze();
+		//--------------------------------------------------------------------------------
+		// WIRING TYPES and PEER TYPES:
+		// - each one in its own forked context (see runScopes)
+		runScopes(scope -> {
+			String scopeErrMsg2 = "";
+			try {
+				if(scope < wiringTypes.size()) {
+					// get wiring type
+					WiringType wiringType = wiringTypes.get(scope);
+					scopeErrMsg2 = " / wiring type = " + wiringType.wiringTypeName;
+					// eval data types
+					wiringType.evalDataTypes(context.fork().switch2WiringType(wiringType.getWiringTypeName()));
+				}
+				else {
+					// get peer type
+					PeerType peerType = peerTypes.get(scope - wiringTypes.size());
+					scopeErrMsg2 = " / peer type = " + peerType.peerTypeName;
+					// eval data types
+					peerType.evalDataTypes(context.fork().switch2PeerType(peerType.getPeerTypeName()));
+				}
+			} catch (SyntaxException e) {
+				throw new SyntaxException(errMsg1 + scopeErrMsg2, m, e);
+			} catch (SNHException e) {
+				throw new SNHException(505050, errMsg1 + scopeErrMsg2, m, e);
+			}
+		});
+		/**/ tracer.println(() -> "TYPED PEER TYPES: \n" + peerTypes, Level.NO, m);
 	}
 
 	//================================================================================
@@ -470,7 +535,7 @@ public class PmmmType implements IEvaluation {
 	//================================================================================
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_plausiCheck; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "pmmm type " + this.pmmmTypeName;
 		String errMsg2 = "";
@@ -512,25 +577,156 @@ public class PmmmType implements IEvaluation {
 			errMsg2 = "/entry types";
 			entryTypes.plausiCheck();
 			//--------------------------------------------------------------------------------
-			// WIRING TYPES:
-			//--------------------------------------------------------------------------------
-			errMsg2 = "/wiring types";
-			for(int i = 0; i < wiringTypes.size(); i++) {
-				wiringTypes.get(i).plausiCheck();
-			}
-			//--------------------------------------------------------------------------------
-			// PEER TYPES:
-			//--------------------------------------------------------------------------------
-			errMsg2 = "/peer types";
-			for(int i = 0; i < peerTypes.size(); i++) {
-				peerTypes.get(i).plausiCheck();
-			}	
-			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
 			throw new SyntaxException(errMsg1 + errMsg2, m, e);
 		} catch (SNHException e) {
 			throw new SNHException(661010, errMsg1 + errMsg2, m, e);
 		}
+		//--------------------------------------------------------------------------------
+		// WIRING TYPES and PEER TYPES:
+		runScopes(scope -> {
+			String scopeErrMsg2 = (scope < wiringTypes.size()) ? "/wiring types" : "/peer types";
+			try {
+				if(scope < wiringTypes.size())
+					wiringTypes.get(scope).plausiCheck();
+				else
+					peerTypes.get(scope - wiringTypes.size()).plausiCheck();
+			} catch (SyntaxException e) {
+				throw new SyntaxException(errMsg1 + scopeErrMsg2, m, e);
+			} catch (SNHException e) {
+				throw new SNHException(661010, errMsg1 + scopeErrMsg2, m, e);
+			}
+		});
+	}
+
+	//================================================================================
+	// SCOPES: WIRING TYPES AND PEER TYPES
+	// - scope = index into the wiring types followed by the peer types (ie model order)
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// work to be done for one scope
+	private interface ScopeWork {
+		void run(int scope) throws SyntaxException, SNHException;
+	}
+	//--------------------------------------------------------------------------------
+	// do the work for all scopes;
+	// - nb: scopes are independent of each other except that a wiring type is evaluated again by each peer type 
+	// -- that has a non-inline wiring of it (see Wiring.evalDataTypes), so they are grouped (see groupScopes);
+	// -- groups are done in parallel on a fork join pool (see scopeParallelism), the scopes of a group sequentially in model order;
+	// - nb: the error of the first failing scope in model order is reported, as in sequential mode 
+	// -- because each group stops at its first error and groups share no data
+	private void runScopes(ScopeWork work) throws SyntaxException, SNHException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_runScopes; // debug
+		//--------------------------------------------------------------------------------
+		int nScopes = wiringTypes.size() + peerTypes.size();
+		Vector<Vector<Integer>> groups = (scopeParallelism <= 1) ? null : groupScopes();
+		//--------------------------------------------------------------------------------
+		// sequential
+		if(groups == null || groups.size() <= 1) {
+			for(int scope = 0; scope < nScopes; scope++) {
+				work.run(scope);
+			}
+			return;
+		}
+		//--------------------------------------------------------------------------------
+		// parallel
+		/**/ tracer.println(() -> nScopes + " scopes in " + groups.size() + " groups", Level.LO, m);
+		Exception[] errors = new Exception[nScopes];
+		ForkJoinPool pool = new ForkJoinPool(Math.min(scopeParallelism, groups.size()));
+		Vector<ForkJoinTask<Void>> tasks = new Vector<ForkJoinTask<Void>>();
+		try {
+			//--------------------------------------------------------------------------------
+			// fork all
+			for(int i = 0; i < groups.size(); i++) {
+				Vector<Integer> group = groups.get(i);
+				tasks.add(pool.submit(() -> {
+					for(int j = 0; j < group.size(); j++) {
+						int scope = group.get(j);
+						try {
+							work.run(scope);
+						} catch (SyntaxException | SNHException | RuntimeException e) {
+							errors[scope] = e;
+							break;
+						}
+					}
+					return null;
+				}));
+			}
+			//--------------------------------------------------------------------------------
+			// join all
+			for(int i = 0; i < tasks.size(); i++) {
+				try {
+					tasks.get(i).get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if(cause instanceof Error)
+						throw (Error) cause;
+					throw new SNHException(505051, "scope group " + i + " failed: " + cause, m);
+				} catch (InterruptedException e) {
+					throw new SNHException(505052, "scope group " + i + " interrupted", m);
+				}
+			}
+		} finally {
+			//--------------------------------------------------------------------------------
+			// cancel the remaining ones on error
+			for(int i = 0; i < tasks.size(); i++) 
+				tasks.get(i).cancel(true);
+			pool.shutdownNow();
+		}
+		//--------------------------------------------------------------------------------
+		// report first error in model order
+		for(int scope = 0; scope < nScopes; scope++) {
+			Exception e = errors[scope];
+			if(e instanceof SyntaxException)
+				throw (SyntaxException) e;
+			if(e instanceof SNHException)
+				throw (SNHException) e;
+			if(e instanceof RuntimeException)
+				throw (RuntimeException) e;
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// group the scopes so that different groups share no data (union find):
+	// - a wiring type and all peer types with a non-inline wiring of it are in the same group; 
+	// - each group lists its scopes in model order; the groups are ordered by their first scope
+	private Vector<Vector<Integer>> groupScopes() {
+		//--------------------------------------------------------------------------------
+		int nWiringTypes = wiringTypes.size();
+		int[] parent = new int[nWiringTypes + peerTypes.size()];
+		for(int scope = 0; scope < parent.length; scope++)
+			parent[scope] = scope;
+		//--------------------------------------------------------------------------------
+		// wiring type -> its scope
+		// - nb: by identity, because the wiring type object is shared (see PeerType.addWiringTypeToNonInlineWirings)
+		IdentityHashMap<WiringType, Integer> wiringTypeScopes = new IdentityHashMap<WiringType, Integer>();
+		for(int i = 0; i < nWiringTypes; i++)
+			wiringTypeScopes.put(wiringTypes.get(i), i);
+		//--------------------------------------------------------------------------------
+		// join each peer type with the wiring types of its non-inline wirings
+		for(int i = 0; i < peerTypes.size(); i++) {
+			Vector<Wiring> wirings = peerTypes.get(i).wirings;
+			for(int j = 0; j < wirings.size(); j++) {
+				Integer wiringTypeScope = wiringTypeScopes.get(wirings.get(j).wiringType);
+				if(wiringTypeScope != null) 
+					parent[findScopeRoot(parent, nWiringTypes + i)] = findScopeRoot(parent, wiringTypeScope);
+			}
+		}
+		//--------------------------------------------------------------------------------
+		// collect the groups
+		LinkedHashMap<Integer, Vector<Integer>> groups = new LinkedHashMap<Integer, Vector<Integer>>();
+		for(int scope = 0; scope < parent.length; scope++)
+			groups.computeIfAbsent(findScopeRoot(parent, scope), k -> new Vector<Integer>()).add(scope);
+		return new Vector<Vector<Integer>>(groups.values());
+	}
+	//--------------------------------------------------------------------------------
+	// help fu for union find: root of the scope's group (with path halving)
+	private static int findScopeRoot(int[] parent, int scope) {
+		while(parent[scope] != scope) {
+			parent[scope] = parent[parent[scope]];
+			scope = parent[scope];
+		}
+		return scope;
 	}
 
 	//================================================================================
@@ -32,7 +32,7 @@ import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -45,6 +45,11 @@ public class PropsTypes extends TokenExpression implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	// for debug
 	private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_deepCloneFromPropsTypes = TracePoint.of(PropsTypes.class, "deepCloneFromPropsTypes"); // debug
+	/**/ private static final TracePoint M_add = TracePoint.of(PropsTypes.class, "add"); // debug
+	/**/ private static final TracePoint M_getType = TracePoint.of(PropsTypes.class, "getType"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(PropsTypes.class, "evalDataTypes"); // debug
 	//--------------------------------------------------------------------------------
 	// PROPS TYPES MAP:
 	// "overlay": label props types in form of a hash map 
@@ -69,7 +74,7 @@ public class PropsTypes extends TokenExpression implements IEvaluation {
 	public void deepCloneFromPropsTypes(PropsTypes propsTypesToBeCloned) {
 		//--------------------------------------------------------------------------------
 		// debug:
-		/**/ Object m = new Object(){};  
+		/**/ TracePoint m = M_deepCloneFromPropsTypes;  
 		//--------------------------------------------------------------------------------
 		// first clone hash map
 		// - clear
@@ -80,7 +85,7 @@ public class PropsTypes extends TokenExpression implements IEvaluation {
 			this.propsTypesMap.put(entry.getKey(), copiedToken);
 		}		
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("copied hash map:" +
+		/**/ tracer.println(() -> "copied hash map:" +
 				" \n- my props defs = " + this.toPairs() + ";\n-- as tvv = " + this.tokenVV + 
 				";\n- propsTypessToBeCloned = " + propsTypesToBeCloned.toPairs() + ";\n-- as tvv = " + propsTypesToBeCloned.tokenVV, Level.NO, m);
 		//--------------------------------------------------------------------------------
@@ -95,7 +100,7 @@ public class PropsTypes extends TokenExpression implements IEvaluation {
 	// add prop type if not yet
 	public void add(String propLabel, Token token) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_add; // debug
 		//--------------------------------------------------------------------------------
 		// if not yet there
 		if(propsTypesMap.get(propLabel) == null) {
@@ -122,7 +127,7 @@ public class PropsTypes extends TokenExpression implements IEvaluation {
 	// - throws exception if name does not exist
 	public IData.Type getType(String propLabel) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ Object m = new Object(){}; // debug
+		/**/ TracePoint m = M_getType; // debug
 		//--------------------------------------------------------------------------------
 		Token token = propsTypesMap.get(propLabel);
 		if(token == null) {
@@ -133,6 +138,16 @@ public class PropsTypes extends TokenExpression implements IEvaluation {
 		return token.getLeft().getType();
 	}
 	//--------------------------------------------------------------------------------
+	// get type by name
+	// - returns null if name does not exist (no exception is constructed)
+	public IData.Type findType(String propLabel) {
+		Token token = propsTypesMap.get(propLabel);
+		if(token == null)
+			return null;
+		// TBD: assert that "=" op
+		return token.getLeft().getType();
+	}
+	//--------------------------------------------------------------------------------
 	// test if a labelName
 	public boolean nameExists(String labelName) {
 		if(propsTypesMap.get(labelName) == null)
@@ -154,7 +169,7 @@ public class PropsTypes extends TokenExpression implements IEvaluation {
 	// evaluate all token types
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evalDataTypes; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg = "eval data types of props types: ";
 		try {
@@ -24,7 +24,7 @@ package pmmm;
 
 import eval.IData;
 import qa.exceptions.NotFoundException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 // import debug.Tracer;
 
@@ -46,6 +46,9 @@ public class QualifierContext {
 	//================================================================================
 	// for debug:
 	// private Tracer tracer = new Tracer();
+	// trace points
+	/**/ private static final TracePoint M_pmmmQualifierGetType = TracePoint.of(QualifierContext.class, "pmmmQualifierGetType"); // debug
+	/**/ private static final TracePoint M_peerQualifierGetType = TracePoint.of(QualifierContext.class, "peerQualifierGetType"); // debug
 	//--------------------------------------------------------------------------------
 	// sys keyword types:
 	KeywordTypes keywordTypes;
@@ -72,6 +75,15 @@ public class QualifierContext {
 	public QualifierContext(KeywordTypes keywordTypes) {
 		this.keywordTypes = keywordTypes;
 	}
+	//--------------------------------------------------------------------------------
+	// copy the <PMMM> part of the given qualifier context, for a forked context (see Context.fork)
+	// - nb: the pmmm props types are shared, they are frozen before forking (see PmmmType.evalDataTypes);
+	// - nb: the <PEER> and <WIRING> parts are empty, as each scope sets its own ones 
+	public QualifierContext(QualifierContext from) {
+		this.keywordTypes = from.keywordTypes;
+		this.curPmmmPropsTypes = from.curPmmmPropsTypes;
+		this.curPmmmTypeName = from.curPmmmTypeName;
+	}
 	
 	//================================================================================
 	// SET
@@ -125,48 +137,38 @@ public class QualifierContext {
 	//--------------------------------------------------------------------------------
 	public IData.Type pmmmQualifierGetType(String propName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_pmmmQualifierGetType; // debug
 		//--------------------------------------------------------------------------------
-		IData.Type type;
-		try {
-			// search in user pmmm props types
-			type = curPmmmPropsTypes.getType(propName);
-		} catch (NotFoundException e) {
-			try {
-				// otherwise search in sys pmmm props types
-				type = keywordTypes.getSysPmmmPropType(propName);
-			} catch (NotFoundException e1) {
+		// search in user pmmm props types
+		IData.Type type = curPmmmPropsTypes.findType(propName);
+		if(type == null) {
+			// otherwise search in sys pmmm props types
+			type = keywordTypes.tryGetSysPmmmPropType(propName);
+			if(type == null)
 				throw new NotFoundException("pmmm qualifier: missing type of '" + propName + "'", m);
-			}
 		}
 		return type;
 	}
 	//--------------------------------------------------------------------------------
 	public IData.Type peerQualifierGetType(String propName) throws NotFoundException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_peerQualifierGetType; // debug
 		//--------------------------------------------------------------------------------
-		IData.Type type;
-		try {
-			// search in user pprops types
-			type = this.curPPropsTypes.getType(propName);
-		} catch (NotFoundException e) {
-			try {
-				// otherwise search in sys pprops types
-				type = keywordTypes.getSysPPropType(propName);
-			} catch (NotFoundException e1) {
-				throw new NotFoundException("right side '" + propName + "' of peer qualifier: " + e.getPmErrorMsg(), m, e1);
-			}
+		// search in user pprops types
+		IData.Type type = this.curPPropsTypes.findType(propName);
+		if(type == null) {
+			// otherwise search in sys pprops types
+			type = keywordTypes.tryGetSysPPropType(propName);
+			if(type == null)
+				throw new NotFoundException("right side '" + propName + "' of peer qualifier: type of '" + propName + "' not defined", m);
 		}
 		return type;
 	}
 	//--------------------------------------------------------------------------------
 	public IData.Type wiringQualifierGetType(String propName) throws NotFoundException {
-		IData.Type type;
-		try {
-			// search in user wprops types
-			type = this.curWPropsTypes.getType(propName);
-		} catch (NotFoundException e) {
+		// search in user wprops types
+		IData.Type type = this.curWPropsTypes.findType(propName);
+		if(type == null) {
 			// otherwise search in sys wprops types
 			type = keywordTypes.getSysWPropType(propName);
 		}
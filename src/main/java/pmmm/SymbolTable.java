@@ -0,0 +1,189 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package pmmm;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.Vector;
+
+import qa.exceptions.SyntaxException;
+import qa.tracer.TracePoint;
+
+//================================================================================
+// model wide symbol table: name -> definition of all entry types, wiring types, peer types (and their wirings) and configs;
+// - built once when the pmmm type is constructed; duplicate definitions are detected then
+// - the maps keep the insertion order, ie the order of the definitions in the model
+// - find* return null if the name is not defined (no exception is constructed)
+// - nb: the definitions themselves are not copied, ie the symbol table refers to the objects of the pmmm type
+public class SymbolTable {
+	//--------------------------------------------------------------------------------
+	// trace points
+	/**/ private static final TracePoint M_setWiringTypes = TracePoint.of(SymbolTable.class, "setWiringTypes"); // debug
+	/**/ private static final TracePoint M_setPeerTypes = TracePoint.of(SymbolTable.class, "setPeerTypes"); // debug
+	/**/ private static final TracePoint M_setConfigs = TracePoint.of(SymbolTable.class, "setConfigs"); // debug
+	//--------------------------------------------------------------------------------
+	// ENTRY TYPES:
+	// - nb: entry types maintain their own name index as they are added one by one (also sys entry types)
+	private EntryTypes entryTypes = new EntryTypes();
+	//--------------------------------------------------------------------------------
+	// WIRING TYPES:
+	private LinkedHashMap<String, WiringType> wiringTypes = new LinkedHashMap<String, WiringType>();
+	//--------------------------------------------------------------------------------
+	// PEER TYPES:
+	private LinkedHashMap<String, PeerType> peerTypes = new LinkedHashMap<String, PeerType>();
+	//--------------------------------------------------------------------------------
+	// WIRINGS: peer type name -> wiring type name -> wiring
+	// - nb: several wirings of a peer type may have the same (non-inline) wiring type; the first one is indexed
+	private HashMap<String, LinkedHashMap<String, Wiring>> wirings = new HashMap<String, LinkedHashMap<String, Wiring>>();
+	//--------------------------------------------------------------------------------
+	// CONFIGS:
+	private LinkedHashMap<String, Config> configs = new LinkedHashMap<String, Config>();
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public SymbolTable() {
+	}
+
+	//================================================================================
+	// SET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// ENTRY TYPES:
+	public void setEntryTypes(EntryTypes entryTypes) {
+		this.entryTypes = entryTypes;
+	}
+	//--------------------------------------------------------------------------------
+	// WIRING TYPES:
+	public void setWiringTypes(Vector<WiringType> wiringTypes) throws SyntaxException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_setWiringTypes; // debug
+		//--------------------------------------------------------------------------------
+		this.wiringTypes.clear();
+		for(int i = 0; i < wiringTypes.size(); i++) {
+			WiringType wiringType = wiringTypes.get(i);
+			if(this.wiringTypes.put(wiringType.getWiringTypeName(), wiringType) != null)
+				throw new SyntaxException("duplicate wiring type '" + wiringType.getWiringTypeName() + "'", m);
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// PEER TYPES and their WIRINGS:
+	public void setPeerTypes(Vector<PeerType> peerTypes) throws SyntaxException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_setPeerTypes; // debug
+		//--------------------------------------------------------------------------------
+		this.peerTypes.clear();
+		this.wirings.clear();
+		for(int i = 0; i < peerTypes.size(); i++) {
+			PeerType peerType = peerTypes.get(i);
+			String peerTypeName = peerType.getPeerTypeName();
+			if(this.peerTypes.put(peerTypeName, peerType) != null)
+				throw new SyntaxException("duplicate peer type '" + peerTypeName + "'", m);
+			//--------------------------------------------------------------------------------
+			// wirings of the peer type
+			LinkedHashMap<String, Wiring> peerTypeWirings = new LinkedHashMap<String, Wiring>();
+			HashSet<String> wiringNames = new HashSet<String>();
+			for(int j = 0; j < peerType.wirings.size(); j++) {
+				Wiring wiring = peerType.wirings.get(j);
+				// - nb: unnamed wirings are not checked here
+				String wiringName = wiring.getRawWiringNames();
+				if(! util.Util.isEmptyString(wiringName) && ! wiringNames.add(wiringName))
+					throw new SyntaxException("duplicate wiring '" + wiringName + "' in peer type '" + peerTypeName + "'", m);
+				peerTypeWirings.putIfAbsent(wiring.wiringType.getWiringTypeName(), wiring);
+			}
+			this.wirings.put(peerTypeName, peerTypeWirings);
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// CONFIGS:
+	public void setConfigs(Vector<Config> configs) throws SyntaxException {
+		//--------------------------------------------------------------------------------
+		/**/ TracePoint m = M_setConfigs; // debug
+		//--------------------------------------------------------------------------------
+		this.configs.clear();
+		for(int i = 0; i < configs.size(); i++) {
+			Config config = configs.get(i);
+			if(this.configs.put(config.getConfigName(), config) != null)
+				throw new SyntaxException("duplicate config '" + config.getConfigName() + "'", m);
+		}
+	}
+
+	//================================================================================
+	// FIND
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public EntryType findEntryType(String entryTypeName) {
+		return entryTypes.findEntryType(entryTypeName);
+	}
+	//--------------------------------------------------------------------------------
+	public WiringType findWiringType(String wiringTypeName) {
+		return wiringTypes.get(wiringTypeName);
+	}
+	//--------------------------------------------------------------------------------
+	public PeerType findPeerType(String peerTypeName) {
+		return peerTypes.get(peerTypeName);
+	}
+	//--------------------------------------------------------------------------------
+	// (first) wiring of the peer type that has the wiring type
+	public Wiring findWiring(String peerTypeName, String wiringTypeName) {
+		LinkedHashMap<String, Wiring> peerTypeWirings = wirings.get(peerTypeName);
+		if(peerTypeWirings == null)
+			return null;
+		return peerTypeWirings.get(wiringTypeName);
+	}
+	//--------------------------------------------------------------------------------
+	public Config findConfig(String configName) {
+		return configs.get(configName);
+	}
+
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public EntryTypes getEntryTypes() {
+		return entryTypes;
+	}
+	//--------------------------------------------------------------------------------
+	// all peer type names in the order of their definition
+	public Set<String> getPeerTypeNames() {
+		return peerTypes.keySet();
+	}
+
+	//================================================================================
+	// QUERY
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public boolean peerTypeNameExists(String peerTypeName) {
+		return peerTypes.containsKey(peerTypeName);
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -24,18 +24,23 @@
 
 package pmmm;
 
+import java.util.HashMap;
 import java.util.Vector;
 
 import eval.tokens.TokenExpression;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 
 //================================================================================
 // wiring specification
 public class Wiring implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	// /**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(Wiring.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(Wiring.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(Wiring.class, "plausiCheck"); // debug
 	//--------------------------------------------------------------------------------
 	// pointer to my WIRING TYPE (shared): 
 	protected WiringType wiringType = new WiringType();
@@ -147,7 +152,7 @@ public class Wiring implements IEvaluation {
 	// tokenize all values
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "wiring " + this.getRawWiringNames();
 		String errMsg2 = "";
@@ -181,7 +186,7 @@ public class Wiring implements IEvaluation {
 	// - and merge wiring wprops defs with those of its wiring type (defaults); 
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {	
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_evalDataTypes; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "wiring = " + this.getRawWiringNames();
 		String errMsg2 = "";
@@ -222,7 +227,7 @@ public class Wiring implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_plausiCheck; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "wiring " + this.getRawWiringNames();
 		String errMsg2 = "";
@@ -254,35 +259,38 @@ public class Wiring implements IEvaluation {
 	//================================================================================
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	// add guard to wiring given by its name, in the wirings vector;
-	// add only if the wiring fits; otherwise do nothing...
-	// nb: the ordering and denseness of guard numbers is checked later in an extra pass;
-	// CAUTION: wiring name could be a complex expression
-	// TBD: maybe there is a better way to find the wiring?!
-	public static Vector<Wiring> addGuardToWirings(Vector<Wiring> wirings, String wiringName, Guard guard) {
+	// index the wirings by their raw names; for adding guards and actions by wiring name
+	// nb: at parse time a name may still be used by several wirings (duplicates are reported by the symbol table)
+	// CAUTION: wiring name could be a complex expression; it is indexed as it is
+	public static HashMap<String, Vector<Wiring>> indexWiringsByName(Vector<Wiring> wirings) {
+		HashMap<String, Vector<Wiring>> wiringsByName = new HashMap<String, Vector<Wiring>>();
 		for(int i = 0; i < wirings.size(); i++) {
 			Wiring wiring = wirings.get(i);
-			if(wiring.getRawWiringNames().equals(wiringName)) {
-				wiring.wiringType.addGuard(guard);
-			}
+			wiringsByName.computeIfAbsent(wiring.getRawWiringNames(), k -> new Vector<Wiring>()).add(wiring);
 		}
-		return wirings;
+		return wiringsByName;
 	}
 
 	//--------------------------------------------------------------------------------
-	// add action to wiring given by its name, in the wirings vector;
+	// add guard to wiring given by its name, in the wirings index (see indexWiringsByName);
 	// add only if the wiring fits; otherwise do nothing...
 	// nb: the ordering and denseness of guard numbers is checked later in an extra pass;
-	// CAUTION: wiring name could be a complex expression
-	// TBD: maybe there is a better way to find the wiring?!
-	public static Vector<Wiring> addActionToWirings(Vector<Wiring> wirings, String wiringName, Action action) {
-		for(int i = 0; i < wirings.size(); i++) {
-			Wiring wiring = wirings.get(i);
-			if(wiring.getRawWiringNames().equals(wiringName)) {
-				wiring.wiringType.addAction(action);
-			}
+	public static void addGuardToWirings(HashMap<String, Vector<Wiring>> wiringsByName, String wiringName, Guard guard) {
+		Vector<Wiring> wirings = wiringsByName.get(wiringName);
+		for(int i = 0; wirings != null && i < wirings.size(); i++) {
+			wirings.get(i).wiringType.addGuard(guard);
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// add action to wiring given by its name, in the wirings index (see indexWiringsByName);
+	// add only if the wiring fits; otherwise do nothing...
+	// nb: the ordering and denseness of action numbers is checked later in an extra pass;
+	public static void addActionToWirings(HashMap<String, Vector<Wiring>> wiringsByName, String wiringName, Action action) {
+		Vector<Wiring> wirings = wiringsByName.get(wiringName);
+		for(int i = 0; wirings != null && i < wirings.size(); i++) {
+			wirings.get(i).wiringType.addAction(action);
 		}
-		return wirings;
 	}
 
 	//================================================================================
@@ -28,7 +28,7 @@ import eval.tokens.TokenExpression;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -36,6 +36,8 @@ import qa.tracer.Tracer;
 public class WiringConfig implements IMta {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_mta = TracePoint.of(WiringConfig.class, "mta"); // debug
 	//--------------------------------------------------------------------------------
 	// pointer to WIRING (shared):
 	Wiring wiring;
@@ -73,7 +75,7 @@ public class WiringConfig implements IMta {
 	//--------------------------------------------------------------------------------
 	public void mta(PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_mta; // debug
 		String what = "";
 		//--------------------------------------------------------------------------------
 		try {
@@ -82,15 +84,15 @@ public class WiringConfig implements IMta {
 			// WIRING NAMES:
 			//................................................................................
 			// - clone & mta
-			/**/ tracer.println("wiring names expression = " + wiring.wiringNamesTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> "wiring names expression = " + wiring.wiringNamesTokenExpression.toUserInfo(true, true), Level.NO, m);
 			processedWiringNamesTokenExpression.deepCloneAndMta(wiring.wiringNamesTokenExpression, curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
 			what += " '" + processedWiringNamesTokenExpression.toUserInfo(true, true) + "'";
 			//................................................................................
 			// - convert tvv to processed wiring names
-			/**/ tracer.println("wiring names expression = " + processedWiringNamesTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> "wiring names expression = " + processedWiringNamesTokenExpression.toUserInfo(true, true), Level.NO, m);
 			processedWiringNames = processedWiringNamesTokenExpression.tvv2Names();
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("wiring names = " + processedWiringNames, Level.NO, m);
+			/**/ tracer.println(() -> "wiring names = " + processedWiringNames, Level.NO, m);
 			//--------------------------------------------------------------------------------
 		} catch (SyntaxException e) {
 			throw new SyntaxException(what, m, e);
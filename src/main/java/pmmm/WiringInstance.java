@@ -29,17 +29,21 @@ import java.util.Vector;
 import eval.tokens.IToken;
 import eval.tokens.Token;
 import eval.tokens.TokenExpression;
+import qa.exceptions.DiagnosticContext;
 import qa.exceptions.NotFoundException;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
 public class WiringInstance implements IMta {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_getProcessedWPropDefsValueToken = TracePoint.of(WiringInstance.class, "getProcessedWPropDefsValueToken"); // debug
+	/**/ private static final TracePoint M_mta = TracePoint.of(WiringInstance.class, "mta"); // debug
 	//--------------------------------------------------------------------------------
 	// pointer to WIRING CONFIG (only shared between respective wiring instances of this config):
 	WiringConfig wiringConfig; 
@@ -118,15 +122,15 @@ public class WiringInstance implements IMta {
 	// nb: mta has already been applied!
 	public Token getProcessedWPropDefsValueToken(Token propNameToken) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.nlprintln("searching for " + propNameToken + " in " + this.processedWPropsDefsTokenExpression, Level.NO, m);
+		/**/ TracePoint m = M_getProcessedWPropDefsValueToken; // debug
+		/**/ tracer.nlprintln(() -> "searching for " + propNameToken + " in " + this.processedWPropsDefsTokenExpression, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		try {
 			// search for propNameToken
 			Token token = processedWPropsDefsTokenExpression.getPropValueToken(propNameToken);
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("processed props defs: " + processedWPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
-			/**/ tracer.println("found: '" + propNameToken + "'; prop def: " + token.toUserInfo(), Level.NO, m);
+			/**/ tracer.println(() -> "processed props defs: " + processedWPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> "found: '" + propNameToken + "'; prop def: " + token.toUserInfo(), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			return token;
 		} catch(NotFoundException e) {
@@ -172,8 +176,7 @@ public class WiringInstance implements IMta {
 	//--------------------------------------------------------------------------------
 	public void mta(PmmmInstance curPmmmInstance, PeerInstance curPeerInstance, WiringInstance curWiringInstance, EntryType curEntryType) throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		String errMsg = "wiring instance = '" + wiringInstanceName + "'";
+		/**/ TracePoint m = M_mta; // debug
 		//--------------------------------------------------------------------------------
 		// assertions:
 		if(curPmmmInstance == null)
@@ -187,6 +190,8 @@ public class WiringInstance implements IMta {
 		if(curEntryType != null)
 			throw new SNHException(220002, "curEntryType is not null", m);
 		//--------------------------------------------------------------------------------
+		// nb: the info is only rendered if an error reaches the user
+		DiagnosticContext.push(() -> "wiring instance = '" + wiringInstanceName + "'", m);
 		try {
 			//--------------------------------------------------------------------------------
 			// PROCESSED WIRING WPROPS DEFS
@@ -195,7 +200,7 @@ public class WiringInstance implements IMta {
 					wiringConfig.wiring.wiringWPropsDefsTokenExpression /* orig */, 
 					wiringConfig.wiring.wiringType.wiringTypeWPropsDefsTokenExpression /* defaults */, 
 					curPmmmInstance, curPeerInstance, curWiringInstance, curEntryType);
-			/**/ tracer.println("processed wiring wprops defs = " + this.processedWPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
+			/**/ tracer.println(() -> "processed wiring wprops defs = " + this.processedWPropsDefsTokenExpression.toUserInfo(true, true), Level.NO, m);
 			//--------------------------------------------------------------------------------
 			// GUARD INSTANCES:
 			for(int i = 0; i < guardInstances.size(); i++) {
@@ -207,10 +212,8 @@ public class WiringInstance implements IMta {
 				actionInstances.get(i).mta(curPmmmInstance, curPeerInstance, this /* curWiringInstance */, curEntryType);
 			}
 			//--------------------------------------------------------------------------------
-		} catch (SyntaxException e) {
-			throw new SyntaxException(errMsg, m, e);
-		} catch (SNHException e) {
-			throw new SNHException(789012, errMsg, m, e);
+		} finally {
+			DiagnosticContext.pop();
 		}
 	}
 
@@ -24,13 +24,14 @@
 
 package pmmm;
 
+import java.util.HashMap;
 import java.util.Vector;
 
 import eval.tokens.*;
 import qa.exceptions.SNHException;
 import qa.exceptions.SyntaxException;
 import qa.tracer.Level;
-import qa.tracer.O;
+import qa.tracer.TracePoint;
 import qa.tracer.Tracer;
 
 //================================================================================
@@ -38,6 +39,14 @@ import qa.tracer.Tracer;
 public class WiringType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	/**/ private Tracer tracer = new Tracer();  // debug
+	// trace points
+	/**/ private static final TracePoint M_setRawWPropsTypes = TracePoint.of(WiringType.class, "setRawWPropsTypes"); // debug
+	/**/ private static final TracePoint M_setServiceName = TracePoint.of(WiringType.class, "setServiceName"); // debug
+	/**/ private static final TracePoint M_adaptLinkOrder = TracePoint.of(WiringType.class, "adaptLinkOrder"); // debug
+	/**/ private static final TracePoint M_tokenize = TracePoint.of(WiringType.class, "tokenize"); // debug
+	/**/ private static final TracePoint M_evalDataTypes = TracePoint.of(WiringType.class, "evalDataTypes"); // debug
+	/**/ private static final TracePoint M_plausiCheck = TracePoint.of(WiringType.class, "plausiCheck"); // debug
+	/**/ private static final TracePoint M_verifyWiringTypeName = TracePoint.of(WiringType.class, "verifyWiringTypeName"); // debug
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// WIRING TYPE NAME:
@@ -92,15 +101,15 @@ public class WiringType implements IEvaluation {
 	public void setRawWPropsTypes(String raw) {
 		//--------------------------------------------------------------------------------
 		// debug:
-		/**/ Object m = new Object(){};  
-		/**/ tracer.println("wpropsTypes = " + raw, Level.NO, m);
+		/**/ TracePoint m = M_setRawWPropsTypes;  
+		/**/ tracer.println(() -> "wpropsTypes = " + raw, Level.NO, m);
 		//--------------------------------------------------------------------------------
 		this.wiringTypeWPropsTypes.setRaw(raw);
 	}	
 	//--------------------------------------------------------------------------------
 	public void setServiceName(String serviceName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_setServiceName; // debug
 		//--------------------------------------------------------------------------------
 		try {
 			//--------------------------------------------------------------------------------
@@ -196,7 +205,7 @@ public class WiringType implements IEvaluation {
 	// TBD: super doofes sort...
 	public void adaptLinkOrder(String peerTypeName /* for debug only */) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_adaptLinkOrder; // debug
 		//--------------------------------------------------------------------------------
 		// sort GUARDS
 		Vector<Guard> sortedGuards = new Vector<Guard>();
@@ -249,7 +258,7 @@ public class WiringType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void tokenize() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_tokenize; // debug
 		//----------------------------------------------------------------------s----------
 		String errMsg1 = "wiring type " + this.wiringTypeName ;
 		String errMsg2 = "";
@@ -282,7 +291,7 @@ public class WiringType implements IEvaluation {
 			throw new SNHException(300099, errMsg1 + errMsg2, m, e);
 		}
 		//--------------------------------------------------------------------------------
-		/**/ tracer.println("tokenized wiring type: \n" + this, Level.NO, m);
+		/**/ tracer.println(() -> "tokenized wiring type: \n" + this, Level.NO, m);
 	}
 
 	//================================================================================
@@ -291,8 +300,8 @@ public class WiringType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void evalDataTypes(Context context) throws SyntaxException, SNHException {	
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
-		/**/ tracer.println("wprops types = " + wiringTypeWPropsTypes.getRaw(), Level.NO, m);
+		/**/ TracePoint m = M_evalDataTypes; // debug
+		/**/ tracer.println(() -> "wprops types = " + wiringTypeWPropsTypes.getRaw(), Level.NO, m);
 		//--------------------------------------------------------------------------------
 		// local var
 		String errMsg = "";
@@ -311,13 +320,13 @@ public class WiringType implements IEvaluation {
 			//================================================================================
 			//--------------------------------------------------------------------------------
 			errMsg = "wiring type wprops defs";
-			/**/ tracer.println("wiring type wprops defs = " + wiringTypeWPropsDefsTokenExpression.getRaw(), Level.NO, m);
+			/**/ tracer.println(() -> "wiring type wprops defs = " + wiringTypeWPropsDefsTokenExpression.getRaw(), Level.NO, m);
 			// - resolve qualifier types
 			wiringTypeWPropsDefsTokenExpression.resolveQualifierTypes(context.setWiringQualifierContext(wiringTypeWPropsTypes, wiringTypeName).getQualifierContext());
 			// - eval types 
 			wiringTypeWPropsDefsTokenExpression.evalDataTypes(context.switch2WiringOrWiringType_WPropsDefs(wiringTypeWPropsTypes));
 			//--------------------------------------------------------------------------------
-			/**/ tracer.println("wiring type wprops defs = " + wiringTypeWPropsDefsTokenExpression + ";  as pairs = " + wiringTypeWPropsDefsTokenExpression, Level.NO, m);
+			/**/ tracer.println(() -> "wiring type wprops defs = " + wiringTypeWPropsDefsTokenExpression + ";  as pairs = " + wiringTypeWPropsDefsTokenExpression, Level.NO, m);
 			//================================================================================
 			// GUARDS:
 			//================================================================================
@@ -336,7 +345,7 @@ public class WiringType implements IEvaluation {
 				errMsg = "actions";
 				actions.get(i).evalDataTypes(context);
 			}
-			/**/ tracer.println("TYPED WIRING TYPE: \n" + this, Level.NO, m);	
+			/**/ tracer.println(() -> "TYPED WIRING TYPE: \n" + this, Level.NO, m);	
 			//--------------------------------------------------------------------------------
 		} catch(SyntaxException e) {
 			// throw new SyntaxException(errMsg, m, e); // too much info
@@ -353,7 +362,7 @@ public class WiringType implements IEvaluation {
 	//--------------------------------------------------------------------------------
 	public void plausiCheck() throws SyntaxException, SNHException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_plausiCheck; // debug
 		//--------------------------------------------------------------------------------
 		String errMsg1 = "wiring type " + this.wiringTypeName;
 		String errMsg2 = "";
@@ -397,7 +406,7 @@ public class WiringType implements IEvaluation {
 	// - info: needed to verify whether the wiring type name in drawio diagram name equals the modeled one in the diagram...
 	public void verifyWiringTypeName(String wiringTypeName) throws SyntaxException {
 		//--------------------------------------------------------------------------------
-		/**/ O m = new O(){}; // debug
+		/**/ TracePoint m = M_verifyWiringTypeName; // debug
 		//--------------------------------------------------------------------------------
 		if(! this.wiringTypeName.equals(wiringTypeName)) {
 			throw new SyntaxException("wiring type name inconsistency: this.wiringTypeName '" + "' vs. '" + wiringTypeName + "'", m);
@@ -408,31 +417,37 @@ public class WiringType implements IEvaluation {
 	// STATIC
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	// add guard to wiring type given by its name, in the wiring types vector;
-	// add only if the wiring type fits; otherwise do nothing...
-	// nb: the ordering and denseness of guard numbers is checked later in an extra pass;
-	public static Vector<WiringType> addGuardToWiringTypes(Vector<WiringType> wiringTypes, String wiringTypeName, Guard guard) {
+	// index the wiring types by their names; for adding guards and actions by wiring type name
+	// nb: at parse time a name may still be used by several wiring types (duplicates are reported by the symbol table)
+	public static HashMap<String, Vector<WiringType>> indexWiringTypesByName(Vector<WiringType> wiringTypes) {
+		HashMap<String, Vector<WiringType>> wiringTypesByName = new HashMap<String, Vector<WiringType>>();
 		for(int i = 0; i < wiringTypes.size(); i++) {
 			WiringType wiringType = wiringTypes.get(i);
-			if(wiringType.getWiringTypeName().equals(wiringTypeName)) {
-				wiringType.addGuard(guard);
-			}
+			wiringTypesByName.computeIfAbsent(wiringType.getWiringTypeName(), k -> new Vector<WiringType>()).add(wiringType);
 		}
-		return wiringTypes;
+		return wiringTypesByName;
 	}
 
 	//--------------------------------------------------------------------------------
-	// add action to wiring type given by its name, in the wiring types vector;
+	// add guard to wiring type given by its name, in the wiring types index (see indexWiringTypesByName);
 	// add only if the wiring type fits; otherwise do nothing...
 	// nb: the ordering and denseness of guard numbers is checked later in an extra pass;
-	public static Vector<WiringType> addActionToWiringTypes(Vector<WiringType> wiringTypes, String wiringTypeName, Action action) {
-		for(int i = 0; i < wiringTypes.size(); i++) {
-			WiringType wiringType = wiringTypes.get(i);
-			if(wiringType.getWiringTypeName().equals(wiringTypeName)) {
-				wiringType.addAction(action);
-			}
+	public static void addGuardToWiringTypes(HashMap<String, Vector<WiringType>> wiringTypesByName, String wiringTypeName, Guard guard) {
+		Vector<WiringType> wiringTypes = wiringTypesByName.get(wiringTypeName);
+		for(int i = 0; wiringTypes != null && i < wiringTypes.size(); i++) {
+			wiringTypes.get(i).addGuard(guard);
+		}
+	}
+
+	//--------------------------------------------------------------------------------
+	// add action to wiring type given by its name, in the wiring types index (see indexWiringTypesByName);
+	// add only if the wiring type fits; otherwise do nothing...
+	// nb: the ordering and denseness of action numbers is checked later in an extra pass;
+	public static void addActionToWiringTypes(HashMap<String, Vector<WiringType>> wiringTypesByName, String wiringTypeName, Action action) {
+		Vector<WiringType> wiringTypes = wiringTypesByName.get(wiringTypeName);
+		for(int i = 0; wiringTypes != null && i < wiringTypes.size(); i++) {
+			wiringTypes.get(i).addAction(action);
 		}
-		return wiringTypes;
 	}
 
 	//================================================================================
@@ -22,15 +22,35 @@
 
 package qa.exceptions;
 
+import java.util.Vector;
+import java.util.concurrent.atomic.AtomicLong;
+
 import qa.tracer.Level;
 
 //================================================================================
+// nb: the error message is rendered lazily, ie only when it is asked for (see getPmErrorMsg); most exceptions are caught
+//     internally and their message is never needed
 public class BasicException extends Exception {
 	//--------------------------------------------------------------------------------
 	private static final long serialVersionUID = 1L;
 	//--------------------------------------------------------------------------------
-	// error Message
-	String msg = "";
+	// parts of my error message
+	private final String newMsg;
+	private final String excSuffix;
+	private final transient Object method;
+	// the exception i wrap; its message is rendered after mine
+	private final BasicException prevException;
+	// diagnostic context frames at my construction (see DiagnosticContext)
+	private final transient DiagnosticContext.Frame frame;
+	//--------------------------------------------------------------------------------
+	// error message; null if not yet rendered
+	private String msg = null;
+	// strings added in front of and at the end of my message (see addString..._intern)
+	private String msgPrefix = "";
+	private String msgSuffix = "";
+	//--------------------------------------------------------------------------------
+	// number of all exceptions constructed so far (in this JVM); for statistics
+	private static final AtomicLong nConstructed = new AtomicLong();
 	//--------------------------------------------------------------------------------
 	
 	//================================================================================
@@ -38,31 +58,50 @@ public class BasicException extends Exception {
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// excSuffix is info to be added at the end of the constructed message
+	// method is a trace point (see qa.tracer.TracePoint) or -- old style -- an anonymous method object
 	protected BasicException(String newMsg, String excSuffix, Object method) {
+		this(newMsg, excSuffix, method, null, true /* stackTraceFlag */);
+	}
+	//--------------------------------------------------------------------------------
+	protected BasicException(String newMsg, String excSuffix, Object method, BasicException prevException) {
+		this(newMsg, excSuffix, method, prevException, true /* stackTraceFlag */);
+	}
+	//--------------------------------------------------------------------------------
+	// stackTraceFlag false: the stack trace is not captured
+	// - for exceptions that are (mainly) used for control flow and caught internally; nb: they are constructed often
+	protected BasicException(String newMsg, String excSuffix, Object method, BasicException prevException, boolean stackTraceFlag) {
+		//--------------------------------------------------------------------------------
+		super(null, null, true /* enableSuppression */, stackTraceFlag /* writableStackTrace */);
 		//--------------------------------------------------------------------------------
 		// verify excSuffix
 		if(null == excSuffix)
 			excSuffix = "";
 		//--------------------------------------------------------------------------------
-		// construct msg and set it 
-		msg = constructMsg(newMsg, excSuffix, method);
+		// just remember the parts of the msg; nb: msg is rendered on demand
+		this.newMsg = newMsg;
+		this.excSuffix = excSuffix;
+		this.method = method;
+		this.prevException = prevException;
+		this.frame = DiagnosticContext.current();
+		//--------------------------------------------------------------------------------
+		nConstructed.incrementAndGet();
 	}
+
+	//================================================================================
+	// STATISTICS
+	//================================================================================
 	//--------------------------------------------------------------------------------
-	protected BasicException(String newMsg, String excSuffix, Object method, BasicException prevException) {
-		//--------------------------------------------------------------------------------
-		// create new exc
-		this(newMsg, excSuffix, method);
-		//--------------------------------------------------------------------------------
-		// append msg of prev exc
-		if(null != prevException)
-			addStringAtEnd_intern(prevException.getPmErrorMsg());
+	// number of all exceptions constructed so far (in this JVM)
+	// - nb: also those used internally, which are caught and do not reach the user
+	public static long getNConstructed() {
+		return nConstructed.get();
 	}
 
 	//================================================================================
 	// HELP FUs
 	//================================================================================
 	//--------------------------------------------------------------------------------
-	private String prepareExcSuffic(String excSuffix) {
+	private static String prepareExcSuffic(String excSuffix) {
 		if(util.Util.isEmptyString(excSuffix))
 			return "";
 		return " [" + excSuffix + "]";
@@ -70,9 +109,38 @@ public class BasicException extends Exception {
 	//--------------------------------------------------------------------------------
 	// help fu: prefixes the message with the package + filename info
 	// - useful for debugging; otherwise just return msg;
-	private String constructMsg(String newMsg, String excSuffix, Object method) {
+	static String constructMsg(String newMsg, String excSuffix, Object method) {
 		return qa.tracer.Tracer.toString(false /* nlFlag */, newMsg, Level.ERROR, method) + prepareExcSuffic(excSuffix) + "\n";
 	}
+	//--------------------------------------------------------------------------------
+	// render the message of the whole exception chain (starting with me) in one go
+	// - per exception: the diagnostic context frames entered between the construction of the wrapping exception and its own
+	//   construction, then its own message; ie the frames take the place of the wrappings they replace
+	// - nb: a wrapped exception may have been constructed in another thread (see PmmmInstance.mtaPeerInstances);
+	//   then all of its frames are rendered
+	private String renderMsg() {
+		StringBuilder buf = new StringBuilder();
+		Vector<String> msgSuffixes = new Vector<String>();
+		DiagnosticContext.Frame outerFrame = null;
+		for(BasicException e = this; e != null; e = e.prevException) {
+			//--------------------------------------------------------------------------------
+			// a wrapped exception that has already been rendered (eg asked for its message before): take it as it is
+			if(e != this && e.msg != null) {
+				buf.append(e.msg);
+				break;
+			}
+			DiagnosticContext.appendFrames(buf, e.frame, outerFrame);
+			buf.append(e.msgPrefix);
+			buf.append(constructMsg(e.newMsg, e.excSuffix, e.method));
+			msgSuffixes.add(e.msgSuffix);
+			outerFrame = e.frame;
+		}
+		//--------------------------------------------------------------------------------
+		// nb: a suffix comes after the messages of all exceptions wrapped by its exception
+		for(int i = msgSuffixes.size() - 1; i >= 0; i--)
+			buf.append(msgSuffixes.get(i));
+		return buf.toString();
+	}
 
 	//================================================================================
 	// ADD STRING TO CUR MESSAGE
@@ -80,24 +148,33 @@ public class BasicException extends Exception {
 	//--------------------------------------------------------------------------------
 	// add a string in front of my msg
 	protected void addStringInFront_intern(String s) {
-		msg = s.concat(msg);
+		if(msg != null)
+			msg = s.concat(msg);
+		else
+			msgPrefix = s.concat(msgPrefix);
 	}
 	//--------------------------------------------------------------------------------
 	// add a string at end of my msg
 	protected void addStringAtEnd_intern(String s) {
-		msg = msg.concat(s);
+		if(msg != null)
+			msg = msg.concat(s);
+		else
+			msgSuffix = msgSuffix.concat(s);
 	}
 
 	//================================================================================
 	// RETURN ERROR MESSAGE
 	//================================================================================
 	//--------------------------------------------------------------------------------
+	// nb: rendered once; the exception must not be changed any more then
 	public String getPmErrorMsg() { 
+		if(msg == null)
+			msg = renderMsg();
 		return msg;
 	}
 	//--------------------------------------------------------------------------------
 	public String getNlPmErrorMsg() { 
-		return "\n" + msg;
+		return "\n" + getPmErrorMsg();
 	}
 	
 	
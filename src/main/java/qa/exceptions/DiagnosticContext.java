@@ -0,0 +1,128 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package qa.exceptions;
+
+import java.util.function.Supplier;
+
+//================================================================================
+// diagnostic context: stack of frames that say what is currently being done, eg "wiring instance = 'W1'"
+// - a frame holds a supplier for its info; it is called only if the message of an exception is rendered (see
+//   BasicException.getPmErrorMsg), ie usually only for the one exception that reaches the user
+// - each exception remembers the frames at its construction; so a frame replaces a catch block that wraps each
+//   exception with the (eagerly constructed) info
+// - one stack per thread; usage:
+//     DiagnosticContext.push(() -> "...", m);
+//     try { ... } finally { DiagnosticContext.pop(); }
+public final class DiagnosticContext {
+	//--------------------------------------------------------------------------------
+	// top frame of the current thread; null if no frame
+	private static final ThreadLocal<Frame> top = new ThreadLocal<Frame>();
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	private DiagnosticContext() {
+	}
+
+	//================================================================================
+	// PUSH / POP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// method is a trace point (see qa.tracer.TracePoint)
+	public static void push(Supplier<String> info, Object method) {
+		top.set(new Frame(top.get(), info, method));
+	}
+	//--------------------------------------------------------------------------------
+	// CAUTION: must be called in a finally block
+	public static void pop() {
+		Frame frame = top.get();
+		if(frame != null)
+			top.set(frame.parent);
+	}
+
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// top frame of the current thread
+	// - nb: frames are immutable, ie the top frame stands for the whole stack as it is now
+	static Frame current() {
+		return top.get();
+	}
+
+	//================================================================================
+	// RENDER
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// append the infos of the frames from the bottom up to frame, that are not on the stack of outerFrame
+	// - nb: outerFrame is null for the outermost exception
+	static void appendFrames(StringBuilder buf, Frame frame, Frame outerFrame) {
+		if(frame == null || isOnStack(frame, outerFrame))
+			return;
+		appendFrames(buf, frame.parent, outerFrame);
+		buf.append(BasicException.constructMsg(frame.info.get(), "", frame.method));
+	}
+	//--------------------------------------------------------------------------------
+	// is frame on the stack with the top frame stackFrame?
+	private static boolean isOnStack(Frame frame, Frame stackFrame) {
+		for(Frame f = stackFrame; f != null && f.depth >= frame.depth; f = f.parent) {
+			if(f == frame)
+				return true;
+		}
+		return false;
+	}
+
+	//================================================================================
+	//================================================================================
+	// FRAME
+	//================================================================================
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	static final class Frame {
+		//--------------------------------------------------------------------------------
+		final Frame parent;
+		final Supplier<String> info;
+		final Object method;
+		// number of frames below me
+		final int depth;
+
+		//================================================================================
+		// CONSTRUCTORS
+		//================================================================================
+		//--------------------------------------------------------------------------------
+		Frame(Frame parent, Supplier<String> info, Object method) {
+			this.parent = parent;
+			this.info = info;
+			this.method = method;
+			this.depth = (parent == null) ? 0 : parent.depth + 1;
+		}
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -23,6 +23,7 @@
 package qa.exceptions;
 
 //================================================================================
+// nb: mostly used for control flow and caught internally, so the stack trace is not captured
 public class NotFoundException extends BasicException {
 	//--------------------------------------------------------------------------------
 	private static final long serialVersionUID = 2L;
@@ -35,11 +36,11 @@ public class NotFoundException extends BasicException {
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	public NotFoundException(String msg, Object method) {
-		super(msg, excSuffix, method);
+		super(msg, excSuffix, method, null, false /* stackTraceFlag */);
 	}
 	//--------------------------------------------------------------------------------
 	public NotFoundException(String msg, Object method, BasicException prevException) {
-		super(msg, excSuffix, method, prevException);
+		super(msg, excSuffix, method, prevException, false /* stackTraceFlag */);
 	}
 	
 	
@@ -0,0 +1,139 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package qa.stats;
+
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+//================================================================================
+// counters for the translation report (see Report)
+// - counted in the hot paths by all threads, so they must be cheap: LongAdder instead of AtomicLong
+// - nb: the counters run over the lifetime of the jvm; a report uses the differences (see Report)
+// - CAUTION: the counters are process wide, ie they can't tell which translation counted; the threads of the parallel
+//   configs and targets of a translation count for it, but if several translations run at the same time in one jvm,
+//   their counts mix; a report detects this (see Report.isExclusive), but does not separate the counts
+public class Counters {
+	//--------------------------------------------------------------------------------
+	// tokens constructed (see eval.tokens.Token)
+	private static final LongAdder nTokensCreated = new LongAdder();
+	// calls of Token.deepCopy; nb: also the recursive ones, ie the number of copied tokens
+	private static final LongAdder nTokenDeepCopies = new LongAdder();
+	// quantifier terms expanded for an index value (see eval.tokens.QuantifierTerm)
+	private static final LongAdder nQuantifierExpansions = new LongAdder();
+	//--------------------------------------------------------------------------------
+	// output file path -> bytes written (see codeGen.BasicCodeWriter)
+	// - nb: if a file is written several times (eg go.mod for several configs), the last one wins
+	private static final TreeMap<String, Long> fileBytes = new TreeMap<String, Long>();
+	//--------------------------------------------------------------------------------
+	// reports that have begun and are not yet ended; and all reports begun so far
+	private static final AtomicInteger nActiveReports = new AtomicInteger();
+	private static final AtomicLong nReportsBegun = new AtomicLong();
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	private Counters() {
+	}
+
+	//================================================================================
+	// COUNT
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public static void tokenCreated() {
+		nTokensCreated.increment();
+	}
+	//--------------------------------------------------------------------------------
+	public static void tokenDeepCopied() {
+		nTokenDeepCopies.increment();
+	}
+	//--------------------------------------------------------------------------------
+	public static void quantifierExpanded() {
+		nQuantifierExpansions.increment();
+	}
+	//--------------------------------------------------------------------------------
+	// the file was closed
+	public static synchronized void fileWritten(String path, long nBytes) {
+		fileBytes.put(path, nBytes);
+	}
+
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public static long getNTokensCreated() {
+		return nTokensCreated.sum();
+	}
+	//--------------------------------------------------------------------------------
+	public static long getNTokenDeepCopies() {
+		return nTokenDeepCopies.sum();
+	}
+	//--------------------------------------------------------------------------------
+	public static long getNQuantifierExpansions() {
+		return nQuantifierExpansions.sum();
+	}
+	//--------------------------------------------------------------------------------
+	// copy of the file sizes, sorted by path
+	public static synchronized TreeMap<String, Long> getFileBytes() {
+		return new TreeMap<String, Long>(fileBytes);
+	}
+	//--------------------------------------------------------------------------------
+	// forget the file sizes; nb: at the beginning of a translation
+	public static synchronized void clearFileBytes() {
+		fileBytes.clear();
+	}
+
+	//================================================================================
+	// REPORTS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// a report begins; returns its sequence number
+	// - nb: the file sizes are only forgotten if no other report is active, as they would belong to it
+	static long reportBegun() {
+		if(nActiveReports.incrementAndGet() == 1)
+			clearFileBytes();
+		return nReportsBegun.incrementAndGet();
+	}
+	//--------------------------------------------------------------------------------
+	// CAUTION: must be called exactly once per reportBegun
+	static void reportEnded() {
+		nActiveReports.decrementAndGet();
+	}
+	//--------------------------------------------------------------------------------
+	static int getNActiveReports() {
+		return nActiveReports.get();
+	}
+	//--------------------------------------------------------------------------------
+	static long getNReportsBegun() {
+		return nReportsBegun.get();
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,147 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package qa.stats;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+//================================================================================
+// measurement of one phase of a translation: wall time, cpu time and allocated bytes
+// - start and stop must be called by the same thread; only this thread is measured, ie work that the phase
+//   hands over to other threads (eg the pools of PmmmType and PmmmInstance) is included in the wall time only
+// - cpu time and allocated bytes are -1 if the jvm does not support them
+public class Phase {
+	//--------------------------------------------------------------------------------
+	private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+	// - nb: allocated bytes are only supported by the hotspot extension of the thread mx bean
+	private static final com.sun.management.ThreadMXBean sunThreadMXBean = 
+			(threadMXBean instanceof com.sun.management.ThreadMXBean) ? (com.sun.management.ThreadMXBean) threadMXBean : null;
+	//--------------------------------------------------------------------------------
+	// eg "parse" or "code gen:C1:GO-CODE"
+	private String name;
+	// name of the thread that ran the phase
+	private String threadName;
+	//--------------------------------------------------------------------------------
+	// at start; after stop: the deltas
+	private long wallNanos;
+	private long cpuNanos;
+	private long allocatedBytes;
+	//--------------------------------------------------------------------------------
+	private boolean stoppedFlag = false;
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	private Phase(String name) {
+		this.name = name;
+		this.threadName = Thread.currentThread().getName();
+	}
+
+	//================================================================================
+	// START / STOP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public static Phase start(String name) {
+		Phase phase = new Phase(name);
+		phase.cpuNanos = cpuNanos();
+		phase.allocatedBytes = allocatedBytes();
+		phase.wallNanos = System.nanoTime();
+		return phase;
+	}
+	//--------------------------------------------------------------------------------
+	// returns me
+	public Phase stop() {
+		if(! stoppedFlag) {
+			wallNanos = System.nanoTime() - wallNanos;
+			long cpuNanos1 = cpuNanos();
+			cpuNanos = (cpuNanos < 0 || cpuNanos1 < 0) ? -1 : cpuNanos1 - cpuNanos;
+			long allocatedBytes1 = allocatedBytes();
+			allocatedBytes = (allocatedBytes < 0 || allocatedBytes1 < 0) ? -1 : allocatedBytes1 - allocatedBytes;
+			stoppedFlag = true;
+		}
+		return this;
+	}
+
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public String getName() {
+		return name;
+	}
+	//--------------------------------------------------------------------------------
+	public String getThreadName() {
+		return threadName;
+	}
+	//--------------------------------------------------------------------------------
+	// nb: the values are only valid after stop
+	public long getWallNanos() {
+		return wallNanos;
+	}
+	//--------------------------------------------------------------------------------
+	public long getWallMillis() {
+		return wallNanos / 1000000;
+	}
+	//--------------------------------------------------------------------------------
+	public long getCpuNanos() {
+		return cpuNanos;
+	}
+	//--------------------------------------------------------------------------------
+	public long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// cpu time of the current thread; -1 if not supported
+	private static long cpuNanos() {
+		try {
+			if(threadMXBean.isCurrentThreadCpuTimeSupported())
+				return threadMXBean.getCurrentThreadCpuTime();
+		} catch (UnsupportedOperationException e) {
+			// nb: eg if disabled
+		}
+		return -1;
+	}
+	//--------------------------------------------------------------------------------
+	// bytes allocated so far by the current thread; -1 if not supported
+	private static long allocatedBytes() {
+		try {
+			if(sunThreadMXBean != null && sunThreadMXBean.isThreadAllocatedMemorySupported())
+				return sunThreadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+		} catch (UnsupportedOperationException e) {
+			// nb: eg if disabled
+		}
+		return -1;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,280 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package qa.stats;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Vector;
+
+//================================================================================
+// report of one translation run: the phases (see Phase), the counters (see Counters) and the bytes written per
+// output file
+// - created at the beginning of the run, which also takes the baseline of the counters; finish at the end
+// - written as json file (see toJson) and optionally shown as summary (see toSummary)
+// - CAUTION: the counters are process wide (see Counters); if another report was active during this one, the counts
+//   and output files include those of the other translation, which is marked in the report (see isExclusive)
+public class Report {
+	//--------------------------------------------------------------------------------
+	private String useCaseName;
+	private String sourceKind;
+	//--------------------------------------------------------------------------------
+	// in the order they were added; nb: the phases of different configs may have run in parallel
+	private Vector<Phase> phases = new Vector<Phase>();
+	//--------------------------------------------------------------------------------
+	// at construction; after finish: the deltas
+	private long totalWallNanos;
+	private long nTokensCreated;
+	private long nTokenDeepCopies;
+	private long nQuantifierExpansions;
+	private long nExceptions;
+	//--------------------------------------------------------------------------------
+	// after finish: output file path -> bytes
+	private TreeMap<String, Long> fileBytes = new TreeMap<String, Long>();
+	//--------------------------------------------------------------------------------
+	// drawio source only: reader (StAX or DOM), read time, peak heap and artifacts cache use (see DrawioParser);
+	// null reader if not set; -1 cache counts if the cache was not used
+	private String drawioReaderName = null;
+	private long drawioReadNanos;
+	private long drawioPeakHeapBytes;
+	private int nDrawioDiagrams;
+	private int nArtifactsCacheHits = -1;
+	private int nArtifactsCacheMisses = -1;
+	//--------------------------------------------------------------------------------
+	// sequence number of this report (see Counters.reportBegun)
+	private long reportNumber;
+	// no other report was active while this one was?
+	private boolean exclusiveFlag;
+	// finish or close was called
+	private boolean endedFlag = false;
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public Report(String useCaseName, String sourceKind) {
+		this.useCaseName = useCaseName;
+		this.sourceKind = sourceKind;
+		reportNumber = Counters.reportBegun();
+		exclusiveFlag = (Counters.getNActiveReports() == 1);
+		nTokensCreated = Counters.getNTokensCreated();
+		nTokenDeepCopies = Counters.getNTokenDeepCopies();
+		nQuantifierExpansions = Counters.getNQuantifierExpansions();
+		nExceptions = qa.exceptions.BasicException.getNConstructed();
+		totalWallNanos = System.nanoTime();
+	}
+
+	//================================================================================
+	// ADD / FINISH
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public synchronized void addPhase(Phase phase) {
+		phases.add(phase);
+	}
+	//--------------------------------------------------------------------------------
+	public synchronized void addPhases(Vector<Phase> phases) {
+		this.phases.addAll(phases);
+	}
+	//--------------------------------------------------------------------------------
+	public synchronized void setDrawioRead(String readerName, long readNanos, long peakHeapBytes, int nDiagrams, int nCacheHits, int nCacheMisses) {
+		drawioReaderName = readerName;
+		drawioReadNanos = readNanos;
+		drawioPeakHeapBytes = peakHeapBytes;
+		nDrawioDiagrams = nDiagrams;
+		nArtifactsCacheHits = nCacheHits;
+		nArtifactsCacheMisses = nCacheMisses;
+	}
+	//--------------------------------------------------------------------------------
+	// CAUTION: must be called once, after all files were closed
+	public synchronized void finish() {
+		end();
+		totalWallNanos = System.nanoTime() - totalWallNanos;
+		nTokensCreated = Counters.getNTokensCreated() - nTokensCreated;
+		nTokenDeepCopies = Counters.getNTokenDeepCopies() - nTokenDeepCopies;
+		nQuantifierExpansions = Counters.getNQuantifierExpansions() - nQuantifierExpansions;
+		nExceptions = qa.exceptions.BasicException.getNConstructed() - nExceptions;
+		fileBytes = Counters.getFileBytes();
+	}
+	//--------------------------------------------------------------------------------
+	// end the report without finishing it, eg if the translation failed; nb: no-op if it is finished
+	public synchronized void close() {
+		end();
+	}
+	//--------------------------------------------------------------------------------
+	private void end() {
+		if(endedFlag)
+			return;
+		endedFlag = true;
+		if(Counters.getNActiveReports() > 1 || Counters.getNReportsBegun() != reportNumber)
+			exclusiveFlag = false;
+		Counters.reportEnded();
+	}
+
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// counts and output files belong only to this translation?
+	public synchronized boolean isExclusive() {
+		return exclusiveFlag;
+	}
+
+	//================================================================================
+	// WRITE
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// write the json report to the file; creates the dirs if needed
+	public void write(String fileName) throws IOException {
+		File file = new File(fileName);
+		if(file.getParentFile() != null)
+			Files.createDirectories(file.getParentFile().toPath());
+		Files.write(file.toPath(), toJson().getBytes(StandardCharsets.UTF_8));
+	}
+
+	//================================================================================
+	// TO STRING
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// nb: times in ns, sizes in bytes; -1 if not supported by the jvm
+	public synchronized String toJson() {
+		StringBuffer buf = new StringBuffer();
+		buf.append("{\n");
+		buf.append("  \"useCase\": " + jsonString(useCaseName) + ",\n");
+		buf.append("  \"sourceKind\": " + jsonString(sourceKind) + ",\n");
+		buf.append("  \"totalWallNanos\": " + totalWallNanos + ",\n");
+		buf.append("  \"exclusive\": " + exclusiveFlag + ",\n");
+		//--------------------------------------------------------------------------------
+		if(drawioReaderName != null) {
+			buf.append("  \"drawioRead\": { \"reader\": " + jsonString(drawioReaderName) + 
+					", \"wallNanos\": " + drawioReadNanos + 
+					", \"peakHeapBytes\": " + drawioPeakHeapBytes + 
+					", \"diagrams\": " + nDrawioDiagrams + 
+					", \"artifactsCacheHits\": " + nArtifactsCacheHits + 
+					", \"artifactsCacheMisses\": " + nArtifactsCacheMisses + " },\n");
+		}
+		//--------------------------------------------------------------------------------
+		buf.append("  \"phases\": [");
+		for(int i = 0; i < phases.size(); i++) {
+			Phase phase = phases.get(i);
+			buf.append((i == 0) ? "\n" : ",\n");
+			buf.append("    { \"name\": " + jsonString(phase.getName()) + 
+					", \"thread\": " + jsonString(phase.getThreadName()) + 
+					", \"wallNanos\": " + phase.getWallNanos() + 
+					", \"cpuNanos\": " + phase.getCpuNanos() + 
+					", \"allocatedBytes\": " + phase.getAllocatedBytes() + " }");
+		}
+		buf.append(phases.isEmpty() ? "],\n" : "\n  ],\n");
+		//--------------------------------------------------------------------------------
+		buf.append("  \"counters\": {\n");
+		buf.append("    \"tokensCreated\": " + nTokensCreated + ",\n");
+		buf.append("    \"tokenDeepCopies\": " + nTokenDeepCopies + ",\n");
+		buf.append("    \"quantifierExpansions\": " + nQuantifierExpansions + ",\n");
+		buf.append("    \"exceptions\": " + nExceptions + "\n");
+		buf.append("  },\n");
+		//--------------------------------------------------------------------------------
+		buf.append("  \"outputFiles\": [");
+		boolean firstFlag = true;
+		for(Map.Entry<String, Long> entry : fileBytes.entrySet()) {
+			buf.append(firstFlag ? "\n" : ",\n");
+			buf.append("    { \"path\": " + jsonString(entry.getKey()) + ", \"bytes\": " + entry.getValue() + " }");
+			firstFlag = false;
+		}
+		buf.append(fileBytes.isEmpty() ? "]\n" : "\n  ]\n");
+		buf.append("}\n");
+		return new String(buf);
+	}
+	//--------------------------------------------------------------------------------
+	// human readable
+	public synchronized String toSummary() {
+		StringBuffer buf = new StringBuffer();
+		buf.append(String.format("%-40s %10s %10s %12s  %s%n", "phase", "wall ms", "cpu ms", "alloc KB", "thread"));
+		for(int i = 0; i < phases.size(); i++) {
+			Phase phase = phases.get(i);
+			buf.append(String.format("%-40s %10d %10s %12s  %s%n", phase.getName(), phase.getWallMillis(), 
+					(phase.getCpuNanos() < 0) ? "n/a" : String.valueOf(phase.getCpuNanos() / 1000000), 
+					(phase.getAllocatedBytes() < 0) ? "n/a" : String.valueOf(phase.getAllocatedBytes() / 1024), 
+					phase.getThreadName()));
+		}
+		if(drawioReaderName != null) {
+			buf.append("drawio read: " + drawioReaderName + " reader, " + nDrawioDiagrams + " diagram(s), " + (drawioReadNanos / 1000000) + " ms, peak heap " + 
+					(drawioPeakHeapBytes / (1024 * 1024)) + " MB" + 
+					((nArtifactsCacheHits < 0) ? "" : "; artifacts cache: " + nArtifactsCacheHits + " reused, " + nArtifactsCacheMisses + " extracted") + "\n");
+		}
+		buf.append("tokens created: " + nTokensCreated + "; token deep copies: " + nTokenDeepCopies + 
+				"; quantifier expansions: " + nQuantifierExpansions + "; exceptions: " + nExceptions + "\n");
+		long nBytes = 0;
+		for(Long n : fileBytes.values())
+			nBytes += n;
+		buf.append("output files: " + fileBytes.size() + " (" + nBytes + " bytes)\n");
+		if(! exclusiveFlag)
+			buf.append("CAUTION: other translations ran at the same time; counters and output files include theirs\n");
+		return new String(buf);
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	private static String jsonString(String s) {
+		if(s == null)
+			return "null";
+		StringBuffer buf = new StringBuffer("\"");
+		for(int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch(c) {
+			case '"':
+				buf.append("\\\"");
+				break;
+			case '\\':
+				buf.append("\\\\");
+				break;
+			case '\n':
+				buf.append("\\n");
+				break;
+			case '\r':
+				buf.append("\\r");
+				break;
+			case '\t':
+				buf.append("\\t");
+				break;
+			default:
+				if(c < 0x20)
+					buf.append(String.format("\\u%04x", (int) c));
+				else
+					buf.append(c);
+			}
+		}
+		buf.append('"');
+		return new String(buf);
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,103 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package qa.tracer;
+
+import java.util.HashMap;
+
+//================================================================================
+// trace point = handle for the code element (package.class.method) in which a trace is made or an exception is raised;
+// - replaces the anonymous method objects (new O(){}) that had to be resolved by reflection upon each trace;
+// - created once per class and method and interned in a registry;
+// - whether the element is subject to tracing (see Tracer.traceElements) is computed once at creation;
+// usage:
+// - /**/ private static final TracePoint M_foo = TracePoint.of(MyClass.class, "foo"); // debug
+// - /**/ TracePoint m = M_foo; // debug
+// - /**/ tracer.println("xxx", Level.ME, m);
+// nb: works also in constructors (use the name "<init>")
+public final class TracePoint {
+	//--------------------------------------------------------------------------------
+	// registry of all trace points created so far: element -> trace point
+	private static HashMap<String, TracePoint> registry = new HashMap<String, TracePoint>();
+	//--------------------------------------------------------------------------------
+	// package.class.method
+	private final String element;
+	//--------------------------------------------------------------------------------
+	// shall the element be traced? nb: does not consider the level
+	private final boolean traceElementFlag;
+	//--------------------------------------------------------------------------------
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	private TracePoint(String element) {
+		this.element = element;
+		this.traceElementFlag = Tracer.isTraceElement(element);
+	}
+
+	//================================================================================
+	// REGISTRY
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// get the interned trace point of the given method of the class
+	public static TracePoint of(Class<?> c, String methodName) {
+		return of(c.getName() + "." + methodName);
+	}
+	//--------------------------------------------------------------------------------
+	// get the interned trace point of the element
+	public static synchronized TracePoint of(String element) {
+		TracePoint tracePoint = registry.get(element);
+		if(null == tracePoint) {
+			tracePoint = new TracePoint(element);
+			registry.put(element, tracePoint);
+		}
+		return tracePoint;
+	}
+
+	//================================================================================
+	// GET
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public String getElement() {
+		return element;
+	}
+	//--------------------------------------------------------------------------------
+	public boolean isTraceElement() {
+		return traceElementFlag;
+	}
+
+	//================================================================================
+	// DEBUG
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	public String toString() {
+		return element;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
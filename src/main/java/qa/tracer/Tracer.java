@@ -22,6 +22,8 @@
 
 package qa.tracer;
 
+import java.util.function.Supplier;
+
 //================================================================================
 // !!! CAUTION: tracer does not work in constructors !!!
 public class Tracer {
@@ -70,13 +72,61 @@ public class Tracer {
 	// - /**/ private Tracer tracer = new Tracer(); 
 	// - /**/ Object m = new Object(){}; 
 	// - /**/ tracer.println("xxx", Level.ME, m);
+	// better: use a trace point instead of the anonymous method object (see TracePoint):
+	// - /**/ private static final TracePoint M_foo = TracePoint.of(MyClass.class, "foo"); 
+	// - /**/ TracePoint m = M_foo; 
 	//--------------------------------------------------------------------------------
 
 	//--------------------------------------------------------------------------------
-	// convert message to string and check before if it shall be traced
-	public static String toString(boolean nlFlag, String message, int level, Object method) {
+	// lazy tracing: 
+	// - pass a supplier instead of a string if the message is expensive to construct (eg toString of a whole model); 
+	//   it is only called if the trace is really printed
+	// - or guard the trace code by isEnabled(level, m)
+	// usage: 
+	// - /**/ tracer.println(() -> "xxx" + pmmm.toString(), Level.NO, m);
+	// - /**/ if(Tracer.isEnabled(Level.NO, m)) ...
+	//--------------------------------------------------------------------------------
+
+	//--------------------------------------------------------------------------------
+	// shall a trace of this level in the given method be printed?
+	// nb: cheap if the level is below the tracing level -- then no reflection is needed at all
+	public static boolean isEnabled(int level, Object method) {
+		// - for error and debug level do it in any case
+		if(level == Level.ERROR || level == Level.DEBUG) {
+			return true;
+		}
+		// - level too low
+		if(level < Tracer.level) {
+			return false;
+		}
+		// - else check if this element is subject to be traced now
+		// - nb: precomputed for trace points
+		if(method instanceof TracePoint) {
+			return ((TracePoint) method).isTraceElement();
+		}
+		return isTraceElement(getElement(level, null, method));
+	}
+
+	//--------------------------------------------------------------------------------
+	// help fu: is element a prefix of one of the trace elements?
+	static boolean isTraceElement(String element) {
+		for(int i = 0; i < traceElements.length; i++) { 
+			if(element.startsWith(traceElements[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	//--------------------------------------------------------------------------------
+	// help fu: get package.class.method of the method object
+	// - nb: either a trace point or an anonymous method object (resolved by reflection)
+	private static String getElement(int level, String message, Object method) {
 		//--------------------------------------------------------------------------------
-		StringBuffer buf = new StringBuffer();
+		// trace point: no reflection needed
+		if(method instanceof TracePoint) {
+			return ((TracePoint) method).getElement();
+		}
 		//--------------------------------------------------------------------------------
 		// assertion
 		// - eg if tracer is used in constructor, then the getEnclosingMethod() gives null...
@@ -90,23 +140,27 @@ public class Tracer {
 		String className = method.getClass().getEnclosingClass().getName();
 		//--------------------------------------------------------------------------------
 		String methodName = method.getClass().getEnclosingMethod().getName();
-		String element = className + "." + methodName;
+		return className + "." + methodName;
+	}
+
+	//--------------------------------------------------------------------------------
+	// convert message to string and check before if it shall be traced
+	public static String toString(boolean nlFlag, String message, int level, Object method) {
+		//--------------------------------------------------------------------------------
+		// level too low -> nothing to do
+		// - nb: error and debug level are always traced 
+		if(level != Level.ERROR && level != Level.DEBUG && level < Tracer.level) {
+			return "";
+		}
+		//--------------------------------------------------------------------------------
+		StringBuffer buf = new StringBuffer();
+		String element = getElement(level, message, method);
 		//--------------------------------------------------------------------------------
 		// shall element be traced?
 		// - for error and debug level do it in any case
-		boolean doTrace = false;
-		if(level == Level.ERROR || level == Level.DEBUG) {
-			doTrace = true;
-		}		
 		// - else check if this element is subject to be traced now
-		else if(level >= Tracer.level) {
-			for(int i = 0; i < traceElements.length; i++) { 
-				if(element.startsWith(traceElements[i])) {
-					doTrace = true;
-					break;
-				}
-			}
-		}
+		boolean doTrace = (level == Level.ERROR || level == Level.DEBUG || 
+				((method instanceof TracePoint) ? ((TracePoint) method).isTraceElement() : isTraceElement(element)));
 		//--------------------------------------------------------------------------------
 		// HERE: do the trace !!!
 		if(doTrace) {
@@ -155,6 +209,32 @@ public class Tracer {
 	}
 
 
+	//--------------------------------------------------------------------------------
+	// LAZY VARIANTS: message is only constructed if the trace is printed
+	//--------------------------------------------------------------------------------
+	public void print_intern(boolean nlFlag, Supplier<String> message, int level, Object method) {
+		if(isEnabled(level, method)) {
+			print_intern(nlFlag, message.get(), level, method);
+		}
+	}
+	//--------------------------------------------------------------------------------
+	public void print(Supplier<String> message, int level, Object method) {
+		print_intern(false, message, level, method);
+	}
+	//--------------------------------------------------------------------------------
+	public void nlprint(Supplier<String> message, int level, Object method) {
+		print_intern(true, message, level, method);
+	}
+	//--------------------------------------------------------------------------------
+	public void println(Supplier<String> message, int level, Object o) {
+		/**/ print(() -> message.get() + "\n", level, o);
+	}
+	//--------------------------------------------------------------------------------
+	public void nlprintln(Supplier<String> message, int level, Object o) {
+		/**/ nlprint(() -> message.get() + "\n", level, o);
+	}
+
+
 } // END OF CLASS
 
 
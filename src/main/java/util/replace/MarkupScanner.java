@@ -0,0 +1,260 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package util.replace;
+
+import java.util.HashMap;
+
+//================================================================================
+// hand-written scanner for html markup as contained e.g. in the values of drawio cells;
+// - strips html tags and decodes xml/html entities in one single pass over the chars;
+// - entities: named ones (xml, html latin-1, greek and some common symbols) and numeric ones (&#NN; and &#xHH;);
+// -- unknown or malformed entities are left as they are;
+// -- nb: each entity is decoded exactly once, e.g. "&amp;lt;" yields "&lt;"
+// - stateless, i.e. all methods are static and thread safe
+public final class MarkupScanner {
+	//--------------------------------------------------------------------------------
+	// version of the scanner as far as its output is concerned; part of the key of cached drawio artifacts
+	// - CAUTION: change it whenever the output changes (e.g. new entities)!!!
+	public static final String VERSION = "MARKUP-SCANNER-1";
+	//--------------------------------------------------------------------------------
+	// name -> decoded char of all known named entities
+	private static final HashMap<String, Character> namedEntities = new HashMap<String, Character>();
+	//--------------------------------------------------------------------------------
+	// max. length of an entity name (or number) between "&" and ";"
+	private static final int MAX_ENTITY_LENGTH = 32;
+	//--------------------------------------------------------------------------------
+	// html latin-1 entities for the chars 160 ... 255
+	private static final String LATIN1_ENTITY_NAMES =
+			"nbsp iexcl cent pound curren yen brvbar sect uml copy ordf laquo not shy reg macr " +
+			"deg plusmn sup2 sup3 acute micro para middot cedil sup1 ordm raquo frac14 frac12 frac34 iquest " +
+			"Agrave Aacute Acirc Atilde Auml Aring AElig Ccedil Egrave Eacute Ecirc Euml Igrave Iacute Icirc Iuml " +
+			"ETH Ntilde Ograve Oacute Ocirc Otilde Ouml times Oslash Ugrave Uacute Ucirc Uuml Yacute THORN szlig " +
+			"agrave aacute acirc atilde auml aring aelig ccedil egrave eacute ecirc euml igrave iacute icirc iuml " +
+			"eth ntilde ograve oacute ocirc otilde ouml divide oslash ugrave uacute ucirc uuml yacute thorn yuml";
+	//--------------------------------------------------------------------------------
+	// html greek entities for the chars 913 ... 937 and 945 ... 969; "-" = no entity
+	private static final String GREEK_ENTITY_NAMES =
+			"Alpha Beta Gamma Delta Epsilon Zeta Eta Theta Iota Kappa Lambda Mu Nu Xi Omicron Pi Rho - Sigma Tau Upsilon Phi Chi Psi Omega";
+	//--------------------------------------------------------------------------------
+	// static init of the entity table
+	static {
+		//--------------------------------------------------------------------------------
+		// xml
+		namedEntities.put("amp", '&');
+		namedEntities.put("lt", '<');
+		namedEntities.put("gt", '>');
+		namedEntities.put("quot", '"');
+		namedEntities.put("apos", '\'');
+		//--------------------------------------------------------------------------------
+		// html latin-1
+		String[] names = LATIN1_ENTITY_NAMES.split(" ");
+		for(int i = 0; i < names.length; i++)
+			namedEntities.put(names[i], (char) (160 + i));
+		//--------------------------------------------------------------------------------
+		// html greek
+		names = GREEK_ENTITY_NAMES.split(" ");
+		for(int i = 0; i < names.length; i++) {
+			if(names[i].equals("-"))
+				continue;
+			namedEntities.put(names[i], (char) (913 + i));
+			namedEntities.put(names[i].toLowerCase(), (char) (945 + i));
+		}
+		namedEntities.put("sigmaf", (char) 962);
+		//--------------------------------------------------------------------------------
+		// html symbols
+		namedEntities.put("ensp", (char) 8194);
+		namedEntities.put("emsp", (char) 8195);
+		namedEntities.put("thinsp", (char) 8201);
+		namedEntities.put("ndash", (char) 8211);
+		namedEntities.put("mdash", (char) 8212);
+		namedEntities.put("lsquo", (char) 8216);
+		namedEntities.put("rsquo", (char) 8217);
+		namedEntities.put("sbquo", (char) 8218);
+		namedEntities.put("ldquo", (char) 8220);
+		namedEntities.put("rdquo", (char) 8221);
+		namedEntities.put("bdquo", (char) 8222);
+		namedEntities.put("bull", (char) 8226);
+		namedEntities.put("hellip", (char) 8230);
+		namedEntities.put("prime", (char) 8242);
+		namedEntities.put("euro", (char) 8364);
+		namedEntities.put("trade", (char) 8482);
+		namedEntities.put("larr", (char) 8592);
+		namedEntities.put("uarr", (char) 8593);
+		namedEntities.put("rarr", (char) 8594);
+		namedEntities.put("darr", (char) 8595);
+		namedEntities.put("harr", (char) 8596);
+		namedEntities.put("lArr", (char) 8656);
+		namedEntities.put("rArr", (char) 8658);
+		namedEntities.put("hArr", (char) 8660);
+		namedEntities.put("forall", (char) 8704);
+		namedEntities.put("exist", (char) 8707);
+		namedEntities.put("empty", (char) 8709);
+		namedEntities.put("isin", (char) 8712);
+		namedEntities.put("notin", (char) 8713);
+		namedEntities.put("minus", (char) 8722);
+		namedEntities.put("infin", (char) 8734);
+		namedEntities.put("and", (char) 8743);
+		namedEntities.put("or", (char) 8744);
+		namedEntities.put("cap", (char) 8745);
+		namedEntities.put("cup", (char) 8746);
+		namedEntities.put("ne", (char) 8800);
+		namedEntities.put("le", (char) 8804);
+		namedEntities.put("ge", (char) 8805);
+		//--------------------------------------------------------------------------------
+		// CAUTION: a non breaking blank becomes a normal blank (as always), so that it is trimmed
+		namedEntities.put("nbsp", ' ');
+	}
+
+	//================================================================================
+	// CONSTRUCTORS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// static methods only
+	private MarkupScanner() {
+	}
+
+	//================================================================================
+	// SCAN
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// replace all html tags by " " and decode all entities
+	// - CAUTION: a tag is replaced by " " otherwise names might peck into each other
+	// - nb: a tag is "<" up to the next ">" on the same line (as the former regex "\\<.*?\\>")
+	public static String stripTagsAndDecodeEntities(String s) {
+		return scan(s, true /* stripTagsFlag */);
+	}
+	//--------------------------------------------------------------------------------
+	// decode all entities
+	public static String decodeEntities(String s) {
+		return scan(s, false /* stripTagsFlag */);
+	}
+	//--------------------------------------------------------------------------------
+	private static String scan(String s, boolean stripTagsFlag) {
+		//--------------------------------------------------------------------------------
+		// nothing to do? -> no copy
+		if(s.indexOf('&') < 0 && (! stripTagsFlag || s.indexOf('<') < 0))
+			return s;
+		//--------------------------------------------------------------------------------
+		int n = s.length();
+		StringBuilder buf = new StringBuilder(n);
+		int i = 0;
+		while(i < n) {
+			char c = s.charAt(i);
+			//--------------------------------------------------------------------------------
+			// tag?
+			if(c == '<' && stripTagsFlag) {
+				int end = findTagEnd(s, i + 1);
+				if(end >= 0) {
+					buf.append(' ');
+					i = end + 1;
+					continue;
+				}
+			}
+			//--------------------------------------------------------------------------------
+			// entity?
+			else if(c == '&') {
+				int end = decodeEntity(s, i + 1, buf);
+				if(end >= 0) {
+					i = end + 1;
+					continue;
+				}
+			}
+			//--------------------------------------------------------------------------------
+			// any other char
+			buf.append(c);
+			i++;
+		}
+		return buf.toString();
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// position of the ">" that ends the tag starting before position i; -1 if there is none on the same line
+	private static int findTagEnd(String s, int i) {
+		for(int n = s.length(); i < n; i++) {
+			char c = s.charAt(i);
+			if(c == '>')
+				return i;
+			// nb: line terminators as for "." in regular expressions
+			if(c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029')
+				return -1;
+		}
+		return -1;
+	}
+	//--------------------------------------------------------------------------------
+	// decode the entity starting after the "&" before position i and append it to buf;
+	// - returns position of the ending ";" or -1 if it is no (known) entity; buf is unchanged then
+	private static int decodeEntity(String s, int i, StringBuilder buf) {
+		//--------------------------------------------------------------------------------
+		// find ";"
+		int n = Math.min(s.length(), i + MAX_ENTITY_LENGTH + 1);
+		int end = -1;
+		for(int j = i; j < n; j++) {
+			char c = s.charAt(j);
+			if(c == ';') {
+				end = j;
+				break;
+			}
+			if(! (Character.isLetterOrDigit(c) || c == '#'))
+				return -1;
+		}
+		if(end <= i)
+			return -1;
+		//--------------------------------------------------------------------------------
+		// numeric
+		if(s.charAt(i) == '#') {
+			int codePoint;
+			try {
+				if(end > i + 1 && (s.charAt(i + 1) == 'x' || s.charAt(i + 1) == 'X'))
+					codePoint = Integer.parseInt(s.substring(i + 2, end), 16);
+				else
+					codePoint = Integer.parseInt(s.substring(i + 1, end), 10);
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+			if(codePoint <= 0 || codePoint > Character.MAX_CODE_POINT || (codePoint >= 0xD800 && codePoint <= 0xDFFF))
+				return -1;
+			// nb: as for &nbsp;
+			if(codePoint == 160)
+				codePoint = ' ';
+			buf.appendCodePoint(codePoint);
+			return end;
+		}
+		//--------------------------------------------------------------------------------
+		// named
+		Character decoded = namedEntities.get(s.substring(i, end));
+		if(decoded == null)
+			return -1;
+		buf.append(decoded.charValue());
+		return end;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -69,6 +69,17 @@ public class LaTeXReplacements extends Replacements implements IReplacements {
 		//================================================================================
 		//--------------------------------------------------------------------------------
 	}
+	
+	//================================================================================
+	// APPLY
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// nb: there are no latex 2 string replacements; only xml/html markup (as in drawio values) is stripped and decoded
+	// - by the same one pass markup scanner as for xml
+	@Override
+	public String x2String(String s) {
+		return MarkupScanner.stripTagsAndDecodeEntities(s);
+	}
 
 	
 } // END OF CLASS
@@ -45,37 +45,15 @@ public class XmlReplacements extends Replacements implements IReplacements {
 	//================================================================================
 	//--------------------------------------------------------------------------------
 	// TBD: what else is missing?
-	// TBD numeric symbols for these chars...
 	private void init() {
 		//================================================================================
-		// direction 1 = string 2 latex:
+		// direction 1 = xml 2 string:
 		//================================================================================
 		//--------------------------------------------------------------------------------
-		// &	
-		addX2StringReplacement("&amp;", "&");
-		addX2StringReplacement("&#38;", "&");
-		//--------------------------------------------------------------------------------
-		// >
-		addX2StringReplacement("&gt;", ">");
-		addX2StringReplacement("&#62;", ">");
-		//--------------------------------------------------------------------------------
-		// <
-		addX2StringReplacement("&lt;", "<");
-		addX2StringReplacement("&#60;", "<");
-		//--------------------------------------------------------------------------------
-		// "
-		addX2StringReplacement("&quot;", "\"");
-		addX2StringReplacement("&#34;", "\"");
-		//--------------------------------------------------------------------------------
-		// '
-		addX2StringReplacement("&apos;", "'");
-		addX2StringReplacement("&#39;", "'");
-		//--------------------------------------------------------------------------------
-		// <blank>
-		addX2StringReplacement("&nbsp;", " ");
+		// nb: all entities (named and numeric) are decoded in one pass by the markup scanner; see x2String
 		
 		//================================================================================
-		// direction 2 = latex 2 string: not needed
+		// direction 2 = string 2 xml:
 		//================================================================================
 		//--------------------------------------------------------------------------------
 		// CAUTION: do "&" first, because otherwise all already generated "&"s will be replaced....
@@ -87,6 +65,17 @@ public class XmlReplacements extends Replacements implements IReplacements {
 //		// addString2XReplacement(" ", "&nbsp;"); // no good idea... do not replace blanks...
 	}
 	
+	//================================================================================
+	// APPLY
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// decode all xml/html entities in one pass
+	// - nb: each entity is decoded exactly once (the former sequential replacements decoded "&amp;lt;" to "<")
+	@Override
+	public String x2String(String s) {
+		return MarkupScanner.decodeEntities(s);
+	}
+	
 
 } // END OF CLASS
 
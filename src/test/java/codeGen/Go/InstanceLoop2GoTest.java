@@ -0,0 +1,270 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package codeGen.Go;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Vector;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import codeGen.CodeGenDirector;
+import parser.Director;
+import parser.PmmmComponents;
+import parser.pmDsl.PmDslParser;
+import pmmm.PeerType;
+import pmmm.PmmmInstance;
+import pmmm.PmmmType;
+import pmmm.Wiring;
+
+//================================================================================
+// the go code with loops over peers and wirings (see InstanceLoop2Go) must be the unrolled go code, if the table of each
+// loop is expanded into its body
+// - the model has a peer array and a wiring array that use PINDEX and WINDEX, peers that differ in a URL pprop and
+//   peers that differ in values which are not a column (ie must stay unrolled)
+// - nb: banners and blank lines differ and are not compared
+public class InstanceLoop2GoTest {
+	//--------------------------------------------------------------------------------
+	private static final String UC_PATH = "t/";
+	private static final String UC_NAME = "A";
+	private static final String CONFIG_NAME = "C1";
+	//--------------------------------------------------------------------------------
+	private static final Pattern LOOP_HEADER = Pattern.compile("( *)for _, (\\w+) := range \\[\\]struct \\{");
+	//--------------------------------------------------------------------------------
+	private String toolchainPath;
+	private boolean savedLoopFlag;
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Before
+	public void setUp() throws Exception {
+		savedLoopFlag = InstanceLoop2Go.loopFlag;
+		toolchainPath = Files.createTempDirectory("pmtc-test").toFile().getAbsolutePath() + "/";
+		File ucDir = new File(toolchainPath + "_USE-CASES/_PM_DSL/" + UC_PATH);
+		ucDir.mkdirs();
+		Files.write(new File(ucDir, UC_NAME + ".xml").toPath(), modelXml().getBytes(StandardCharsets.UTF_8));
+	}
+	//--------------------------------------------------------------------------------
+	@After
+	public void tearDown() throws IOException {
+		InstanceLoop2Go.loopFlag = savedLoopFlag;
+		try(Stream<Path> paths = Files.walk(new File(toolchainPath).toPath())) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	//================================================================================
+	// TESTS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Test
+	public void expandedLoopsEqualUnrolled() throws Exception {
+		InstanceLoop2Go.loopFlag = false;
+		String unrolled = translate(toolchainPath + "unrolled/");
+		InstanceLoop2Go.loopFlag = true;
+		String looped = translate(toolchainPath + "looped/");
+		//--------------------------------------------------------------------------------
+		// the loops and their typed columns
+		assertFalse(unrolled.contains("for _, pa := range"));
+		assertTrue(looped.contains("// PEER Worker:w#1 ... PEER Worker:w#5 (loop over 5 instances)"));
+		assertTrue(looped.contains("// WIRING W#1: ... WIRING W#3: (loop over 3 instances)"));
+		assertTrue(looped.contains("// PEER Helper:v1 ... PEER Helper:v3 (loop over 3 instances)"));
+		assertTrue(looped.contains("p = NewPeer(pa.name)"));
+		assertTrue(looped.contains("i1 int\n"));
+		assertTrue(looped.contains("IVal(wa.i1)"));
+		assertTrue(looped.contains("p_boss string\n"));
+		assertTrue(looped.contains("SUrl(pa.p_boss)"));
+		// nb: cap of u<i> is an expression, so its ints are no column
+		assertTrue(looped.contains("// PEER Helper:u2\n"));
+		assertTrue(looped.length() < unrolled.length());
+		//--------------------------------------------------------------------------------
+		assertEquals(withoutCommentsAndBlankLines(unrolled), withoutCommentsAndBlankLines(expandLoops(looped)));
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// parse and evaluate the model, instantiate its config and generate its go code below root; return its use case file
+	private String translate(String root) throws Exception {
+		PmmmComponents pmmmComponents = new Director(new PmDslParser(toolchainPath + "_USE-CASES/_PM_DSL/" + UC_PATH, UC_NAME, ".xml")).parse();
+		// nb: the PM-DSL parser does not set the wiring type of inline wirings;
+		// - use the convention of the drawio parser (see parser.drawio.PeerTypeArtifacts), without the '#' of wiring arrays
+		for(PeerType peerType : pmmmComponents.peerTypes) {
+			for(Wiring wiring : peerType.getWirings())
+				wiring.setWiringTypeName("_" + wiring.getRawWiringNames().replaceAll("[^A-Za-z0-9]", ""));
+		}
+		PmmmType pmmmType = new PmmmType(pmmmComponents);
+		pmmmType.evaluate();
+		PmmmInstance pmmmInstance = new PmmmInstance(pmmmType, pmmmType.getConfig(CONFIG_NAME));
+		pmmmInstance.evaluateAndTransform();
+		new CodeGenDirector(new GoCodeGen(pmmmInstance, UC_PATH, root + UC_PATH, "useCases", false /* writeAlsoToConsoleFlag */)).generate();
+		//--------------------------------------------------------------------------------
+		String fileName = root + UC_PATH + UC_NAME + "_" + CONFIG_NAME + "/use-case/use-case_" + UC_NAME + "_" + CONFIG_NAME + ".go";
+		return new String(Files.readAllBytes(new File(fileName).toPath()), StandardCharsets.ISO_8859_1);
+	}
+	//--------------------------------------------------------------------------------
+	// replace each loop by its body, once per row of its table, with the fields of the loop var replaced by the row's values
+	// - nb: inner loops are expanded after their outer loop
+	private static String expandLoops(String code) {
+		String[] lines = code.split("\n", -1);
+		for(int i = 0; i < lines.length; i++) {
+			Matcher matcher = LOOP_HEADER.matcher(lines[i]);
+			if(! matcher.matches())
+				continue;
+			String ind = matcher.group(1);
+			String loopVarName = matcher.group(2);
+			//--------------------------------------------------------------------------------
+			// fields: "<name> <type>"
+			int k = i + 1;
+			Vector<String> fieldNames = new Vector<String>();
+			for(; ! lines[k].equals(ind + "}{"); k++)
+				fieldNames.add(lines[k].trim().split(" ")[0]);
+			// rows: "{<val>, <val>},"
+			Vector<Vector<String>> rows = new Vector<Vector<String>>();
+			for(k++; ! lines[k].equals(ind + "} {"); k++)
+				rows.add(rowValues(lines[k].trim()));
+			// body: up to the closing brace at the loop's indentation
+			int bodyStart = k + 1;
+			for(k = bodyStart; ! lines[k].equals(ind + "}"); k++)
+				;
+			int bodyEnd = k;
+			//--------------------------------------------------------------------------------
+			StringBuffer buf = new StringBuffer();
+			for(int j = 0; j < i; j++)
+				buf.append(lines[j]).append("\n");
+			for(Vector<String> row : rows) {
+				assertEquals(fieldNames.size(), row.size());
+				for(int j = bodyStart; j < bodyEnd; j++) {
+					String line = lines[j].isEmpty() ? "" : lines[j].substring(GoDefs.TAB.length());
+					for(int f = 0; f < fieldNames.size(); f++)
+						line = line.replaceAll("\\b" + loopVarName + "\\." + fieldNames.get(f) + "\\b", Matcher.quoteReplacement(row.get(f)));
+					buf.append(line).append("\n");
+				}
+			}
+			for(int j = bodyEnd + 1; j < lines.length; j++)
+				buf.append(lines[j]).append(j < lines.length - 1 ? "\n" : "");
+			return expandLoops(new String(buf));
+		}
+		return code;
+	}
+	//--------------------------------------------------------------------------------
+	// values of a table row; nb: go strings are kept with their quotes
+	private static Vector<String> rowValues(String row) {
+		assertTrue(row, row.startsWith("{") && row.endsWith("},"));
+		Vector<String> values = new Vector<String>();
+		String s = row.substring(1, row.length() - 2);
+		int start = 0;
+		boolean inStringFlag = false;
+		for(int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if(c == '\\')
+				i++;
+			else if(c == '"')
+				inStringFlag = ! inStringFlag;
+			else if(c == ',' && ! inStringFlag) {
+				values.add(s.substring(start, i).trim());
+				start = i + 1;
+			}
+		}
+		values.add(s.substring(start).trim());
+		return values;
+	}
+	//--------------------------------------------------------------------------------
+	private static String withoutCommentsAndBlankLines(String code) {
+		StringBuffer buf = new StringBuffer();
+		for(String line : code.split("\n")) {
+			if(! line.trim().isEmpty() && ! line.trim().startsWith("//"))
+				buf.append(line).append("\n");
+		}
+		return new String(buf);
+	}
+	//--------------------------------------------------------------------------------
+	// PM-DSL model with a peer array of 5 workers with a wiring array of 3 wirings each, and with 6 helpers
+	private static String modelXml() {
+		StringBuffer buf = new StringBuffer();
+		buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		buf.append("<PMMM name=\"" + UC_NAME + "\">\n");
+		buf.append("<PropsDeclaration>INT : nPeers</PropsDeclaration>\n");
+		buf.append("<Types>\n");
+		buf.append("<EntryType entryType=\"Job\"><PropsDeclaration>INT : n; STRING : who; URL : to</PropsDeclaration></EntryType>\n");
+		//--------------------------------------------------------------------------------
+		buf.append("<PeerType name=\"Worker\">\n");
+		buf.append("<PropsDeclaration>INT : cap</PropsDeclaration>\n");
+		buf.append("<Wiring name=\"W # 1; W # 2; W # 3\" service=\"\">\n");
+		buf.append("<PropsDefinition>max_threads = 2</PropsDefinition>\n");
+		buf.append("<Guard entryType=\"Job\" count=\"1\" op=\"TAKE\" container=\"PIC\"><Query>n &gt; PEER.cap AND n &lt; WINDEX.1</Query>" +
+				"<VarPropsSetGet>$x = n</VarPropsSetGet><PropsDefinition></PropsDefinition></Guard>\n");
+		buf.append("<Action entryType=\"Job\" count=\"1\" op=\"CREATE\" container=\"POC\"><Query></Query>" +
+				"<VarPropsSetGet>n = $x + PINDEX.1; who = \"x\"</VarPropsSetGet><PropsDefinition></PropsDefinition></Action>\n");
+		buf.append("</Wiring>\n");
+		buf.append("</PeerType>\n");
+		//--------------------------------------------------------------------------------
+		buf.append("<PeerType name=\"Helper\">\n");
+		buf.append("<PropsDeclaration>INT : cap; URL : boss</PropsDeclaration>\n");
+		buf.append("<Wiring name=\"H\" service=\"\">\n");
+		buf.append("<PropsDefinition>max_threads = 1</PropsDefinition>\n");
+		buf.append("<Guard entryType=\"Job\" count=\"1\" op=\"TAKE\" container=\"PIC\"><Query>n &gt; PEER.cap</Query>" +
+				"<VarPropsSetGet>$x = n</VarPropsSetGet><PropsDefinition></PropsDefinition></Guard>\n");
+		buf.append("<Action entryType=\"Job\" count=\"1\" op=\"CREATE\" container=\"POC\"><Query></Query>" +
+				"<VarPropsSetGet>n = $x; who = \"y\"; to = PEER.boss</VarPropsSetGet><PropsDefinition></PropsDefinition></Action>\n");
+		buf.append("</Wiring>\n");
+		buf.append("</PeerType>\n");
+		buf.append("</Types>\n");
+		//--------------------------------------------------------------------------------
+		buf.append("<Configurations>\n");
+		buf.append("<Config name=\"" + CONFIG_NAME + "\">\n");
+		buf.append("<PMMM><PropsDefinition>nPeers = 11</PropsDefinition></PMMM>\n");
+		buf.append("<Peer name=\"w # 1; w # 2; w # 3; w # 4; w # 5\" type=\"Worker\"><PropsDefinition>cap = PINDEX.1 * 2</PropsDefinition></Peer>\n");
+		for(int i = 1; i <= 3; i++)
+			buf.append("<Peer name=\"v" + i + "\" type=\"Helper\"><PropsDefinition>cap = 7; boss = b" + i + "</PropsDefinition></Peer>\n");
+		for(int i = 1; i <= 3; i++)
+			buf.append("<Peer name=\"u" + i + "\" type=\"Helper\"><PropsDefinition>cap = 1 + " + i + "; boss = b</PropsDefinition></Peer>\n");
+		buf.append("</Config>\n");
+		buf.append("</Configurations>\n");
+		buf.append("</PMMM>\n");
+		return new String(buf);
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,254 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package eval.tokens;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Random;
+import java.util.Vector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.Test;
+
+import qa.exceptions.SyntaxException;
+import util.replace.MarkupScanner;
+
+//================================================================================
+// differential test of the iterative lexer against the former recursive automaton (see RecursiveRaw2Tokens):
+// same tokens (kind and raw text) and same error messages for generated expressions and for all values of the examples
+// - examples: the checked out examples repository (see README), ie all PM-DSL and drawio files below its _USE-CASES dir;
+//   its path is given by the system property examplesPath (default: ./examples/); that test is skipped if it is not there
+// - nb: the former automaton crashed with a runtime exception on some truncated inputs (eg unterminated strings);
+//   there a syntax exception is expected
+public class Raw2TokensTest {
+	//--------------------------------------------------------------------------------
+	private static final long SEED = 7;
+	private static final int N_GENERATED = 5000;
+	//--------------------------------------------------------------------------------
+	private static final String EXAMPLES_PATH = System.getProperty("examplesPath", "./examples/");
+	private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+	//--------------------------------------------------------------------------------
+	private static final String[] ATOMS = { "1", "42", "x", "abc_1", "\"str\"", "\"\"", "$v", "$$sys", "true", "false", "trueX", "falseNews",
+			"NOTE", "clock()", "fu ( )", "PMMM.nPeers", "a#1", "INDEX.1" };
+	private static final String[] BINARY_OPS = { "+", "-", "*", "/", "%", " MOD ", "==", "!=", "<>", "<", "<=", ">", ">=", " AND ", "&&",
+			" OR ", "||", "=", " IN ", "->", ".", "#", "..", " CONCAT ", ":", "," };
+	private static final String[] UNARY_OPS = { "-", "+", "NOT ", "!", "RANGE ", "EXISTS ", "FORALL " };
+	private static final String[] FIXED = { "", "   ", ";", ";;", "a;b", " a ; ; b ;", "(a", "a)", "((a))", "$", "$$", "$1", "$$ ", "\"abc",
+			"f(", "f(x)", "f( ", "a + ", "+", "a b", "@", "a\nb", "x = 1; y = 2", "FORALL INDEX.1 IN 1..3 -> s#INDEX.1 = 0", "NOT(a)",
+			"-1", "- - 1", "a<=b>=c", "truex", "true", "false", "false1", "a$", "1a", "a.b.c", "x = $$CNT + 1" };
+
+	//================================================================================
+	// TESTS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Test
+	public void sameTokensAsRecursiveAutomaton() {
+		Vector<String> inputs = inputs();
+		for(int i = 0; i < inputs.size(); i++)
+			assertSameTokens(inputs.get(i));
+	}
+	//--------------------------------------------------------------------------------
+	// every text and attribute value of the PM-DSL files and every cell value of the drawio files of the examples
+	@Test
+	public void sameTokensOnExamples() throws IOException, XMLStreamException, DataFormatException {
+		File useCasesDir = new File(EXAMPLES_PATH, "_USE-CASES");
+		assumeTrue("examples not found: " + useCasesDir.getAbsolutePath(), useCasesDir.isDirectory());
+		Vector<Path> files;
+		try(Stream<Path> paths = Files.walk(useCasesDir.toPath())) {
+			files = paths.filter(path -> path.toString().endsWith(".xml") && path.toString().indexOf("_AUTO_GENERATED") < 0)
+					.sorted().collect(Collectors.toCollection(Vector::new));
+		}
+		assertTrue("no use cases in " + useCasesDir.getAbsolutePath(), files.size() > 0);
+		for(Path path : files) {
+			Vector<String> values = new Vector<String>();
+			try(InputStream in = new FileInputStream(path.toFile())) {
+				collectValues(XML_INPUT_FACTORY.createXMLStreamReader(in), values);
+			}
+			for(int i = 0; i < values.size(); i++)
+				assertSameTokens(values.get(i));
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// a long prop defs list must not overflow the stack
+	@Test
+	public void longInput() throws SyntaxException {
+		int n = 20000;
+		StringBuffer buf = new StringBuffer();
+		for(int i = 1; i <= n; i++)
+			buf.append("p" + i + " = " + i + "; ");
+		TokenExpression tokenExpression = new Raw2Tokens(new String(buf)).mince();
+		assertEquals(n, tokenExpression.getTVV().size());
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// same tokens or the same syntax error as the former automaton; a syntax error where it crashed
+	private static void assertSameTokens(String raw) {
+		String expected;
+		try {
+			expected = dump(new RecursiveRaw2Tokens(raw).mince());
+		} catch (SyntaxException e) {
+			expected = "SyntaxException: " + errorMsg(e);
+		} catch (RuntimeException e) {
+			expected = null;
+		}
+		String actual;
+		try {
+			actual = dump(new Raw2Tokens(raw).mince());
+		} catch (SyntaxException e) {
+			actual = "SyntaxException: " + errorMsg(e);
+		}
+		if(expected == null)
+			assertTrue("input '" + raw + "': " + actual, actual.startsWith("SyntaxException: "));
+		else
+			assertEquals("input '" + raw + "'", expected, actual);
+	}
+	//--------------------------------------------------------------------------------
+	// fixed inputs and generated expressions with random operators, nesting, ';' separators and truncations
+	private static Vector<String> inputs() {
+		Vector<String> inputs = new Vector<String>();
+		for(int i = 0; i < FIXED.length; i++)
+			inputs.add(FIXED[i]);
+		Random random = new Random(SEED);
+		for(int i = 0; i < N_GENERATED; i++) {
+			String s = expression(random, 0);
+			if(random.nextDouble() < 0.3)
+				s = s + ";" + expression(random, 0);
+			if(random.nextDouble() < 0.1)
+				s = s.substring(0, random.nextInt(s.length() + 1));
+			inputs.add(s);
+		}
+		return inputs;
+	}
+	//--------------------------------------------------------------------------------
+	private static String expression(Random random, int depth) {
+		double r = random.nextDouble();
+		if(depth > 3 || r < 0.3)
+			return pick(random, ATOMS);
+		if(r < 0.5)
+			return pick(random, UNARY_OPS) + expression(random, depth + 1);
+		if(r < 0.65)
+			return "(" + expression(random, depth + 1) + ")";
+		return expression(random, depth + 1) + pick(random, BINARY_OPS) + expression(random, depth + 1);
+	}
+	//--------------------------------------------------------------------------------
+	private static String pick(Random random, String[] strings) {
+		return strings[random.nextInt(strings.length)];
+	}
+	//--------------------------------------------------------------------------------
+	// values of a PM-DSL or drawio file: the text of all elements and all attribute values;
+	// - the cell values of drawio files are cleaned as by the drawio parser; compressed diagrams are decoded and scanned, too
+	private static void collectValues(XMLStreamReader reader, Vector<String> values) throws XMLStreamException, IOException, DataFormatException {
+		try {
+			String elementName = "";
+			while(reader.hasNext()) {
+				int event = reader.next();
+				if(event == XMLStreamConstants.START_ELEMENT) {
+					elementName = reader.getLocalName();
+					for(int i = 0; i < reader.getAttributeCount(); i++) {
+						String value = reader.getAttributeValue(i);
+						if(elementName.equals("mxCell") && reader.getAttributeLocalName(i).equals("value"))
+							value = MarkupScanner.stripTagsAndDecodeEntities(value);
+						values.add(value);
+					}
+				}
+				else if(event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+					String text = reader.getText().trim();
+					if(text.length() == 0)
+						continue;
+					if(elementName.equals("diagram"))
+						collectValues(XML_INPUT_FACTORY.createXMLStreamReader(new StringReader(decodeDiagram(text))), values);
+					else
+						values.add(text);
+				}
+			}
+		} finally {
+			reader.close();
+		}
+	}
+	//--------------------------------------------------------------------------------
+	// compressed drawio diagram: base64 of the raw deflated, url encoded xml
+	private static String decodeDiagram(String text) throws IOException, DataFormatException {
+		Inflater inflater = new Inflater(true /* nowrap */);
+		inflater.setInput(Base64.getMimeDecoder().decode(text));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buf = new byte[8192];
+		while(! inflater.finished()) {
+			int n = inflater.inflate(buf);
+			if(n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+				break;
+			out.write(buf, 0, n);
+		}
+		inflater.end();
+		return URLDecoder.decode(new String(out.toByteArray(), StandardCharsets.UTF_8), "UTF-8");
+	}
+	//--------------------------------------------------------------------------------
+	// nb: the error message names the class of the automaton, padded to a fixed width
+	private static String errorMsg(SyntaxException e) {
+		return e.getPmErrorMsg().replace("RecursiveRaw2Tokens", "Raw2Tokens").replaceAll("\\s+", " ");
+	}
+	//--------------------------------------------------------------------------------
+	// kind and raw text of all tokens, per expression
+	private static String dump(TokenExpression tokenExpression) {
+		StringBuffer buf = new StringBuffer();
+		Vector<TV> tvv = tokenExpression.getTVV();
+		for(int i = 0; i < tvv.size(); i++) {
+			TV tv = tvv.get(i);
+			buf.append("[");
+			for(int j = 0; j < tv.size(); j++)
+				buf.append(tv.get(j).getKind() + ":" + tv.get(j).getRawText() + " ");
+			buf.append("]");
+		}
+		return new String(buf);
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,113 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package eval.tokens;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import eval.IData;
+import qa.exceptions.SNHException;
+
+//================================================================================
+// frozen tokens: they are shared by the trees of all instances, so they must not be changed in place, but copied (copy on write)
+public class TokenTest {
+
+	//================================================================================
+	// TESTS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// a frozen token and all tokens below it reject any change
+	@Test
+	public void frozenTokenIsNotChanged() throws SNHException {
+		Token token = assignment();
+		token.freeze();
+		assertTrue(token.getRight().getRight().isFrozen());
+		try {
+			token.getRight().getRight().setType(IData.Type.URL);
+			fail("frozen token changed");
+		} catch (SNHException e) {
+			assertEquals(IData.Type.FLEX, token.getRight().getRight().getType());
+		}
+		try {
+			token.setLeft(new Token(IToken.Kind.NAME, "y"));
+			fail("frozen token changed");
+		} catch (SNHException e) {
+			assertEquals("x", token.getLeft().getRawText());
+		}
+		//--------------------------------------------------------------------------------
+		// its copy can be changed; the args remain shared
+		Token copiedToken = token.copyWithArgs(token.getLeft(), token.getRight());
+		assertFalse(copiedToken.isFrozen());
+		copiedToken.setType(IData.Type.URL);
+		assertSame(token.getRight(), copiedToken.getRight());
+	}
+	//--------------------------------------------------------------------------------
+	// FLEX below a UOP is resolved, too; the frozen token is left as it is
+	@Test
+	public void resolveFlexTypesCopiesFrozenToken() throws SNHException {
+		Token token = assignment();
+		token.freeze();
+		Token resolvedToken = token.resolveFlexTypes();
+		assertNotSame(token, resolvedToken);
+		assertEquals(IData.Type.URL, resolvedToken.getRight().getRight().getType());
+		assertEquals(IData.Type.FLEX, token.getRight().getRight().getType());
+		assertSame(token.getLeft(), resolvedToken.getLeft());
+		//--------------------------------------------------------------------------------
+		// nothing to resolve: no copy
+		assertSame(resolvedToken, resolvedToken.resolveFlexTypes());
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// x = NOT p, where p has type FLEX
+	private static Token assignment() throws SNHException {
+		Token nameToken = new Token(IToken.Kind.NAME, "p");
+		nameToken.setType(IData.Type.FLEX);
+		Token uopToken = new Token(IToken.Kind.UOP, "NOT");
+		uopToken.setType(IData.Type.BOOLEAN);
+		uopToken.setLeft(new Token(IToken.Kind.EMPTY, ""));
+		uopToken.setRight(nameToken);
+		Token leftToken = new Token(IToken.Kind.NAME, "x");
+		leftToken.setType(IData.Type.BOOLEAN);
+		Token assignToken = new Token(IToken.Kind.BOP, "=");
+		assignToken.setType(IData.Type.BOOLEAN);
+		assignToken.setLeft(leftToken);
+		assignToken.setRight(uopToken);
+		return assignToken;
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
@@ -0,0 +1,211 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package main;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.TreeMap;
+import java.util.Vector;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import parser.Director;
+import parser.PmmmComponents;
+import parser.pmDsl.PmDslParser;
+import pmmm.PeerType;
+import pmmm.PmmmType;
+import pmmm.Wiring;
+import qa.exceptions.SyntaxException;
+
+//================================================================================
+// code generation of several configs and targets in parallel (see Main.nConfigThreads and Main.parallelTargetsFlag)
+// must write the same files as the sequential one
+// - all translations share the one evaluated pmmm type, as in Main
+// - nb: the files contain their absolute path and the generation time; both are normalized before comparing
+public class ConcurrentCodeGenTest {
+	//--------------------------------------------------------------------------------
+	private static final String UC_PATH = "t/";
+	private static final String UC_NAME = "M";
+	private static final String[] CONFIG_NAMES = { "C1", "C2", "C3" };
+	private static final int N_ROUNDS = 3;
+	//--------------------------------------------------------------------------------
+	private String toolchainPath;
+	private PmmmType pmmmType;
+	private Vector<String> targetKinds = new Vector<String>();
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Before
+	public void setUp() throws Exception {
+		toolchainPath = Files.createTempDirectory("pmtc-test").toFile().getAbsolutePath() + "/";
+		File ucDir = new File(toolchainPath + "_USE-CASES/_PM_DSL/" + UC_PATH);
+		ucDir.mkdirs();
+		Files.write(new File(ucDir, UC_NAME + ".xml").toPath(), modelXml().getBytes(StandardCharsets.UTF_8));
+		//--------------------------------------------------------------------------------
+		PmmmComponents pmmmComponents = new Director(new PmDslParser(toolchainPath + "_USE-CASES/_PM_DSL/" + UC_PATH, UC_NAME, ".xml")).parse();
+		// nb: the PM-DSL parser does not set the wiring type of inline wirings;
+		// - use the convention of the drawio parser (see parser.drawio.PeerTypeArtifacts)
+		for(PeerType peerType : pmmmComponents.peerTypes) {
+			for(Wiring wiring : peerType.getWirings())
+				wiring.setWiringTypeName("_" + wiring.getRawWiringNames());
+		}
+		pmmmType = new PmmmType(pmmmComponents);
+		pmmmType.evaluate();
+		//--------------------------------------------------------------------------------
+		targetKinds.add(Main.GO_CODE);
+		targetKinds.add(Main.PM_DSL);
+		targetKinds.add(Main.LATEX);
+	}
+	//--------------------------------------------------------------------------------
+	@After
+	public void tearDown() throws IOException {
+		try(Stream<Path> paths = Files.walk(new File(toolchainPath).toPath())) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	//================================================================================
+	// TESTS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Test
+	public void parallelEqualsSequential() throws Exception {
+		String sequentialRoot = toolchainPath + "seq/";
+		for(String configName : CONFIG_NAMES)
+			translation(configName, sequentialRoot, false).translate();
+		TreeMap<String, String> expected = files(sequentialRoot);
+		for(String targetDir : new String[] { "_GO-AUTOMATON", "_PM_DSL", "_LATEX" })
+			assertTrue("no files in " + targetDir, expected.keySet().stream().anyMatch(path -> path.contains(targetDir)));
+		//--------------------------------------------------------------------------------
+		// all configs of all rounds at once, each round into its own root; the targets of a config in parallel, too
+		ExecutorService executor = Executors.newFixedThreadPool(CONFIG_NAMES.length * N_ROUNDS);
+		try {
+			Vector<Future<Void>> futures = new Vector<Future<Void>>();
+			for(int round = 0; round < N_ROUNDS; round++) {
+				String root = toolchainPath + "par" + round + "/";
+				for(String configName : CONFIG_NAMES) {
+					ConfigTranslation configTranslation = translation(configName, root, true);
+					futures.add(executor.submit(() -> { configTranslation.translate(); return null; }));
+				}
+			}
+			for(Future<Void> future : futures)
+				future.get();
+		} finally {
+			executor.shutdown();
+		}
+		//--------------------------------------------------------------------------------
+		for(int round = 0; round < N_ROUNDS; round++)
+			assertEquals("round " + round, expected, files(toolchainPath + "par" + round + "/"));
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	private ConfigTranslation translation(String configName, String root, boolean parallelTargetsFlag) throws SyntaxException {
+		return new ConfigTranslation(pmmmType, pmmmType.getConfig(configName), root, UC_PATH, targetKinds, false /* writeAlsoToConsoleFlag */,
+				parallelTargetsFlag);
+	}
+	//--------------------------------------------------------------------------------
+	// relative path -> normalized contents of all files below root
+	private static TreeMap<String, String> files(String root) throws IOException {
+		TreeMap<String, String> files = new TreeMap<String, String>();
+		Path rootPath = new File(root).toPath();
+		try(Stream<Path> paths = Files.walk(rootPath)) {
+			for(Path path : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator)
+				files.put(rootPath.relativize(path).toString(), normalize(new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1), root));
+		}
+		return files;
+	}
+	//--------------------------------------------------------------------------------
+	// without the root dir and the generation time
+	private static String normalize(String contents, String root) {
+		StringBuffer buf = new StringBuffer();
+		for(String line : contents.replace(root, "<ROOT>/").split("\n", -1)) {
+			if(! line.contains("Generated:"))
+				buf.append(line).append("\n");
+		}
+		return new String(buf);
+	}
+	//--------------------------------------------------------------------------------
+	// small PM-DSL model with 2 peer types and several configs
+	private static String modelXml() {
+		StringBuffer buf = new StringBuffer();
+		buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		buf.append("<PMMM name=\"" + UC_NAME + "\">\n");
+		buf.append("<PropsDeclaration>INT : nPeers; STRING : title; INTS : slot</PropsDeclaration>\n");
+		buf.append("<Types>\n");
+		buf.append("<EntryType entryType=\"Job\"><PropsDeclaration>INT : n; STRING : who</PropsDeclaration></EntryType>\n");
+		buf.append("<EntryType entryType=\"Res\"><PropsDeclaration>INT : sum</PropsDeclaration></EntryType>\n");
+		for(int i = 1; i <= 2; i++) {
+			buf.append("<PeerType name=\"Worker" + i + "\">\n");
+			buf.append("<PropsDeclaration>INT : cap; URL : boss</PropsDeclaration>\n");
+			buf.append("<Wiring name=\"W1\" service=\"\">\n");
+			buf.append("<PropsDefinition>max_threads = 1</PropsDefinition>\n");
+			buf.append("<Guard entryType=\"Job\" count=\"1\" op=\"TAKE\" container=\"PIC\">" + 
+					"<Query>n &gt; 0 AND (FORALL INDEX.1 IN 1 .. 3 -&gt; n &gt; PMMM.(slot # INDEX.1))</Query>" + 
+					"<VarPropsSetGet>$x = n; $w = who</VarPropsSetGet><PropsDefinition></PropsDefinition></Guard>\n");
+			buf.append("<Action entryType=\"Res\" count=\"1\" op=\"CREATE\" container=\"POC\"><Query></Query>" + 
+					"<VarPropsSetGet>sum = $x + PEER.cap * PMMM.nPeers; dest = $$PID</VarPropsSetGet><PropsDefinition></PropsDefinition></Action>\n");
+			buf.append("</Wiring>\n");
+			buf.append("</PeerType>\n");
+		}
+		buf.append("</Types>\n");
+		buf.append("<Configurations>\n");
+		for(int c = 0; c < CONFIG_NAMES.length; c++) {
+			int nPeers = 2 + 2 * c;
+			buf.append("<Config name=\"" + CONFIG_NAMES[c] + "\">\n");
+			buf.append("<PMMM><PropsDefinition>nPeers = " + nPeers + "; title = \"t\"; slot # 1 = 1; slot # 2 = 2; slot # 3 = 3</PropsDefinition></PMMM>\n");
+			for(int i = 1; i <= nPeers; i++) {
+				buf.append("<Peer name=\"w" + i + "\" type=\"Worker" + (1 + i % 2) + "\"><PropsDefinition>" + 
+						"cap = " + i + "; boss = w" + (1 + i % nPeers) + "</PropsDefinition></Peer>\n");
+			}
+			buf.append("</Config>\n");
+		}
+		buf.append("</Configurations>\n");
+		buf.append("</PMMM>\n");
+		return new String(buf);
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================
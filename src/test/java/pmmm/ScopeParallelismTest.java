@@ -0,0 +1,179 @@
+//================================================================================
+//Peer Model Tool Chain
+//Copyright (C) 2021 Eva Maria Kuehn
+//--------------------------------------------------------------------------------
+//This program is free software: you can redistribute it and/or modify
+//it under the terms of the GNU Affero General Public License as
+//published by the Free Software Foundation, either version 3 of the
+//License, or (at your option) any later version.
+//
+//This program is distributed in the hope that it will be useful,
+//but WITHOUT ANY WARRANTY; without even the implied warranty of
+//MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+//GNU Affero General Public License for more details.
+//
+//You should have received a copy of the GNU Affero General Public License
+//along with this program.  If not, see <http://www.gnu.org/licenses/>.
+//================================================================================
+// SYSTEM:    Practical Peer Model Toolchain "for the poor woman/man"
+// AUTHOR:    Eva Maria Kuehn
+// CREATED:   October 2026
+//================================================================================
+
+package pmmm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import codeGen.CodeGenDirector;
+import codeGen.Go.GoCodeGen;
+import parser.Director;
+import parser.PmmmComponents;
+import parser.pmDsl.PmDslParser;
+
+//================================================================================
+// type eval of the wiring types and peer types in parallel scopes (see PmmmType.scopeParallelism)
+// must give the same instance and the same go code as the sequential one
+// - all scopes share the pmmm props types and the entry types (see PmmmType.evalDataTypes)
+// - nb: the go code has the evaluated types; its absolute path and generation time are normalized before comparing
+public class ScopeParallelismTest {
+	//--------------------------------------------------------------------------------
+	private static final String UC_PATH = "t/";
+	private static final String UC_NAME = "M";
+	private static final String CONFIG_NAME = "C1";
+	private static final int N_PEER_TYPES = 6;
+	private static final int N_ROUNDS = 5;
+	//--------------------------------------------------------------------------------
+	private String toolchainPath;
+	private int savedScopeParallelism;
+
+	//================================================================================
+	// SETUP
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Before
+	public void setUp() throws Exception {
+		savedScopeParallelism = PmmmType.scopeParallelism;
+		toolchainPath = Files.createTempDirectory("pmtc-test").toFile().getAbsolutePath() + "/";
+		File ucDir = new File(toolchainPath + "_USE-CASES/_PM_DSL/" + UC_PATH);
+		ucDir.mkdirs();
+		Files.write(new File(ucDir, UC_NAME + ".xml").toPath(), modelXml().getBytes(StandardCharsets.UTF_8));
+	}
+	//--------------------------------------------------------------------------------
+	@After
+	public void tearDown() throws IOException {
+		PmmmType.scopeParallelism = savedScopeParallelism;
+		try(Stream<Path> paths = Files.walk(new File(toolchainPath).toPath())) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	//================================================================================
+	// TESTS
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	@Test
+	public void parallelScopesEqualSequential() throws Exception {
+		PmmmType.scopeParallelism = 1;
+		String expected = translate(toolchainPath + "seq/");
+		assertTrue(expected.contains("Worker" + N_PEER_TYPES));
+		//--------------------------------------------------------------------------------
+		// nb: several rounds, as a race shows up only now and then
+		PmmmType.scopeParallelism = 4;
+		for(int round = 0; round < N_ROUNDS; round++)
+			assertEquals("round " + round, expected, translate(toolchainPath + "par" + round + "/"));
+	}
+
+	//================================================================================
+	// UTIL
+	//================================================================================
+	//--------------------------------------------------------------------------------
+	// parse and evaluate the model, instantiate its config and generate its go code below root;
+	// return the instance and the go code as string
+	private String translate(String root) throws Exception {
+		PmmmComponents pmmmComponents = new Director(new PmDslParser(toolchainPath + "_USE-CASES/_PM_DSL/" + UC_PATH, UC_NAME, ".xml")).parse();
+		// nb: the PM-DSL parser does not set the wiring type of inline wirings;
+		// - use the convention of the drawio parser (see parser.drawio.PeerTypeArtifacts)
+		for(PeerType peerType : pmmmComponents.peerTypes) {
+			for(Wiring wiring : peerType.getWirings())
+				wiring.setWiringTypeName("_" + wiring.getRawWiringNames());
+		}
+		PmmmType pmmmType = new PmmmType(pmmmComponents);
+		pmmmType.evaluate();
+		PmmmInstance pmmmInstance = new PmmmInstance(pmmmType, pmmmType.getConfig(CONFIG_NAME));
+		pmmmInstance.evaluateAndTransform();
+		new CodeGenDirector(new GoCodeGen(pmmmInstance, UC_PATH, root + UC_PATH, "useCases", false /* writeAlsoToConsoleFlag */)).generate();
+		//--------------------------------------------------------------------------------
+		StringBuffer buf = new StringBuffer(pmmmInstance.toString());
+		try(Stream<Path> paths = Files.walk(new File(root).toPath())) {
+			for(Path path : (Iterable<Path>) paths.filter(Files::isRegularFile).sorted()::iterator) {
+				buf.append("\n>>> " + path.toString().replace(root, "<ROOT>/") + "\n");
+				for(String line : new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1).replace(root, "<ROOT>/").split("\n", -1)) {
+					if(! line.contains("Generated:"))
+						buf.append(line).append("\n");
+				}
+			}
+		}
+		return new String(buf);
+	}
+	//--------------------------------------------------------------------------------
+	// PM-DSL model with several peer types of 2 wirings each, that use the pmmm props and the entry types
+	private static String modelXml() {
+		StringBuffer buf = new StringBuffer();
+		buf.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		buf.append("<PMMM name=\"" + UC_NAME + "\">\n");
+		buf.append("<PropsDeclaration>INT : nPeers; STRING : title; INTS : slot</PropsDeclaration>\n");
+		buf.append("<Types>\n");
+		buf.append("<EntryType entryType=\"Job\"><PropsDeclaration>INT : n; STRING : who</PropsDeclaration></EntryType>\n");
+		buf.append("<EntryType entryType=\"Res\"><PropsDeclaration>INT : sum</PropsDeclaration></EntryType>\n");
+		for(int i = 1; i <= N_PEER_TYPES; i++) {
+			buf.append("<PeerType name=\"Worker" + i + "\">\n");
+			buf.append("<PropsDeclaration>INT : cap; URL : boss; INT : p" + i + "</PropsDeclaration>\n");
+			for(String w : new String[] { "a", "b" }) {
+				buf.append("<Wiring name=\"W" + i + w + "\" service=\"\">\n");
+				buf.append("<PropsDefinition>max_threads = " + i + "</PropsDefinition>\n");
+				buf.append("<Guard entryType=\"Job\" count=\"1\" op=\"TAKE\" container=\"PIC\">" +
+						"<Query>n &gt; PEER.p" + i + " AND (FORALL INDEX.1 IN 1 .. " + i + " -&gt; n &gt; PMMM.(slot # INDEX.1))</Query>" +
+						"<VarPropsSetGet>$x = n; $w = who</VarPropsSetGet><PropsDefinition></PropsDefinition></Guard>\n");
+				buf.append("<Action entryType=\"Res\" count=\"1\" op=\"CREATE\" container=\"POC\"><Query></Query>" +
+						"<VarPropsSetGet>sum = $x + PEER.cap * PMMM.nPeers; dest = $$PID</VarPropsSetGet><PropsDefinition></PropsDefinition></Action>\n");
+				buf.append("</Wiring>\n");
+			}
+			buf.append("</PeerType>\n");
+		}
+		buf.append("</Types>\n");
+		buf.append("<Configurations>\n");
+		buf.append("<Config name=\"" + CONFIG_NAME + "\">\n");
+		buf.append("<PMMM><PropsDefinition>nPeers = " + N_PEER_TYPES + "; title = \"t\"");
+		for(int i = 1; i <= N_PEER_TYPES; i++)
+			buf.append("; slot # " + i + " = " + i);
+		buf.append("</PropsDefinition></PMMM>\n");
+		for(int i = 1; i <= N_PEER_TYPES; i++) {
+			buf.append("<Peer name=\"w" + i + "\" type=\"Worker" + i + "\"><PropsDefinition>" +
+					"cap = " + i + "; boss = w" + (1 + i % N_PEER_TYPES) + "; p" + i + " = " + (10 * i) + "</PropsDefinition></Peer>\n");
+		}
+		buf.append("</Config>\n");
+		buf.append("</Configurations>\n");
+		buf.append("</PMMM>\n");
+		return new String(buf);
+	}
+
+
+} // END OF CLASS
+
+
+//================================================================================
+// EOF
+//================================================================================